@@ -0,0 +1,311 @@
+package com.prasad_v.auth;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.utils.BoundedCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Long-lived authentication handlers shared by every request, one per auth key and environment.
+ * <p>
+ * Handlers are configured from the auth.KEY.* settings (falling back to auth.*) when first used and
+ * replaced, not modified, when those settings change, so threads never see a handler half way through
+ * being reconfigured. Authorization header values are kept with the handler: a Basic header is encoded
+ * once per credentials, and a Bearer header once per token.
+ */
+public final class AuthHandlerRegistry {
+
+    private static final CustomLogger logger = new CustomLogger(AuthHandlerRegistry.class);
+
+    private static final int MAX_AD_HOC_USERS = 1024;
+
+    private static AuthHandlerRegistry instance;
+
+    private final ConfigurationManager configManager = ConfigurationManager.getInstance();
+    // By environment, then by key
+    private final Map<String, Map<String, ConfiguredBasicAuth>> basicHandlers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ConfiguredOAuth>> oAuthHandlers = new ConcurrentHashMap<>();
+    private final Map<String, BearerHeader> bearerHeaders = new ConcurrentHashMap<>();
+    // Credentials passed in by callers rather than configured, by username
+    private final BoundedCache<String, BasicAuthHandler> adHocBasicHandlers =
+            new BoundedCache<>("basic auth handler", MAX_AD_HOC_USERS, handler -> 1);
+
+    private AuthHandlerRegistry() {
+    }
+
+    /**
+     * Get the singleton instance of AuthHandlerRegistry
+     *
+     * @return AuthHandlerRegistry instance
+     */
+    public static synchronized AuthHandlerRegistry getInstance() {
+        if (instance == null) {
+            instance = new AuthHandlerRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the Basic auth handler configured for a key in the current environment
+     *
+     * @param authKey Key to identify auth configuration; credentials are read from auth.KEY.username and
+     *                auth.KEY.password, or else auth.username and auth.password
+     * @return Handler with the configured credentials, or null if none are configured
+     */
+    public BasicAuthHandler getBasicAuthHandler(String authKey) {
+        return forEnvironment(basicHandlers, authKey, ConfiguredBasicAuth::new).handler();
+    }
+
+    /**
+     * Get the Basic Authorization header for configured credentials
+     *
+     * @param authKey Key to identify auth configuration
+     * @return Header value, or "" if no credentials are configured
+     */
+    public String getBasicAuthHeader(String authKey) {
+        BasicAuthHandler handler = getBasicAuthHandler(authKey);
+        return handler != null ? handler.getAuthorizationHeader() : "";
+    }
+
+    /**
+     * Get the Basic Authorization header for credentials given by the caller. The header is encoded once
+     * per username and password and reused while the password stays the same.
+     *
+     * @return Header value
+     */
+    public String getBasicAuthHeader(String username, String password) {
+        BasicAuthHandler handler = adHocBasicHandlers.get(String.valueOf(username),
+                user -> new BasicAuthHandler(username, password));
+        // A new password replaces the cached header
+        handler.setCredentials(username, password);
+        return handler.getAuthorizationHeader(username, password);
+    }
+
+    /**
+     * Get the OAuth handler configured for a token key in the current environment. Its client credentials
+     * grant settings are read from auth.KEY.endpoint (or auth.KEY.token.url, auth.token.url),
+     * auth.KEY.clientId (or auth.KEY.client.id, auth.client.id), the matching client secret settings and
+     * auth.KEY.scope (or auth.scope).
+     *
+     * @param tokenKey Key to identify the token type
+     * @return Handler for the current settings
+     */
+    public OAuthHandler getOAuthHandler(String tokenKey) {
+        return forEnvironment(oAuthHandlers, tokenKey, ConfiguredOAuth::new).handler();
+    }
+
+    /**
+     * Get the Authorization header value for a bearer token. The value is built once per token.
+     *
+     * @param tokenKey Key to identify the token type
+     * @param token Token, with or without the "Bearer " prefix
+     * @return Header value
+     */
+    public String getBearerHeader(String tokenKey, String token) {
+        BearerHeader cached = bearerHeaders.get(tokenKey);
+        if (cached != null && cached.token.equals(token)) {
+            return cached.header;
+        }
+        BearerHeader header = new BearerHeader(token);
+        bearerHeaders.put(tokenKey, header);
+        return header.header;
+    }
+
+    /**
+     * Get the token endpoint configured for a key
+     *
+     * @param tokenKey Key to identify the token type
+     * @return Endpoint URL, or "" if none is configured
+     */
+    public String getTokenEndpoint(String tokenKey) {
+        return tokenEndpoint(configManager, tokenKey);
+    }
+
+    /**
+     * Drop all handlers and cached header values; the next use configures them again
+     */
+    public void clear() {
+        basicHandlers.clear();
+        oAuthHandlers.clear();
+        bearerHeaders.clear();
+        adHocBasicHandlers.invalidateAll();
+        logger.debug("Cleared auth handler registry");
+    }
+
+    private static String tokenEndpoint(ConfigurationManager configManager, String tokenKey) {
+        return firstNonBlank(
+                configManager.getConfigProperty("auth." + tokenKey + ".endpoint", ""),
+                configManager.getConfigProperty("auth." + tokenKey + ".token.url", ""),
+                configManager.getConfigProperty("auth.token.url", "")
+        );
+    }
+
+    private static <V> V forEnvironment(Map<String, Map<String, V>> byEnvironment, String key,
+                                        Function<String, V> factory) {
+        String environment = EnvironmentManager.getInstance().getCurrentEnvironment();
+        Map<String, V> handlers = byEnvironment.get(environment);
+        if (handlers == null) {
+            handlers = byEnvironment.computeIfAbsent(environment, env -> new ConcurrentHashMap<>());
+        }
+        V handler = handlers.get(key);
+        return handler != null ? handler : handlers.computeIfAbsent(key, factory);
+    }
+
+    private static String firstNonBlank(String value, String fallback) {
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Basic auth handler for a configured key, replaced when its configured credentials change
+     */
+    private static final class ConfiguredBasicAuth {
+        private final ConfigurationManager configManager = ConfigurationManager.getInstance();
+        private final String usernameKey;
+        private final String passwordKey;
+        private volatile BasicAuthHandler handler;
+
+        ConfiguredBasicAuth(String authKey) {
+            // Built once, so that looking up the credentials allocates nothing
+            this.usernameKey = "auth." + authKey + ".username";
+            this.passwordKey = "auth." + authKey + ".password";
+        }
+
+        BasicAuthHandler handler() {
+            String username = firstNonBlank(configManager.getConfigProperty(usernameKey, ""),
+                    configManager.getConfigProperty("auth.username", ""));
+            String password = firstNonBlank(configManager.getConfigProperty(passwordKey, ""),
+                    configManager.getConfigProperty("auth.password", ""));
+            if (username.isEmpty() || password.isEmpty()) {
+                return null;
+            }
+            BasicAuthHandler current = handler;
+            if (current == null || !username.equals(current.getUsername()) || !password.equals(current.getPassword())) {
+                current = new BasicAuthHandler(username, password);
+                handler = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * OAuth handler for a configured token key, replaced when its configured settings change. The
+     * settings are only read again after the configuration changed, so lookups take no lock.
+     */
+    private static final class ConfiguredOAuth {
+        private final ConfigurationManager configManager = ConfigurationManager.getInstance();
+        private final String tokenKey;
+        private final String endpointKey;
+        private final String tokenUrlKey;
+        private final String clientIdKey;
+        private final String dottedClientIdKey;
+        private final String clientSecretKey;
+        private final String dottedClientSecretKey;
+        private final String scopeKey;
+        private volatile OAuthSettings settings;
+
+        ConfiguredOAuth(String tokenKey) {
+            // Built once, so that looking up the settings allocates nothing
+            this.tokenKey = tokenKey;
+            this.endpointKey = "auth." + tokenKey + ".endpoint";
+            this.tokenUrlKey = "auth." + tokenKey + ".token.url";
+            this.clientIdKey = "auth." + tokenKey + ".clientId";
+            this.dottedClientIdKey = "auth." + tokenKey + ".client.id";
+            this.clientSecretKey = "auth." + tokenKey + ".clientSecret";
+            this.dottedClientSecretKey = "auth." + tokenKey + ".client.secret";
+            this.scopeKey = "auth." + tokenKey + ".scope";
+        }
+
+        OAuthHandler handler() {
+            long version = configManager.getVersion();
+            OAuthSettings current = settings;
+            return current != null && current.version == version ? current.handler : reconfigure(version);
+        }
+
+        private synchronized OAuthHandler reconfigure(long version) {
+            OAuthSettings current = settings;
+            if (current != null && current.version == version) {
+                return current.handler;
+            }
+            String endpoint = firstNonBlank(
+                    configManager.getConfigProperty(endpointKey, ""),
+                    configManager.getConfigProperty(tokenUrlKey, ""),
+                    configManager.getConfigProperty("auth.token.url", "")
+            );
+            String clientId = firstNonBlank(
+                    configManager.getConfigProperty(clientIdKey, ""),
+                    configManager.getConfigProperty(dottedClientIdKey, ""),
+                    configManager.getConfigProperty("auth.client.id", "")
+            );
+            String clientSecret = firstNonBlank(
+                    configManager.getConfigProperty(clientSecretKey, ""),
+                    configManager.getConfigProperty(dottedClientSecretKey, ""),
+                    configManager.getConfigProperty("auth.client.secret", "")
+            );
+            String scope = firstNonBlank(
+                    configManager.getConfigProperty(scopeKey, ""),
+                    configManager.getConfigProperty("auth.scope", "")
+            );
+            OAuthHandler handler;
+            if (current != null && current.matches(endpoint, clientId, clientSecret, scope)) {
+                handler = current.handler;
+            } else {
+                handler = new OAuthHandler(clientId, clientSecret, scope);
+                handler.setTokenUrl(endpoint);
+                handler.setGrantType(OAuthHandler.GrantType.CLIENT_CREDENTIALS);
+                logger.debug("Configured OAuth handler for token key: {}", tokenKey);
+            }
+            settings = new OAuthSettings(version, endpoint, clientId, clientSecret, scope, handler);
+            return handler;
+        }
+    }
+
+    /**
+     * OAuth settings as read at one configuration version, with the handler built from them
+     */
+    private static final class OAuthSettings {
+        private final long version;
+        private final String endpoint;
+        private final String clientId;
+        private final String clientSecret;
+        private final String scope;
+        private final OAuthHandler handler;
+
+        OAuthSettings(long version, String endpoint, String clientId, String clientSecret, String scope,
+                      OAuthHandler handler) {
+            this.version = version;
+            this.endpoint = endpoint;
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+            this.scope = scope;
+            this.handler = handler;
+        }
+
+        boolean matches(String endpoint, String clientId, String clientSecret, String scope) {
+            return this.endpoint.equals(endpoint) && this.clientId.equals(clientId)
+                    && this.clientSecret.equals(clientSecret) && this.scope.equals(scope);
+        }
+    }
+
+    private static final class BearerHeader {
+        private final String token;
+        private final String header;
+
+        BearerHeader(String token) {
+            this.token = token;
+            this.header = token.startsWith("Bearer ") ? token : "Bearer " + token;
+        }
+    }
+}
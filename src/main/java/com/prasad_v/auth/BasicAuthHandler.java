@@ -5,6 +5,7 @@ import com.prasad_v.auth.AuthenticationFactory.IAuthHandler;
 import com.prasad_v.logging.CustomLogger;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Objects;
 
 /**
  * Handles Basic Authentication for API requests.
@@ -15,9 +16,9 @@ public class BasicAuthHandler implements IAuthHandler {
 
     private static final CustomLogger logger = new CustomLogger(BasicAuthHandler.class);
 
-    private String username;
-    private String password;
-    private boolean isPreemptive = true;
+    // Replaced as a whole when the credentials change, so readers on other threads see a consistent pair
+    private volatile Credentials credentials;
+    private volatile boolean isPreemptive = true;
 
     /**
      * Default constructor
@@ -33,19 +34,21 @@ public class BasicAuthHandler implements IAuthHandler {
      * @param password Password for basic authentication
      */
     public BasicAuthHandler(String username, String password) {
-        this.username = username;
-        this.password = password;
+        this.credentials = new Credentials(username, password);
     }
 
     /**
-     * Sets the credentials for basic authentication
+     * Sets the credentials for basic authentication. The Authorization header is encoded once here and
+     * reused until the credentials change.
      *
      * @param username Username for basic authentication
      * @param password Password for basic authentication
      */
     public void setCredentials(String username, String password) {
-        this.username = username;
-        this.password = password;
+        Credentials current = credentials;
+        if (current == null || !current.matches(username, password)) {
+            credentials = new Credentials(username, password);
+        }
     }
 
     /**
@@ -63,7 +66,8 @@ public class BasicAuthHandler implements IAuthHandler {
      * @return The username set for basic authentication
      */
     public String getUsername() {
-        return username;
+        Credentials current = credentials;
+        return current != null ? current.username : null;
     }
 
     /**
@@ -72,7 +76,8 @@ public class BasicAuthHandler implements IAuthHandler {
      * @return The password set for basic authentication
      */
     public String getPassword() {
-        return password;
+        Credentials current = credentials;
+        return current != null ? current.password : null;
     }
 
     /**
@@ -83,17 +88,18 @@ public class BasicAuthHandler implements IAuthHandler {
      */
     @Override
     public RequestSpecification addAuth(RequestSpecification requestSpec) {
-        if (username == null || password == null) {
+        Credentials current = credentials;
+        if (current == null || current.username == null || current.password == null) {
             logger.error("Basic authentication credentials not set. Username or password is null.");
             throw new IllegalStateException("Username and password must be set for Basic Authentication");
         }
 
-        logger.debug("Adding Basic Authentication for user: " + username);
+        logger.debug("Adding Basic Authentication for user: {}", current.username);
 
         if (isPreemptive) {
-            return requestSpec.auth().preemptive().basic(username, password);
+            return requestSpec.auth().preemptive().basic(current.username, current.password);
         } else {
-            return requestSpec.auth().basic(username, password);
+            return requestSpec.auth().basic(current.username, current.password);
         }
     }
 
@@ -103,22 +109,60 @@ public class BasicAuthHandler implements IAuthHandler {
      * @return true if both username and password are set, false otherwise
      */
     public boolean isCredentialsSet() {
-        return username != null && !username.isEmpty() && password != null;
+        Credentials current = credentials;
+        return current != null && current.username != null && !current.username.isEmpty() && current.password != null;
     }
 
     /**
-     * Returns a Basic authorization header for the provided credentials.
+     * Returns the Basic authorization header for the current credentials, encoded when they were set
+     *
+     * @throws IllegalStateException If the credentials are not set
+     */
+    public String getAuthorizationHeader() {
+        Credentials current = credentials;
+        if (current == null || current.username == null || current.password == null) {
+            throw new IllegalStateException("Username and password must be set for Basic Authentication");
+        }
+        return current.header;
+    }
+
+    /**
+     * Returns a Basic authorization header for the provided credentials. If they are this handler's
+     * credentials, the header encoded when they were set is returned.
      */
     public String getAuthorizationHeader(String user, String pass) {
-        String token = Base64.getEncoder().encodeToString((user + ":" + pass).getBytes(StandardCharsets.UTF_8));
-        return "Basic " + token;
+        Credentials current = credentials;
+        if (current != null && current.matches(user, pass)) {
+            return current.header;
+        }
+        return encode(user, pass);
     }
 
     /**
      * Clears the current credentials
      */
     public void clearCredentials() {
-        this.username = null;
-        this.password = null;
+        this.credentials = null;
+    }
+
+    private static String encode(String user, String pass) {
+        String token = Base64.getEncoder().encodeToString((user + ":" + pass).getBytes(StandardCharsets.UTF_8));
+        return "Basic " + token;
+    }
+
+    private static final class Credentials {
+        private final String username;
+        private final String password;
+        private final String header;
+
+        Credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+            this.header = encode(username, password);
+        }
+
+        boolean matches(String user, String pass) {
+            return Objects.equals(username, user) && Objects.equals(password, pass);
+        }
     }
 }
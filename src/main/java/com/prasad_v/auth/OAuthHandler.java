@@ -7,6 +7,7 @@ import com.prasad_v.auth.AuthenticationFactory.IAuthHandler;
 import com.prasad_v.logging.CustomLogger;
 import com.prasad_v.config.ConfigurationManager;
 import com.prasad_v.exceptions.AuthenticationException;
+import com.prasad_v.validation.JsonFieldExtractor;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,20 +16,30 @@ import java.util.Map;
  * Handles OAuth 2.0 authentication for API requests.
  * Supports client credentials flow, authorization code flow,
  * and pre-configured access tokens.
+ * <p>
+ * Handlers are safe to share between test threads. The token in use is replaced in one step, and when it
+ * runs out, TokenManager lets one thread fetch the next token while the others wait for it, so the
+ * token endpoint sees one request however many threads need a token at once.
  */
 public class OAuthHandler implements IAuthHandler {
 
     private static final CustomLogger logger = new CustomLogger(OAuthHandler.class);
 
+    private static final String ACCESS_TOKEN_KEY = "oauth_access_token";
+    private static final String REFRESH_TOKEN_KEY = "oauth_refresh_token";
+    // A token this close to expiry, or within the last quarter of a shorter lifetime, is replaced before use
+    private static final long EXPIRY_BUFFER_MS = 30_000;
+    private static final JsonFieldExtractor TOKEN_RESPONSE_FIELDS =
+            JsonFieldExtractor.of("access_token", "expires_in", "refresh_token");
+
     // OAuth credentials
     private String clientId;
     private String clientSecret;
     private String scope;
 
-    // Token information
-    private String accessToken;
-    private String refreshToken;
-    private long expiresAt = 0;
+    // Token information; also updated by the background refresh thread
+    private volatile CurrentToken currentToken;
+    private volatile String refreshToken;
 
     // OAuth endpoints
     private String tokenUrl;
@@ -130,9 +141,8 @@ public class OAuthHandler implements IAuthHandler {
      * @param expiresInSeconds Token expiration in seconds (from now)
      */
     public void setAccessToken(String accessToken, long expiresInSeconds) {
-        this.accessToken = accessToken;
-        this.expiresAt = System.currentTimeMillis() + (expiresInSeconds * 1000);
-        TokenManager.storeToken("oauth_access_token", accessToken, expiresInSeconds);
+        this.currentToken = new CurrentToken(accessToken, expiresInSeconds);
+        TokenManager.storeToken(ACCESS_TOKEN_KEY, accessToken, expiresInSeconds);
     }
 
     /**
@@ -142,7 +152,7 @@ public class OAuthHandler implements IAuthHandler {
      */
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
-        TokenManager.storeToken("oauth_refresh_token", refreshToken, -1); // -1 means no expiration
+        TokenManager.storeToken(REFRESH_TOKEN_KEY, refreshToken, -1); // -1 means no expiration
     }
 
     /**
@@ -153,47 +163,35 @@ public class OAuthHandler implements IAuthHandler {
      */
     @Override
     public RequestSpecification addAuth(RequestSpecification requestSpec) {
-        ensureValidAccessToken();
+        String accessToken = getValidAccessToken();
         logger.debug("Adding OAuth Bearer token to request");
         return requestSpec.header("Authorization", "Bearer " + accessToken);
     }
 
     /**
-     * Ensures a valid access token is available, requesting a new one if needed
+     * Returns a valid access token, getting a new one if needed. Concurrent callers share one token request.
      */
-    private void ensureValidAccessToken() {
-        // If we have no token or it's expired (with 30s buffer)
-        if (accessToken == null || System.currentTimeMillis() > (expiresAt - 30000)) {
-            logger.debug("Access token missing or expired. Requesting new token.");
-
-            // Try to get from token manager first
-            accessToken = TokenManager.getToken("oauth_access_token");
-            if (accessToken != null && !TokenManager.isTokenExpired("oauth_access_token")) {
-                logger.debug("Using cached access token from TokenManager");
-                expiresAt = TokenManager.getTokenExpiry("oauth_access_token");
-                return;
-            }
-
-            // If we have a refresh token, try to use it
-            if (refreshToken != null) {
-                try {
-                    refreshAccessToken();
-                    return;
-                } catch (Exception e) {
-                    logger.warn("Failed to refresh token: " + e.getMessage());
-                    // Fall through to request new token
-                }
-            }
-
-            // Request brand new token
-            requestNewAccessToken();
+    private String getValidAccessToken() {
+        CurrentToken token = currentToken;
+        if (token != null && System.currentTimeMillis() < token.replaceAt) {
+            return token.value;
         }
+        logger.debug("Access token missing or expired. Requesting new token.");
+
+        // In steady state the background refresh has already put a new token in the token manager
+        long minRemainingSeconds = token != null ? token.bufferMs / 1000 : 0;
+        TokenManager.IssuedToken issued = TokenManager.getValidToken(ACCESS_TOKEN_KEY, minRemainingSeconds,
+                this::fetchAccessToken);
+        currentToken = new CurrentToken(issued.getValue(), issued.getExpiresInSeconds());
+        return issued.getValue();
     }
 
     /**
-     * Requests a new access token using client credentials flow
+     * Requests a new access token from the token endpoint without changing the token this handler uses
+     *
+     * @return The issued token
      */
-    private void requestNewAccessToken() {
+    public TokenManager.IssuedToken requestAccessToken() {
         validateOAuthConfig();
 
         Map<String, String> formParams = new HashMap<>();
@@ -224,13 +222,13 @@ public class OAuthHandler implements IAuthHandler {
                 throw new AuthenticationException("Unsupported grant type for direct token request: " + grantType);
         }
 
-        sendTokenRequest(formParams);
+        return sendTokenRequest(formParams);
     }
 
     /**
-     * Refreshes an access token using a refresh token
+     * Requests a new access token using a refresh token
      */
-    private void refreshAccessToken() {
+    private TokenManager.IssuedToken requestRefreshedAccessToken() {
         if (refreshToken == null || refreshToken.isEmpty()) {
             throw new AuthenticationException("No refresh token available");
         }
@@ -243,15 +241,44 @@ public class OAuthHandler implements IAuthHandler {
         formParams.put("client_id", clientId);
         formParams.put("client_secret", clientSecret);
 
-        sendTokenRequest(formParams);
+        return sendTokenRequest(formParams);
+    }
+
+    /**
+     * Fetches the next access token, by refresh token if there is one. TokenManager runs one fetch at a time.
+     */
+    private TokenManager.IssuedToken fetchAccessToken() {
+        TokenManager.IssuedToken issued = null;
+        if (refreshToken != null && !refreshToken.isEmpty()) {
+            try {
+                issued = requestRefreshedAccessToken();
+            } catch (AuthenticationException e) {
+                logger.warn("Failed to refresh token: " + e.getMessage());
+            }
+        }
+        if (issued == null) {
+            issued = requestAccessToken();
+        }
+        currentToken = new CurrentToken(issued.getValue(), issued.getExpiresInSeconds());
+        return issued;
+    }
+
+    /**
+     * Makes an issued token the one this handler uses, refreshed in the background from now on
+     */
+    private void applyAccessToken(TokenManager.IssuedToken issued) {
+        currentToken = new CurrentToken(issued.getValue(), issued.getExpiresInSeconds());
+        TokenManager.storeToken(ACCESS_TOKEN_KEY, issued.getValue(), issued.getExpiresInSeconds(),
+                this::fetchAccessToken);
     }
 
     /**
      * Sends a token request to the token endpoint
      *
      * @param formParams The form parameters for the token request
+     * @return The issued access token
      */
-    private void sendTokenRequest(Map<String, String> formParams) {
+    private TokenManager.IssuedToken sendTokenRequest(Map<String, String> formParams) {
         try {
             logger.info("Requesting OAuth token from: " + tokenUrl);
 
@@ -267,34 +294,35 @@ public class OAuthHandler implements IAuthHandler {
                 throw new AuthenticationException("Failed to obtain OAuth token. Status code: " + statusCode);
             }
 
-            // Parse response
-            accessToken = response.jsonPath().getString("access_token");
+            // Parse response, reading only the token fields
+            Map<String, Object> fields = TOKEN_RESPONSE_FIELDS.extract(response.asByteArray());
+            Object accessTokenField = fields.get("access_token");
+            String newAccessToken = accessTokenField != null ? accessTokenField.toString() : null;
+            if (newAccessToken == null || newAccessToken.isEmpty()) {
+                throw new AuthenticationException("Token response contains no access_token");
+            }
 
             // Get expiry if available
-            Object expiresIn = response.jsonPath().get("expires_in");
+            Object expiresIn = fields.get("expires_in");
             long expirySeconds = 3600; // Default to 1 hour
             if (expiresIn != null) {
-                if (expiresIn instanceof Integer) {
-                    expirySeconds = (Integer) expiresIn;
+                if (expiresIn instanceof Number) {
+                    expirySeconds = ((Number) expiresIn).longValue();
                 } else if (expiresIn instanceof String) {
                     expirySeconds = Long.parseLong((String) expiresIn);
                 }
             }
 
-            // Set expiry time
-            expiresAt = System.currentTimeMillis() + (expirySeconds * 1000);
-
-            // Store in token manager
-            TokenManager.storeToken("oauth_access_token", accessToken, expirySeconds);
-
             // Check for refresh token
-            String newRefreshToken = response.jsonPath().getString("refresh_token");
+            Object refreshTokenField = fields.get("refresh_token");
+            String newRefreshToken = refreshTokenField != null ? refreshTokenField.toString() : null;
             if (newRefreshToken != null && !newRefreshToken.isEmpty()) {
                 this.refreshToken = newRefreshToken;
-                TokenManager.storeToken("oauth_refresh_token", refreshToken, -1); // No expiry for refresh tokens
+                TokenManager.storeToken(REFRESH_TOKEN_KEY, refreshToken, -1); // No expiry for refresh tokens
             }
 
             logger.info("Successfully obtained OAuth token. Expires in " + expirySeconds + " seconds");
+            return new TokenManager.IssuedToken(newAccessToken, expirySeconds);
 
         } catch (Exception e) {
             logger.error("Error requesting OAuth token: " + e.getMessage(), e);
@@ -321,8 +349,7 @@ public class OAuthHandler implements IAuthHandler {
      * @return The OAuth access token
      */
     public String getAccessToken() {
-        ensureValidAccessToken();
-        return accessToken;
+        return getValidAccessToken();
     }
 
     /**
@@ -386,6 +413,22 @@ public class OAuthHandler implements IAuthHandler {
         formParams.put("client_id", clientId);
         formParams.put("client_secret", clientSecret);
 
-        sendTokenRequest(formParams);
+        applyAccessToken(sendTokenRequest(formParams));
+    }
+
+    /**
+     * Access token in use and its expiry, replaced as a whole
+     */
+    private static final class CurrentToken {
+        private final String value;
+        private final long bufferMs;
+        private final long replaceAt;
+
+        CurrentToken(String value, long expiresInSeconds) {
+            this.value = value;
+            this.bufferMs = expiresInSeconds < 0 ? 0 : Math.min(EXPIRY_BUFFER_MS, expiresInSeconds * 1000 / 4);
+            this.replaceAt = expiresInSeconds < 0 ? Long.MAX_VALUE
+                    : System.currentTimeMillis() + (expiresInSeconds * 1000) - bufferMs;
+        }
     }
 }
@@ -0,0 +1,210 @@
+package com.prasad_v.auth;
+
+import com.prasad_v.exceptions.AuthenticationException;
+import com.prasad_v.logging.CustomLogger;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.Callable;
+
+/**
+ * On-disk token cache shared by every JVM on the machine that uses the same directory and key, e.g. the
+ * Surefire forks and CI shards of one build.
+ * <p>
+ * Each token is kept in its own file, named by a hash of the environment and token key, and encrypted
+ * with AES-GCM. The environment and token key are bound to the ciphertext, so a file cannot be passed off
+ * as another token. Files are replaced by an atomic rename, so readers never see a partial write. A lock
+ * file per token lets one process at a time fetch a new token while the others wait and then read it.
+ * A file that cannot be decrypted, e.g. written with another key, is treated as missing.
+ */
+final class PersistentTokenStore {
+
+    private static final CustomLogger logger = new CustomLogger(PersistentTokenStore.class);
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final SecureRandom random = new SecureRandom();
+
+    private final Path directory;
+    private final String environment;
+    private final SecretKeySpec key;
+
+    /**
+     * @param directory Directory holding the token files; created if missing
+     * @param environment Environment the tokens belong to, e.g. "qa"
+     * @param secret Secret the encryption key is derived from
+     */
+    PersistentTokenStore(Path directory, String environment, String secret) {
+        this.directory = directory;
+        this.environment = environment;
+        this.key = new SecretKeySpec(sha256(secret.getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Read a token
+     *
+     * @return Token as stored, or null if there is none or it cannot be read
+     */
+    StoredToken read(String tokenKey) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(tokenFile(tokenKey));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Could not read cached token {}: {}", tokenKey, e.getMessage());
+            return null;
+        }
+        try {
+            ByteBuffer plain = ByteBuffer.wrap(decrypt(tokenKey, content));
+            long issuedAt = plain.getLong();
+            long expiresAt = plain.getLong();
+            String value = StandardCharsets.UTF_8.decode(plain).toString();
+            return new StoredToken(value, issuedAt, expiresAt);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            logger.debug("Ignoring cached token {} that could not be decrypted", tokenKey);
+            return null;
+        }
+    }
+
+    /**
+     * Write a token, replacing the one stored for the key
+     */
+    void write(String tokenKey, StoredToken token) {
+        byte[] value = token.value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer plain = ByteBuffer.allocate(16 + value.length);
+        plain.putLong(token.issuedAt).putLong(token.expiresAt).put(value);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "token", ".tmp");
+            restrictToOwner(temp);
+            Files.write(temp, encrypt(tokenKey, plain.array()));
+            try {
+                Files.move(temp, tokenFile(tokenKey), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, tokenFile(tokenKey), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            // The token is still usable in this JVM; other processes fetch their own
+            logger.warn("Could not cache token {} on disk: {}", tokenKey, e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    void delete(String tokenKey) {
+        deleteQuietly(tokenFile(tokenKey));
+    }
+
+    /**
+     * Run an action while holding the lock of a token, waiting for another process that holds it. The
+     * lock is per process: callers in one JVM must not hold it for the same key at the same time.
+     */
+    @SuppressWarnings("try")
+    <T> T withLock(String tokenKey, Callable<T> action) throws Exception {
+        Files.createDirectories(directory);
+        Path lockFile = directory.resolve(fileName(tokenKey) + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            return action.call();
+        }
+    }
+
+    private byte[] encrypt(String tokenKey, byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(associatedData(tokenKey));
+        byte[] encrypted = cipher.doFinal(plain);
+        return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+    }
+
+    private byte[] decrypt(String tokenKey, byte[] content) throws GeneralSecurityException {
+        if (content.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("Token file too short");
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, content, 0, IV_LENGTH));
+        cipher.updateAAD(associatedData(tokenKey));
+        return cipher.doFinal(content, IV_LENGTH, content.length - IV_LENGTH);
+    }
+
+    private byte[] associatedData(String tokenKey) {
+        return (environment + '\0' + tokenKey).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Path tokenFile(String tokenKey) {
+        return directory.resolve(fileName(tokenKey) + ".token");
+    }
+
+    private String fileName(String tokenKey) {
+        // Token keys may hold characters that are not valid in file names
+        return HexFormat.of().formatHex(sha256(associatedData(tokenKey)), 0, 16);
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AuthenticationException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A token as kept on disk, with the times it was issued and expires in milliseconds since epoch
+     */
+    static final class StoredToken {
+        final String value;
+        final long issuedAt;
+        final long expiresAt;
+
+        StoredToken(String value, long issuedAt, long expiresAt) {
+            this.value = value;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
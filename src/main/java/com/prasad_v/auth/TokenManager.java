@@ -1,12 +1,49 @@
 package com.prasad_v.auth;
 
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.exceptions.AuthenticationException;
 import com.prasad_v.logging.CustomLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages authentication tokens for the API automation framework.
  * This class provides centralized storage, retrieval, and expiration handling for tokens.
+ * <p>
+ * A token stored with a {@link TokenSource} is refreshed in the background before it expires: a
+ * scheduler thread fetches a new token once a configured share of the lifetime has passed
+ * (auth.token.refresh.percent, less a random auth.token.refresh.jitter.percent so that tokens issued
+ * together are not refreshed together) and replaces the stored token in one step. Request threads keep
+ * reading the current token meanwhile and never wait for the token endpoint. A failed refresh is retried
+ * with backoff while the current token stays in use; only if the token expires before a refresh
+ * succeeds do callers see no token and fetch one themselves.
+ * <p>
+ * Tokens are fetched single-flight per key: {@link #getToken(String, long, TokenSource)} and
+ * {@link #fetchToken(String, TokenSource)} run at most one fetch per key at a time, and callers arriving
+ * while it runs wait for its result instead of sending their own request. Background refreshes take part
+ * too. getFetchCount and getCoalescedCount tell how many requests reached the endpoint and how many were
+ * saved.
+ * <p>
+ * With auth.token.cache.enabled, fetched tokens are also kept in an encrypted on-disk cache shared by every
+ * JVM on the machine, e.g. parallel Surefire forks and CI shards (see {@link PersistentTokenStore}). A fork
+ * that starts while a cached token is still valid uses it without calling the token endpoint, and a file
+ * lock per token lets one process fetch while the others wait and then use its token. The cache key is
+ * read from the environment variable named by auth.token.cache.key.env; without it nothing is cached.
+ * Tokens set with {@link #storeToken(String, String, long)} stay in memory only.
  */
 public class TokenManager {
 
@@ -17,12 +54,20 @@ public class TokenManager {
      */
     private static class Token {
         private final String value;
+        private final long issuedAt;
         private final long expiresAt; // Expiration time in milliseconds since epoch
 
         public Token(String value, long expiresInSeconds) {
             this.value = value;
+            this.issuedAt = System.currentTimeMillis();
             // -1 means no expiration
-            this.expiresAt = expiresInSeconds < 0 ? -1 : System.currentTimeMillis() + (expiresInSeconds * 1000);
+            this.expiresAt = expiresInSeconds < 0 ? -1 : issuedAt + (expiresInSeconds * 1000);
+        }
+
+        Token(PersistentTokenStore.StoredToken stored) {
+            this.value = stored.value;
+            this.issuedAt = stored.issuedAt;
+            this.expiresAt = stored.expiresAt;
         }
 
         public boolean isExpired() {
@@ -32,11 +77,72 @@ public class TokenManager {
         public long getExpiresAt() {
             return expiresAt;
         }
+
+        boolean isValidFor(long milliseconds) {
+            return expiresAt == -1 || System.currentTimeMillis() + milliseconds < expiresAt;
+        }
+
+        IssuedToken toIssuedToken() {
+            return new IssuedToken(value, expiresAt == -1 ? -1 : Math.max(0, (expiresAt - System.currentTimeMillis()) / 1000));
+        }
+
+        PersistentTokenStore.StoredToken toStoredToken() {
+            return new PersistentTokenStore.StoredToken(value, issuedAt, expiresAt);
+        }
+    }
+
+    /**
+     * Fetches a new token from the token endpoint, for background refresh
+     */
+    @FunctionalInterface
+    public interface TokenSource {
+        IssuedToken fetch() throws Exception;
+    }
+
+    /**
+     * A token as issued by the token endpoint
+     */
+    public static final class IssuedToken {
+        private final String value;
+        private final long expiresInSeconds;
+
+        /**
+         * @param value Token value
+         * @param expiresInSeconds Lifetime in seconds, -1 for no expiration
+         */
+        public IssuedToken(String value, long expiresInSeconds) {
+            this.value = value;
+            this.expiresInSeconds = expiresInSeconds;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getExpiresInSeconds() {
+            return expiresInSeconds;
+        }
     }
 
     // Thread-safe map to store tokens
     private static final Map<String, Token> tokenStore = new ConcurrentHashMap<>();
 
+    // Background refresh of tokens stored with a source; at most one per key
+    private static final Map<String, ScheduledRefresh> refreshes = new ConcurrentHashMap<>();
+    private static final AtomicLong refreshCount = new AtomicLong();
+    private static final AtomicLong refreshFailureCount = new AtomicLong();
+    private static final long MAX_RETRY_DELAY_MS = 60_000;
+    private static ScheduledExecutorService refreshScheduler;
+
+    // Fetch in progress per key, shared by every caller that needs a token meanwhile
+    private static final Map<String, CompletableFuture<IssuedToken>> inFlight = new ConcurrentHashMap<>();
+    private static final AtomicLong fetchCount = new AtomicLong();
+    private static final AtomicLong coalescedCount = new AtomicLong();
+
+    // On-disk cache shared with other processes, resolved from the settings once per environment
+    private static volatile PersistentStoreState persistentStoreState;
+    private static final AtomicLong persistedReuseCount = new AtomicLong();
+
     // Default token keys
     public static final String DEFAULT_ACCESS_TOKEN = "access_token";
     public static final String DEFAULT_REFRESH_TOKEN = "refresh_token";
@@ -49,10 +155,135 @@ public class TokenManager {
      * @param expiresInSeconds Token expiration in seconds, -1 for no expiration
      */
     public static void storeToken(String tokenKey, String tokenValue, long expiresInSeconds) {
-        logger.debug("Storing token: " + tokenKey + " with expiry: " +
+        logger.debug(() -> "Storing token: " + tokenKey + " with expiry: " +
                 (expiresInSeconds < 0 ? "never" : expiresInSeconds + " seconds"));
         Token token = new Token(tokenValue, expiresInSeconds);
         tokenStore.put(tokenKey, token);
+        // A token set directly replaces any managed one
+        cancelRefresh(tokenKey);
+    }
+
+    /**
+     * Stores a token and keeps it fresh by fetching a new one from the source in the background before
+     * it expires. Tokens that never expire are not refreshed.
+     *
+     * @param tokenKey Unique identifier for the token
+     * @param tokenValue The token value to store
+     * @param expiresInSeconds Token expiration in seconds, -1 for no expiration
+     * @param source Fetches a new token; called on the refresh thread
+     */
+    public static void storeToken(String tokenKey, String tokenValue, long expiresInSeconds, TokenSource source) {
+        logger.debug(() -> "Storing token: " + tokenKey + " with expiry: " +
+                (expiresInSeconds < 0 ? "never" : expiresInSeconds + " seconds") + " and background refresh");
+        Token token = new Token(tokenValue, expiresInSeconds);
+        tokenStore.put(tokenKey, token);
+        scheduleRefresh(new ScheduledRefresh(tokenKey, source), token);
+    }
+
+    /**
+     * Gets a valid token, fetching one if there is none. Concurrent callers share a single fetch, and the
+     * fetched token is stored and refreshed in the background.
+     *
+     * @param tokenKey Unique identifier for the token
+     * @param minRemainingSeconds A token expiring sooner than this counts as missing
+     * @param source Fetches a new token
+     * @return The token value
+     * @throws AuthenticationException If the fetch fails; every waiting caller gets the same failure
+     */
+    public static String getToken(String tokenKey, long minRemainingSeconds, TokenSource source) {
+        return getValidToken(tokenKey, minRemainingSeconds, source).getValue();
+    }
+
+    /**
+     * Same as {@link #getToken(String, long, TokenSource)}, also telling how long the token remains valid
+     *
+     * @return The token with its remaining lifetime
+     */
+    public static IssuedToken getValidToken(String tokenKey, long minRemainingSeconds, TokenSource source) {
+        Token token = tokenStore.get(tokenKey);
+        if (token != null && token.isValidFor(minRemainingSeconds * 1000)) {
+            return token.toIssuedToken();
+        }
+        return fetchShared(tokenKey, source, minRemainingSeconds * 1000, null);
+    }
+
+    /**
+     * Fetches a new token even if a valid one is stored, then stores it and refreshes it in the
+     * background. A caller arriving while a fetch for the key runs waits for that fetch instead.
+     *
+     * @param tokenKey Unique identifier for the token
+     * @param source Fetches a new token
+     * @return The new token
+     * @throws AuthenticationException If the fetch fails
+     */
+    public static IssuedToken fetchToken(String tokenKey, TokenSource source) {
+        return fetchShared(tokenKey, source, -1, null);
+    }
+
+    /**
+     * @return Number of token fetches that went to a token source since startup
+     */
+    public static long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    /**
+     * @return Number of callers that waited for another caller's fetch instead of fetching themselves
+     */
+    public static long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return Number of times a token from the on-disk cache was used instead of fetching one
+     */
+    public static long getPersistedReuseCount() {
+        return persistedReuseCount.get();
+    }
+
+    /**
+     * Stops refreshing a token in the background; the stored token is kept until it expires
+     *
+     * @param tokenKey Unique identifier for the token
+     */
+    public static void cancelRefresh(String tokenKey) {
+        ScheduledRefresh refresh = refreshes.remove(tokenKey);
+        if (refresh != null) {
+            refresh.cancel();
+            logger.debug("Cancelled background refresh of token: {}", tokenKey);
+        }
+    }
+
+    /**
+     * @return true if the token is refreshed in the background
+     */
+    public static boolean isRefreshScheduled(String tokenKey) {
+        return refreshes.containsKey(tokenKey);
+    }
+
+    /**
+     * Gets the time of the next background refresh of a token
+     *
+     * @param tokenKey Unique identifier for the token
+     * @return Time in milliseconds since epoch, or -1 if the token is not refreshed in the background
+     */
+    public static long getNextRefreshTime(String tokenKey) {
+        ScheduledRefresh refresh = refreshes.get(tokenKey);
+        return refresh != null ? refresh.nextRunAt : -1;
+    }
+
+    /**
+     * @return Number of tokens refreshed in the background since startup
+     */
+    public static long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return Number of failed background refresh attempts since startup
+     */
+    public static long getRefreshFailureCount() {
+        return refreshFailureCount.get();
     }
 
     /**
@@ -65,17 +296,23 @@ public class TokenManager {
         Token token = tokenStore.get(tokenKey);
 
         if (token == null) {
-            logger.debug("Token not found in store: " + tokenKey);
-            return null;
+            token = readPersisted(tokenKey);
+            if (token == null) {
+                logger.debug("Token not found in store: {}", tokenKey);
+                return null;
+            }
+            // Without a source there is nothing to refresh it with; callers fetch when it expires
+            tokenStore.putIfAbsent(tokenKey, token);
+            persistedReuseCount.incrementAndGet();
         }
 
         if (token.isExpired()) {
-            logger.debug("Token found but expired: " + tokenKey);
+            logger.debug("Token found but expired: {}", tokenKey);
             tokenStore.remove(tokenKey);
             return null;
         }
 
-        logger.debug("Retrieved valid token: " + tokenKey);
+        logger.debug("Retrieved valid token: {}", tokenKey);
         return token.value;
     }
 
@@ -113,20 +350,28 @@ public class TokenManager {
     }
 
     /**
-     * Removes a token from the store
+     * Removes a token from the store and from the on-disk cache, so that other processes stop using it too
      *
      * @param tokenKey Unique identifier for the token
      */
     public static void removeToken(String tokenKey) {
-        logger.debug("Removing token: " + tokenKey);
+        logger.debug("Removing token: {}", tokenKey);
+        cancelRefresh(tokenKey);
         tokenStore.remove(tokenKey);
+        PersistentTokenStore disk = getPersistentStore();
+        if (disk != null) {
+            disk.delete(tokenKey);
+        }
     }
 
     /**
-     * Clears all tokens from the store
+     * Clears all tokens from the store. Tokens in the on-disk cache are kept for other processes.
      */
     public static void clearAllTokens() {
         logger.debug("Clearing all tokens from token store");
+        for (String tokenKey : refreshes.keySet()) {
+            cancelRefresh(tokenKey);
+        }
         tokenStore.clear();
     }
 
@@ -162,14 +407,18 @@ public class TokenManager {
         Token token = tokenStore.get(tokenKey);
 
         if (token == null) {
-            logger.debug("Cannot update expiry for non-existent token: " + tokenKey);
+            logger.debug("Cannot update expiry for non-existent token: {}", tokenKey);
             return false;
         }
 
-        logger.debug("Updating token expiry: " + tokenKey + " to " +
+        logger.debug(() -> "Updating token expiry: " + tokenKey + " to " +
                 (newExpiresInSeconds < 0 ? "never expire" : newExpiresInSeconds + " seconds"));
         Token newToken = new Token(token.value, newExpiresInSeconds);
         tokenStore.put(tokenKey, newToken);
+        ScheduledRefresh refresh = refreshes.get(tokenKey);
+        if (refresh != null) {
+            scheduleRefresh(new ScheduledRefresh(tokenKey, refresh.source), newToken);
+        }
         return true;
     }
 
@@ -190,4 +439,281 @@ public class TokenManager {
     public static String getDefaultRefreshToken() {
         return getToken(DEFAULT_REFRESH_TOKEN);
     }
-}
\ No newline at end of file
+
+    /**
+     * Run a fetch for a key unless one is already running, in which case wait for its result
+     *
+     * @param minRemainingMs Skip the fetch if a token valid this long was stored meanwhile; -1 to always fetch
+     * @param refresh Background refresh doing the fetch, or null; if it is cancelled meanwhile the token is not stored
+     */
+    private static IssuedToken fetchShared(String tokenKey, TokenSource source, long minRemainingMs,
+                                           ScheduledRefresh refresh) {
+        CompletableFuture<IssuedToken> flight = new CompletableFuture<>();
+        CompletableFuture<IssuedToken> running = inFlight.putIfAbsent(tokenKey, flight);
+        if (running != null) {
+            coalescedCount.incrementAndGet();
+            logger.debug("Waiting for the token fetch in progress for: {}", tokenKey);
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw asAuthenticationException(tokenKey, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        try {
+            PersistentTokenStore disk = getPersistentStore();
+            // Other processes sharing the cache wait here while this one fetches
+            IssuedToken issued = disk != null
+                    ? disk.withLock(tokenKey, () -> obtainToken(tokenKey, source, minRemainingMs, refresh, disk))
+                    : obtainToken(tokenKey, source, minRemainingMs, refresh, null);
+            flight.complete(issued);
+            return issued;
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw asAuthenticationException(tokenKey, e);
+        } finally {
+            inFlight.remove(tokenKey, flight);
+        }
+    }
+
+    /**
+     * Use a token stored meanwhile in memory or on disk, or else fetch one from the source
+     */
+    private static IssuedToken obtainToken(String tokenKey, TokenSource source, long minRemainingMs,
+                                           ScheduledRefresh refresh, PersistentTokenStore disk) throws Exception {
+        // A fetch that finished just before this one started may already have stored a token
+        Token current = tokenStore.get(tokenKey);
+        if (minRemainingMs >= 0 && current != null && current.isValidFor(minRemainingMs)) {
+            return current.toIssuedToken();
+        }
+
+        if (disk != null) {
+            // Another process may have fetched it, before this one started or while it waited for the lock.
+            // A forced fetch takes it only if it is newer than the token it replaces.
+            PersistentTokenStore.StoredToken stored = disk.read(tokenKey);
+            Token persisted = stored != null ? new Token(stored) : null;
+            if (persisted != null && (minRemainingMs >= 0
+                    ? persisted.isValidFor(minRemainingMs)
+                    : current != null && persisted.issuedAt > current.issuedAt && persisted.isValidFor(0))) {
+                persistedReuseCount.incrementAndGet();
+                logger.debug("Using token {} from the on-disk cache", tokenKey);
+                storeManagedToken(tokenKey, persisted, source, refresh);
+                return persisted.toIssuedToken();
+            }
+        }
+
+        fetchCount.incrementAndGet();
+        IssuedToken issued = source.fetch();
+        if (issued == null || issued.getValue() == null || issued.getValue().isEmpty()) {
+            throw new AuthenticationException("Token source returned no token for: " + tokenKey);
+        }
+        Token token = new Token(issued.getValue(), issued.getExpiresInSeconds());
+        if (storeManagedToken(tokenKey, token, source, refresh) && disk != null) {
+            disk.write(tokenKey, token.toStoredToken());
+        }
+        return issued;
+    }
+
+    /**
+     * Store a fetched token with background refresh, unless the refresh that fetched it was cancelled meanwhile
+     *
+     * @return true if the token was stored
+     */
+    private static boolean storeManagedToken(String tokenKey, Token token, TokenSource source,
+                                             ScheduledRefresh refresh) {
+        if (refresh != null && !refresh.isCurrent()) {
+            return false;
+        }
+        tokenStore.put(tokenKey, token);
+        scheduleRefresh(new ScheduledRefresh(tokenKey, source), token);
+        return true;
+    }
+
+    private static Token readPersisted(String tokenKey) {
+        PersistentTokenStore disk = getPersistentStore();
+        if (disk == null) {
+            return null;
+        }
+        PersistentTokenStore.StoredToken stored = disk.read(tokenKey);
+        Token token = stored != null ? new Token(stored) : null;
+        return token != null && !token.isExpired() ? token : null;
+    }
+
+    /**
+     * Read the token cache settings again on next use, e.g. after auth.token.cache.* or the key changed.
+     * Switching environment through EnvironmentManager is picked up without this.
+     */
+    public static synchronized void reconfigurePersistentStore() {
+        persistentStoreState = null;
+    }
+
+    /**
+     * Get the on-disk cache for the current environment. The settings are read once per environment, so
+     * token lookups do not take a lock or read configuration.
+     *
+     * @return The cache, or null if it is disabled or no key is set
+     */
+    private static PersistentTokenStore getPersistentStore() {
+        String environment = EnvironmentManager.getInstance().getCurrentEnvironment();
+        PersistentStoreState state = persistentStoreState;
+        if (state == null || !state.environment.equals(environment)) {
+            state = resolvePersistentStore(environment);
+        }
+        return state.store;
+    }
+
+    private static synchronized PersistentStoreState resolvePersistentStore(String environment) {
+        PersistentStoreState state = persistentStoreState;
+        if (state != null && state.environment.equals(environment)) {
+            return state;
+        }
+        state = new PersistentStoreState(environment, createPersistentStore(environment));
+        persistentStoreState = state;
+        return state;
+    }
+
+    private static PersistentTokenStore createPersistentStore(String environment) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (!config.getBooleanProperty(ConfigKeys.AUTH_TOKEN_CACHE_ENABLED, false)) {
+            return null;
+        }
+        String keyVariable = config.getProperty(ConfigKeys.AUTH_TOKEN_CACHE_KEY_ENV, "TOKEN_CACHE_KEY");
+        String secret = System.getenv(keyVariable);
+        if (secret == null || secret.isEmpty()) {
+            // Also read as a system property, for runs that cannot set environment variables
+            secret = System.getProperty(keyVariable);
+        }
+        if (secret == null || secret.isEmpty()) {
+            logger.warn("Token cache is enabled but {} is not set; tokens are not cached on disk", keyVariable);
+            return null;
+        }
+        String directory = config.getProperty(ConfigKeys.AUTH_TOKEN_CACHE_DIR,
+                Paths.get(System.getProperty("java.io.tmpdir"), "api-automation-tokens").toString());
+        Path path = Paths.get(directory);
+        try {
+            Files.createDirectories(path);
+        } catch (IOException e) {
+            logger.warn("Token cache directory {} cannot be created; tokens are not cached on disk: {}",
+                    directory, e.getMessage());
+            return null;
+        }
+        logger.info("Caching tokens for environment {} in {}", environment, directory);
+        return new PersistentTokenStore(path, environment, secret);
+    }
+
+    /**
+     * The on-disk cache resolved for one environment; the store is null when caching is off
+     */
+    private static final class PersistentStoreState {
+        private final String environment;
+        private final PersistentTokenStore store;
+
+        private PersistentStoreState(String environment, PersistentTokenStore store) {
+            this.environment = environment;
+            this.store = store;
+        }
+    }
+
+    private static RuntimeException asAuthenticationException(String tokenKey, Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new AuthenticationException("Failed to fetch token " + tokenKey + ": " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Make a refresh the current one for its key and schedule it within the lifetime of a token
+     */
+    private static void scheduleRefresh(ScheduledRefresh refresh, Token token) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        long lifetimeMs = token.expiresAt - token.issuedAt;
+        if (token.expiresAt == -1 || lifetimeMs <= 0
+                || !config.getBooleanProperty(ConfigKeys.AUTH_TOKEN_REFRESH_ENABLED, true)) {
+            cancelRefresh(refresh.tokenKey);
+            return;
+        }
+        int percent = Math.min(100, Math.max(1, config.getIntProperty(ConfigKeys.AUTH_TOKEN_REFRESH_PERCENT, 75)));
+        int jitterPercent = Math.min(percent, Math.max(0, config.getIntProperty(ConfigKeys.AUTH_TOKEN_REFRESH_JITTER_PERCENT, 10)));
+        double share = (percent - ThreadLocalRandom.current().nextDouble() * jitterPercent) / 100;
+        long refreshAt = token.issuedAt + (long) (lifetimeMs * share);
+
+        ScheduledRefresh previous = refreshes.put(refresh.tokenKey, refresh);
+        if (previous != null && previous != refresh) {
+            previous.cancel();
+        }
+        refresh.schedule(refreshAt);
+        logger.debug("Token {} will be refreshed in {} ms", refresh.tokenKey, refreshAt - System.currentTimeMillis());
+    }
+
+    private static synchronized ScheduledExecutorService getRefreshScheduler() {
+        if (refreshScheduler == null) {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "token-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            refreshScheduler = scheduler;
+        }
+        return refreshScheduler;
+    }
+
+    /**
+     * Background refresh of one token. A refresh replaced or cancelled while it fetches does not store its result.
+     */
+    private static final class ScheduledRefresh implements Runnable {
+        private final String tokenKey;
+        private final TokenSource source;
+        private volatile ScheduledFuture<?> future;
+        private volatile long nextRunAt;
+        private int failures;
+
+        ScheduledRefresh(String tokenKey, TokenSource source) {
+            this.tokenKey = tokenKey;
+            this.source = source;
+        }
+
+        synchronized void schedule(long runAt) {
+            nextRunAt = runAt;
+            future = getRefreshScheduler().schedule(this, Math.max(0, runAt - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+        }
+
+        void cancel() {
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        boolean isCurrent() {
+            return refreshes.get(tokenKey) == this;
+        }
+
+        @Override
+        public void run() {
+            if (!isCurrent()) {
+                return;
+            }
+            try {
+                // Stores the token and schedules the next refresh in place of this one
+                fetchShared(tokenKey, source, -1, this);
+                refreshCount.incrementAndGet();
+                logger.debug("Refreshed token {} in the background", tokenKey);
+            } catch (RuntimeException e) {
+                refreshFailureCount.incrementAndGet();
+                long delayMs = Math.min(MAX_RETRY_DELAY_MS, ConfigurationManager.getInstance()
+                        .getIntProperty(ConfigKeys.AUTH_TOKEN_REFRESH_RETRY_SECONDS, 5) * 1000L << Math.min(failures, 6));
+                failures++;
+                logger.warn("Background refresh of token {} failed, retrying in {} ms: {}", tokenKey, delayMs,
+                        e.getMessage());
+                if (isCurrent()) {
+                    schedule(System.currentTimeMillis() + delayMs);
+                }
+            }
+        }
+    }
+}
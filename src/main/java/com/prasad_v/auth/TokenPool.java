@@ -0,0 +1,416 @@
+package com.prasad_v.auth;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.exceptions.ConfigurationException;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.testdata.JsonDataProvider;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of credentials, each with a token of its own, so that parallel tests and virtual users act as
+ * several accounts instead of one.
+ * <p>
+ * Callers lease a credential round-robin or least-recently-used and send their requests with its token.
+ * Tokens are kept in {@link TokenManager} under "pool#credential", so each is fetched single-flight,
+ * refreshed in the background on its own schedule and, with auth.token.cache.enabled, shared with other
+ * JVMs. A lease calls the token endpoint only when its credential has no valid token.
+ * <p>
+ * Leases are not exclusive: with more callers than credentials, callers share credentials. Least recently
+ * used leasing picks the credential with the fewest open leases, and of those the one leased longest ago.
+ */
+public final class TokenPool {
+
+    private static final CustomLogger logger = new CustomLogger(TokenPool.class);
+
+    private static final String CONFIG_PREFIX = "auth.pool.";
+
+    /**
+     * Order in which credentials are leased
+     */
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_RECENTLY_USED
+    }
+
+    /**
+     * Fetches a token for one credential of the pool
+     */
+    @FunctionalInterface
+    public interface CredentialTokenSource {
+        TokenManager.IssuedToken fetch(Credential credential) throws Exception;
+    }
+
+    private final String name;
+    private final List<Entry> entries;
+    private final Strategy strategy;
+    private final CredentialTokenSource source;
+    private final long minRemainingSeconds;
+    private final AtomicLong nextIndex = new AtomicLong();
+
+    private TokenPool(Builder builder) {
+        this.name = builder.name;
+        this.strategy = builder.strategy;
+        this.source = builder.source;
+        this.minRemainingSeconds = builder.minRemainingSeconds;
+        List<Entry> pooled = new ArrayList<>(builder.credentials.size());
+        for (Credential credential : builder.credentials) {
+            pooled.add(new Entry(credential, name + "#" + credential.getId()));
+        }
+        this.entries = Collections.unmodifiableList(pooled);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Create a pool from configuration. Credentials are read from a JSON data file, auth.pool.KEY.file,
+     * holding an array of objects, and from auth.pool.KEY.credentials, a comma-separated list of id:secret
+     * pairs. The lease order is auth.pool.KEY.strategy, round_robin (default) or lru.
+     *
+     * @param poolKey Pool name in the configuration
+     * @param source Fetches a token for a credential
+     * @return The pool
+     * @throws ConfigurationException If no credentials are configured for the pool
+     */
+    public static TokenPool fromConfig(String poolKey, CredentialTokenSource source) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        Builder builder = builder(poolKey).tokenSource(source);
+
+        String file = config.getProperty(CONFIG_PREFIX + poolKey + ".file", "");
+        if (!file.isBlank()) {
+            builder.credentialsFromFile(file);
+        }
+        for (String pair : config.getProperty(CONFIG_PREFIX + poolKey + ".credentials", "").split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            int separator = pair.indexOf(':');
+            if (separator <= 0) {
+                throw new ConfigurationException("Pool credential must be id:secret in "
+                        + CONFIG_PREFIX + poolKey + ".credentials");
+            }
+            builder.credential(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+        }
+
+        String strategy = config.getProperty(CONFIG_PREFIX + poolKey + ".strategy", "round_robin").trim();
+        try {
+            builder.strategy(strategy.equalsIgnoreCase("lru") ? Strategy.LEAST_RECENTLY_USED
+                    : Strategy.valueOf(strategy.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("Unknown lease strategy '" + strategy + "' in "
+                    + CONFIG_PREFIX + poolKey + ".strategy; use round_robin or lru");
+        }
+        return builder.build();
+    }
+
+    /**
+     * Lease a credential and get a valid token for it. Close the lease when done so that least recently
+     * used leasing can spread callers.
+     *
+     * @return The lease
+     * @throws com.prasad_v.exceptions.AuthenticationException If no token can be fetched for the credential
+     */
+    public Lease lease() {
+        Entry entry;
+        if (strategy == Strategy.ROUND_ROBIN) {
+            entry = entries.get((int) Math.floorMod(nextIndex.getAndIncrement(), (long) entries.size()));
+            entry.active.incrementAndGet();
+        } else {
+            entry = leastRecentlyUsed();
+        }
+        entry.leaseCount.incrementAndGet();
+        try {
+            return new Lease(entry, getToken(entry));
+        } catch (RuntimeException e) {
+            release(entry);
+            throw e;
+        }
+    }
+
+    /**
+     * Get a valid token for a credential of the pool, e.g. to bind a virtual user to one account
+     *
+     * @param index Credential index; taken modulo the pool size
+     * @return Token value
+     */
+    public String getToken(int index) {
+        return getToken(entries.get(Math.floorMod(index, entries.size())));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Credential> getCredentials() {
+        List<Credential> credentials = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            credentials.add(entry.credential);
+        }
+        return credentials;
+    }
+
+    /**
+     * @return Number of leases per credential id since the pool was created
+     */
+    public Map<String, Long> getLeaseCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            counts.put(entry.credential.getId(), entry.leaseCount.get());
+        }
+        return counts;
+    }
+
+    /**
+     * @return Number of leases per credential id that have not been closed yet
+     */
+    public Map<String, Integer> getActiveLeaseCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            counts.put(entry.credential.getId(), entry.active.get());
+        }
+        return counts;
+    }
+
+    /**
+     * Remove the tokens of all credentials, stopping their background refresh
+     */
+    public void clearTokens() {
+        for (Entry entry : entries) {
+            TokenManager.removeToken(entry.tokenKey);
+        }
+    }
+
+    private String getToken(Entry entry) {
+        return TokenManager.getToken(entry.tokenKey, minRemainingSeconds, () -> source.fetch(entry.credential));
+    }
+
+    private synchronized Entry leastRecentlyUsed() {
+        Entry chosen = entries.get(0);
+        for (Entry entry : entries) {
+            int active = entry.active.get();
+            if (active < chosen.active.get() || active == chosen.active.get() && entry.lastUsed < chosen.lastUsed) {
+                chosen = entry;
+            }
+        }
+        chosen.active.incrementAndGet();
+        chosen.lastUsed = System.nanoTime();
+        return chosen;
+    }
+
+    private void release(Entry entry) {
+        if (strategy == Strategy.LEAST_RECENTLY_USED) {
+            synchronized (this) {
+                entry.active.decrementAndGet();
+                entry.lastUsed = System.nanoTime();
+            }
+        } else {
+            entry.active.decrementAndGet();
+        }
+    }
+
+    /**
+     * A credential of the pool with its token
+     */
+    public static final class Credential {
+        private final String id;
+        private final String secret;
+        private final Map<String, String> attributes;
+
+        /**
+         * @param id Username or client id; unique within the pool
+         * @param secret Password or client secret
+         * @param attributes Further fields of the credential, e.g. a scope
+         */
+        public Credential(String id, String secret, Map<String, String> attributes) {
+            this.id = id;
+            this.secret = secret;
+            this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        /**
+         * @return Value of a further field, or null if the credential has none
+         */
+        public String getAttribute(String field) {
+            return attributes.get(field);
+        }
+
+        @Override
+        public String toString() {
+            // Never log the secret
+            return "Credential{" + id + "}";
+        }
+    }
+
+    /**
+     * A leased credential and its token, valid for at least the pool's minimum remaining lifetime
+     */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private final String token;
+        private boolean closed;
+
+        private Lease(Entry entry, String token) {
+            this.entry = entry;
+            this.token = token;
+        }
+
+        public Credential getCredential() {
+            return entry.credential;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Credential credential;
+        private final String tokenKey;
+        private final AtomicLong leaseCount = new AtomicLong();
+        // Open leases; changed under the pool's lock when leasing the least recently used credential
+        private final AtomicInteger active = new AtomicInteger();
+        // Guarded by the pool
+        private long lastUsed;
+
+        Entry(Credential credential, String tokenKey) {
+            this.credential = credential;
+            this.tokenKey = tokenKey;
+        }
+    }
+
+    /**
+     * Builder for TokenPool
+     */
+    public static final class Builder {
+        private final String name;
+        private final List<Credential> credentials = new ArrayList<>();
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+        private CredentialTokenSource source;
+        private long minRemainingSeconds = 30;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder credential(String id, String secret) {
+            return credential(new Credential(id, secret, Collections.emptyMap()));
+        }
+
+        public Builder credential(Credential credential) {
+            credentials.add(credential);
+            return this;
+        }
+
+        /**
+         * Add credentials from a JSON file holding an array of objects. The id is read from "username",
+         * "client_id" or "id" and the secret from "password", "client_secret" or "secret"; all fields are
+         * kept as attributes.
+         *
+         * @param path File path, or a file name in the test data directory
+         */
+        public Builder credentialsFromFile(String path) {
+            JsonDataProvider dataProvider = new JsonDataProvider();
+            String resolved = new File(path).isFile() ? path
+                    : dataProvider.resolveTestDataPath() + File.separator + path;
+            for (Map<String, Object> record : dataProvider.getTestDataFromJson(resolved)) {
+                Map<String, String> attributes = new LinkedHashMap<>();
+                record.forEach((field, value) -> attributes.put(field, value == null ? null : value.toString()));
+                credential(new Credential(
+                        firstPresent(attributes, "username", "client_id", "id"),
+                        firstPresent(attributes, "password", "client_secret", "secret"),
+                        attributes));
+            }
+            logger.debug("Loaded pool credentials for {} from {}", name, resolved);
+            return this;
+        }
+
+        public Builder strategy(Strategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        public Builder tokenSource(CredentialTokenSource source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * @param seconds A token expiring sooner than this is replaced before it is leased; default 30
+         */
+        public Builder minRemainingSeconds(long seconds) {
+            this.minRemainingSeconds = seconds;
+            return this;
+        }
+
+        public TokenPool build() {
+            if (name == null || name.isBlank()) {
+                throw new ConfigurationException("Token pool name must not be blank");
+            }
+            if (credentials.isEmpty()) {
+                throw new ConfigurationException("Token pool " + name + " has no credentials");
+            }
+            if (source == null) {
+                throw new ConfigurationException("Token pool " + name + " has no token source");
+            }
+            if (strategy == null) {
+                throw new ConfigurationException("Token pool " + name + " has no lease strategy");
+            }
+            Set<String> ids = new HashSet<>();
+            for (Credential credential : credentials) {
+                if (credential.getId() == null || credential.getId().isBlank()) {
+                    throw new ConfigurationException("Token pool " + name + " has a credential without an id");
+                }
+                if (!ids.add(credential.getId())) {
+                    throw new ConfigurationException("Token pool " + name + " has credential "
+                            + credential.getId() + " twice");
+                }
+            }
+            return new TokenPool(this);
+        }
+
+        private static String firstPresent(Map<String, String> attributes, String... fields) {
+            for (String field : fields) {
+                String value = attributes.get(field);
+                if (value != null && !value.isEmpty()) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Configuration manager to handle properties files for different environments
@@ -17,6 +18,8 @@ public class ConfigurationManager {
     private static final Logger logger = LogManager.getLogger(ConfigurationManager.class);
     private static ConfigurationManager instance;
     private Properties properties;
+    // Bumped after every change, so callers can cache values derived from the properties
+    private final AtomicLong version = new AtomicLong();
 
     private ConfigurationManager() {
         properties = new Properties();
@@ -44,6 +47,7 @@ public class ConfigurationManager {
         try (InputStream input = new FileInputStream(filePath)) {
             properties = new Properties();
             properties.load(input);
+            version.incrementAndGet();
             logger.info("Configuration loaded from: {}", filePath);
         } catch (IOException e) {
             logger.error("Failed to load configuration from: {}", filePath, e);
@@ -64,6 +68,7 @@ public class ConfigurationManager {
             }
             properties = new Properties();
             properties.load(input);
+            version.incrementAndGet();
             logger.info("Configuration loaded from resource: {}", resourcePath);
         } catch (IOException e) {
             logger.error("Failed to load configuration from resource: {}", resourcePath, e);
@@ -164,6 +169,7 @@ public class ConfigurationManager {
      */
     public void setProperty(String key, String value) {
         properties.setProperty(key, value);
+        version.incrementAndGet();
     }
 
     /**
@@ -181,6 +187,17 @@ public class ConfigurationManager {
      */
     public void clearProperties() {
         properties.clear();
+        version.incrementAndGet();
+    }
+
+    /**
+     * Get a number that changes whenever properties are loaded, set or cleared. Values derived from the
+     * configuration can be kept until it changes instead of being read again on every use.
+     *
+     * @return Current configuration version
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     private String resolveEnvPlaceholder(String value) {
@@ -1,5 +1,7 @@
 package com.prasad_v.config;
 
+import com.prasad_v.constants.ConfigKeys;
+
 /**
  * Environment manager to handle environment-specific configurations
  * This class loads the appropriate properties file based on the selected environment
@@ -8,8 +10,8 @@ public class EnvironmentManager {
     private static final String CONFIG_PATH = "config/";
     private static final String DEFAULT_ENV = "dev";
 
-    private static EnvironmentManager instance;
-    private String currentEnvironment;
+    private static volatile EnvironmentManager instance;
+    private volatile String currentEnvironment;
     private ConfigurationManager configManager;
 
     private EnvironmentManager() {
@@ -22,11 +24,17 @@ public class EnvironmentManager {
      *
      * @return EnvironmentManager instance
      */
-    public static synchronized EnvironmentManager getInstance() {
-        if (instance == null) {
-            instance = new EnvironmentManager();
+    public static EnvironmentManager getInstance() {
+        EnvironmentManager current = instance;
+        if (current != null) {
+            return current;
+        }
+        synchronized (EnvironmentManager.class) {
+            if (instance == null) {
+                instance = new EnvironmentManager();
+            }
+            return instance;
         }
-        return instance;
     }
 
     /**
@@ -80,7 +88,7 @@ public class EnvironmentManager {
      * @return Connection timeout in milliseconds
      */
     public int getConnectionTimeout() {
-        return configManager.getIntProperty("api.connection.timeout", 30000);
+        return configManager.getIntProperty(ConfigKeys.API_CONNECTION_TIMEOUT, 30000);
     }
 
     /**
@@ -89,7 +97,7 @@ public class EnvironmentManager {
      * @return Socket timeout in milliseconds
      */
     public int getSocketTimeout() {
-        return configManager.getIntProperty("api.socket.timeout", 30000);
+        return configManager.getIntProperty(ConfigKeys.API_SOCKET_TIMEOUT, 30000);
     }
 
     /**
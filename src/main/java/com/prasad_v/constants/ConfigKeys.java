@@ -8,6 +8,7 @@ public final class ConfigKeys {
     // API Configuration
     public static final String API_BASE_URL = "api.base.url";
     public static final String API_VERSION = "api.version";
+    public static final String API_TRANSPORT = "api.transport";
     
     // Authentication
     public static final String AUTH_CLIENT_ID = "auth.client.id";
@@ -16,11 +17,35 @@ public final class ConfigKeys {
     public static final String AUTH_PASSWORD = "auth.password";
     public static final String AUTH_TOKEN_URL = "auth.token.url";
     public static final String AUTH_TOKEN_REFRESH_URL = "auth.token.refresh.url";
+    public static final String AUTH_TOKEN_REFRESH_ENABLED = "auth.token.refresh.enabled";
+    public static final String AUTH_TOKEN_REFRESH_PERCENT = "auth.token.refresh.percent";
+    public static final String AUTH_TOKEN_REFRESH_JITTER_PERCENT = "auth.token.refresh.jitter.percent";
+    public static final String AUTH_TOKEN_REFRESH_RETRY_SECONDS = "auth.token.refresh.retry.seconds";
+    public static final String AUTH_TOKEN_CACHE_ENABLED = "auth.token.cache.enabled";
+    public static final String AUTH_TOKEN_CACHE_DIR = "auth.token.cache.dir";
+    public static final String AUTH_TOKEN_CACHE_KEY_ENV = "auth.token.cache.key.env";
     
     // Request Configuration
     public static final String REQUEST_TIMEOUT = "request.timeout";
     public static final String REQUEST_RETRY_COUNT = "request.retry.count";
     public static final String REQUEST_RETRY_DELAY = "request.retry.delay";
+    public static final String REQUEST_BATCH_CONCURRENCY = "request.batch.concurrency";
+
+    // HTTP Connection Pool
+    public static final String API_CONNECTION_TIMEOUT = "api.connection.timeout";
+    public static final String API_SOCKET_TIMEOUT = "api.socket.timeout";
+    public static final String CONNECTION_POOL_MAX_TOTAL = "api.connection.pool.max.total";
+    public static final String CONNECTION_POOL_MAX_PER_ROUTE = "api.connection.pool.max.per.route";
+    public static final String CONNECTION_POOL_KEEP_ALIVE = "api.connection.pool.keepalive";
+    public static final String CONNECTION_POOL_IDLE_TIMEOUT = "api.connection.pool.idle.timeout";
+
+    // Load Testing
+    public static final String LOAD_MAX_IN_FLIGHT = "load.max.inflight";
+    public static final String LOAD_DRAIN_TIMEOUT = "load.drain.timeout";
+
+    // Validation
+    public static final String VALIDATION_CACHE_MAX_BYTES = "validation.cache.max.bytes";
+    public static final String VALIDATION_CACHE_WARMUP = "validation.cache.warmup";
     
     // Proxy
     public static final String PROXY_ENABLED = "proxy.enabled";
@@ -36,6 +61,14 @@ public final class ConfigKeys {
     public static final String LOGGING_RESPONSE_HEADERS = "logging.response.headers";
     public static final String LOGGING_REQUEST_BODY = "logging.request.body";
     public static final String LOGGING_RESPONSE_BODY = "logging.response.body";
+    public static final String LOGGING_STREAM_CAPTURE_BYTES = "logging.stream.capture.bytes";
+    public static final String LOGGING_CAPTURE_MODE = "logging.capture.mode";
+    public static final String LOGGING_CAPTURE_SAMPLE_RATE = "logging.capture.sample.rate";
+    public static final String LOGGING_CAPTURE_SLOW_THRESHOLD = "logging.capture.slow.threshold";
+    public static final String LOGGING_CAPTURE_MAX_CHARS = "logging.capture.max.chars";
+    public static final String LOGGING_SANITIZE_JSON_KEYS = "logging.sanitize.json.keys";
+    public static final String LOGGING_SANITIZE_JSON_PATHS = "logging.sanitize.json.paths";
+    public static final String LOGGING_SANITIZE_JSON_SCAN_VALUES = "logging.sanitize.json.scan.values";
     
     // Mock Server
     public static final String MOCK_SERVER_ENABLED = "mock.server.enabled";
@@ -0,0 +1,70 @@
+package com.prasad_v.contracts;
+
+import java.util.List;
+
+/**
+ * Outcome of a streaming contract validation.
+ */
+public final class ContractValidationResult {
+
+    private final List<String> errors;
+    private final long errorCount;
+    private final long elementsValidated;
+    private final long bytesRead;
+
+    ContractValidationResult(List<String> errors, long errorCount, long elementsValidated, long bytesRead) {
+        this.errors = List.copyOf(errors);
+        this.errorCount = errorCount;
+        this.elementsValidated = elementsValidated;
+        this.bytesRead = bytesRead;
+    }
+
+    public boolean isValid() {
+        return errorCount == 0;
+    }
+
+    /**
+     * @return Error messages in document order, up to the validator's error cap
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return Number of errors found, including those beyond the cap
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return Number of array elements validated against an element contract
+     */
+    public long getElementsValidated() {
+        return elementsValidated;
+    }
+
+    /**
+     * @return Number of body bytes parsed
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return Errors joined for an exception message, noting how many were left out
+     */
+    public String describeErrors() {
+        String message = String.join(", ", errors);
+        if (errorCount > errors.size()) {
+            message += " (and " + (errorCount - errors.size()) + " more)";
+        }
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return (isValid() ? "Contract satisfied" : "Contract violated with " + errorCount + " errors")
+                + ": " + elementsValidated + " elements, " + bytesRead + " bytes";
+    }
+}
@@ -1,11 +1,18 @@
 package com.prasad_v.contracts;
 
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
 import com.prasad_v.exceptions.APIException;
 import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.transport.StreamingResponse;
+import com.prasad_v.utils.BoundedCache;
+import com.prasad_v.utils.ResourceFiles;
+import com.prasad_v.validation.ResponseDocument;
 import io.restassured.response.Response;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
@@ -13,20 +20,35 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for validating API responses against contract specifications.
  * This class provides functionality to validate that API responses conform to
  * expected schemas and contracts.
+ * <p>
+ * Schemas and contracts are read and parsed once, on first use or by {@link #warmUp()} at suite start, and
+ * kept in caches shared by all test threads. Each cache holds up to {@code validation.cache.max.bytes} of
+ * source files and evicts the least recently used entries beyond that.
  */
 public class ContractValidator {
 
     private static final CustomLogger logger = new CustomLogger(ContractValidator.class);
-    private static final Map<String, Schema> schemaCache = new HashMap<>();
+
+    private static final String SCHEMA_DIRECTORY = "schemas";
+    private static final String CONTRACT_DIRECTORY = "contracts";
+    private static final int DEFAULT_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+    private static final int MAX_STREAMING_CONTRACTS = 1024;
+
+    private static final BoundedCache<String, Parsed<Schema>> schemaCache = new BoundedCache<>(
+            "schema", cacheMaxBytes(), Parsed::getSourceLength);
+    private static final BoundedCache<String, Parsed<JSONObject>> contractCache = new BoundedCache<>(
+            "contract", cacheMaxBytes(), Parsed::getSourceLength);
+    private static final BoundedCache<String, StreamingContractValidator> streamingContractCache = new BoundedCache<>(
+            "streaming contract", MAX_STREAMING_CONTRACTS, validator -> 1);
 
     /**
      * Validates an API response against a JSON schema
@@ -38,8 +60,8 @@ public class ContractValidator {
      */
     public static boolean validateAgainstSchema(Response response, String schemaPath) throws APIException {
         try {
-            Schema schema = getSchemaFromCache(schemaPath);
-            JSONObject responseJson = new JSONObject(response.getBody().asString());
+            Schema schema = schemaCache.get(schemaPath, ContractValidator::loadSchema).value;
+            JSONObject responseJson = ResponseDocument.of(response).getJSONObject();
 
             schema.validate(responseJson);
             logger.info("Schema validation successful for: " + schemaPath);
@@ -67,8 +89,8 @@ public class ContractValidator {
      */
     public static boolean validateAgainstContract(Response response, String contractPath) throws APIException {
         try {
-            JSONObject contract = loadJsonFromFile(contractPath);
-            JSONObject responseJson = new JSONObject(response.getBody().asString());
+            JSONObject contract = contractCache.get(contractPath, ContractValidator::loadContract).value;
+            JSONObject responseJson = ResponseDocument.of(response).getJSONObject();
 
             List<String> validationErrors = new ArrayList<>();
             validateJsonAgainstContract(responseJson, contract, "", validationErrors);
@@ -100,7 +122,7 @@ public class ContractValidator {
      */
     public static boolean validateRequiredFields(Response response, String[] requiredFields) throws APIException {
         try {
-            JSONObject responseJson = new JSONObject(response.getBody().asString());
+            JSONObject responseJson = ResponseDocument.of(response).getJSONObject();
             List<String> missingFields = new ArrayList<>();
 
             for (String field : requiredFields) {
@@ -127,20 +149,130 @@ public class ContractValidator {
     }
 
     /**
-     * Get a schema from cache or load it if not already cached
+     * Validates a streamed response against a contract while reading it, without loading the body into
+     * memory. Suited to list endpoints returning very large arrays; see StreamingContractValidator for the
+     * array element syntax. The body is consumed.
      *
-     * @param schemaPath Path to the schema file
-     * @return Schema object
-     * @throws IOException If schema file cannot be read
+     * @param response The streaming API response to validate
+     * @param contractPath Path to the contract definition file
+     * @return True if validation passes, throws exception otherwise
+     * @throws APIException If validation fails, the body is not JSON or the contract cannot be loaded
      */
-    private static Schema getSchemaFromCache(String schemaPath) throws IOException {
-        if (schemaCache.containsKey(schemaPath)) {
-            return schemaCache.get(schemaPath);
+    public static boolean validateAgainstContract(StreamingResponse response, String contractPath) throws APIException {
+        ContractValidationResult result = validateStreaming(response.getBody(), contractPath);
+
+        if (!result.isValid()) {
+            String errorMessage = "Contract validation failed. Errors: " + result.describeErrors();
+            logger.error(errorMessage);
+            throw new APIException(errorMessage);
         }
 
-        Schema schema = loadSchema(schemaPath);
-        schemaCache.put(schemaPath, schema);
-        return schema;
+        logger.info("Contract validation successful for: {} ({})", contractPath, result);
+        return true;
+    }
+
+    /**
+     * Validates that all required fields exist in a streamed response, reading the body once without
+     * loading it into memory. The body is consumed.
+     *
+     * @param response The streaming API response to validate
+     * @param requiredFields Array of required field paths (e.g., "user.id", "user.name")
+     * @return True if all required fields exist, throws exception otherwise
+     * @throws APIException If any required field is missing or the body is not JSON
+     */
+    public static boolean validateRequiredFields(StreamingResponse response, String[] requiredFields) throws APIException {
+        ContractValidationResult result = StreamingContractValidator.forRequiredFields(requiredFields).build()
+                .validate(response.getBody());
+
+        if (!result.isValid()) {
+            String errorMessage = "Required fields missing. Errors: " + result.describeErrors();
+            logger.error(errorMessage);
+            throw new APIException(errorMessage);
+        }
+
+        logger.info("All required fields present in response");
+        return true;
+    }
+
+    /**
+     * Validate a JSON body read from a stream against a contract, collecting at most 100 errors
+     *
+     * @param body JSON body; read to the end of the document but not closed
+     * @param contractPath Path to the contract definition file
+     * @return Outcome of the validation
+     * @throws APIException If the body is not JSON or the contract cannot be loaded
+     */
+    public static ContractValidationResult validateStreaming(InputStream body, String contractPath) throws APIException {
+        StreamingContractValidator validator = streamingContractCache.get(contractPath,
+                path -> StreamingContractValidator.builder(contractCache.get(path, ContractValidator::loadContract).value).build());
+        return validator.validate(body);
+    }
+
+    /**
+     * Preload every schema and contract under the default "schemas" and "contracts" resource directories
+     *
+     * @return Number of files loaded
+     */
+    public static int warmUp() {
+        return warmUp(SCHEMA_DIRECTORY, CONTRACT_DIRECTORY);
+    }
+
+    /**
+     * Preload every JSON file in the given directories in parallel, so that validation does not wait for
+     * file I/O. Directories are looked up on the classpath first, then on the file system, and files are
+     * cached under the same "directory/name.json" paths the validate methods use. Files that fail to load
+     * are logged and left for the validate methods to report.
+     *
+     * @param schemaDirectory Directory of JSON schemas
+     * @param contractDirectory Directory of contract definitions
+     * @return Number of files loaded
+     */
+    public static int warmUp(String schemaDirectory, String contractDirectory) {
+        long start = System.nanoTime();
+        List<Runnable> loads = new ArrayList<>();
+        for (String path : ResourceFiles.listJsonFiles(schemaDirectory)) {
+            loads.add(() -> schemaCache.get(path, ContractValidator::loadSchema));
+        }
+        for (String path : ResourceFiles.listJsonFiles(contractDirectory)) {
+            loads.add(() -> contractCache.get(path, ContractValidator::loadContract));
+        }
+
+        AtomicInteger loaded = new AtomicInteger();
+        loads.parallelStream().forEach(load -> {
+            try {
+                load.run();
+                loaded.incrementAndGet();
+            } catch (RuntimeException e) {
+                logger.warn("Could not preload schema or contract: {}", e.getMessage());
+            }
+        });
+
+        logger.info("Preloaded {} of {} schemas and contracts in {} ms", loaded.get(), loads.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return loaded.get();
+    }
+
+    /**
+     * @return Cache of parsed JSON schemas, for its hit, miss and eviction counts
+     */
+    public static BoundedCache<String, ?> getSchemaCache() {
+        return schemaCache;
+    }
+
+    /**
+     * @return Cache of parsed contract definitions, for its hit, miss and eviction counts
+     */
+    public static BoundedCache<String, ?> getContractCache() {
+        return contractCache;
+    }
+
+    /**
+     * Drop all cached schemas and contracts, e.g. after the files changed
+     */
+    public static void clearCaches() {
+        schemaCache.invalidateAll();
+        contractCache.invalidateAll();
+        streamingContractCache.invalidateAll();
     }
 
     /**
@@ -150,26 +282,34 @@ public class ContractValidator {
      * @return Schema object
      * @throws IOException If schema file cannot be read
      */
-    private static Schema loadSchema(String schemaPath) throws IOException {
-        try (InputStream inputStream = getResourceAsStream(schemaPath)) {
-            JSONObject jsonSchema = new JSONObject(new JSONTokener(inputStream));
-            return SchemaLoader.load(jsonSchema);
-        }
+    private static Parsed<Schema> loadSchema(String schemaPath) throws IOException {
+        String source = readResource(schemaPath);
+        return new Parsed<>(SchemaLoader.load(new JSONObject(new JSONTokener(source))), source.length());
     }
 
     /**
-     * Load a JSON object from file
+     * Load a contract definition from file
      *
-     * @param filePath Path to the JSON file
+     * @param contractPath Path to the contract file
      * @return JSONObject representing the file contents
      * @throws IOException If file cannot be read
      */
-    private static JSONObject loadJsonFromFile(String filePath) throws IOException {
-        try (InputStream inputStream = getResourceAsStream(filePath)) {
-            return new JSONObject(new JSONTokener(inputStream));
+    private static Parsed<JSONObject> loadContract(String contractPath) throws IOException {
+        String source = readResource(contractPath);
+        return new Parsed<>(new JSONObject(new JSONTokener(source)), source.length());
+    }
+
+    private static String readResource(String path) throws IOException {
+        try (InputStream inputStream = getResourceAsStream(path)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
 
+    private static long cacheMaxBytes() {
+        return ConfigurationManager.getInstance().getIntProperty(ConfigKeys.VALIDATION_CACHE_MAX_BYTES,
+                DEFAULT_CACHE_MAX_BYTES);
+    }
+
     /**
      * Get resource as input stream, supporting both classpath and file system paths
      *
@@ -226,6 +366,22 @@ public class ContractValidator {
                 } else {
                     validateJsonAgainstContract(json.getJSONObject(key), contract.getJSONObject(key), currentPath, errors);
                 }
+            } else if (isElementContract(contract.get(key))) {
+                // A one-element array holds the contract every element must match
+                if (!json.has(key) || !(json.get(key) instanceof JSONArray)) {
+                    errors.add("Missing or invalid array at path: " + currentPath);
+                } else {
+                    JSONObject elementContract = contract.getJSONArray(key).getJSONObject(0);
+                    JSONArray elements = json.getJSONArray(key);
+                    for (int i = 0; i < elements.length(); i++) {
+                        String elementPath = currentPath + "[" + i + "]";
+                        if (elements.get(i) instanceof JSONObject) {
+                            validateJsonAgainstContract(elements.getJSONObject(i), elementContract, elementPath, errors);
+                        } else {
+                            errors.add("Missing or invalid object at path: " + elementPath);
+                        }
+                    }
+                }
             } else {
                 // It's a field specification
                 if (!json.has(key)) {
@@ -247,6 +403,11 @@ public class ContractValidator {
         }
     }
 
+    private static boolean isElementContract(Object contractValue) {
+        return contractValue instanceof JSONArray && ((JSONArray) contractValue).length() == 1
+                && ((JSONArray) contractValue).get(0) instanceof JSONObject;
+    }
+
     /**
      * Check if a field exists in a JSON object
      *
@@ -286,11 +447,29 @@ public class ContractValidator {
             case "object":
                 return value instanceof JSONObject;
             case "array":
-                return value instanceof org.json.JSONArray;
+                return value instanceof JSONArray;
             case "null":
                 return value == JSONObject.NULL;
             default:
                 return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A parsed file and the length of its source, which weighs it in the cache
+     */
+    private static final class Parsed<T> {
+
+        private final T value;
+        private final long sourceLength;
+
+        Parsed(T value, long sourceLength) {
+            this.value = value;
+            this.sourceLength = sourceLength;
+        }
+
+        long getSourceLength() {
+            return sourceLength;
+        }
+    }
+}
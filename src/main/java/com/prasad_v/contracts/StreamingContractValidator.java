@@ -0,0 +1,425 @@
+package com.prasad_v.contracts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.prasad_v.exceptions.APIException;
+
+/**
+ * Validates a JSON body against a contract while reading it token by token, without building a tree of the
+ * whole document.
+ * <p>
+ * Contracts use the format of ContractValidator: each key maps to "required", "type:&lt;type&gt;" or a nested
+ * contract object. In addition, a one-element array such as {@code "data": [{"id": "type:number"}]} requires
+ * an array whose every element matches the contract inside it. Elements are checked as they are read and then
+ * discarded, so memory use is bounded by the depth of the document and the error cap, not by its size; a
+ * response with millions of records is validated in constant heap.
+ * <p>
+ * Instances are immutable and thread-safe; build one per contract and reuse it.
+ */
+public final class StreamingContractValidator {
+
+    private static final int DEFAULT_MAX_ERRORS = 100;
+
+    // Jackson limits a single string value to 20 MB by default; exports may embed larger ones
+    private static final JsonFactory jsonFactory = JsonFactory.builder()
+            .streamReadConstraints(StreamReadConstraints.builder().maxStringLength(Integer.MAX_VALUE).build())
+            .build();
+
+    private final FieldRule root;
+    private final int maxErrors;
+
+    private StreamingContractValidator(Builder builder) {
+        builder.rule.index();
+        this.root = builder.rootArray ? FieldRule.arrayOf(builder.rule) : FieldRule.object(builder.rule);
+        this.maxErrors = builder.maxErrors;
+    }
+
+    /**
+     * Start a validator for a contract definition
+     *
+     * @param contract Contract in ContractValidator's format
+     */
+    public static Builder builder(JSONObject contract) {
+        return new Builder(compile(contract));
+    }
+
+    /**
+     * Start a validator that only checks that the given fields are present
+     *
+     * @param requiredFields Dot-separated field paths, e.g. "user.address.city"
+     */
+    public static Builder forRequiredFields(String... requiredFields) {
+        ObjectRule rule = new ObjectRule();
+        for (String field : requiredFields) {
+            String[] parts = field.split("\\.");
+            ObjectRule current = rule;
+            for (int i = 0; i < parts.length - 1; i++) {
+                FieldRule parent = current.fields.get(parts[i]);
+                if (parent == null || parent.kind != Kind.PARENT) {
+                    parent = FieldRule.parent(new ObjectRule());
+                    current.fields.put(parts[i], parent);
+                }
+                current = parent.object;
+            }
+            current.fields.putIfAbsent(parts[parts.length - 1], FieldRule.REQUIRED);
+        }
+        return new Builder(rule);
+    }
+
+    /**
+     * Validate a JSON document read from a stream. The stream is read to the end of the document but not closed.
+     *
+     * @param body JSON body
+     * @return Outcome, with at most the configured number of error messages
+     * @throws APIException If the body cannot be read or is not well-formed JSON
+     */
+    public ContractValidationResult validate(InputStream body) {
+        Walk walk = new Walk(maxErrors);
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new APIException("Response body is empty");
+            }
+            walk.check(parser, root, token);
+            return new ContractValidationResult(walk.errors, walk.errorCount, walk.elements,
+                    parser.currentLocation().getByteOffset());
+        } catch (IOException e) {
+            throw new APIException("Failed to read JSON at " + walk.path + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static ObjectRule compile(JSONObject contract) {
+        ObjectRule rule = new ObjectRule();
+        for (String key : contract.keySet()) {
+            Object value = contract.get(key);
+            if (value instanceof JSONObject) {
+                rule.fields.put(key, FieldRule.object(compile((JSONObject) value)));
+            } else if (value instanceof JSONArray && ((JSONArray) value).length() == 1
+                    && ((JSONArray) value).get(0) instanceof JSONObject) {
+                rule.fields.put(key, FieldRule.arrayOf(compile(((JSONArray) value).getJSONObject(0))));
+            } else if ("required".equals(value)) {
+                rule.fields.put(key, FieldRule.REQUIRED);
+            } else if (value instanceof String && ((String) value).startsWith("type:")) {
+                rule.fields.put(key, FieldRule.type(((String) value).substring(5).toLowerCase()));
+            }
+        }
+        return rule;
+    }
+
+    private enum Kind {
+        OBJECT, ARRAY_OF, PARENT, REQUIRED, TYPE
+    }
+
+    /**
+     * What the contract expects of one field
+     */
+    private static final class FieldRule {
+
+        static final FieldRule REQUIRED = new FieldRule(Kind.REQUIRED, null, null);
+
+        private final Kind kind;
+        private final ObjectRule object;
+        private final String type;
+        // Rule applied to each element of an ARRAY_OF field
+        private final FieldRule element;
+
+        private FieldRule(Kind kind, ObjectRule object, String type) {
+            this.kind = kind;
+            this.object = object;
+            this.type = type;
+            this.element = kind == Kind.ARRAY_OF ? new FieldRule(Kind.OBJECT, object, null) : null;
+        }
+
+        static FieldRule object(ObjectRule object) {
+            return new FieldRule(Kind.OBJECT, object, null);
+        }
+
+        static FieldRule arrayOf(ObjectRule element) {
+            return new FieldRule(Kind.ARRAY_OF, element, null);
+        }
+
+        // An object that is only a step on the way to required fields
+        static FieldRule parent(ObjectRule object) {
+            return new FieldRule(Kind.PARENT, object, null);
+        }
+
+        static FieldRule type(String type) {
+            return new FieldRule(Kind.TYPE, null, type);
+        }
+    }
+
+    /**
+     * Rules for the fields of one object, looked up by name as the object's fields stream past
+     */
+    private static final class ObjectRule {
+
+        private final Map<String, FieldRule> fields = new LinkedHashMap<>();
+        private Map<String, Integer> positions;
+        private FieldRule[] ordered;
+        private String[] names;
+
+        /**
+         * Index the fields once the rule is complete; a field's position marks it as seen while streaming
+         */
+        synchronized void index() {
+            if (positions != null) {
+                return;
+            }
+            Map<String, Integer> indexed = new HashMap<>();
+            names = fields.keySet().toArray(new String[0]);
+            ordered = fields.values().toArray(new FieldRule[0]);
+            for (int i = 0; i < names.length; i++) {
+                indexed.put(names[i], i);
+                if (ordered[i].object != null) {
+                    ordered[i].object.index();
+                }
+            }
+            positions = indexed;
+        }
+    }
+
+    /**
+     * State of one validation: the current path and the errors found so far
+     */
+    private static final class Walk {
+
+        private final int maxErrors;
+        private final List<String> errors = new ArrayList<>();
+        private final JsonPath path = new JsonPath();
+        private long errorCount;
+        private long elements;
+
+        Walk(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        /**
+         * Check the value starting at the current token and move the parser to its last token
+         */
+        void check(JsonParser parser, FieldRule rule, JsonToken token) throws IOException {
+            switch (rule.kind) {
+                case OBJECT:
+                case PARENT:
+                    if (token == JsonToken.START_OBJECT) {
+                        checkObject(parser, rule.object);
+                    } else {
+                        reportMissing(rule);
+                        parser.skipChildren();
+                    }
+                    break;
+                case ARRAY_OF:
+                    if (token == JsonToken.START_ARRAY) {
+                        checkElements(parser, rule.element);
+                    } else {
+                        reportMissing(rule);
+                        parser.skipChildren();
+                    }
+                    break;
+                case TYPE:
+                    if (!matchesType(token, rule.type)) {
+                        error("Type mismatch for field " + path + ". Expected: " + rule.type);
+                    }
+                    parser.skipChildren();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        private void checkObject(JsonParser parser, ObjectRule rule) throws IOException {
+            boolean[] seen = new boolean[rule.ordered.length];
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                Integer position = rule.positions.get(name);
+                if (position == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                seen[position] = true;
+                path.pushField(name);
+                check(parser, rule.ordered[position], value);
+                path.pop();
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new IOException("Unexpected token " + token);
+            }
+            for (int i = 0; i < seen.length; i++) {
+                if (!seen[i]) {
+                    path.pushField(rule.names[i]);
+                    reportMissing(rule.ordered[i]);
+                    path.pop();
+                }
+            }
+        }
+
+        private void checkElements(JsonParser parser, FieldRule elementRule) throws IOException {
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of input");
+                }
+                path.pushIndex(index++);
+                check(parser, elementRule, token);
+                path.pop();
+                elements++;
+            }
+        }
+
+        private void reportMissing(FieldRule rule) {
+            switch (rule.kind) {
+                case OBJECT:
+                    error("Missing or invalid object at path: " + path);
+                    break;
+                case ARRAY_OF:
+                    error("Missing or invalid array at path: " + path);
+                    break;
+                case PARENT:
+                    // Every required field below is missing
+                    for (Map.Entry<String, FieldRule> field : rule.object.fields.entrySet()) {
+                        path.pushField(field.getKey());
+                        reportMissing(field.getValue());
+                        path.pop();
+                    }
+                    break;
+                case REQUIRED:
+                    error("Required field missing: " + path);
+                    break;
+                default:
+                    // Typed fields are optional
+            }
+        }
+
+        private void error(String message) {
+            errorCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(message);
+            }
+        }
+
+        private static boolean matchesType(JsonToken token, String type) {
+            switch (type) {
+                case "string":
+                    return token == JsonToken.VALUE_STRING;
+                case "number":
+                    return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+                case "boolean":
+                    return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+                case "object":
+                    return token == JsonToken.START_OBJECT;
+                case "array":
+                    return token == JsonToken.START_ARRAY;
+                case "null":
+                    return token == JsonToken.VALUE_NULL;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Path of the current value, rendered as "data[3].email" only when an error is reported
+     */
+    private static final class JsonPath {
+
+        private String[] names = new String[16];
+        private int[] indexes = new int[16];
+        private int depth;
+
+        void pushField(String name) {
+            grow();
+            names[depth] = name;
+            indexes[depth++] = -1;
+        }
+
+        void pushIndex(int index) {
+            grow();
+            names[depth] = null;
+            indexes[depth++] = index;
+        }
+
+        void pop() {
+            depth--;
+        }
+
+        private void grow() {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (depth == 0) {
+                return "$";
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                if (names[i] == null) {
+                    sb.append('[').append(indexes[i]).append(']');
+                } else {
+                    if (sb.length() > 0) {
+                        sb.append('.');
+                    }
+                    sb.append(names[i]);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Builder for StreamingContractValidator.
+     */
+    public static final class Builder {
+
+        private final ObjectRule rule;
+        private boolean rootArray;
+        private int maxErrors = DEFAULT_MAX_ERRORS;
+
+        private Builder(ObjectRule rule) {
+            this.rule = rule;
+        }
+
+        /**
+         * Expect the body to be an array whose every element matches the contract, instead of an object
+         */
+        public Builder rootArray(boolean rootArray) {
+            this.rootArray = rootArray;
+            return this;
+        }
+
+        /**
+         * Keep at most this many error messages; further errors are only counted. Defaults to 100.
+         */
+        public Builder maxErrors(int maxErrors) {
+            this.maxErrors = maxErrors;
+            return this;
+        }
+
+        public StreamingContractValidator build() {
+            if (maxErrors < 0) {
+                throw new IllegalStateException("Error cap must not be negative: " + maxErrors);
+            }
+            return new StreamingContractValidator(this);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.prasad_v.enums;
+
+/**
+ * Enum representing which request/response exchanges the interceptor logs and attaches to reports.
+ */
+public enum CaptureMode {
+
+    /**
+     * Capture every exchange. The default.
+     */
+    ALL,
+
+    /**
+     * Capture a random sample of roughly one in N exchanges.
+     */
+    SAMPLE,
+
+    /**
+     * Capture only exchanges that failed (status 400 and above, or no response at all)
+     * or took longer than the slow-call threshold.
+     */
+    FAILURES,
+
+    /**
+     * Capture nothing.
+     */
+    NONE;
+
+    /**
+     * Convert a configuration value to a CaptureMode, ignoring case
+     *
+     * @param name Mode name, e.g. "all", "sample", "failures" or "none"
+     * @return The corresponding CaptureMode, or ALL when the name is blank
+     * @throws IllegalArgumentException If the name does not match any mode
+     */
+    public static CaptureMode fromString(String name) {
+        if (name == null || name.isBlank()) {
+            return ALL;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported capture mode: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.prasad_v.enums;
+
+/**
+ * Enum representing the HTTP stacks a RequestBuilder can send requests through.
+ */
+public enum TransportType {
+
+    /**
+     * RestAssured on top of the pooled Apache HttpClient 4 (HTTP/1.1). The default transport.
+     */
+    RESTASSURED,
+
+    /**
+     * JDK java.net.http.HttpClient, negotiating HTTP/2 where the server supports it so concurrent
+     * requests to one host are multiplexed over a single connection.
+     */
+    JDK;
+
+    /**
+     * Convert a configuration value to a TransportType, ignoring case
+     *
+     * @param name Transport name, e.g. "restassured" or "jdk"
+     * @return The corresponding TransportType, or RESTASSURED when the name is blank
+     * @throws IllegalArgumentException If the name does not match any transport
+     */
+    public static TransportType fromString(String name) {
+        if (name == null || name.isBlank()) {
+            return RESTASSURED;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported HTTP transport: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.prasad_v.exceptions;
+
+/**
+ * Exception thrown instead of waiting when every in-flight slot of the pooled HTTP client is taken and the
+ * caller asked not to queue, e.g. the load engine. It carries no stack trace, as it is raised per request.
+ */
+public class PoolSaturatedException extends APIException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PoolSaturatedException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,314 @@
+package com.prasad_v.interceptors;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.enums.CaptureMode;
+import com.prasad_v.logging.JsonLogSanitizer;
+import com.prasad_v.logging.LogSanitizer;
+
+/**
+ * CapturePolicy decides which request/response exchanges RequestResponseInterceptor logs and attaches,
+ * which parts of them, and how much of each body is kept.
+ * <p>
+ * Decisions are made before any header or body is turned into a String, so an exchange the policy does
+ * not emit costs no stringification, sanitizing or report attachment at all. Policies are immutable.
+ */
+public final class CapturePolicy {
+
+    private static final int DEFAULT_SAMPLE_RATE = 100;
+    private static final int DEFAULT_SLOW_THRESHOLD_MS = 2000;
+    private static final int DEFAULT_MAX_CHARS = 65536;
+
+    // Extra characters sanitized past the cut so a secret straddling it is still masked
+    private static final int SANITIZE_LOOKAHEAD = 1024;
+
+    /**
+     * Outcome of the up-front decision for one exchange
+     */
+    enum Decision {
+        CAPTURE,
+        DEFER,
+        SKIP
+    }
+
+    private final CaptureMode mode;
+    private final int sampleRate;
+    private final long slowThresholdMs;
+    private final int maxChars;
+    private final boolean requestEnabled;
+    private final boolean responseEnabled;
+    private final boolean requestHeaders;
+    private final boolean responseHeaders;
+    private final boolean requestBody;
+    private final boolean responseBody;
+
+    private CapturePolicy(Builder builder) {
+        this.mode = builder.mode;
+        this.sampleRate = builder.sampleRate;
+        this.slowThresholdMs = builder.slowThresholdMs;
+        this.maxChars = builder.maxChars;
+        this.requestEnabled = builder.requestEnabled;
+        this.responseEnabled = builder.responseEnabled;
+        this.requestHeaders = builder.requestHeaders;
+        this.responseHeaders = builder.responseHeaders;
+        this.requestBody = builder.requestBody;
+        this.responseBody = builder.responseBody;
+    }
+
+    public static Builder builder(CaptureMode mode) {
+        return new Builder(mode);
+    }
+
+    /**
+     * Capture every exchange in full
+     */
+    public static CapturePolicy all() {
+        return builder(CaptureMode.ALL).build();
+    }
+
+    /**
+     * Capture roughly one in {@code rate} exchanges
+     */
+    public static CapturePolicy sampled(int rate) {
+        return builder(CaptureMode.SAMPLE).sampleRate(rate).build();
+    }
+
+    /**
+     * Capture only failed exchanges and those slower than the threshold
+     */
+    public static CapturePolicy failuresAndSlowerThan(long slowThresholdMs) {
+        return builder(CaptureMode.FAILURES).slowThreshold(slowThresholdMs).build();
+    }
+
+    /**
+     * Capture nothing
+     */
+    public static CapturePolicy none() {
+        return builder(CaptureMode.NONE).build();
+    }
+
+    /**
+     * Build the policy from the logging.* keys of the current environment
+     *
+     * @return CapturePolicy for the current configuration
+     */
+    public static CapturePolicy fromConfig() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        return builder(CaptureMode.fromString(config.getProperty(ConfigKeys.LOGGING_CAPTURE_MODE, "")))
+                .sampleRate(config.getIntProperty(ConfigKeys.LOGGING_CAPTURE_SAMPLE_RATE, DEFAULT_SAMPLE_RATE))
+                .slowThreshold(config.getIntProperty(ConfigKeys.LOGGING_CAPTURE_SLOW_THRESHOLD, DEFAULT_SLOW_THRESHOLD_MS))
+                .maxChars(config.getIntProperty(ConfigKeys.LOGGING_CAPTURE_MAX_CHARS, DEFAULT_MAX_CHARS))
+                .request(config.getBooleanProperty(ConfigKeys.LOGGING_REQUEST_ENABLE, true),
+                        config.getBooleanProperty(ConfigKeys.LOGGING_REQUEST_HEADERS, true),
+                        config.getBooleanProperty(ConfigKeys.LOGGING_REQUEST_BODY, true))
+                .response(config.getBooleanProperty(ConfigKeys.LOGGING_RESPONSE_ENABLE, true),
+                        config.getBooleanProperty(ConfigKeys.LOGGING_RESPONSE_HEADERS, true),
+                        config.getBooleanProperty(ConfigKeys.LOGGING_RESPONSE_BODY, true))
+                .build();
+    }
+
+    /**
+     * Decide, before the request is sent, whether the exchange is captured, skipped, or decided once
+     * the response is known
+     */
+    Decision decide() {
+        if (!requestEnabled && !responseEnabled) {
+            return Decision.SKIP;
+        }
+        switch (mode) {
+            case ALL:
+                return Decision.CAPTURE;
+            case SAMPLE:
+                return sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0
+                        ? Decision.CAPTURE : Decision.SKIP;
+            case FAILURES:
+                return Decision.DEFER;
+            case NONE:
+            default:
+                return Decision.SKIP;
+        }
+    }
+
+    /**
+     * Whether a deferred exchange with this outcome is worth capturing
+     */
+    boolean isNoteworthy(int statusCode, long responseTimeMs) {
+        return statusCode >= 400 || responseTimeMs > slowThresholdMs;
+    }
+
+    /**
+     * Sanitize captured headers and cut them down to the configured number of characters
+     *
+     * @param headers Header block as text
+     * @return Sanitized, possibly truncated headers, ready to be logged and attached as they are
+     */
+    String captureHeaders(String headers) {
+        return capture(headers, false, false);
+    }
+
+    /**
+     * Sanitize a captured body, JSON field by field, and cut it down to the configured number of characters
+     *
+     * @param body Body as text
+     * @return Sanitized, possibly truncated body, ready to be logged and attached as it is
+     */
+    String captureBody(String body) {
+        return capture(body, true, false);
+    }
+
+    /**
+     * Like {@link #captureBody}, for the kept start of a body whose rest was not read, e.g. a streamed one.
+     * JSON is sanitized as a prefix, so a value cut off at the end is dropped rather than leaked.
+     *
+     * @param prefix Start of the body as text
+     * @return Sanitized, possibly truncated prefix
+     */
+    String captureBodyPrefix(String prefix) {
+        return capture(prefix, true, true);
+    }
+
+    /**
+     * Sanitize text and cut it down to the configured number of characters, appending a marker with the
+     * number dropped. A cut text is sanitized together with a short lookahead, so a masked value that
+     * straddles the cut does not leak its first half. The text is already a full string at this point,
+     * so the limit bounds what is logged, not what is read.
+     */
+    private String capture(String text, boolean body, boolean prefix) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        boolean cut = maxChars > 0 && text.length() > maxChars;
+        String head = cut ? text.substring(0, (int) Math.min(text.length(), (long) maxChars + SANITIZE_LOOKAHEAD)) : text;
+        String sanitized;
+        if (!body || !JsonLogSanitizer.looksLikeJson(head)) {
+            sanitized = LogSanitizer.sanitize(head);
+        } else if (cut || prefix) {
+            sanitized = JsonLogSanitizer.getInstance().sanitizePrefix(head);
+        } else {
+            sanitized = JsonLogSanitizer.getInstance().sanitize(head);
+        }
+        if (!cut) {
+            return sanitized;
+        }
+        int kept = Math.min(maxChars, sanitized.length());
+        return sanitized.substring(0, kept)
+                + "\n... [truncated, " + (text.length() - maxChars) + " of " + text.length() + " characters omitted]";
+    }
+
+    public CaptureMode getMode() {
+        return mode;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    public int getMaxChars() {
+        return maxChars;
+    }
+
+    public boolean isRequestEnabled() {
+        return requestEnabled;
+    }
+
+    public boolean isResponseEnabled() {
+        return responseEnabled;
+    }
+
+    public boolean isRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public boolean isResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public boolean isRequestBody() {
+        return requestBody;
+    }
+
+    public boolean isResponseBody() {
+        return responseBody;
+    }
+
+    @Override
+    public String toString() {
+        return "CapturePolicy{mode=" + mode + ", sampleRate=" + sampleRate + ", slowThresholdMs=" + slowThresholdMs
+                + ", maxChars=" + maxChars + "}";
+    }
+
+    /**
+     * Builder for CapturePolicy; everything is captured in full unless restricted.
+     */
+    public static final class Builder {
+
+        private final CaptureMode mode;
+        private int sampleRate = DEFAULT_SAMPLE_RATE;
+        private long slowThresholdMs = DEFAULT_SLOW_THRESHOLD_MS;
+        private int maxChars = DEFAULT_MAX_CHARS;
+        private boolean requestEnabled = true;
+        private boolean responseEnabled = true;
+        private boolean requestHeaders = true;
+        private boolean responseHeaders = true;
+        private boolean requestBody = true;
+        private boolean responseBody = true;
+
+        private Builder(CaptureMode mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Capture roughly one in {@code sampleRate} exchanges; only used by SAMPLE
+         */
+        public Builder sampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Capture exchanges slower than this; only used by FAILURES
+         */
+        public Builder slowThreshold(long slowThresholdMs) {
+            this.slowThresholdMs = slowThresholdMs;
+            return this;
+        }
+
+        /**
+         * Maximum characters (UTF-16 units, not encoded bytes) kept per header block or body; 0 or less keeps everything
+         */
+        public Builder maxChars(int maxChars) {
+            this.maxChars = maxChars;
+            return this;
+        }
+
+        public Builder request(boolean enabled, boolean headers, boolean body) {
+            this.requestEnabled = enabled;
+            this.requestHeaders = headers;
+            this.requestBody = body;
+            return this;
+        }
+
+        public Builder response(boolean enabled, boolean headers, boolean body) {
+            this.responseEnabled = enabled;
+            this.responseHeaders = headers;
+            this.responseBody = body;
+            return this;
+        }
+
+        public CapturePolicy build() {
+            if (mode == null) {
+                throw new IllegalStateException("A capture mode is required");
+            }
+            if (mode == CaptureMode.SAMPLE && sampleRate < 1) {
+                throw new IllegalStateException("Sample rate must be at least 1, was " + sampleRate);
+            }
+            return new CapturePolicy(this);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.prasad_v.interceptors;
+
+import java.util.function.Supplier;
+
+/**
+ * One request/response exchange as seen by RequestResponseInterceptor.
+ * <p>
+ * Headers and bodies are handed over as suppliers and only evaluated if the capture policy decides to
+ * emit them; the policy sanitizes them once, and the interceptor logs and attaches them as they are.
+ * Exchanges whose outcome matters (failures and slow calls) keep the request suppliers until the response
+ * is known and then emit request and response together.
+ */
+public final class Exchange {
+
+    private final RequestResponseInterceptor interceptor;
+    private final CapturePolicy policy;
+    private final CapturePolicy.Decision decision;
+    private final String method;
+    private final String uri;
+    private Supplier<String> requestHeaders;
+    private Supplier<String> requestBody;
+
+    Exchange(RequestResponseInterceptor interceptor, CapturePolicy policy, CapturePolicy.Decision decision,
+             String method, String uri, Supplier<String> requestHeaders, Supplier<String> requestBody) {
+        this.interceptor = interceptor;
+        this.policy = policy;
+        this.decision = decision;
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+    }
+
+    /**
+     * @return Whether the response of this exchange may still be captured; when false, callers can skip
+     * preparing anything for {@link #complete}
+     */
+    public boolean mayCaptureResponse() {
+        return decision != CapturePolicy.Decision.SKIP && policy.isResponseEnabled();
+    }
+
+    /**
+     * Record the response of this exchange
+     *
+     * @param statusCode HTTP status code
+     * @param responseTime Response time in milliseconds
+     * @param headers Supplier of the response headers, only called if they are captured
+     * @param body Supplier of the response body, only called if it is captured
+     */
+    public void complete(int statusCode, long responseTime, Supplier<String> headers, Supplier<String> body) {
+        complete(statusCode, responseTime, headers, body, null);
+    }
+
+    /**
+     * Record the response of this exchange when only the start of its body may have been kept, e.g. when
+     * it was streamed
+     *
+     * @param statusCode HTTP status code
+     * @param responseTime Response time in milliseconds
+     * @param headers Supplier of the response headers, only called if they are captured
+     * @param body Supplier of the kept body, only called if it is captured
+     * @param omitted Note appended when the body was cut short, or null if the whole body was kept
+     */
+    public void complete(int statusCode, long responseTime, Supplier<String> headers, Supplier<String> body,
+                         String omitted) {
+        if (decision == CapturePolicy.Decision.SKIP) {
+            return;
+        }
+        if (decision == CapturePolicy.Decision.DEFER) {
+            if (!policy.isNoteworthy(statusCode, responseTime)) {
+                return;
+            }
+            emitRequest();
+        }
+        if (policy.isResponseEnabled()) {
+            interceptor.onResponse(statusCode, responseTime,
+                    policy.isResponseHeaders() ? policy.captureHeaders(headers.get()) : "",
+                    policy.isResponseBody() ? captureResponseBody(body, omitted) : "");
+        }
+    }
+
+    /**
+     * Record that no response was received
+     *
+     * @param elapsedTime Milliseconds until the failure
+     * @param failure Cause of the failure
+     */
+    public void fail(long elapsedTime, Throwable failure) {
+        if (decision == CapturePolicy.Decision.SKIP) {
+            return;
+        }
+        if (decision == CapturePolicy.Decision.DEFER) {
+            emitRequest();
+        }
+        interceptor.onFailure(method, uri, elapsedTime, failure);
+    }
+
+    private String captureResponseBody(Supplier<String> body, String omitted) {
+        if (omitted == null) {
+            return policy.captureBody(body.get());
+        }
+        return policy.captureBodyPrefix(body.get()) + omitted;
+    }
+
+    void emitRequest() {
+        if (policy.isRequestEnabled()) {
+            interceptor.onRequest(method, uri,
+                    policy.isRequestHeaders() ? policy.captureHeaders(requestHeaders.get()) : "",
+                    policy.isRequestBody() ? policy.captureBody(requestBody.get()) : "");
+        }
+        // Release the request for garbage collection once it has been emitted
+        requestHeaders = null;
+        requestBody = null;
+    }
+}
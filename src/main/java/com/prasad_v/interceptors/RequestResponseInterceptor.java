@@ -1,7 +1,6 @@
 package com.prasad_v.interceptors;
 
 import com.prasad_v.logging.CustomLogger;
-import com.prasad_v.logging.LogSanitizer;
 import io.restassured.filter.Filter;
 import io.restassured.filter.FilterContext;
 import io.restassured.response.Response;
@@ -9,51 +8,134 @@ import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.FilterableResponseSpecification;
 import io.qameta.allure.Allure;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public class RequestResponseInterceptor implements Filter {
     private static final CustomLogger logger = new CustomLogger(RequestResponseInterceptor.class);
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+
+    private volatile CapturePolicy capturePolicy;
+
+    /**
+     * Create an interceptor using the capture policy configured by the logging.* keys
+     */
+    public RequestResponseInterceptor() {
+        this(CapturePolicy.fromConfig());
+    }
+
+    public RequestResponseInterceptor(CapturePolicy capturePolicy) {
+        this.capturePolicy = capturePolicy;
+    }
 
     @Override
     public Response filter(FilterableRequestSpecification requestSpec,
                            FilterableResponseSpecification responseSpec,
                            FilterContext filterContext) {
-        
-        String correlationId = UUID.randomUUID().toString();
-        Instant startTime = Instant.now();
-        
+
         if (requestSpec.getHeaders() == null || !requestSpec.getHeaders().hasHeaderWithName(CORRELATION_ID_HEADER)) {
-            requestSpec.header(CORRELATION_ID_HEADER, correlationId);
+            requestSpec.header(CORRELATION_ID_HEADER, newCorrelationId());
+        }
+
+        Exchange exchange = begin(requestSpec.getMethod(), requestSpec.getURI(),
+                () -> requestSpec.getHeaders().toString(),
+                () -> requestSpec.getBody() != null ? requestSpec.getBody().toString() : "");
+
+        long startTime = System.nanoTime();
+        Response response;
+        try {
+            response = filterContext.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            exchange.fail((System.nanoTime() - startTime) / 1_000_000, e);
+            throw e;
+        }
+
+        long responseTime = (System.nanoTime() - startTime) / 1_000_000;
+        exchange.complete(response.getStatusCode(), responseTime,
+                () -> response.getHeaders().toString(),
+                () -> response.getBody().asString());
+
+        return response;
+    }
+
+    /**
+     * Create a correlation id for a request that does not carry one yet
+     *
+     * @return New correlation id
+     */
+    public String newCorrelationId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Start capturing an exchange. Depending on the capture policy the request is logged right away,
+     * held back until the response shows whether it is worth logging, or ignored entirely.
+     * The suppliers are only called if the corresponding part is emitted.
+     *
+     * @param method HTTP method
+     * @param uri Request URI
+     * @param headers Supplier of the request headers
+     * @param body Supplier of the request body
+     * @return Exchange to complete once the response has arrived
+     */
+    public Exchange begin(String method, String uri, Supplier<String> headers, Supplier<String> body) {
+        CapturePolicy policy = capturePolicy;
+        CapturePolicy.Decision decision = policy.decide();
+        Exchange exchange = new Exchange(this, policy, decision, method, uri, headers, body);
+        if (decision == CapturePolicy.Decision.CAPTURE) {
+            exchange.emitRequest();
         }
-        
-        String method = requestSpec.getMethod();
-        String uri = requestSpec.getURI();
-        String requestBody = requestSpec.getBody() != null ? requestSpec.getBody().toString() : "";
-        String requestHeaders = requestSpec.getHeaders().toString();
-        
-        logger.logRequest(uri, method, requestHeaders, requestBody);
-        
+        return exchange;
+    }
+
+    /**
+     * Log and attach an outgoing request. Used by the RestAssured filter chain and by transports that bypass it.
+     * Headers and body arrive sanitized by the capture policy and are used as they are.
+     */
+    public void onRequest(String method, String uri, String headers, String body) {
+        logger.logSanitizedRequest(uri, method, headers, body);
+
         // Attach to Allure
-        Allure.addAttachment("Request", "text/plain", 
-            String.format("%s %s\n%s", method, uri, LogSanitizer.sanitizeBody(requestBody)));
-        
-        Response response = filterContext.next(requestSpec, responseSpec);
-        
-        long responseTime = ChronoUnit.MILLIS.between(startTime, Instant.now());
-        int statusCode = response.getStatusCode();
-        String responseBody = response.getBody().asString();
-        String responseHeaders = response.getHeaders().toString();
-        
-        logger.logResponse(statusCode, responseTime, responseHeaders, responseBody);
-        
+        Allure.addAttachment("Request", "text/plain",
+            String.format("%s %s\n%s", method, uri, body));
+    }
+
+    /**
+     * Log and attach a received response. Used by the RestAssured filter chain and by transports that bypass it.
+     * Headers and body arrive sanitized by the capture policy and are used as they are.
+     */
+    public void onResponse(int statusCode, long responseTime, String headers, String body) {
+        logger.logSanitizedResponse(statusCode, responseTime, headers, body);
+
         // Attach to Allure
         Allure.addAttachment("Response", "text/plain",
-            String.format("Status: %d\nTime: %dms\n%s", statusCode, responseTime, 
-                LogSanitizer.sanitizeBody(responseBody)));
-        
-        return response;
+            String.format("Status: %d\nTime: %dms\n%s", statusCode, responseTime, body));
+    }
+
+    /**
+     * Log a request that did not receive a response
+     */
+    public void onFailure(String method, String uri, long elapsedTime, Throwable failure) {
+        logger.warn("{} {} failed after {}ms: {}", method, uri, elapsedTime, failure.getMessage());
+    }
+
+    /**
+     * Get the capture policy applied to new exchanges
+     *
+     * @return Current CapturePolicy
+     */
+    public CapturePolicy getCapturePolicy() {
+        return capturePolicy;
+    }
+
+    /**
+     * Replace the capture policy, e.g. to sample during a load run. Exchanges already in progress
+     * finish under the policy they started with.
+     *
+     * @param capturePolicy New capture policy
+     */
+    public void setCapturePolicy(CapturePolicy capturePolicy) {
+        this.capturePolicy = capturePolicy;
+        logger.info("Request/response capture policy set to {}", capturePolicy);
     }
 }
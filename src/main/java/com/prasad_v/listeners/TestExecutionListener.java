@@ -1,9 +1,17 @@
 package com.prasad_v.listeners;
 
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.contracts.ContractValidator;
 import com.prasad_v.reporting.ExtentReportManager;
 import com.prasad_v.reporting.ExtentTestManager;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.validation.ResponseDocument;
+import com.prasad_v.validation.SchemaRegistry;
 import io.qameta.allure.Allure;
 import io.restassured.response.Response;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -13,7 +21,16 @@ import java.lang.reflect.Field;
 /**
  * Central TestNG listener for reporting lifecycle and failure diagnostics.
  */
-public class TestExecutionListener implements ITestListener {
+public class TestExecutionListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Preload schemas and contracts so that validation in the tests does no file I/O
+        if (ConfigurationManager.getInstance().getBooleanProperty(ConfigKeys.VALIDATION_CACHE_WARMUP, true)) {
+            ContractValidator.warmUp();
+            SchemaRegistry.getInstance().warmUp();
+        }
+    }
 
     @Override
     public void onStart(ITestContext context) {
@@ -31,6 +48,7 @@ public class TestExecutionListener implements ITestListener {
     public void onTestSuccess(ITestResult result) {
         ExtentTestManager.logPass("Test passed: " + result.getMethod().getMethodName());
         ExtentTestManager.endTest();
+        ResponseDocument.releaseCurrentThread();
     }
 
     @Override
@@ -45,16 +63,19 @@ public class TestExecutionListener implements ITestListener {
         }
         attachResponseFromTestInstance(result);
         ExtentTestManager.endTest();
+        ResponseDocument.releaseCurrentThread();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         ExtentTestManager.logSkip("Test skipped: " + result.getMethod().getMethodName());
         ExtentTestManager.endTest();
+        ResponseDocument.releaseCurrentThread();
     }
 
     @Override
     public void onFinish(ITestContext context) {
+        ConnectionPoolManager.getInstance().logPoolStats();
         ExtentReportManager.flush();
     }
 
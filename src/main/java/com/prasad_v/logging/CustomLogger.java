@@ -1,69 +1,330 @@
 package com.prasad_v.logging;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.StringBuilders;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
+/**
+ * CustomLogger prefixes messages with a timestamp and the thread name and hands them to Log4j2.
+ * <p>
+ * Every call checks the level first, so disabled calls build nothing. Use the {@code {}} placeholder
+ * overloads, e.g. {@code logger.debug("Added header: {}", key)}, or a Supplier instead of concatenating
+ * the message at the call site. Enabled messages are assembled in a reusable per-thread buffer and the
+ * timestamp is formatted at most once per millisecond.
+ */
 public class CustomLogger {
     private final Logger logger;
     private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
+
+    // Larger buffers are not kept per thread so one huge message does not pin memory
+    private static final int MAX_RETAINED_BUFFER = 4096;
+
+    private static final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, "");
 
     public CustomLogger(Class<?> clazz) {
         this.logger = LogManager.getLogger(clazz);
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
     public void info(String message) {
-        logger.info(formatMessage(message));
+        logMessage(Level.INFO, message, null);
+    }
+
+    public void info(String format, Object arg) {
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, 1, arg, null, null);
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, 2, arg1, arg2, null);
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, args);
+        }
+    }
+
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logMessage(Level.INFO, message.get(), null);
+        }
     }
 
     public void debug(String message) {
-        logger.debug(formatMessage(message));
+        logMessage(Level.DEBUG, message, null);
+    }
+
+    public void debug(String format, Object arg) {
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, 1, arg, null, null);
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, 2, arg1, arg2, null);
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, 3, arg1, arg2, arg3);
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, args);
+        }
+    }
+
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logMessage(Level.DEBUG, message.get(), null);
+        }
     }
 
     public void warn(String message) {
-        logger.warn(formatMessage(message));
+        logMessage(Level.WARN, message, null);
+    }
+
+    public void warn(String format, Object arg) {
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, 1, arg, null, null);
+        }
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, 2, arg1, arg2, null);
+        }
+    }
+
+    public void warn(String format, Object... args) {
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, args);
+        }
+    }
+
+    public void warn(Supplier<String> message) {
+        if (logger.isWarnEnabled()) {
+            logMessage(Level.WARN, message.get(), null);
+        }
     }
 
     public void error(String message) {
-        logger.error(formatMessage(message));
+        logMessage(Level.ERROR, message, null);
     }
 
     public void error(String message, Throwable throwable) {
-        logger.error(formatMessage(message), throwable);
+        logMessage(Level.ERROR, message, throwable);
+    }
+
+    public void error(String format, Object... args) {
+        if (logger.isErrorEnabled()) {
+            logFormatted(Level.ERROR, format, args);
+        }
+    }
+
+    public void error(Supplier<String> message, Throwable throwable) {
+        if (logger.isErrorEnabled()) {
+            logMessage(Level.ERROR, message.get(), throwable);
+        }
     }
 
     public void logRequest(String endpoint, String method, String headers, String body) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        logSanitizedRequest(endpoint, method, LogSanitizer.sanitizeHeaders(headers),
+                body != null && !body.isEmpty() ? LogSanitizer.sanitizeBody(body) : body);
+    }
+
+    /**
+     * Log a request whose headers and body have already been sanitized, e.g. by a CapturePolicy
+     */
+    public void logSanitizedRequest(String endpoint, String method, String headers, String body) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
         StringBuilder sb = new StringBuilder();
         sb.append("\n====== REQUEST ======\n");
         sb.append("Endpoint: ").append(endpoint).append("\n");
         sb.append("Method: ").append(method).append("\n");
-        sb.append("Headers: ").append(LogSanitizer.sanitizeHeaders(headers)).append("\n");
+        sb.append("Headers: ").append(headers).append("\n");
         if (body != null && !body.isEmpty()) {
-            sb.append("Body: ").append(LogSanitizer.sanitizeBody(body)).append("\n");
+            sb.append("Body: ").append(body).append("\n");
         }
         sb.append("=====================\n");
-        logger.info(sb.toString());
+        logger.info(sb);
     }
 
     public void logResponse(int statusCode, long responseTime, String headers, String body) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        logSanitizedResponse(statusCode, responseTime, LogSanitizer.sanitizeHeaders(headers),
+                body != null && !body.isEmpty() ? LogSanitizer.sanitizeBody(body) : body);
+    }
+
+    /**
+     * Log a response whose headers and body have already been sanitized, e.g. by a CapturePolicy
+     */
+    public void logSanitizedResponse(int statusCode, long responseTime, String headers, String body) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
         StringBuilder sb = new StringBuilder();
         sb.append("\n====== RESPONSE ======\n");
         sb.append("Status Code: ").append(statusCode).append("\n");
         sb.append("Response Time: ").append(responseTime).append(" ms\n");
-        sb.append("Headers: ").append(LogSanitizer.sanitizeHeaders(headers)).append("\n");
+        sb.append("Headers: ").append(headers).append("\n");
         if (body != null && !body.isEmpty()) {
-            sb.append("Body: ").append(LogSanitizer.sanitizeBody(body)).append("\n");
+            sb.append("Body: ").append(body).append("\n");
         }
         sb.append("======================\n");
-        logger.info(sb.toString());
+        logger.info(sb);
+    }
+
+    private void logMessage(Level level, String message, Throwable throwable) {
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+        StringBuilder sb = acquireBuffer();
+        appendPrefix(sb).append(message);
+        emit(level, sb, throwable);
+    }
+
+    private void logFormatted(Level level, String format, int count, Object arg1, Object arg2, Object arg3) {
+        StringBuilder sb = acquireBuffer();
+        appendPrefix(sb);
+        int position = appendArgument(sb, format, 0, arg1);
+        if (count > 1) {
+            position = appendArgument(sb, format, position, arg2);
+        }
+        if (count > 2) {
+            position = appendArgument(sb, format, position, arg3);
+        }
+        appendRemainder(sb, format, position);
+        emit(level, sb, trailingThrowable(format, count, count == 1 ? arg1 : count == 2 ? arg2 : arg3));
+    }
+
+    private void logFormatted(Level level, String format, Object[] args) {
+        StringBuilder sb = acquireBuffer();
+        appendPrefix(sb);
+        int position = 0;
+        int count = args == null ? 0 : args.length;
+        for (int i = 0; i < count; i++) {
+            position = appendArgument(sb, format, position, args[i]);
+        }
+        appendRemainder(sb, format, position);
+        emit(level, sb, count == 0 ? null : trailingThrowable(format, count, args[count - 1]));
+    }
+
+    private void emit(Level level, StringBuilder sb, Throwable throwable) {
+        // Log4j copies the text into its own event, so the buffer can be reused right away
+        logger.log(level, sb, throwable);
+        releaseBuffer(sb);
     }
 
-    private String formatMessage(String message) {
-        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
-        String timestamp = sdf.format(new Date());
-        String threadName = Thread.currentThread().getName();
-        return String.format("[%s] [%s] %s", timestamp, threadName, message);
+    /**
+     * Append text up to the next placeholder followed by the argument.
+     * Returns the position after the placeholder, or -1 once the format has no more placeholders.
+     */
+    private static int appendArgument(StringBuilder sb, String format, int position, Object arg) {
+        if (position < 0) {
+            return -1;
+        }
+        int placeholder = format.indexOf("{}", position);
+        if (placeholder < 0) {
+            sb.append(format, position, format.length());
+            return -1;
+        }
+        sb.append(format, position, placeholder);
+        StringBuilders.appendValue(sb, arg);
+        return placeholder + 2;
+    }
+
+    private static void appendRemainder(StringBuilder sb, String format, int position) {
+        if (position >= 0) {
+            sb.append(format, position, format.length());
+        }
+    }
+
+    // As in Log4j, a Throwable passed after the last placeholder is logged with its stack trace
+    private static Throwable trailingThrowable(String format, int count, Object last) {
+        if (!(last instanceof Throwable)) {
+            return null;
+        }
+        int placeholders = 0;
+        for (int i = format.indexOf("{}"); i >= 0; i = format.indexOf("{}", i + 2)) {
+            placeholders++;
+        }
+        return placeholders < count ? (Throwable) last : null;
+    }
+
+    private static StringBuilder appendPrefix(StringBuilder sb) {
+        return sb.append('[').append(timestamp()).append("] [")
+                .append(Thread.currentThread().getName()).append("] ");
+    }
+
+    private static String timestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp cached = lastTimestamp;
+        if (cached.millis != now) {
+            cached = new Timestamp(now, TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(now)));
+            lastTimestamp = cached;
+        }
+        return cached.text;
+    }
+
+    private static StringBuilder acquireBuffer() {
+        StringBuilder buffer = buffers.get();
+        // A message argument whose toString() logs again gets its own buffer
+        return buffer.length() == 0 ? buffer : new StringBuilder(256);
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            if (buffer == buffers.get()) {
+                buffers.remove();
+            }
+            return;
+        }
+        buffer.setLength(0);
+    }
+
+    /**
+     * Formatted timestamp for one millisecond, shared by all threads
+     */
+    private static final class Timestamp {
+        private final long millis;
+        private final String text;
+
+        private Timestamp(long millis, String text) {
+            this.millis = millis;
+            this.text = text;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,629 @@
+package com.prasad_v.logging;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+
+/**
+ * JSON-aware sanitizer that masks values by field name or JSON path.
+ * <p>
+ * The body is tokenized with Jackson's streaming parser and never turned into a tree. Output is the input
+ * text with only the masked values replaced, so formatting is preserved, and text that needs no masking
+ * comes back as the same instance. Masked objects and arrays are replaced as a whole. Field names and
+ * remaining string values are additionally passed through LogSanitizer's rules, so emails, card numbers
+ * and secrets inside escaped or embedded JSON are still caught.
+ * <p>
+ * When sanitizing from a Reader to a Writer, memory use is bounded by the parser's read-ahead plus the
+ * largest single token, whatever the size of the payload.
+ */
+public class JsonLogSanitizer {
+
+    private static final CustomLogger logger = new CustomLogger(JsonLogSanitizer.class);
+
+    private static final String MASK = "***REDACTED***";
+    private static final String QUOTED_MASK = "\"" + MASK + "\"";
+    private static final String DEFAULT_KEYS = "password,passwd,secret,client_secret,token,access_token,refresh_token,"
+            + "id_token,api_key,apikey,api-key,authorization,cardnumber,card_number,cvv,ssn";
+
+    // Shortest integer that can be a card number; shorter numbers are never scanned
+    private static final int MIN_SCANNED_NUMBER_LENGTH = 16;
+
+    private static JsonLogSanitizer instance;
+
+    private final JsonFactory jsonFactory;
+    private final Set<String> deniedKeys;
+    private final List<JsonPathPattern> deniedPaths;
+    private final boolean scanValues;
+
+    /**
+     * @param deniedKeys Field names whose values are masked wherever they occur, compared case-insensitively
+     * @param deniedPaths JSON paths whose values are masked, e.g. {@code $.payment.card} or {@code $.users[*].ssn}
+     * @param scanValues Whether field names and other string values are also checked with LogSanitizer's rules
+     */
+    public JsonLogSanitizer(Collection<String> deniedKeys, Collection<String> deniedPaths, boolean scanValues) {
+        this.jsonFactory = JsonFactory.builder()
+                .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+                .build();
+        this.jsonFactory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+        Set<String> keys = new HashSet<>();
+        for (String key : deniedKeys) {
+            if (key != null && !key.isBlank()) {
+                keys.add(key.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.deniedKeys = Collections.unmodifiableSet(keys);
+
+        List<JsonPathPattern> paths = new ArrayList<>();
+        for (String path : deniedPaths) {
+            if (path != null && !path.isBlank()) {
+                paths.add(JsonPathPattern.compile(path.trim()));
+            }
+        }
+        this.deniedPaths = Collections.unmodifiableList(paths);
+        this.scanValues = scanValues;
+    }
+
+    /**
+     * Get the sanitizer configured by the logging.sanitize.json.* keys
+     *
+     * @return Shared JsonLogSanitizer instance
+     */
+    public static synchronized JsonLogSanitizer getInstance() {
+        if (instance == null) {
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            instance = new JsonLogSanitizer(
+                    splitList(config.getProperty(ConfigKeys.LOGGING_SANITIZE_JSON_KEYS, DEFAULT_KEYS)),
+                    splitList(config.getProperty(ConfigKeys.LOGGING_SANITIZE_JSON_PATHS, "")),
+                    config.getBooleanProperty(ConfigKeys.LOGGING_SANITIZE_JSON_SCAN_VALUES, true));
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether text looks like a JSON object or array
+     *
+     * @param text Text to check
+     * @return true if the first non-whitespace character is '{' or '['
+     */
+    public static boolean looksLikeJson(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sanitize a JSON document held in memory. Text that is not valid JSON, including truncated
+     * documents, is sanitized with LogSanitizer's rules instead.
+     *
+     * @param json JSON text
+     * @return Sanitized text, or the same instance if nothing had to be masked
+     */
+    public String sanitize(String json) {
+        if (json == null || json.isEmpty()) {
+            return json;
+        }
+        StringSource source = new StringSource(json);
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            process(parser, source);
+            source.copyTo(json.length());
+            return source.result();
+        } catch (IOException e) {
+            logger.debug("Body is not valid JSON, using pattern-based sanitizing: {}", e.getMessage());
+            return LogSanitizer.sanitize(json);
+        }
+    }
+
+    /**
+     * Sanitize the beginning of a JSON document that was cut at an arbitrary point, such as a captured
+     * prefix of a large body. Output ends before the token the cut fell into, so a masked value split by
+     * the cut does not leak its first half. Text that is not JSON is sanitized with LogSanitizer's rules.
+     *
+     * @param prefix Beginning of a JSON document
+     * @return Sanitized text up to the last complete token
+     */
+    public String sanitizePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return prefix;
+        }
+        StringSource source = new StringSource(prefix);
+        JsonParser parser = null;
+        try {
+            parser = jsonFactory.createParser(prefix);
+            process(parser, source);
+            source.copyTo(prefix.length());
+            return source.result();
+        } catch (IOException e) {
+            if (parser == null || parser.currentLocation().getCharOffset() < prefix.length()) {
+                // Invalid before the cut, so this is not JSON
+                return LogSanitizer.sanitize(prefix);
+            }
+            return source.resultAtMark();
+        } finally {
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close JSON parser: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sanitize a JSON document from a Reader into a Writer without holding it in memory.
+     * Neither stream is closed. If the input turns out not to be valid JSON, output stops at the last
+     * complete token and a marker is written instead of the unparseable remainder.
+     *
+     * @param in JSON input
+     * @param out Destination for the sanitized text
+     * @return true if the whole input was valid JSON
+     * @throws IOException If reading or writing fails
+     */
+    public boolean sanitize(Reader in, Writer out) throws IOException {
+        TeeReader tee = new TeeReader(in);
+        ReaderSource source = new ReaderSource(tee, out);
+        try (JsonParser parser = jsonFactory.createParser(tee)) {
+            process(parser, source);
+            source.copyTo(tee.getEnd());
+            return true;
+        } catch (JacksonException e) {
+            logger.debug("Streamed body is not valid JSON, omitting the remainder: {}", e.getOriginalMessage());
+            out.write("\n... [unparseable JSON, remainder omitted]");
+            return false;
+        }
+    }
+
+    private void process(JsonParser parser, Source source) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            long start = parser.currentTokenLocation().getCharOffset();
+            // Everything before the current token is final
+            source.copyTo(start);
+            source.mark();
+
+            if (token == JsonToken.FIELD_NAME) {
+                if (scanValues) {
+                    String name = parser.currentName();
+                    String sanitized = LogSanitizer.sanitize(name);
+                    if (sanitized != name) {
+                        source.write(quote(sanitized));
+                        source.skipTo(stringEnd(source, start));
+                    }
+                }
+                continue;
+            }
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                continue;
+            }
+
+            JsonStreamContext valueContext = token.isStructStart()
+                    ? parser.getParsingContext().getParent()
+                    : parser.getParsingContext();
+            if (isDenied(valueContext)) {
+                source.write(QUOTED_MASK);
+                source.skipTo(skipValue(parser, source, token, start));
+            } else if (scanValues && token == JsonToken.VALUE_STRING) {
+                String value = parser.getText();
+                String sanitized = LogSanitizer.sanitize(value);
+                if (sanitized != value) {
+                    source.write(quote(sanitized));
+                    source.skipTo(stringEnd(source, start));
+                }
+            } else if (scanValues && token == JsonToken.VALUE_NUMBER_INT
+                    && parser.getTextLength() >= MIN_SCANNED_NUMBER_LENGTH) {
+                String value = parser.getText();
+                if (LogSanitizer.sanitize(value) != value) {
+                    source.write(QUOTED_MASK);
+                    source.skipTo(start + value.length());
+                }
+            }
+        }
+    }
+
+    /**
+     * Consume the current value and return the offset just after it, dropping its text as it is read
+     */
+    private static long skipValue(JsonParser parser, Source source, JsonToken token, long start) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            parser.finishToken();
+            return stringEnd(source, start);
+        }
+        if (!token.isStructStart()) {
+            return scalarEnd(source, start);
+        }
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken next = parser.nextToken();
+            if (next == null) {
+                throw new JsonParseException(parser, "Unexpected end of input inside masked value");
+            }
+            long offset = parser.currentTokenLocation().getCharOffset();
+            source.skipTo(offset);
+            if (next.isStructStart()) {
+                depth++;
+            } else if (next.isStructEnd()) {
+                depth--;
+                if (depth == 0) {
+                    return offset + 1;
+                }
+            } else if (next == JsonToken.VALUE_STRING) {
+                parser.finishToken();
+            }
+        }
+        return start;
+    }
+
+    private boolean isDenied(JsonStreamContext context) {
+        if (context == null || context.inRoot()) {
+            return false;
+        }
+        if (context.inObject() && !deniedKeys.isEmpty()) {
+            String name = context.getCurrentName();
+            if (name != null && deniedKeys.contains(name.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        for (JsonPathPattern path : deniedPaths) {
+            if (path.matches(context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Offset just after the closing quote of the string starting at start
+    private static long stringEnd(Source source, long start) {
+        long offset = start + 1;
+        while (true) {
+            char c = source.charAt(offset);
+            if (c == '\\') {
+                offset += 2;
+            } else if (c == '"') {
+                return offset + 1;
+            } else {
+                offset++;
+            }
+        }
+    }
+
+    // Offset just after a number or literal starting at start
+    private static long scalarEnd(Source source, long start) {
+        long offset = start;
+        long end = source.available();
+        while (offset < end) {
+            char c = source.charAt(offset);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.')) {
+                break;
+            }
+            offset++;
+        }
+        return offset;
+    }
+
+    private static String quote(String value) {
+        return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+    }
+
+    private static List<String> splitList(String value) {
+        return value == null || value.isBlank() ? List.of() : Arrays.asList(value.split(","));
+    }
+
+    /**
+     * Access to the original text, emitting or dropping it strictly in order.
+     */
+    private abstract static class Source {
+
+        long committed;
+
+        abstract char charAt(long offset);
+
+        abstract long available();
+
+        abstract void emit(long from, long to) throws IOException;
+
+        abstract void write(String text) throws IOException;
+
+        abstract void release(long offset);
+
+        // Called at the start of each token, before anything is written for it
+        void mark() {
+        }
+
+        void copyTo(long offset) throws IOException {
+            if (offset > committed) {
+                emit(committed, offset);
+                committed = offset;
+                release(committed);
+            }
+        }
+
+        void skipTo(long offset) {
+            if (offset > committed) {
+                committed = offset;
+                release(committed);
+            }
+        }
+    }
+
+    /**
+     * Source over a String; output is only built once something is replaced.
+     */
+    private static final class StringSource extends Source {
+
+        private final String text;
+        private StringBuilder out;
+        private long markOffset;
+        private int markLength = -1;
+
+        private StringSource(String text) {
+            this.text = text;
+        }
+
+        @Override
+        char charAt(long offset) {
+            return text.charAt((int) offset);
+        }
+
+        @Override
+        long available() {
+            return text.length();
+        }
+
+        @Override
+        void emit(long from, long to) {
+            if (out != null) {
+                out.append(text, (int) from, (int) to);
+            }
+        }
+
+        @Override
+        void write(String replacement) {
+            if (out == null) {
+                out = new StringBuilder(text.length() + 64).append(text, 0, (int) committed);
+            }
+            out.append(replacement);
+        }
+
+        @Override
+        void release(long offset) {
+            // The whole string stays available
+        }
+
+        String result() {
+            if (out != null) {
+                return out.toString();
+            }
+            return committed == text.length() ? text : text.substring(0, (int) committed);
+        }
+
+        @Override
+        void mark() {
+            markOffset = committed;
+            markLength = out == null ? -1 : out.length();
+        }
+
+        // Output up to the start of the last token that was begun
+        String resultAtMark() {
+            int length = markLength < 0 ? (int) markOffset : markLength;
+            return out == null ? text.substring(0, length) : out.substring(0, length);
+        }
+    }
+
+    /**
+     * Source over a TeeReader, writing through to a Writer.
+     */
+    private static final class ReaderSource extends Source {
+
+        private final TeeReader tee;
+        private final Writer out;
+
+        private ReaderSource(TeeReader tee, Writer out) {
+            this.tee = tee;
+            this.out = out;
+        }
+
+        @Override
+        char charAt(long offset) {
+            return tee.charAt(offset);
+        }
+
+        @Override
+        long available() {
+            return tee.getEnd();
+        }
+
+        @Override
+        void emit(long from, long to) throws IOException {
+            tee.writeTo(out, from, to);
+        }
+
+        @Override
+        void write(String text) throws IOException {
+            out.write(text);
+        }
+
+        @Override
+        void release(long offset) {
+            tee.discardBefore(offset);
+        }
+    }
+
+    /**
+     * Reader that keeps the characters handed to the parser until the sanitizer has emitted or dropped them.
+     */
+    private static final class TeeReader extends Reader {
+
+        private final Reader in;
+        private char[] buffer = new char[8192];
+        private int head;
+        private int tail;
+        private long headOffset;
+
+        private TeeReader(Reader in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read(char[] chars, int offset, int length) throws IOException {
+            int n = in.read(chars, offset, length);
+            if (n > 0) {
+                ensureRoom(n);
+                System.arraycopy(chars, offset, buffer, tail, n);
+                tail += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // The caller owns the underlying reader
+        }
+
+        private void ensureRoom(int n) {
+            if (tail + n <= buffer.length) {
+                return;
+            }
+            int retained = tail - head;
+            if (retained + n > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, retained + n));
+            }
+            System.arraycopy(buffer, head, buffer, 0, retained);
+            head = 0;
+            tail = retained;
+        }
+
+        private long getEnd() {
+            return headOffset + (tail - head);
+        }
+
+        private char charAt(long offset) {
+            return buffer[head + (int) (offset - headOffset)];
+        }
+
+        private void writeTo(Writer out, long from, long to) throws IOException {
+            out.write(buffer, head + (int) (from - headOffset), (int) (to - from));
+        }
+
+        private void discardBefore(long offset) {
+            int drop = (int) (offset - headOffset);
+            head += drop;
+            headOffset = offset;
+        }
+    }
+
+    /**
+     * Compiled JSON path such as {@code $.a.b}, {@code $.items[*].secret} or {@code $.*.token}.
+     * Only child steps are supported: field names, '*' for any field, [n] and [*] for array elements.
+     */
+    private static final class JsonPathPattern {
+
+        private static final String ANY = "*";
+
+        // Field names, or null for an array step
+        private final String[] names;
+        // Array indexes, -1 for any; only used where names[i] is null
+        private final int[] indexes;
+
+        private JsonPathPattern(String[] names, int[] indexes) {
+            this.names = names;
+            this.indexes = indexes;
+        }
+
+        static JsonPathPattern compile(String path) {
+            if (!path.startsWith("$")) {
+                throw new IllegalArgumentException("JSON path must start with '$': " + path);
+            }
+            List<String> names = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            int i = 1;
+            while (i < path.length()) {
+                char c = path.charAt(i);
+                if (c == '.') {
+                    int end = i + 1;
+                    while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+                    if (end == i + 1) {
+                        throw new IllegalArgumentException("Empty field name in JSON path: " + path);
+                    }
+                    names.add(path.substring(i + 1, end));
+                    indexes.add(-1);
+                    i = end;
+                } else if (c == '[') {
+                    int end = path.indexOf(']', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unclosed '[' in JSON path: " + path);
+                    }
+                    String index = path.substring(i + 1, end).trim();
+                    names.add(null);
+                    try {
+                        indexes.add(ANY.equals(index) ? -1 : Integer.parseInt(index));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid array index in JSON path: " + path, e);
+                    }
+                    i = end + 1;
+                } else {
+                    throw new IllegalArgumentException("Unexpected '" + c + "' in JSON path: " + path);
+                }
+            }
+            int[] indexArray = new int[indexes.size()];
+            for (int k = 0; k < indexArray.length; k++) {
+                indexArray[k] = indexes.get(k);
+            }
+            return new JsonPathPattern(names.toArray(new String[0]), indexArray);
+        }
+
+        /**
+         * Match the path of the value the context is currently positioned on, walking from the leaf up
+         */
+        boolean matches(JsonStreamContext context) {
+            int step = names.length - 1;
+            JsonStreamContext current = context;
+            while (current != null && !current.inRoot()) {
+                if (step < 0) {
+                    return false;
+                }
+                if (current.inObject()) {
+                    String name = names[step];
+                    if (name == null || (!ANY.equals(name) && !name.equals(current.getCurrentName()))) {
+                        return false;
+                    }
+                } else {
+                    if (names[step] != null || (indexes[step] >= 0 && indexes[step] != current.getCurrentIndex())) {
+                        return false;
+                    }
+                }
+                step--;
+                current = current.getParent();
+            }
+            return step < 0;
+        }
+    }
+}
@@ -1,30 +1,94 @@
 package com.prasad_v.logging;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
+/**
+ * LogSanitizer masks sensitive content (credentials, tokens, Authorization headers, card numbers and
+ * email domains) before it reaches logs and reports.
+ * <p>
+ * All rules are applied in a single pass: each character is looked at once and a rule is only consulted
+ * at its trigger characters. Text without sensitive content is returned as the same instance without being
+ * copied; otherwise the result is assembled in a reusable per-thread buffer. Additional rules can be
+ * registered with {@link #registerRule(SanitizerRule)}. Where two rules would match overlapping text, the
+ * one that starts first wins.
+ */
 public class LogSanitizer {
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile("(\"password\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
-    private static final Pattern TOKEN_PATTERN = Pattern.compile("(\"token\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
-    private static final Pattern AUTH_HEADER_PATTERN = Pattern.compile("(Authorization:\\s*)(.+)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern API_KEY_PATTERN = Pattern.compile("(\"api[_-]?key\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
-    private static final Pattern CREDIT_CARD_PATTERN = Pattern.compile("\\b\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}\\b");
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("([a-zA-Z0-9._%+-]+)@([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
 
     private static final String MASK = "***REDACTED***";
+    private static final char MASK_LAST_CHAR = MASK.charAt(MASK.length() - 1);
+
+    // Larger buffers are not kept per thread so one huge body does not pin memory
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+    private static final ThreadLocal<SanitizerRule.Match> matches = ThreadLocal.withInitial(SanitizerRule.Match::new);
+
+    private static final List<SanitizerRule> rules = new ArrayList<>();
+
+    // Rules indexed by ASCII trigger character, rebuilt on registration and read without locking
+    private static volatile SanitizerRule[][] rulesByTrigger = new SanitizerRule[128][];
+
+    static {
+        // Same precedence as the original sequence of regular expressions
+        registerRule(SanitizerRules.jsonField("password"));
+        registerRule(SanitizerRules.jsonField("token"));
+        registerRule(SanitizerRules.headerValue("Authorization"));
+        registerRule(SanitizerRules.jsonField("apikey", "api_key", "api-key"));
+        registerRule(SanitizerRules.cardNumber());
+        registerRule(SanitizerRules.email());
+    }
 
     public static String sanitize(String content) {
         if (content == null || content.isEmpty()) {
             return content;
         }
 
-        String sanitized = content;
-        sanitized = PASSWORD_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
-        sanitized = TOKEN_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
-        sanitized = AUTH_HEADER_PATTERN.matcher(sanitized).replaceAll("$1" + MASK);
-        sanitized = API_KEY_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
-        sanitized = CREDIT_CARD_PATTERN.matcher(sanitized).replaceAll(MASK);
-        sanitized = EMAIL_PATTERN.matcher(sanitized).replaceAll("$1@" + MASK);
+        SanitizerRule[][] table = rulesByTrigger;
+        SanitizerRule.Match match = matches.get();
+        StringBuilder out = null;
+        int n = content.length();
+        int copied = 0;
+        int lastMaskEnd = -1;
+        int i = 0;
+
+        while (i < n) {
+            char c = content.charAt(i);
+            SanitizerRule[] candidates = c < 128 ? table[c] : null;
+            if (candidates != null) {
+                char previous = i == 0 ? '\0' : i == lastMaskEnd ? MASK_LAST_CHAR : content.charAt(i - 1);
+                SanitizerRule matched = null;
+                for (SanitizerRule rule : candidates) {
+                    if (rule.match(content, i, previous, match)) {
+                        matched = rule;
+                        break;
+                    }
+                }
+                if (matched != null) {
+                    if (match.start < i || match.end < match.start || match.resume < match.end) {
+                        throw new IllegalStateException("Sanitizer rule " + matched.getClass().getName()
+                                + " reported an invalid span at index " + i);
+                    }
+                    if (out == null) {
+                        out = acquireBuffer(n);
+                    }
+                    out.append(content, copied, match.start).append(MASK);
+                    copied = match.end;
+                    lastMaskEnd = match.end;
+                    i = Math.max(match.resume, i + 1);
+                    continue;
+                }
+            }
+            i++;
+        }
 
+        if (out == null) {
+            return content;
+        }
+        out.append(content, copied, n);
+        String sanitized = out.toString();
+        releaseBuffer(out);
         return sanitized;
     }
 
@@ -32,7 +96,111 @@ public class LogSanitizer {
         return sanitize(headers);
     }
 
+    /**
+     * Sanitize a body. Bodies that start like a JSON object or array are masked field by field with
+     * {@link JsonLogSanitizer}; anything else, or JSON that does not parse, goes through the rules above.
+     */
     public static String sanitizeBody(String body) {
+        if (JsonLogSanitizer.looksLikeJson(body)) {
+            return JsonLogSanitizer.getInstance().sanitize(body);
+        }
+        return sanitize(body);
+    }
+
+    /**
+     * Sanitize a body of a known content type. Only JSON content types are parsed as JSON; when the
+     * content type is unknown the body is sniffed as in {@link #sanitizeBody(String)}.
+     *
+     * @param body Body text
+     * @param contentType Content type of the body, or null if unknown
+     * @return Sanitized body
+     */
+    public static String sanitizeBody(String body, String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return sanitizeBody(body);
+        }
+        if (contentType.toLowerCase(Locale.ROOT).contains("json") && JsonLogSanitizer.looksLikeJson(body)) {
+            return JsonLogSanitizer.getInstance().sanitize(body);
+        }
         return sanitize(body);
     }
+
+    /**
+     * Register an additional rule. Rules registered later lose to earlier ones that match at the same position.
+     *
+     * @param rule Rule to apply from now on
+     */
+    public static synchronized void registerRule(SanitizerRule rule) {
+        for (char trigger : rule.triggers()) {
+            if (trigger >= 128) {
+                throw new IllegalArgumentException("Sanitizer rule triggers must be ASCII characters: " + trigger);
+            }
+        }
+        rules.add(rule);
+        rebuildTriggerTable();
+    }
+
+    /**
+     * Remove a previously registered rule
+     *
+     * @param rule Rule to remove
+     * @return true if the rule was registered
+     */
+    public static synchronized boolean unregisterRule(SanitizerRule rule) {
+        boolean removed = rules.remove(rule);
+        if (removed) {
+            rebuildTriggerTable();
+        }
+        return removed;
+    }
+
+    private static void rebuildTriggerTable() {
+        List<List<SanitizerRule>> byTrigger = new ArrayList<>(128);
+        for (int c = 0; c < 128; c++) {
+            byTrigger.add(null);
+        }
+        for (SanitizerRule rule : rules) {
+            for (char trigger : rule.triggers()) {
+                List<SanitizerRule> list = byTrigger.get(trigger);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    byTrigger.set(trigger, list);
+                }
+                if (!list.contains(rule)) {
+                    list.add(rule);
+                }
+            }
+        }
+        SanitizerRule[][] table = new SanitizerRule[128][];
+        for (int c = 0; c < 128; c++) {
+            List<SanitizerRule> list = byTrigger.get(c);
+            if (list != null) {
+                table[c] = list.toArray(new SanitizerRule[0]);
+            }
+        }
+        rulesByTrigger = table;
+    }
+
+    private static StringBuilder acquireBuffer(int length) {
+        // Leave room for masks that are longer than the text they replace
+        int capacity = length + 256;
+        if (capacity > MAX_RETAINED_BUFFER) {
+            return new StringBuilder(capacity);
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(capacity);
+        return buffer;
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            // One-off buffer, or the per-thread buffer grew while masking; do not keep it
+            if (buffer == buffers.get()) {
+                buffers.remove();
+            }
+            return;
+        }
+        buffer.setLength(0);
+    }
 }
@@ -0,0 +1,56 @@
+package com.prasad_v.logging;
+
+/**
+ * A rule recognising one kind of sensitive content for LogSanitizer.
+ * <p>
+ * LogSanitizer scans each string once and only consults a rule at the characters it declares as
+ * triggers, e.g. the opening quote of a JSON key or the '@' of an email address. On a match the rule
+ * reports the span to mask, which must not start before the trigger position; the span is replaced
+ * with the redaction mask and scanning continues after it. Rules must be stateless and thread-safe.
+ */
+public interface SanitizerRule {
+
+    /**
+     * @return Characters at which a match of this rule can be detected; only ASCII triggers are supported
+     */
+    char[] triggers();
+
+    /**
+     * Try to match at a trigger position
+     *
+     * @param text Text being sanitized
+     * @param index Position of the trigger character
+     * @param previous Character before the trigger position as it appears in the sanitized output,
+     *                 or '\0' at the start of the text
+     * @param match Receives the span to mask on success
+     * @return true if the rule matched
+     */
+    boolean match(String text, int index, char previous, Match match);
+
+    /**
+     * Span of sensitive content reported by a rule.
+     */
+    final class Match {
+
+        int start;
+        int end;
+        int resume;
+
+        /**
+         * Mask text[start, end) and continue scanning at end
+         */
+        public void set(int start, int end) {
+            set(start, end, end);
+        }
+
+        /**
+         * Mask text[start, end) and continue scanning at resume, leaving text[end, resume) unchanged
+         * and unscanned
+         */
+        public void set(int start, int end, int resume) {
+            this.start = start;
+            this.end = end;
+            this.resume = resume;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.prasad_v.logging;
+
+/**
+ * Factory for the built-in LogSanitizer rules. Each rule reproduces one of the regular expressions
+ * the sanitizer used to apply, without backtracking over the whole text.
+ */
+public final class SanitizerRules {
+
+    private SanitizerRules() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Mask the string value of JSON fields with one of the given names, compared case-insensitively.
+     * Equivalent to {@code ("name"\s*:\s*")([^"]+)(")}.
+     *
+     * @param names Field names
+     * @return Rule masking the field values
+     */
+    public static SanitizerRule jsonField(String... names) {
+        return new JsonFieldRule(names);
+    }
+
+    /**
+     * Mask the rest of the line after a header name followed by ':' or '=', compared case-insensitively.
+     * The '=' form covers RestAssured's Headers.toString(). Equivalent to {@code (name[:=]\s*)(.+)}.
+     *
+     * @param name Header name
+     * @return Rule masking the header value
+     */
+    public static SanitizerRule headerValue(String name) {
+        return new HeaderValueRule(name);
+    }
+
+    /**
+     * Mask 16-digit card numbers written in groups of four with optional space or dash separators.
+     * Equivalent to {@code \b\d{4}[\s-]?\d{4}[\s-]?\d{4}[\s-]?\d{4}\b}.
+     *
+     * @return Card number rule
+     */
+    public static SanitizerRule cardNumber() {
+        return new CardNumberRule();
+    }
+
+    /**
+     * Mask the domain of email addresses, keeping the local part.
+     * Equivalent to {@code ([a-zA-Z0-9._%+-]+)@([a-zA-Z0-9.-]+\.[a-zA-Z]{2,})} replaced by {@code $1@mask}.
+     *
+     * @return Email rule
+     */
+    public static SanitizerRule email() {
+        return new EmailRule();
+    }
+
+    // \s in java.util.regex
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // Characters '.' does not match in java.util.regex without DOTALL
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // \w in java.util.regex, which also defines \b
+    static boolean isWordChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '_';
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int skipWhitespace(String text, int index) {
+        int n = text.length();
+        while (index < n && isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static final class JsonFieldRule implements SanitizerRule {
+
+        private final String[] names;
+
+        private JsonFieldRule(String[] names) {
+            if (names.length == 0) {
+                throw new IllegalArgumentException("At least one field name is required");
+            }
+            this.names = names.clone();
+        }
+
+        @Override
+        public char[] triggers() {
+            return new char[]{'"'};
+        }
+
+        @Override
+        public boolean match(String text, int index, char previous, Match match) {
+            int n = text.length();
+            for (String name : names) {
+                int p = index + 1;
+                if (!text.regionMatches(true, p, name, 0, name.length())) {
+                    continue;
+                }
+                p += name.length();
+                if (p >= n || text.charAt(p) != '"') {
+                    continue;
+                }
+                p = skipWhitespace(text, p + 1);
+                if (p >= n || text.charAt(p) != ':') {
+                    continue;
+                }
+                p = skipWhitespace(text, p + 1);
+                if (p >= n || text.charAt(p) != '"') {
+                    continue;
+                }
+                int valueStart = p + 1;
+                int valueEnd = text.indexOf('"', valueStart);
+                if (valueEnd <= valueStart) {
+                    continue;
+                }
+                // The closing quote belongs to the match, so scanning resumes after it
+                match.set(valueStart, valueEnd, valueEnd + 1);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class HeaderValueRule implements SanitizerRule {
+
+        private final String name;
+
+        private HeaderValueRule(String name) {
+            if (name == null || name.isEmpty() || name.charAt(0) > 127) {
+                throw new IllegalArgumentException("Header name must start with an ASCII character: " + name);
+            }
+            this.name = name;
+        }
+
+        @Override
+        public char[] triggers() {
+            char first = name.charAt(0);
+            return new char[]{Character.toLowerCase(first), Character.toUpperCase(first)};
+        }
+
+        @Override
+        public boolean match(String text, int index, char previous, Match match) {
+            int n = text.length();
+            if (!text.regionMatches(true, index, name, 0, name.length())) {
+                return false;
+            }
+            int p = index + name.length();
+            if (p >= n || (text.charAt(p) != ':' && text.charAt(p) != '=')) {
+                return false;
+            }
+            int valueStart = p + 1;
+
+            // \s* is greedy and may cross line breaks; give back whitespace until '.+' can match one character
+            int start = skipWhitespace(text, valueStart);
+            while (start >= valueStart && (start >= n || isLineTerminator(text.charAt(start)))) {
+                start--;
+            }
+            if (start < valueStart) {
+                return false;
+            }
+            int end = start;
+            while (end < n && !isLineTerminator(text.charAt(end))) {
+                end++;
+            }
+            match.set(start, end);
+            return true;
+        }
+    }
+
+    private static final class CardNumberRule implements SanitizerRule {
+
+        @Override
+        public char[] triggers() {
+            return "0123456789".toCharArray();
+        }
+
+        @Override
+        public boolean match(String text, int index, char previous, Match match) {
+            // \b before the first digit, judged on the original text as the regex was
+            if (index > 0 && isWordChar(text.charAt(index - 1))) {
+                return false;
+            }
+            int n = text.length();
+            int p = index;
+            for (int group = 0; group < 4; group++) {
+                if (group > 0 && p < n && (text.charAt(p) == '-' || isWhitespace(text.charAt(p)))) {
+                    p++;
+                }
+                for (int digit = 0; digit < 4; digit++) {
+                    if (p >= n || !isDigit(text.charAt(p))) {
+                        return false;
+                    }
+                    p++;
+                }
+            }
+            if (p < n && isWordChar(text.charAt(p))) {
+                return false;
+            }
+            match.set(index, p);
+            return true;
+        }
+    }
+
+    private static final class EmailRule implements SanitizerRule {
+
+        @Override
+        public char[] triggers() {
+            return new char[]{'@'};
+        }
+
+        @Override
+        public boolean match(String text, int index, char previous, Match match) {
+            if (!isLocalPartChar(previous)) {
+                return false;
+            }
+            int n = text.length();
+            int domainStart = index + 1;
+            int domainEnd = domainStart;
+            while (domainEnd < n && isDomainChar(text.charAt(domainEnd))) {
+                domainEnd++;
+            }
+            // Same order as the greedy regex: the right-most dot followed by at least two letters wins
+            for (int dot = domainEnd - 1; dot > domainStart; dot--) {
+                if (text.charAt(dot) != '.') {
+                    continue;
+                }
+                int end = dot + 1;
+                while (end < n && isAsciiLetter(text.charAt(end))) {
+                    end++;
+                }
+                if (end - dot - 1 >= 2) {
+                    match.set(domainStart, end);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLocalPartChar(char c) {
+            return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+        }
+
+        private static boolean isDomainChar(char c) {
+            return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '-';
+        }
+    }
+}
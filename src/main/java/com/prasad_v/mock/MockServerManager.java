@@ -165,7 +165,7 @@ public class MockServerManager {
 
             String content = new String(Files.readAllBytes(Paths.get(filePath)));
             logger.warn("Import expectations API is not available in current MockServer client version; skipping load.");
-            logger.debug("Expectations file read successfully (" + content.length() + " chars)");
+            logger.debug("Expectations file read successfully ({} chars)", content.length());
         } catch (Exception e) {
             logger.error("Failed to load expectations from file: " + filePath, e);
             throw new RuntimeException("Failed to load expectations", e);
@@ -7,6 +7,9 @@ import com.prasad_v.pojos.Booking;
 import com.prasad_v.pojos.BookingResponse;
 import com.prasad_v.pojos.Auth;
 import com.prasad_v.pojos.TokenResponse;
+import com.prasad_v.validation.JsonFieldExtractor;
+
+import java.util.Map;
 
 // This Java class, PayloadManager, is responsible for creating and managing JSON payloads for API requests.
 // It provides methods to convert Java objects to JSON strings and vice versa.
@@ -16,6 +19,8 @@ import com.prasad_v.pojos.TokenResponse;
 // The purpose of this class is to centralize the creation and management of JSON payloads, making it easier to maintain and update the payloads across the project.
 
 public class PayloadManager {
+    private static final JsonFieldExtractor BOOKING_ID_EXTRACTOR = JsonFieldExtractor.of("bookingid");
+
     private final Gson gson = new Gson();
     private final SecureConfigManager secureConfigManager = SecureConfigManager.getInstance();
 
@@ -41,11 +46,16 @@ public class PayloadManager {
     }
 
     public String setAuthPayload() {
-        Auth auth = new Auth();
         String username = secureConfigManager.getUsername();
         String password = secureConfigManager.getPassword();
-        auth.setUsername((username == null || username.isBlank()) ? "admin" : username);
-        auth.setPassword((password == null || password.isBlank()) ? "password123" : password);
+        return setAuthPayload((username == null || username.isBlank()) ? "admin" : username,
+                (password == null || password.isBlank()) ? "password123" : password);
+    }
+
+    public String setAuthPayload(String username, String password) {
+        Auth auth = new Auth();
+        auth.setUsername(username);
+        auth.setPassword(password);
         return gson.toJson(auth);
     }
 
@@ -58,6 +68,20 @@ public class PayloadManager {
         return gson.fromJson(getResponse, Booking.class);
     }
 
+    // Reads only the requested paths from a response, for large responses of which a few fields are needed
+    public Map<String, Object> extractFields(String responseString, String... paths) {
+        return JsonFieldExtractor.of(paths).extract(responseString);
+    }
+
+    public Object extractField(String responseString, String path) {
+        return extractFields(responseString, path).get(path);
+    }
+
+    public Integer getBookingIdFromJSON(String bookingResponse) {
+        Object bookingId = BOOKING_ID_EXTRACTOR.extract(bookingResponse).get("bookingid");
+        return bookingId == null ? null : ((Number) bookingId).intValue();
+    }
+
     public String fullUpdatePayloadAsString() {
         Booking booking = new BookingBuilder()
                 .withFirstname("Lucky")
@@ -0,0 +1,133 @@
+package com.prasad_v.performance;
+
+import com.prasad_v.auth.TokenManager;
+import com.prasad_v.auth.TokenPool;
+import com.prasad_v.constants.APIConstants;
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.modules.PayloadManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.services.BookingService;
+
+import io.restassured.response.Response;
+
+/**
+ * Ready-made scenarios for the booking API, mirroring the E2E flows in TestE2EFlow_01.
+ */
+public final class BookingScenarios {
+
+    public static final String STEP_CREATE_TOKEN = "create token";
+    public static final String STEP_LEASE_TOKEN = "lease token";
+    public static final String STEP_CREATE_BOOKING = "create booking";
+    public static final String STEP_GET_BOOKING = "get booking";
+    public static final String STEP_UPDATE_BOOKING = "update booking";
+    public static final String STEP_DELETE_BOOKING = "delete booking";
+
+    private static final String TOKEN = "token";
+    private static final String LEASE = "lease";
+    private static final String BOOKING_ID = "bookingid";
+    // restful-booker does not report how long its tokens last, so a token is reused for at most this long
+    private static final long TOKEN_LIFETIME_SECONDS = 600;
+
+    private BookingScenarios() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Create token, then create, read, update and delete a booking
+     *
+     * @return Booking CRUD scenario
+     */
+    public static Scenario crud() {
+        BookingService bookingService = new BookingService();
+        PayloadManager payloadManager = new PayloadManager();
+
+        return Scenario.builder("booking-crud")
+                .step(STEP_CREATE_TOKEN, context -> {
+                    Response response = new RequestBuilder()
+                            .setRequestType(RequestType.POST)
+                            .setPath(APIConstants.AUTH_URL)
+                            .setBody(payloadManager.setAuthPayload())
+                            .logRequest(false)
+                            .logResponse(false)
+                            .execute();
+                    context.put(TOKEN, payloadManager.getTokenFromJSON(response.asString()));
+                    return response;
+                })
+                .step(STEP_CREATE_BOOKING, context -> {
+                    Response response = bookingService.createBooking(payloadManager.createPayloadBookingAsString());
+                    context.put(BOOKING_ID, payloadManager.getBookingIdFromJSON(response.asString()));
+                    return response;
+                })
+                .step(STEP_GET_BOOKING, context ->
+                        bookingService.getBookingById(context.<Integer>get(BOOKING_ID)))
+                .step(STEP_UPDATE_BOOKING, context ->
+                        bookingService.updateBooking(context.<Integer>get(BOOKING_ID),
+                                payloadManager.fullUpdatePayloadAsString(), context.get(TOKEN)))
+                .step(STEP_DELETE_BOOKING, context ->
+                        bookingService.deleteBooking(context.<Integer>get(BOOKING_ID), context.get(TOKEN)))
+                .build();
+    }
+
+    /**
+     * Create, read, update and delete a booking with a token leased from a pool, so that virtual users
+     * act as the pool's accounts and send no auth request per iteration. The lease is taken in its own step,
+     * so a token fetch it may wait for is not counted as booking latency, and held until the booking is
+     * deleted, or until the iteration ends if it fails or is cut short.
+     *
+     * @param tokens Pool of restful-booker users, e.g. built with {@link #authTokenSource()}
+     * @return Booking CRUD scenario with a lease step instead of a token step
+     */
+    public static Scenario crud(TokenPool tokens) {
+        BookingService bookingService = new BookingService();
+        PayloadManager payloadManager = new PayloadManager();
+
+        return Scenario.builder("booking-crud-pooled")
+                .step(STEP_LEASE_TOKEN, context -> {
+                    TokenPool.Lease lease = tokens.lease();
+                    context.put(LEASE, lease);
+                    context.put(TOKEN, lease.getToken());
+                    return null;
+                })
+                .step(STEP_CREATE_BOOKING, context -> {
+                    Response response = bookingService.createBooking(payloadManager.createPayloadBookingAsString());
+                    context.put(BOOKING_ID, payloadManager.getBookingIdFromJSON(response.asString()));
+                    return response;
+                })
+                .step(STEP_GET_BOOKING, context ->
+                        bookingService.getBookingById(context.<Integer>get(BOOKING_ID)))
+                .step(STEP_UPDATE_BOOKING, context ->
+                        bookingService.updateBooking(context.<Integer>get(BOOKING_ID),
+                                payloadManager.fullUpdatePayloadAsString(), context.get(TOKEN)))
+                .step(STEP_DELETE_BOOKING, context -> {
+                    try (TokenPool.Lease lease = context.get(LEASE)) {
+                        return bookingService.deleteBooking(context.<Integer>get(BOOKING_ID), lease.getToken());
+                    }
+                })
+                .afterIteration(context -> {
+                    if (context.contains(LEASE)) {
+                        context.<TokenPool.Lease>get(LEASE).close();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Token source for a pool of restful-booker users, requesting a token with each user's name and password
+     *
+     * @return Source for {@link TokenPool.Builder#tokenSource}
+     */
+    public static TokenPool.CredentialTokenSource authTokenSource() {
+        PayloadManager payloadManager = new PayloadManager();
+        return credential -> {
+            Response response = new RequestBuilder()
+                    .setRequestType(RequestType.POST)
+                    .setPath(APIConstants.AUTH_URL)
+                    .setBody(payloadManager.setAuthPayload(credential.getId(), credential.getSecret()))
+                    .logRequest(false)
+                    .logResponse(false)
+                    .execute();
+            return new TokenManager.IssuedToken(payloadManager.getTokenFromJSON(response.asString()),
+                    TOKEN_LIFETIME_SECONDS);
+        };
+    }
+}
@@ -0,0 +1,280 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.exceptions.PoolSaturatedException;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.requestbuilder.AsyncRequestExecutor;
+import com.prasad_v.requestbuilder.RequestBuilder;
+
+import io.restassured.response.Response;
+
+/**
+ * LoadEngine drives an open-model, constant-arrival-rate load using the same RequestBuilder
+ * definitions the functional tests use.
+ * <p>
+ * Requests are released on a fixed schedule derived from the LoadProfile, independent of how fast
+ * earlier requests complete. Each latency is measured from the request's intended start time rather
+ * than from when it was actually sent, so a stalled system under test shows up as queueing delay
+ * instead of silently lowering the offered load (coordinated omission).
+ * <p>
+ * Arrivals are never queued inside the client. An arrival is dropped and reported when maxInFlight
+ * requests are outstanding, or, over the pooled RestAssured transport, when every connection the pool
+ * allows towards the host is in use. The JDK transport is limited by maxInFlight alone.
+ */
+public class LoadEngine {
+
+    private static final CustomLogger logger = new CustomLogger(LoadEngine.class);
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+    private static final int DEFAULT_DRAIN_TIMEOUT_MS = 30000;
+    private static final long MAX_SCHEDULE_STEP_NANOS = 1_000_000;
+    private static final int HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final Supplier<RequestBuilder> requestFactory;
+    private final LoadProfile profile;
+    private final Predicate<Response> successCondition;
+    private final int maxInFlight;
+    private final long drainTimeoutMs;
+
+    private LoadEngine(Builder builder) {
+        this.name = builder.name;
+        this.requestFactory = builder.requestFactory;
+        this.profile = builder.profile;
+        this.successCondition = builder.successCondition;
+        this.maxInFlight = builder.maxInFlight;
+        this.drainTimeoutMs = builder.drainTimeoutMs;
+    }
+
+    /**
+     * Create a builder for a named load run
+     *
+     * @param name Name used in logs and the result summary
+     * @return LoadEngine builder
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Run the load profile to completion and wait for outstanding requests to finish
+     *
+     * @return Aggregated LoadResult
+     */
+    public LoadResult run() {
+        Histogram responseTimes = new ConcurrentHistogram(HISTOGRAM_SIGNIFICANT_DIGITS);
+        Histogram serviceTimes = new ConcurrentHistogram(HISTOGRAM_SIGNIFICANT_DIGITS);
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        Map<String, LongAdder> failuresByType = new ConcurrentHashMap<>();
+        AtomicInteger outstanding = new AtomicInteger();
+        LongAdder dropped = new LongAdder();
+        long scheduled = 0;
+
+        logger.info("Starting load run '" + name + "' with profile " + profile + ", maxInFlight=" + maxInFlight);
+
+        long totalNanos = profile.getTotalNanos();
+        long start = System.nanoTime();
+        long offset = nextArrivalOffset(0);
+
+        while (offset < totalNanos) {
+            long intendedStart = start + offset;
+            parkUntil(intendedStart);
+            scheduled++;
+
+            if (outstanding.get() >= maxInFlight) {
+                // Never block the schedule; record the request as dropped instead
+                dropped.increment();
+                failuresByType.computeIfAbsent("dropped (max in flight)", key -> new LongAdder()).increment();
+            } else {
+                outstanding.incrementAndGet();
+                AsyncRequestExecutor.submit(() -> send(serviceTimes)).whenComplete((response, failure) -> {
+                    if (failure != null && AsyncRequestExecutor.unwrap(failure) instanceof PoolSaturatedException) {
+                        dropped.increment();
+                        failuresByType.computeIfAbsent("dropped (connection pool)", key -> new LongAdder()).increment();
+                    } else {
+                        responseTimes.recordValue(toMicros(System.nanoTime() - intendedStart));
+                        completed.increment();
+                        String failureType = classifyFailure(response, failure);
+                        if (failureType != null) {
+                            failed.increment();
+                            failuresByType.computeIfAbsent(failureType, key -> new LongAdder()).increment();
+                        }
+                    }
+                    outstanding.decrementAndGet();
+                });
+            }
+
+            offset = nextArrivalOffset(offset);
+        }
+
+        drain(outstanding);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Long> failureCounts = new TreeMap<>();
+        failuresByType.forEach((type, count) -> failureCounts.put(type, count.sum()));
+
+        LoadResult result = new LoadResult(name, elapsed, scheduled, completed.sum(), failed.sum(), dropped.sum(),
+                responseTimes.copy(), serviceTimes.copy(), failureCounts);
+        logger.info(result.summary());
+        return result;
+    }
+
+    /**
+     * Send one request without waiting for a pooled connection slot, recording its service time if it was sent
+     */
+    private Response send(Histogram serviceTimes) {
+        long sentAt = System.nanoTime();
+        boolean sent = true;
+        try {
+            return AsyncRequestExecutor.runWithoutQueueing(() -> requestFactory.get().execute());
+        } catch (PoolSaturatedException e) {
+            sent = false;
+            throw e;
+        } finally {
+            if (sent) {
+                serviceTimes.recordValue(toMicros(System.nanoTime() - sentAt));
+            }
+        }
+    }
+
+    /**
+     * Integrate the target rate forward from the given offset until one request's worth of arrivals
+     * has accumulated. Steps are capped so ramps starting from zero are followed accurately.
+     */
+    private long nextArrivalOffset(long offset) {
+        long totalNanos = profile.getTotalNanos();
+        double pending = 1.0;
+        long next = offset;
+        while (pending > 0 && next < totalNanos) {
+            double rate = profile.rateAt(next);
+            long step = rate > 0
+                    ? Math.max(1, Math.min(MAX_SCHEDULE_STEP_NANOS, (long) Math.ceil(pending * 1_000_000_000.0 / rate)))
+                    : MAX_SCHEDULE_STEP_NANOS;
+            pending -= rate * step / 1_000_000_000.0;
+            next += step;
+        }
+        return next;
+    }
+
+    private String classifyFailure(Response response, Throwable failure) {
+        if (failure != null) {
+            Throwable cause = AsyncRequestExecutor.unwrap(failure);
+            if (cause instanceof APIException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            return cause.getClass().getSimpleName();
+        }
+        try {
+            return successCondition.test(response) ? null : "HTTP " + response.getStatusCode();
+        } catch (RuntimeException e) {
+            return "success check failed: " + e.getClass().getSimpleName();
+        }
+    }
+
+    private void drain(AtomicInteger outstanding) {
+        long deadline = System.nanoTime() + drainTimeoutMs * 1_000_000;
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(MAX_SCHEDULE_STEP_NANOS);
+        }
+        if (outstanding.get() > 0) {
+            logger.warn("Load run '" + name + "' finished with " + outstanding.get()
+                    + " requests still in flight after " + drainTimeoutMs + "ms");
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, nanos / 1000);
+    }
+
+    /**
+     * Builder for LoadEngine; defaults come from the load.* configuration keys.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private Supplier<RequestBuilder> requestFactory;
+        private LoadProfile profile;
+        private Predicate<Response> successCondition = response -> response.getStatusCode() < 400;
+        private int maxInFlight;
+        private long drainTimeoutMs;
+
+        private Builder(String name) {
+            this.name = name;
+            ConfigurationManager configManager = ConfigurationManager.getInstance();
+            this.maxInFlight = configManager.getIntProperty(ConfigKeys.LOAD_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT);
+            this.drainTimeoutMs = configManager.getIntProperty(ConfigKeys.LOAD_DRAIN_TIMEOUT, DEFAULT_DRAIN_TIMEOUT_MS);
+        }
+
+        /**
+         * Set the factory producing one fresh RequestBuilder per request.
+         * It is called concurrently from many threads and must be thread-safe.
+         */
+        public Builder request(Supplier<RequestBuilder> requestFactory) {
+            this.requestFactory = requestFactory;
+            return this;
+        }
+
+        public Builder profile(LoadProfile profile) {
+            this.profile = profile;
+            return this;
+        }
+
+        /**
+         * Decide which responses count as successful; by default any status below 400
+         */
+        public Builder successWhen(Predicate<Response> successCondition) {
+            this.successCondition = successCondition;
+            return this;
+        }
+
+        /**
+         * Limit outstanding requests; arrivals beyond the limit are dropped and reported, never delayed.
+         * Over the pooled RestAssured transport the connection pool's per-route and total limits also apply.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder drainTimeout(Duration drainTimeout) {
+            this.drainTimeoutMs = drainTimeout.toMillis();
+            return this;
+        }
+
+        public LoadEngine build() {
+            if (requestFactory == null) {
+                throw new IllegalStateException("A request factory is required");
+            }
+            if (profile == null) {
+                throw new IllegalStateException("A load profile is required");
+            }
+            if (maxInFlight < 1) {
+                throw new IllegalStateException("maxInFlight must be at least 1");
+            }
+            return new LoadEngine(this);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered sequence of load stages describing the target arrival rate over time.
+ */
+public final class LoadProfile {
+
+    private final List<LoadStage> stages;
+    private final long totalNanos;
+
+    private LoadProfile(List<LoadStage> stages) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("A load profile needs at least one stage");
+        }
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+        long total = 0;
+        for (LoadStage stage : stages) {
+            total += stage.getDuration().toNanos();
+        }
+        this.totalNanos = total;
+    }
+
+    /**
+     * Create a profile from explicit stages
+     *
+     * @param stages Stages in execution order
+     * @return LoadProfile instance
+     */
+    public static LoadProfile of(LoadStage... stages) {
+        List<LoadStage> list = new ArrayList<>();
+        Collections.addAll(list, stages);
+        return new LoadProfile(list);
+    }
+
+    /**
+     * Create a profile with a single constant-rate stage
+     *
+     * @param requestsPerSecond Target arrival rate
+     * @param duration Test duration
+     * @return LoadProfile instance
+     */
+    public static LoadProfile constant(double requestsPerSecond, Duration duration) {
+        return of(LoadStage.constant(requestsPerSecond, duration));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the target arrival rate at a point in the test
+     *
+     * @param elapsedNanos Time since the start of the test
+     * @return Arrival rate in requests per second, or 0 once the profile has ended
+     */
+    public double rateAt(long elapsedNanos) {
+        long stageStart = 0;
+        for (LoadStage stage : stages) {
+            long stageNanos = stage.getDuration().toNanos();
+            if (elapsedNanos < stageStart + stageNanos) {
+                return stage.rateAt(elapsedNanos - stageStart);
+            }
+            stageStart += stageNanos;
+        }
+        return 0;
+    }
+
+    public List<LoadStage> getStages() {
+        return stages;
+    }
+
+    public Duration getTotalDuration() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return stages.toString();
+    }
+
+    /**
+     * Fluent builder where each ramp starts from the rate the previous stage ended at.
+     */
+    public static final class Builder {
+
+        private final List<LoadStage> stages = new ArrayList<>();
+        private double currentRate;
+
+        private Builder() {
+        }
+
+        public Builder startAt(double requestsPerSecond) {
+            this.currentRate = requestsPerSecond;
+            return this;
+        }
+
+        public Builder rampTo(double requestsPerSecond, Duration duration) {
+            stages.add(LoadStage.ramp(currentRate, requestsPerSecond, duration));
+            currentRate = requestsPerSecond;
+            return this;
+        }
+
+        public Builder hold(Duration duration) {
+            stages.add(LoadStage.constant(currentRate, duration));
+            return this;
+        }
+
+        public Builder constant(double requestsPerSecond, Duration duration) {
+            stages.add(LoadStage.constant(requestsPerSecond, duration));
+            currentRate = requestsPerSecond;
+            return this;
+        }
+
+        public LoadProfile build() {
+            return new LoadProfile(stages);
+        }
+    }
+}
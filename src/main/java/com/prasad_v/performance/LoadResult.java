@@ -0,0 +1,173 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Immutable outcome of a load run. Latencies are recorded in microseconds.
+ * Response time is measured from the intended start of each request, so it includes any queueing
+ * caused by a slow system under test; service time is measured from when the request was actually sent.
+ */
+public final class LoadResult {
+
+    private final String name;
+    private final Duration elapsed;
+    private final long scheduled;
+    private final long completed;
+    private final long failed;
+    private final long dropped;
+    private final Histogram responseTimes;
+    private final Histogram serviceTimes;
+    private final Map<String, Long> failuresByType;
+
+    LoadResult(String name, Duration elapsed, long scheduled, long completed, long failed, long dropped,
+               Histogram responseTimes, Histogram serviceTimes, Map<String, Long> failuresByType) {
+        this.name = name;
+        this.elapsed = elapsed;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.failed = failed;
+        this.dropped = dropped;
+        this.responseTimes = responseTimes;
+        this.serviceTimes = serviceTimes;
+        this.failuresByType = Collections.unmodifiableMap(failuresByType);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return Requests the profile asked for
+     */
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    /**
+     * @return Requests that finished, successfully or not
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return Completed requests that threw or did not satisfy the success predicate
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return Requests never sent because the in-flight limit was reached
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return Failure counts keyed by HTTP status (e.g. "HTTP 503") or exception type
+     */
+    public Map<String, Long> getFailuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * @return Completed requests per second over the whole run
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : completed / seconds;
+    }
+
+    /**
+     * @return Share of scheduled requests that failed or were dropped, between 0 and 1
+     */
+    public double getErrorRate() {
+        return scheduled == 0 ? 0 : (double) (failed + dropped) / scheduled;
+    }
+
+    /**
+     * Get a response time percentile, measured from the intended start
+     *
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Latency in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return responseTimes.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Get a service time percentile, measured from when the request was actually sent
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds
+     */
+    public double getServiceTimePercentileMillis(double percentile) {
+        return serviceTimes.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getP50Millis() {
+        return getPercentileMillis(50);
+    }
+
+    public double getP90Millis() {
+        return getPercentileMillis(90);
+    }
+
+    public double getP99Millis() {
+        return getPercentileMillis(99);
+    }
+
+    public double getP999Millis() {
+        return getPercentileMillis(99.9);
+    }
+
+    public double getMaxMillis() {
+        return responseTimes.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * @return Copy of the response time histogram, in microseconds
+     */
+    public Histogram getResponseTimeHistogram() {
+        return responseTimes.copy();
+    }
+
+    /**
+     * @return Copy of the service time histogram, in microseconds
+     */
+    public Histogram getServiceTimeHistogram() {
+        return serviceTimes.copy();
+    }
+
+    /**
+     * @return Multi-line, human-readable summary of the run
+     */
+    public String summary() {
+        return String.format("Load run '%s' finished in %.1fs%n"
+                        + "  requests: scheduled=%d, completed=%d, failed=%d, dropped=%d%n"
+                        + "  throughput: %.1f req/s, error rate: %.2f%%%n"
+                        + "  response time (ms): p50=%.2f, p90=%.2f, p99=%.2f, p99.9=%.2f, max=%.2f%n"
+                        + "  service time (ms):  p50=%.2f, p99=%.2f%n"
+                        + "  failures: %s",
+                name, elapsed.toMillis() / 1000.0,
+                scheduled, completed, failed, dropped,
+                getThroughput(), getErrorRate() * 100,
+                getP50Millis(), getP90Millis(), getP99Millis(), getP999Millis(), getMaxMillis(),
+                getServiceTimePercentileMillis(50), getServiceTimePercentileMillis(99),
+                failuresByType.isEmpty() ? "none" : failuresByType);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,79 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+
+/**
+ * One stage of a load profile: the arrival rate moves linearly from startRate to endRate
+ * over the stage duration. A constant stage simply has equal start and end rates.
+ */
+public final class LoadStage {
+
+    private final double startRate;
+    private final double endRate;
+    private final Duration duration;
+
+    private LoadStage(double startRate, double endRate, Duration duration) {
+        if (startRate < 0 || endRate < 0) {
+            throw new IllegalArgumentException("Arrival rates must not be negative");
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Stage duration must be positive");
+        }
+        this.startRate = startRate;
+        this.endRate = endRate;
+        this.duration = duration;
+    }
+
+    /**
+     * Create a stage with a fixed arrival rate
+     *
+     * @param requestsPerSecond Target arrival rate
+     * @param duration Stage duration
+     * @return LoadStage instance
+     */
+    public static LoadStage constant(double requestsPerSecond, Duration duration) {
+        return new LoadStage(requestsPerSecond, requestsPerSecond, duration);
+    }
+
+    /**
+     * Create a stage whose arrival rate ramps linearly between two values
+     *
+     * @param fromRequestsPerSecond Arrival rate at the start of the stage
+     * @param toRequestsPerSecond Arrival rate at the end of the stage
+     * @param duration Stage duration
+     * @return LoadStage instance
+     */
+    public static LoadStage ramp(double fromRequestsPerSecond, double toRequestsPerSecond, Duration duration) {
+        return new LoadStage(fromRequestsPerSecond, toRequestsPerSecond, duration);
+    }
+
+    /**
+     * Get the arrival rate at a point within this stage
+     *
+     * @param elapsedNanos Time since the start of the stage
+     * @return Arrival rate in requests per second
+     */
+    public double rateAt(long elapsedNanos) {
+        double progress = Math.min(1.0, Math.max(0.0, (double) elapsedNanos / duration.toNanos()));
+        return startRate + (endRate - startRate) * progress;
+    }
+
+    public double getStartRate() {
+        return startRate;
+    }
+
+    public double getEndRate() {
+        return endRate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return startRate == endRate
+                ? String.format("%.1f req/s for %s", startRate, duration)
+                : String.format("%.1f -> %.1f req/s over %s", startRate, endRate, duration);
+    }
+}
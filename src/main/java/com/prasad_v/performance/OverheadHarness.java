@@ -0,0 +1,380 @@
+package com.prasad_v.performance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.HdrHistogram.Histogram;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.reporting.ExtentTestManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.requestbuilder.RequestTemplate;
+import com.prasad_v.services.BaseApiService;
+import com.prasad_v.transport.HttpTransport;
+import com.prasad_v.transport.InProcessStub;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.restassured.response.Response;
+
+/**
+ * OverheadHarness measures what the framework itself adds to a request. It calls the full
+ * BaseApiService.execute path (RequestBuilder, HeaderManager, AuthenticationManager, the configured transport,
+ * RequestResponseInterceptor, logging and Allure attachments) against an InProcessStub that answers immediately,
+ * optionally followed by the ExtentTestManager request/response steps a test would add. Since the server takes
+ * no time, the measured latency and allocation are framework overhead only.
+ * <p>
+ * Requests run one at a time on the calling thread. Allocation is read from the JVM's per-thread counters, so
+ * work the asynchronous loggers do on their own thread is not included. Allure attachments and Extent steps
+ * go to detached results that are never written, so a run neither floods the reports nor counts their disk I/O.
+ * <pre>{@code
+ * OverheadReport report = OverheadHarness.builder()
+ *         .request(RequestType.POST, "/booking", Map.of(), booking)
+ *         .stubResponse(200, bookingJson)
+ *         .build()
+ *         .run();
+ * report.assertWithinBudget(200, 50 * 1024); // median microseconds, bytes per request
+ * }</pre>
+ */
+public class OverheadHarness {
+
+    private static final CustomLogger logger = new CustomLogger(OverheadHarness.class);
+
+    private static final int HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+    private static final String DETACHED_TEST_NAME = "Framework overhead";
+    // Detached tests are replaced after this many requests so their attachments and steps do not pile up
+    private static final int REQUESTS_PER_DETACHED_TEST = 100;
+
+    private final RequestType method;
+    private final String path;
+    private final Map<String, String> headers;
+    private final Object body;
+    private final String basicAuthUsername;
+    private final String basicAuthPassword;
+    private final InProcessStub stub;
+    private final TransportType transportType;
+    private final boolean reportToExtent;
+    private final int warmupRequests;
+    private final int requests;
+
+    private OverheadHarness(Builder builder) {
+        this.method = builder.method;
+        this.path = builder.path;
+        this.headers = builder.headers;
+        this.body = builder.body;
+        this.basicAuthUsername = builder.basicAuthUsername;
+        this.basicAuthPassword = builder.basicAuthPassword;
+        this.stub = new InProcessStub(builder.statusCode, builder.contentType, builder.responseBody);
+        this.transportType = builder.transportType;
+        this.reportToExtent = builder.reportToExtent;
+        this.warmupRequests = builder.warmupRequests;
+        this.requests = builder.requests;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Warm up, then send the measured requests and summarize them
+     *
+     * @return Per-request latency and allocation of the framework
+     */
+    public OverheadReport run() {
+        RequestTemplate template = RequestTemplate.forCurrentEnvironment();
+        TransportType type = transportType != null
+                ? transportType
+                : TransportType.fromString(template.getTransport().getName());
+        StubbedService service = new StubbedService(stub.newTransport(template, type));
+        AllocationCounter allocations = new AllocationCounter();
+        Histogram latencies = new Histogram(HISTOGRAM_SIGNIFICANT_DIGITS);
+
+        logger.info("Measuring framework overhead of {} {} over the {} transport: {} warmup, {} measured requests",
+                method, path, type.name().toLowerCase(), warmupRequests, requests);
+
+        DetachedReports reports = new DetachedReports(reportToExtent);
+        long allocatedBytes = 0;
+        try {
+            for (int i = 0; i < warmupRequests + requests; i++) {
+                if (i % REQUESTS_PER_DETACHED_TEST == 0) {
+                    reports.startTest();
+                }
+
+                long bytesBefore = allocations.current();
+                long start = System.nanoTime();
+                Response response = service.call(method, path, headers, body);
+                if (reportToExtent) {
+                    report(response);
+                }
+                long elapsed = System.nanoTime() - start;
+                long bytes = allocations.current() - bytesBefore;
+
+                if (response.getStatusCode() != stub.getStatusCode()) {
+                    throw new IllegalStateException("Stubbed request returned status " + response.getStatusCode()
+                            + " instead of " + stub.getStatusCode());
+                }
+                if (i >= warmupRequests) {
+                    latencies.recordValue(Math.max(elapsed, 1));
+                    allocatedBytes += bytes;
+                }
+            }
+        } finally {
+            reports.close();
+        }
+
+        OverheadReport report = new OverheadReport(method + " " + path + " [" + type.name().toLowerCase() + "]",
+                requests, latencies, allocations.isSupported() ? allocatedBytes / requests : -1);
+        logger.info("Framework overhead: {}", report);
+        return report;
+    }
+
+    private void report(Response response) {
+        String requestBody = body == null ? null : String.valueOf(body);
+        ExtentTestManager.logRequest(path, method.name(), String.valueOf(headers), requestBody);
+        ExtentTestManager.logResponse(response.getStatusCode(), response.getTime(),
+                response.getHeaders().toString(), response.asString());
+    }
+
+    /**
+     * Service sending every request through the stubbed transport, optionally with Basic authentication
+     */
+    private final class StubbedService extends BaseApiService {
+
+        private final HttpTransport transport;
+
+        private StubbedService(HttpTransport transport) {
+            this.transport = transport;
+        }
+
+        Response call(RequestType method, String path, Map<String, String> headers, Object body) {
+            return execute(method, path, headers, body);
+        }
+
+        @Override
+        protected RequestBuilder newRequestBuilder(RequestType method, String path, Map<String, String> headers,
+                                                   Object body) {
+            RequestBuilder builder = super.newRequestBuilder(method, path, headers, body).setTransport(transport);
+            if (basicAuthUsername != null) {
+                builder.addBasicAuthentication(basicAuthUsername, basicAuthPassword);
+            }
+            return builder;
+        }
+    }
+
+    /**
+     * Allure and Extent results for the measured requests. Attachments and steps are built exactly as in a
+     * test, but they go to tests that belong to no report: Allure attachments are drained instead of written
+     * to allure-results and Extent steps are never flushed. Only the file I/O of the real reports is left out.
+     * While the harness runs, Allure attachments from other threads are discarded as well.
+     */
+    private static final class DetachedReports {
+
+        private final boolean extent;
+        private final AllureLifecycle previousLifecycle;
+        private final AllureLifecycle lifecycle;
+        private final ExtentTest previousTest;
+        private final ExtentReports extentReports;
+        private String allureTestUuid;
+
+        private DetachedReports(boolean extent) {
+            this.extent = extent;
+            this.previousLifecycle = Allure.getLifecycle();
+            this.lifecycle = new AllureLifecycle(new DiscardingResultsWriter());
+            this.previousTest = extent ? ExtentTestManager.getTest() : null;
+            this.extentReports = extent ? new ExtentReports() : null;
+            Allure.setLifecycle(lifecycle);
+        }
+
+        void startTest() {
+            finishAllureTest();
+            allureTestUuid = UUID.randomUUID().toString();
+            lifecycle.scheduleTestCase(new TestResult().setUuid(allureTestUuid).setName(DETACHED_TEST_NAME));
+            lifecycle.startTestCase(allureTestUuid);
+            if (extent) {
+                ExtentTestManager.setTest(extentReports.createTest(DETACHED_TEST_NAME));
+            }
+        }
+
+        void close() {
+            finishAllureTest();
+            Allure.setLifecycle(previousLifecycle);
+            if (extent) {
+                ExtentTestManager.setTest(previousTest);
+            }
+        }
+
+        private void finishAllureTest() {
+            if (allureTestUuid != null) {
+                lifecycle.stopTestCase(allureTestUuid);
+                lifecycle.writeTestCase(allureTestUuid);
+                allureTestUuid = null;
+            }
+        }
+    }
+
+    /**
+     * Reads attachments to the end, as the file writer would, and keeps nothing
+     */
+    private static final class DiscardingResultsWriter implements AllureResultsWriter {
+
+        @Override
+        public void write(TestResult testResult) {
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+            try (InputStream in = attachment) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read attachment " + source, e);
+            }
+        }
+    }
+
+    /**
+     * Bytes allocated by the current thread, where the JVM supports counting them
+     */
+    private static final class AllocationCounter {
+
+        private final com.sun.management.ThreadMXBean threadBean;
+
+        private AllocationCounter() {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            com.sun.management.ThreadMXBean extended = bean instanceof com.sun.management.ThreadMXBean
+                    ? (com.sun.management.ThreadMXBean) bean
+                    : null;
+            if (extended != null && extended.isThreadAllocatedMemorySupported()) {
+                extended.setThreadAllocatedMemoryEnabled(true);
+                this.threadBean = extended;
+            } else {
+                this.threadBean = null;
+            }
+        }
+
+        boolean isSupported() {
+            return threadBean != null;
+        }
+
+        long current() {
+            return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    public static final class Builder {
+
+        private RequestType method = RequestType.GET;
+        private String path = "/";
+        private Map<String, String> headers = new LinkedHashMap<>();
+        private Object body;
+        private String basicAuthUsername;
+        private String basicAuthPassword;
+        private int statusCode = 200;
+        private String contentType = "application/json";
+        private String responseBody = "{}";
+        private TransportType transportType;
+        private boolean reportToExtent = true;
+        private int warmupRequests = 2000;
+        private int requests = 5000;
+
+        private Builder() {
+        }
+
+        /**
+         * Request to send, as passed to BaseApiService.execute
+         */
+        public Builder request(RequestType method, String path, Map<String, String> headers, Object body) {
+            this.method = method;
+            this.path = path;
+            this.headers = headers == null ? new LinkedHashMap<>() : new LinkedHashMap<>(headers);
+            this.body = body;
+            return this;
+        }
+
+        /**
+         * Add a Basic Authorization header to every request through AuthenticationManager
+         */
+        public Builder basicAuth(String username, String password) {
+            this.basicAuthUsername = username;
+            this.basicAuthPassword = password;
+            return this;
+        }
+
+        /**
+         * JSON response the stub answers every request with; by default 200 with an empty object
+         */
+        public Builder stubResponse(int statusCode, String body) {
+            return stubResponse(statusCode, "application/json", body);
+        }
+
+        public Builder stubResponse(int statusCode, String contentType, String body) {
+            this.statusCode = statusCode;
+            this.contentType = contentType;
+            this.responseBody = body;
+            return this;
+        }
+
+        /**
+         * Transport code path to exercise; by default the one configured by api.transport
+         */
+        public Builder transport(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        /**
+         * Whether each request is also logged through ExtentTestManager, as tests reporting their calls do.
+         * The steps go to a detached test and never reach the report. Enabled by default.
+         */
+        public Builder reportToExtent(boolean reportToExtent) {
+            this.reportToExtent = reportToExtent;
+            return this;
+        }
+
+        /**
+         * Requests sent before measuring so class loading and JIT compilation are not counted
+         */
+        public Builder warmupRequests(int warmupRequests) {
+            this.warmupRequests = warmupRequests;
+            return this;
+        }
+
+        /**
+         * Requests measured after the warmup
+         */
+        public Builder requests(int requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        public OverheadHarness build() {
+            if (method == null || path == null) {
+                throw new IllegalStateException("A request method and path are required");
+            }
+            if (warmupRequests < 0) {
+                throw new IllegalStateException("Warmup requests cannot be negative: " + warmupRequests);
+            }
+            if (requests < 1) {
+                throw new IllegalStateException("At least one measured request is required");
+            }
+            return new OverheadHarness(this);
+        }
+    }
+}
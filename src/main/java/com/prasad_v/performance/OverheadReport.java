@@ -0,0 +1,87 @@
+package com.prasad_v.performance;
+
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+/**
+ * Framework overhead per request measured by OverheadHarness. Latencies are recorded in nanoseconds.
+ */
+public final class OverheadReport {
+
+    private final String name;
+    private final long requests;
+    private final Histogram latencies;
+    private final long bytesPerRequest;
+
+    OverheadReport(String name, long requests, Histogram latencies, long bytesPerRequest) {
+        this.name = name;
+        this.requests = requests;
+        this.latencies = latencies;
+        this.bytesPerRequest = bytesPerRequest;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of measured requests, excluding the warmup
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    public double getMeanMicros() {
+        return latencies.getMean() / 1000.0;
+    }
+
+    public double getPercentileMicros(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMicros() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * @return Average bytes allocated on the calling thread per request, or -1 if the JVM cannot count them
+     */
+    public long getBytesPerRequest() {
+        return bytesPerRequest;
+    }
+
+    /**
+     * @return Copy of the latency histogram, in nanoseconds
+     */
+    public Histogram getHistogram() {
+        return latencies.copy();
+    }
+
+    /**
+     * Fail unless the median latency and the allocation per request are within budget. The median is used so
+     * that a garbage collection or the logging thread taking the CPU does not make the check flaky; the mean and
+     * tail latencies are in the failure message. Allocation is not checked on JVMs that cannot count it.
+     *
+     * @param maxMedianMicros Highest acceptable median latency per request, in microseconds
+     * @param maxBytesPerRequest Highest acceptable allocation per request, in bytes
+     */
+    public void assertWithinBudget(double maxMedianMicros, long maxBytesPerRequest) {
+        double median = getPercentileMicros(50);
+        Assert.assertTrue(median <= maxMedianMicros, String.format(
+                "Framework overhead of %.1f us per request exceeds the budget of %.1f us: %s",
+                median, maxMedianMicros, this));
+        if (bytesPerRequest >= 0) {
+            Assert.assertTrue(bytesPerRequest <= maxBytesPerRequest, String.format(
+                    "Framework allocates %d bytes per request, over the budget of %d bytes: %s",
+                    bytesPerRequest, maxBytesPerRequest, this));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s requests=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f us, %s per request",
+                name, requests, getMeanMicros(), getPercentileMicros(50), getPercentileMicros(90),
+                getPercentileMicros(99), getMaxMicros(),
+                bytesPerRequest < 0 ? "allocation unknown" : bytesPerRequest + " B");
+    }
+}
@@ -0,0 +1,84 @@
+package com.prasad_v.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Ordered flow of steps executed by every virtual user of a ScenarioRunner.
+ * A failed step ends the current iteration, since later steps usually depend on its result. An optional
+ * after-iteration action then releases what the iteration held, however it ended.
+ */
+public final class Scenario {
+
+    private final String name;
+    private final List<ScenarioStep> steps;
+    private final Consumer<ScenarioContext> afterIteration;
+
+    private Scenario(String name, List<ScenarioStep> steps, Consumer<ScenarioContext> afterIteration) {
+        this.name = name;
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.afterIteration = afterIteration;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<ScenarioStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return Action run at the end of every iteration, or null if there is none
+     */
+    public Consumer<ScenarioContext> getAfterIteration() {
+        return afterIteration;
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private final List<ScenarioStep> steps = new ArrayList<>();
+        private final Set<String> stepNames = new HashSet<>();
+        private Consumer<ScenarioContext> afterIteration;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Append a step; results are grouped by the step name, so names must be unique
+         */
+        public Builder step(String stepName, ScenarioStep.StepAction action) {
+            if (!stepNames.add(stepName)) {
+                throw new IllegalArgumentException("Duplicate step name in scenario '" + name + "': " + stepName);
+            }
+            steps.add(new ScenarioStep(stepName, action));
+            return this;
+        }
+
+        /**
+         * Run an action at the end of every iteration, whether it completed, failed or was cut short by
+         * the end of the run, e.g. to close a lease taken by one of the steps. It is not timed.
+         */
+        public Builder afterIteration(Consumer<ScenarioContext> afterIteration) {
+            this.afterIteration = afterIteration;
+            return this;
+        }
+
+        public Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("Scenario '" + name + "' has no steps");
+            }
+            return new Scenario(name, steps, afterIteration);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.prasad_v.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per virtual-user state carried between the steps of a scenario, e.g. a token or a created booking id.
+ * Each virtual user owns one context, so it is never shared between threads.
+ */
+public final class ScenarioContext {
+
+    private final int userId;
+    private final Map<String, Object> values = new HashMap<>();
+    private long iteration;
+
+    ScenarioContext(int userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * @return Zero-based index of the virtual user
+     */
+    public int getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return One-based number of the current scenario iteration of this user
+     */
+    public long getIteration() {
+        return iteration;
+    }
+
+    public void put(String key, Object value) {
+        values.put(key, value);
+    }
+
+    /**
+     * Get a value stored by an earlier step
+     *
+     * @param key Value key
+     * @return Stored value
+     * @throws IllegalStateException If no earlier step stored the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        if (!values.containsKey(key)) {
+            throw new IllegalStateException("No value '" + key + "' in scenario context of user " + userId);
+        }
+        return (T) values.get(key);
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    void startIteration() {
+        iteration++;
+        values.clear();
+    }
+}
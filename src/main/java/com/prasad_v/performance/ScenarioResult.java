@@ -0,0 +1,99 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a closed-model scenario run, grouped per step in scenario order.
+ */
+public final class ScenarioResult {
+
+    private final String scenarioName;
+    private final int virtualUsers;
+    private final Duration elapsed;
+    private final long iterations;
+    private final long failedIterations;
+    private final List<StepStats> steps;
+    private final StepStats iterationStats;
+
+    ScenarioResult(String scenarioName, int virtualUsers, Duration elapsed, long iterations, long failedIterations,
+                   List<StepStats> steps, StepStats iterationStats) {
+        this.scenarioName = scenarioName;
+        this.virtualUsers = virtualUsers;
+        this.elapsed = elapsed;
+        this.iterations = iterations;
+        this.failedIterations = failedIterations;
+        this.steps = Collections.unmodifiableList(steps);
+        this.iterationStats = iterationStats;
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return Iterations that ran to the end or failed; iterations cut off by the end of the run are not counted
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getFailedIterations() {
+        return failedIterations;
+    }
+
+    public List<StepStats> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Get the statistics of a step by name
+     *
+     * @param stepName Step name
+     * @return StepStats of the step
+     * @throws IllegalArgumentException If the scenario has no such step
+     */
+    public StepStats getStep(String stepName) {
+        for (StepStats step : steps) {
+            if (step.getName().equals(stepName)) {
+                return step;
+            }
+        }
+        throw new IllegalArgumentException("Scenario '" + scenarioName + "' has no step named " + stepName);
+    }
+
+    /**
+     * @return Statistics of complete, successful iterations of the whole flow
+     */
+    public StepStats getIterationStats() {
+        return iterationStats;
+    }
+
+    /**
+     * @return Multi-line per-step report of the run
+     */
+    public String summary() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Scenario '%s' with %d virtual users finished in %.1fs: iterations=%d, failed=%d%n",
+                scenarioName, virtualUsers, elapsed.toMillis() / 1000.0, iterations, failedIterations));
+        for (StepStats step : steps) {
+            report.append("  ").append(step).append(System.lineSeparator());
+        }
+        report.append("  ").append(iterationStats);
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,293 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.requestbuilder.AsyncRequestExecutor;
+
+import io.restassured.response.Response;
+
+/**
+ * ScenarioRunner executes a Scenario as a closed workload: a fixed number of virtual users each run the
+ * steps back to back, pausing for a think time after every step, until the run duration elapses.
+ * Users are started evenly across the ramp-up period. Every step is timed per user and aggregated per step name.
+ * <p>
+ * Each virtual user is a virtual thread. Requests over the pooled RestAssured transport still wait for one
+ * of the pool's in-flight slots (see AsyncRequestExecutor); that client-side wait is left out of step
+ * latencies.
+ */
+public class ScenarioRunner {
+
+    private static final CustomLogger logger = new CustomLogger(ScenarioRunner.class);
+
+    private static final int HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+    private static final String ITERATION_STATS_NAME = "[full iteration]";
+
+    private final Scenario scenario;
+    private final int virtualUsers;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Duration minThinkTime;
+    private final Duration maxThinkTime;
+    private final Predicate<Response> successCondition;
+
+    private ScenarioRunner(Builder builder) {
+        this.scenario = builder.scenario;
+        this.virtualUsers = builder.virtualUsers;
+        this.rampUp = builder.rampUp;
+        this.duration = builder.duration;
+        this.minThinkTime = builder.minThinkTime;
+        this.maxThinkTime = builder.maxThinkTime;
+        this.successCondition = builder.successCondition;
+    }
+
+    public static Builder builder(Scenario scenario) {
+        return new Builder(scenario);
+    }
+
+    /**
+     * Run the scenario for the configured duration and wait for all virtual users to stop
+     *
+     * @return Per-step ScenarioResult
+     */
+    public ScenarioResult run() {
+        Map<String, StepRecorder> recorders = new LinkedHashMap<>();
+        for (ScenarioStep step : scenario.getSteps()) {
+            recorders.put(step.getName(), new StepRecorder(step.getName()));
+        }
+        StepRecorder iterationRecorder = new StepRecorder(ITERATION_STATS_NAME);
+        LongAdder iterations = new LongAdder();
+        LongAdder failedIterations = new LongAdder();
+
+        logger.info("Starting scenario '" + scenario.getName() + "' with " + virtualUsers + " virtual users, rampUp="
+                + rampUp + ", duration=" + duration + ", thinkTime=" + minThinkTime + ".." + maxThinkTime);
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        List<Thread> users = new ArrayList<>(virtualUsers);
+        for (int i = 0; i < virtualUsers; i++) {
+            int userId = i;
+            long userStart = start + rampUp.toNanos() * i / virtualUsers;
+            users.add(Thread.ofVirtual().name("vu-" + scenario.getName() + "-" + i).start(() ->
+                    runUser(new ScenarioContext(userId), userStart, end, recorders, iterationRecorder, iterations, failedIterations)));
+        }
+
+        for (Thread user : users) {
+            try {
+                user.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for virtual users of scenario '" + scenario.getName() + "'");
+                break;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        List<StepStats> stepStats = new ArrayList<>(recorders.size());
+        for (StepRecorder recorder : recorders.values()) {
+            stepStats.add(recorder.snapshot(elapsed));
+        }
+        ScenarioResult result = new ScenarioResult(scenario.getName(), virtualUsers, elapsed, iterations.sum(),
+                failedIterations.sum(), stepStats, iterationRecorder.snapshot(elapsed));
+        logger.info(result.summary());
+        return result;
+    }
+
+    private void runUser(ScenarioContext context, long userStart, long end, Map<String, StepRecorder> recorders,
+                         StepRecorder iterationRecorder, LongAdder iterations, LongAdder failedIterations) {
+        parkUntil(userStart);
+        while (System.nanoTime() < end) {
+            context.startIteration();
+            long iterationStart = System.nanoTime();
+            boolean completed = true;
+            boolean failed = false;
+
+            try {
+                for (ScenarioStep step : scenario.getSteps()) {
+                    if (System.nanoTime() >= end) {
+                        completed = false;
+                        break;
+                    }
+                    if (!runStep(step, context, recorders.get(step.getName()))) {
+                        failed = true;
+                        break;
+                    }
+                    think(end);
+                }
+            } finally {
+                afterIteration(context);
+            }
+
+            if (failed) {
+                iterations.increment();
+                failedIterations.increment();
+            } else if (completed) {
+                iterations.increment();
+                iterationRecorder.record(System.nanoTime() - iterationStart, true);
+            }
+        }
+    }
+
+    private boolean runStep(ScenarioStep step, ScenarioContext context, StepRecorder recorder) {
+        AsyncRequestExecutor.takeSlotWaitNanos();
+        long stepStart = System.nanoTime();
+        boolean success;
+        try {
+            Response response = step.getAction().execute(context);
+            success = response == null || successCondition.test(response);
+            if (!success) {
+                logger.debug("Step '{}' of user {} failed with status {}", step.getName(), context.getUserId(),
+                        response.getStatusCode());
+            }
+        } catch (RuntimeException e) {
+            success = false;
+            logger.debug("Step '{}' of user {} failed: {}", step.getName(), context.getUserId(), e.getMessage());
+        }
+        recorder.record(System.nanoTime() - stepStart - AsyncRequestExecutor.takeSlotWaitNanos(), success);
+        return success;
+    }
+
+    private void afterIteration(ScenarioContext context) {
+        if (scenario.getAfterIteration() == null) {
+            return;
+        }
+        try {
+            scenario.getAfterIteration().accept(context);
+        } catch (RuntimeException e) {
+            logger.debug("After-iteration action of user {} failed: {}", context.getUserId(), e.getMessage());
+        }
+    }
+
+    private void think(long end) {
+        long min = minThinkTime.toNanos();
+        long max = maxThinkTime.toNanos();
+        long pause = max > min ? ThreadLocalRandom.current().nextLong(min, max + 1) : min;
+        if (pause > 0) {
+            parkUntil(Math.min(System.nanoTime() + pause, end));
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Thread-safe accumulator for one step name.
+     */
+    private static final class StepRecorder {
+
+        private final String name;
+        private final Histogram latencies = new ConcurrentHistogram(HISTOGRAM_SIGNIFICANT_DIGITS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private StepRecorder(String name) {
+            this.name = name;
+        }
+
+        private void record(long elapsedNanos, boolean success) {
+            latencies.recordValue(Math.max(0, elapsedNanos / 1000));
+            count.increment();
+            if (!success) {
+                failures.increment();
+            }
+        }
+
+        private StepStats snapshot(Duration elapsed) {
+            return new StepStats(name, count.sum(), failures.sum(), elapsed, latencies.copy());
+        }
+    }
+
+    /**
+     * Builder for ScenarioRunner.
+     */
+    public static final class Builder {
+
+        private final Scenario scenario;
+        private int virtualUsers = 1;
+        private Duration rampUp = Duration.ZERO;
+        private Duration duration;
+        private Duration minThinkTime = Duration.ZERO;
+        private Duration maxThinkTime = Duration.ZERO;
+        private Predicate<Response> successCondition = response -> response.getStatusCode() < 400;
+
+        private Builder(Scenario scenario) {
+            this.scenario = scenario;
+        }
+
+        public Builder virtualUsers(int virtualUsers) {
+            this.virtualUsers = virtualUsers;
+            return this;
+        }
+
+        /**
+         * Start users evenly over this period instead of all at once
+         */
+        public Builder rampUp(Duration rampUp) {
+            this.rampUp = rampUp;
+            return this;
+        }
+
+        /**
+         * Total run time, measured from the start of the first user and including the ramp-up
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Fixed pause after every step
+         */
+        public Builder thinkTime(Duration thinkTime) {
+            return thinkTime(thinkTime, thinkTime);
+        }
+
+        /**
+         * Uniformly random pause between min and max after every step
+         */
+        public Builder thinkTime(Duration min, Duration max) {
+            this.minThinkTime = min;
+            this.maxThinkTime = max;
+            return this;
+        }
+
+        /**
+         * Decide which step responses count as successful; by default any status below 400
+         */
+        public Builder successWhen(Predicate<Response> successCondition) {
+            this.successCondition = successCondition;
+            return this;
+        }
+
+        public ScenarioRunner build() {
+            if (scenario == null) {
+                throw new IllegalStateException("A scenario is required");
+            }
+            if (virtualUsers < 1) {
+                throw new IllegalStateException("At least one virtual user is required");
+            }
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalStateException("A positive run duration is required");
+            }
+            if (minThinkTime.isNegative() || maxThinkTime.compareTo(minThinkTime) < 0) {
+                throw new IllegalStateException("Think time range is invalid: " + minThinkTime + ".." + maxThinkTime);
+            }
+            return new ScenarioRunner(this);
+        }
+    }
+}
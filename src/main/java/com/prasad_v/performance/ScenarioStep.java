@@ -0,0 +1,40 @@
+package com.prasad_v.performance;
+
+import io.restassured.response.Response;
+
+/**
+ * A named, timed step of a scenario.
+ */
+public final class ScenarioStep {
+
+    /**
+     * Work performed by one step; typically a single BookingService or RequestBuilder call. Steps that send
+     * no request, e.g. leasing a token, return null and count as successful.
+     */
+    @FunctionalInterface
+    public interface StepAction {
+        Response execute(ScenarioContext context);
+    }
+
+    private final String name;
+    private final StepAction action;
+
+    ScenarioStep(String name, StepAction action) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Step name must not be blank");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("Step action must not be null");
+        }
+        this.name = name;
+        this.action = action;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public StepAction getAction() {
+        return action;
+    }
+}
@@ -0,0 +1,78 @@
+package com.prasad_v.performance;
+
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency and throughput of one scenario step across all virtual users. Latencies are recorded in microseconds.
+ */
+public final class StepStats {
+
+    private final String name;
+    private final long count;
+    private final long failures;
+    private final Duration elapsed;
+    private final Histogram latencies;
+
+    StepStats(String name, long count, long failures, Duration elapsed, Histogram latencies) {
+        this.name = name;
+        this.count = count;
+        this.failures = failures;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of times the step ran, including failures
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public double getErrorRate() {
+        return count == 0 ? 0 : (double) failures / count;
+    }
+
+    /**
+     * @return Step executions per second over the run
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : count / seconds;
+    }
+
+    public double getMeanMillis() {
+        return latencies.getMean() / 1000.0;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * @return Copy of the latency histogram, in microseconds
+     */
+    public Histogram getHistogram() {
+        return latencies.copy();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s count=%-7d errors=%-5d %8.1f/s  mean=%8.2f  p50=%8.2f  p90=%8.2f  p99=%8.2f  max=%8.2f ms",
+                name, count, failures, getThroughput(), getMeanMillis(),
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis());
+    }
+}
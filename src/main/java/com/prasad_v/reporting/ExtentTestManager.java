@@ -57,6 +57,17 @@ public class ExtentTestManager {
         return testMap.get(Thread.currentThread().getId());
     }
 
+    /**
+     * Associate a test with the current thread, e.g. to direct steps into a test that is not part of the report
+     *
+     * @param test The test to log to, or null to detach the current thread
+     * @return The test previously associated with the current thread, or null
+     */
+    public static synchronized ExtentTest setTest(ExtentTest test) {
+        long threadId = Thread.currentThread().threadId();
+        return test == null ? testMap.remove(threadId) : testMap.put(threadId, test);
+    }
+
     /**
      * Get the name of the current test
      *
@@ -104,13 +115,27 @@ public class ExtentTestManager {
         testNameThread.remove();
     }
 
+    /**
+     * Add a step to the current thread's test. Validators and utilities also run outside a test,
+     * e.g. in setup code or benchmarks, where only the log file gets the message.
+     *
+     * @param status Step status
+     * @param message The step message
+     */
+    private static void logToReport(Status status, String message) {
+        ExtentTest test = getTest();
+        if (test != null) {
+            test.log(status, message);
+        }
+    }
+
     /**
      * Log a passed step with message
      *
      * @param message The step message
      */
     public static void logPass(String message) {
-        getTest().log(Status.PASS, message);
+        logToReport(Status.PASS, message);
         logger.info("TEST PASS: " + message);
     }
 
@@ -120,7 +145,7 @@ public class ExtentTestManager {
      * @param message The step message
      */
     public static void logFail(String message) {
-        getTest().log(Status.FAIL, message);
+        logToReport(Status.FAIL, message);
         logger.error("TEST FAIL: " + message);
     }
 
@@ -131,8 +156,11 @@ public class ExtentTestManager {
      * @param t The exception
      */
     public static void logFail(String message, Throwable t) {
-        getTest().log(Status.FAIL, message + "\n" + t.getMessage());
-        getTest().log(Status.FAIL, t);
+        ExtentTest test = getTest();
+        if (test != null) {
+            test.log(Status.FAIL, message + "\n" + t.getMessage());
+            test.log(Status.FAIL, t);
+        }
         logger.error("TEST FAIL: " + message, t);
     }
 
@@ -142,7 +170,7 @@ public class ExtentTestManager {
      * @param message The step message
      */
     public static void logSkip(String message) {
-        getTest().log(Status.SKIP, message);
+        logToReport(Status.SKIP, message);
         logger.info("TEST SKIP: " + message);
     }
 
@@ -152,7 +180,7 @@ public class ExtentTestManager {
      * @param message The step message
      */
     public static void logInfo(String message) {
-        getTest().log(Status.INFO, message);
+        logToReport(Status.INFO, message);
         logger.info("TEST INFO: " + message);
     }
 
@@ -162,7 +190,7 @@ public class ExtentTestManager {
      * @param message The step message
      */
     public static void logWarning(String message) {
-        getTest().log(Status.WARNING, message);
+        logToReport(Status.WARNING, message);
         logger.warn("TEST WARNING: " + message);
     }
 
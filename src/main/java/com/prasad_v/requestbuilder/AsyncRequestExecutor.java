@@ -0,0 +1,196 @@
+package com.prasad_v.requestbuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.exceptions.PoolSaturatedException;
+import com.prasad_v.logging.CustomLogger;
+
+import io.restassured.response.Response;
+
+/**
+ * AsyncRequestExecutor runs blocking RestAssured calls on virtual threads so a single test thread
+ * can keep many requests in flight without dedicating a platform thread to each one.
+ * Virtual threads inherit inheritable thread locals (e.g. the Allure test context) from the submitting thread.
+ * <p>
+ * The Apache client behind the RestAssured transport waits for a pooled connection inside synchronized
+ * blocks, which pins a virtual thread to its carrier. That transport therefore sends through runBounded,
+ * which caps its in-flight requests per route and in total at the pool's limits, using slots owned by
+ * ConnectionPoolManager, so no virtual thread ever waits on the pool; excess requests park on a semaphore,
+ * which does not pin. The JDK transport does not pin and is not capped.
+ */
+public final class AsyncRequestExecutor {
+
+    private static final CustomLogger logger = new CustomLogger(AsyncRequestExecutor.class);
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final ThreadLocal<Boolean> holdsPermit = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> failWhenSaturated = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> slotWaitNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    private AsyncRequestExecutor() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Get the shared virtual-thread executor
+     *
+     * @return ExecutorService that starts one virtual thread per task
+     */
+    public static ExecutorService executor() {
+        return executor;
+    }
+
+    /**
+     * Run a blocking request on a virtual thread
+     *
+     * @param request Blocking request to run
+     * @return Future completed with the response, or exceptionally with an APIException
+     */
+    public static CompletableFuture<Response> submit(Supplier<Response> request) {
+        return CompletableFuture.supplyAsync(request, executor);
+    }
+
+    /**
+     * Run blocking work that uses the pooled Apache client on the current thread once one of the pool's
+     * in-flight slots for the URL's route is free. A thread that already holds a slot runs the work straight away.
+     *
+     * @param url Absolute URL the work sends to
+     * @param work Blocking request work
+     * @return Result of the work
+     */
+    public static <T> T runBounded(String url, Supplier<T> work) {
+        if (holdsPermit.get() != null) {
+            return work.get();
+        }
+        // Release to the same pool even if it is rebuilt meanwhile; a new pool starts with fresh slots
+        ConnectionPoolManager pool = ConnectionPoolManager.getInstance();
+        String route = ConnectionPoolManager.routeOf(url);
+        if (failWhenSaturated.get() != null) {
+            if (!pool.tryAcquireSlot(route)) {
+                throw new PoolSaturatedException("All pooled connection slots for " + route + " are in use");
+            }
+        } else {
+            long waitStart = System.nanoTime();
+            try {
+                pool.acquireSlot(route);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new APIException("Interrupted while waiting to send request", e);
+            }
+            slotWaitNanos.get()[0] += System.nanoTime() - waitStart;
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            holdsPermit.remove();
+            pool.releaseSlot(route);
+        }
+    }
+
+    /**
+     * Run work on the current thread so that any pooled request it sends fails with a PoolSaturatedException
+     * instead of waiting for an in-flight slot. Requests over the JDK transport are unaffected.
+     *
+     * @param work Blocking request work
+     * @return Result of the work
+     */
+    public static <T> T runWithoutQueueing(Supplier<T> work) {
+        failWhenSaturated.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            failWhenSaturated.remove();
+        }
+    }
+
+    /**
+     * Get the time the current thread has spent waiting for a pooled in-flight slot since the last call,
+     * so callers that time their own work can leave out the wait on the client-side cap
+     *
+     * @return Wait time in nanoseconds
+     */
+    public static long takeSlotWaitNanos() {
+        long[] waited = slotWaitNanos.get();
+        long nanos = waited[0];
+        waited[0] = 0;
+        return nanos;
+    }
+
+    /**
+     * Combine futures into one that completes when all of them complete, preserving input order
+     *
+     * @param futures Futures to combine
+     * @return Future of all responses in input order; fails if any request failed
+     */
+    public static CompletableFuture<List<Response>> allOf(List<CompletableFuture<Response>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<Response> responses = new ArrayList<>(futures.size());
+                    for (CompletableFuture<Response> future : futures) {
+                        responses.add(future.join());
+                    }
+                    return responses;
+                });
+    }
+
+    /**
+     * Combine futures into one that completes with whichever response arrives first
+     *
+     * @param futures Futures to race
+     * @return Future of the first completed response
+     */
+    public static CompletableFuture<Response> anyOf(List<CompletableFuture<Response>> futures) {
+        return CompletableFuture.anyOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(Response.class::cast);
+    }
+
+    /**
+     * Block until all futures complete and return their responses in input order
+     *
+     * @param futures Futures to wait for
+     * @param timeout Maximum time to wait
+     * @param unit Unit of the timeout
+     * @return Responses in input order
+     * @throws APIException If any request failed or the timeout elapsed
+     */
+    public static List<Response> awaitAll(List<CompletableFuture<Response>> futures, long timeout, TimeUnit unit) {
+        try {
+            return allOf(futures).get(timeout, unit);
+        } catch (TimeoutException e) {
+            logger.error("Timed out waiting for " + futures.size() + " asynchronous requests");
+            throw new APIException("Timed out after " + timeout + " " + unit + " waiting for asynchronous requests", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIException("Interrupted while waiting for asynchronous requests", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Unwrap the failure of an asynchronous request into the APIException the blocking path would have thrown
+     *
+     * @param throwable Failure raised by a future
+     * @return APIException describing the failure
+     */
+    public static APIException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof APIException apiException) {
+            return apiException;
+        }
+        return new APIException("Asynchronous request failed: " + cause.getMessage(), cause);
+    }
+}
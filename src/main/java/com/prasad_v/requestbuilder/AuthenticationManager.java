@@ -1,48 +1,63 @@
 package com.prasad_v.requestbuilder;
 
+import com.prasad_v.auth.AuthHandlerRegistry;
 import com.prasad_v.auth.AuthenticationFactory;
-import com.prasad_v.auth.BasicAuthHandler;
 import com.prasad_v.auth.OAuthHandler;
 import com.prasad_v.auth.TokenManager;
+import com.prasad_v.auth.TokenPool;
 import com.prasad_v.config.ConfigurationManager;
 import com.prasad_v.logging.CustomLogger;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * AuthenticationManager handles various authentication methods for API requests.
  * It integrates with the auth package to provide Basic, OAuth, and Token authentication.
+ * <p>
+ * Handlers and header values come from the shared {@link AuthHandlerRegistry}, so creating an
+ * AuthenticationManager per request costs nothing beyond the object itself.
  */
 public class AuthenticationManager {
 
     private static final CustomLogger logger = new CustomLogger(AuthenticationManager.class);
+
+    // Shared by every AuthenticationManager, so that pooled tokens and lease order are too
+    private static final Map<String, TokenPool> tokenPools = new ConcurrentHashMap<>();
+
     private final ConfigurationManager configManager;
-    private final BasicAuthHandler basicAuthHandler;
-    private final OAuthHandler oAuthHandler;
+    private final AuthHandlerRegistry handlers;
 
     /**
      * Constructor initializes authentication components
      */
     public AuthenticationManager() {
         configManager = ConfigurationManager.getInstance();
-        basicAuthHandler = (BasicAuthHandler) AuthenticationFactory.getAuthHandler(AuthenticationFactory.AuthType.BASIC);
-        oAuthHandler = (OAuthHandler) AuthenticationFactory.getAuthHandler(AuthenticationFactory.AuthType.OAUTH);
+        handlers = AuthHandlerRegistry.getInstance();
     }
 
     /**
-     * Get a cached token or generate a new one if expired
+     * Get a cached token or generate a new one if expired. Threads that find no token at the same time
+     * share a single token request.
      *
      * @param tokenKey Key to identify the token type
      * @return Authentication token
      */
     public String getToken(String tokenKey) {
         String token = TokenManager.getToken(tokenKey);
-        if (token == null || token.isEmpty()) {
-            token = refreshToken(tokenKey);
+        if (token != null && !token.isEmpty()) {
+            return token;
+        }
+        if (tokenEndpoint(tokenKey).isEmpty()) {
+            logger.error("Token endpoint not configured for key: " + tokenKey);
+            return "";
         }
-        return token;
+        return TokenManager.getToken(tokenKey, 0, () -> requestToken(tokenKey));
     }
 
     /**
-     * Force refresh a token
+     * Force refresh a token. The new token is then kept fresh in the background, so later calls to
+     * getToken find a valid token without waiting for the token endpoint.
      *
      * @param tokenKey Key to identify the token type
      * @return New authentication token
@@ -50,43 +65,51 @@ public class AuthenticationManager {
     public String refreshToken(String tokenKey) {
         logger.info("Refreshing token for key: " + tokenKey);
 
-        String tokenEndpoint = firstNonBlank(
-                configManager.getConfigProperty("auth." + tokenKey + ".endpoint", ""),
-                configManager.getConfigProperty("auth." + tokenKey + ".token.url", ""),
-                configManager.getConfigProperty("auth.token.url", "")
-        );
-        String clientId = firstNonBlank(
-                configManager.getConfigProperty("auth." + tokenKey + ".clientId", ""),
-                configManager.getConfigProperty("auth." + tokenKey + ".client.id", ""),
-                configManager.getConfigProperty("auth.client.id", "")
-        );
-        String clientSecret = firstNonBlank(
-                configManager.getConfigProperty("auth." + tokenKey + ".clientSecret", ""),
-                configManager.getConfigProperty("auth." + tokenKey + ".client.secret", ""),
-                configManager.getConfigProperty("auth.client.secret", "")
-        );
-        String scope = firstNonBlank(
-                configManager.getConfigProperty("auth." + tokenKey + ".scope", ""),
-                configManager.getConfigProperty("auth.scope", "")
-        );
-
-        if (tokenEndpoint.isEmpty()) {
+        if (tokenEndpoint(tokenKey).isEmpty()) {
             logger.error("Token endpoint not configured for key: " + tokenKey);
             return "";
         }
+        // Joins a fetch already running for this key rather than starting another
+        String newToken = TokenManager.fetchToken(tokenKey, () -> requestToken(tokenKey)).getValue();
+        logger.info("Token refreshed successfully for key: " + tokenKey);
+        return newToken;
+    }
 
-        oAuthHandler.setTokenUrl(tokenEndpoint);
-        oAuthHandler.setCredentials(clientId, clientSecret, scope);
-        oAuthHandler.setGrantType(OAuthHandler.GrantType.CLIENT_CREDENTIALS);
-        String newToken = oAuthHandler.getAccessToken();
-        if (newToken != null && !newToken.isEmpty()) {
-            TokenManager.storeToken(tokenKey, newToken, 3600);
-            logger.info("Token refreshed successfully for key: " + tokenKey);
-        } else {
-            logger.error("Failed to refresh token for key: " + tokenKey);
-        }
+    /**
+     * Request a new token from the endpoint configured for a key
+     *
+     * @return Issued token
+     */
+    private TokenManager.IssuedToken requestToken(String tokenKey) {
+        // The registry's handler is never modified, so fetches for different keys need no lock
+        return handlers.getOAuthHandler(tokenKey).requestAccessToken();
+    }
 
-        return newToken;
+    /**
+     * Get the credential pool configured under auth.pool.KEY (see {@link TokenPool#fromConfig}). Each
+     * credential is a client id and secret, and its token is requested with the client credentials grant
+     * from the key's token endpoint. Lease a credential per test thread or virtual user to spread load
+     * across accounts; each credential's token is refreshed in the background on its own.
+     *
+     * @param poolKey Key to identify the pool
+     * @return The pool, created on first use
+     */
+    public TokenPool getTokenPool(String poolKey) {
+        return tokenPools.computeIfAbsent(poolKey,
+                key -> TokenPool.fromConfig(key, credential -> requestPooledToken(key, credential)));
+    }
+
+    private TokenManager.IssuedToken requestPooledToken(String poolKey, TokenPool.Credential credential) {
+        String scope = firstNonBlank(
+                credential.getAttribute("scope"),
+                configManager.getConfigProperty("auth." + poolKey + ".scope", ""),
+                configManager.getConfigProperty("auth.scope", "")
+        );
+        // A handler of its own, so that fetches for different credentials can run at the same time
+        OAuthHandler handler = AuthenticationFactory.getOAuthHandler(credential.getId(), credential.getSecret(), scope);
+        handler.setTokenUrl(tokenEndpoint(poolKey));
+        handler.setGrantType(OAuthHandler.GrantType.CLIENT_CREDENTIALS);
+        return handler.requestAccessToken();
     }
 
     /**
@@ -97,8 +120,8 @@ public class AuthenticationManager {
      * @return Basic auth header value
      */
     public String getBasicAuthHeader(String username, String password) {
-        logger.debug("Generating Basic Auth header for user: " + username);
-        return basicAuthHandler.getAuthorizationHeader(username, password);
+        logger.debug("Generating Basic Auth header for user: {}", username);
+        return handlers.getBasicAuthHeader(username, password);
     }
 
     /**
@@ -108,22 +131,14 @@ public class AuthenticationManager {
      * @return Basic auth header value
      */
     public String getBasicAuthHeaderFromConfig(String authKey) {
-        String username = firstNonBlank(
-                configManager.getConfigProperty("auth." + authKey + ".username", ""),
-                configManager.getConfigProperty("auth.username", "")
-        );
-        String password = firstNonBlank(
-                configManager.getConfigProperty("auth." + authKey + ".password", ""),
-                configManager.getConfigProperty("auth.password", "")
-        );
-
-        if (username.isEmpty() || password.isEmpty()) {
+        String header = handlers.getBasicAuthHeader(authKey);
+        if (header.isEmpty()) {
             logger.error("Basic auth credentials not found for key: " + authKey);
             return "";
         }
 
-        logger.debug("Generating Basic Auth header from config for key: " + authKey);
-        return basicAuthHandler.getAuthorizationHeader(username, password);
+        logger.debug("Using Basic Auth header from config for key: {}", authKey);
+        return header;
     }
 
     /**
@@ -139,11 +154,7 @@ public class AuthenticationManager {
             return "";
         }
 
-        if (!token.startsWith("Bearer ")) {
-            token = "Bearer " + token;
-        }
-
-        return token;
+        return handlers.getBearerHeader(tokenKey, token);
     }
 
     /**
@@ -164,6 +175,10 @@ public class AuthenticationManager {
         logger.info("Cleared all token caches");
     }
 
+    private String tokenEndpoint(String tokenKey) {
+        return handlers.getTokenEndpoint(tokenKey);
+    }
+
     private String firstNonBlank(String... values) {
         if (values == null) {
             return "";
@@ -0,0 +1,306 @@
+package com.prasad_v.requestbuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.params.ConnManagerPNames;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.logging.CustomLogger;
+
+import io.restassured.config.HttpClientConfig;
+
+/**
+ * ConnectionPoolManager owns the single pooled, keep-alive HTTP client shared by all RequestBuilder instances.
+ * RestAssured 5 only accepts clients derived from AbstractHttpClient, so the pool is built on
+ * DefaultHttpClient with a PoolingClientConnectionManager.
+ * <p>
+ * The manager also owns the in-flight slots that AsyncRequestExecutor.runBounded hands out: one set per
+ * route, sized to the per-route limit, plus one sized to the total limit. A rebuilt pool starts with
+ * fresh slots sized from the configuration at that time.
+ */
+public class ConnectionPoolManager {
+
+    private static final CustomLogger logger = new CustomLogger(ConnectionPoolManager.class);
+
+    private static final int DEFAULT_MAX_TOTAL = 50;
+    private static final int DEFAULT_MAX_PER_ROUTE = 20;
+    private static final long DEFAULT_KEEP_ALIVE_MS = 30000;
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 60000;
+    private static final long DEFAULT_EVICTION_INTERVAL_MS = 5000;
+
+    private static volatile ConnectionPoolManager instance;
+
+    // RestAssured's HttpClientConfig only takes Apache HttpClient 4 AbstractHttpClient instances, so the
+    // deprecated 4.x client, connection manager and parameter classes cannot be replaced here
+    @SuppressWarnings("deprecation")
+    private final PoolingClientConnectionManager connectionManager;
+    @SuppressWarnings("deprecation")
+    private final DefaultHttpClient httpClient;
+    private final HttpClientConfig httpClientConfig;
+    private final ScheduledExecutorService evictor;
+    private final long keepAliveMs;
+    private final long idleTimeoutMs;
+    private final int maxPerRoute;
+    private final int maxTotal;
+    private final Semaphore totalInFlight;
+    private final Map<String, Semaphore> routeInFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("deprecation")
+    private ConnectionPoolManager() {
+        ConfigurationManager configManager = ConfigurationManager.getInstance();
+        EnvironmentManager environmentManager = EnvironmentManager.getInstance();
+
+        maxTotal = configManager.getIntProperty(ConfigKeys.CONNECTION_POOL_MAX_TOTAL, DEFAULT_MAX_TOTAL);
+        maxPerRoute = configManager.getIntProperty(ConfigKeys.CONNECTION_POOL_MAX_PER_ROUTE, DEFAULT_MAX_PER_ROUTE);
+        int connectionTimeout = environmentManager.getConnectionTimeout();
+        int socketTimeout = environmentManager.getSocketTimeout();
+        keepAliveMs = configManager.getIntProperty(ConfigKeys.CONNECTION_POOL_KEEP_ALIVE, (int) DEFAULT_KEEP_ALIVE_MS);
+        idleTimeoutMs = configManager.getIntProperty(ConfigKeys.CONNECTION_POOL_IDLE_TIMEOUT, (int) DEFAULT_IDLE_TIMEOUT_MS);
+        totalInFlight = new Semaphore(maxTotal, true);
+
+        connectionManager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault());
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy(keepAliveStrategy());
+        httpClient.addResponseInterceptor(emptyEntityReleaser());
+
+        httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectionTimeout)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, socketTimeout)
+                .setParam(ConnManagerPNames.TIMEOUT, (long) connectionTimeout)
+                .httpClientFactory(() -> httpClient)
+                .reuseHttpClientInstance();
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.min(DEFAULT_EVICTION_INTERVAL_MS, Math.max(1000, idleTimeoutMs / 2));
+        evictor.scheduleWithFixedDelay(this::evictStaleConnections, interval, interval, TimeUnit.MILLISECONDS);
+
+        logger.info("Initialized HTTP connection pool: maxTotal=" + maxTotal + ", maxPerRoute=" + maxPerRoute
+                + ", connectTimeout=" + connectionTimeout + "ms, socketTimeout=" + socketTimeout
+                + "ms, keepAlive=" + keepAliveMs + "ms, idleTimeout=" + idleTimeoutMs + "ms");
+    }
+
+    /**
+     * Get the singleton instance of ConnectionPoolManager
+     *
+     * @return ConnectionPoolManager instance
+     */
+    public static ConnectionPoolManager getInstance() {
+        ConnectionPoolManager current = instance;
+        if (current != null) {
+            return current;
+        }
+        synchronized (ConnectionPoolManager.class) {
+            if (instance == null) {
+                instance = new ConnectionPoolManager();
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Get the RestAssured client configuration that reuses the pooled client
+     *
+     * @return HttpClientConfig backed by the shared pool
+     */
+    public HttpClientConfig getHttpClientConfig() {
+        return httpClientConfig;
+    }
+
+    /**
+     * Get the maximum number of connections the pool keeps towards a single host
+     *
+     * @return Per-route connection limit
+     */
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Get the maximum number of connections the pool keeps across all hosts
+     *
+     * @return Total connection limit
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Take an in-flight slot for a route, waiting until both the route and the pool as a whole have one free
+     *
+     * @param route Route as returned by {@link #routeOf(String)}
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void acquireSlot(String route) throws InterruptedException {
+        Semaphore routeSlots = routeSlots(route);
+        routeSlots.acquire();
+        try {
+            totalInFlight.acquire();
+        } catch (InterruptedException e) {
+            routeSlots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Take an in-flight slot for a route only if one is free right now
+     *
+     * @param route Route as returned by {@link #routeOf(String)}
+     * @return Whether a slot was taken
+     */
+    boolean tryAcquireSlot(String route) {
+        Semaphore routeSlots = routeSlots(route);
+        if (!routeSlots.tryAcquire()) {
+            return false;
+        }
+        if (!totalInFlight.tryAcquire()) {
+            routeSlots.release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Return a slot taken by {@link #acquireSlot} or {@link #tryAcquireSlot} on this instance
+     *
+     * @param route Route the slot was taken for
+     */
+    void releaseSlot(String route) {
+        totalInFlight.release();
+        routeSlots(route).release();
+    }
+
+    private Semaphore routeSlots(String route) {
+        return routeInFlight.computeIfAbsent(route, key -> new Semaphore(maxPerRoute, true));
+    }
+
+    /**
+     * Get the route of a URL, i.e. its scheme and authority, which is what the pool limits per host.
+     * The route is not normalized, so e.g. "http://host" and "http://host:80" count separately.
+     *
+     * @param url Absolute request URL
+     * @return Route key such as "http://localhost:1080"
+     */
+    static String routeOf(String url) {
+        int authorityStart = url.indexOf("://");
+        authorityStart = authorityStart < 0 ? 0 : authorityStart + 3;
+        int end = authorityStart;
+        while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) {
+            end++;
+        }
+        return url.substring(0, end);
+    }
+
+    /**
+     * Get a snapshot of the pool usage across all routes
+     *
+     * @return Current pool statistics
+     */
+    public ConnectionPoolStats getPoolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * Log the current pool usage, warning when callers are queued for a connection
+     */
+    public void logPoolStats() {
+        ConnectionPoolStats stats = getPoolStats();
+        if (stats.getPending() > 0) {
+            logger.warn("HTTP connection pool starved: " + stats);
+        } else {
+            logger.info("HTTP connection pool: " + stats);
+        }
+    }
+
+    /**
+     * Close expired connections and connections idle longer than the configured timeout
+     */
+    public void evictStaleConnections() {
+        try {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("Failed to evict idle HTTP connections: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Shut down the pool and release all connections.
+     * Subsequent calls to getInstance() build a fresh pool.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.evictor.shutdownNow();
+            instance.connectionManager.shutdown();
+            instance = null;
+            RequestTemplate.clearTemplates();
+            logger.info("HTTP connection pool shut down");
+        }
+    }
+
+    /**
+     * RestAssured never reads a zero-length response body, which leaves its connection leased forever.
+     * Consuming the empty stream up front and swapping in a buffered entity lets the client hand
+     * the connection straight back to the pool.
+     */
+    private HttpResponseInterceptor emptyEntityReleaser() {
+        return (response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming() && entity.getContentLength() == 0) {
+                EntityUtils.consume(entity);
+                ByteArrayEntity emptyEntity = new ByteArrayEntity(new byte[0]);
+                emptyEntity.setContentType(entity.getContentType());
+                emptyEntity.setContentEncoding(entity.getContentEncoding());
+                response.setEntity(emptyEntity);
+            }
+        };
+    }
+
+    /**
+     * Honour the server's Keep-Alive timeout header, falling back to the configured keep-alive duration
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (response, context) -> {
+            HeaderElementIterator iterator = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (iterator.hasNext()) {
+                HeaderElement element = iterator.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    } catch (NumberFormatException ignored) {
+                        // Fall back to the configured keep-alive below
+                    }
+                }
+            }
+            return keepAliveMs;
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.prasad_v.requestbuilder;
+
+/**
+ * Immutable snapshot of the shared HTTP connection pool usage.
+ */
+public final class ConnectionPoolStats {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+
+    public ConnectionPoolStats(int leased, int available, int pending, int max) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    /**
+     * @return Connections currently in use by a request
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return Idle, kept-alive connections ready for reuse
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return Requests waiting for a connection; a non-zero value means the pool is starved
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return Maximum number of connections the pool may hold
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "[leased: " + leased + "; available: " + available + "; pending: " + pending + "; max: " + max + "]";
+    }
+}
@@ -34,7 +34,7 @@ public class HeaderManager {
      */
     public HeaderManager addHeader(String key, String value) {
         headers.put(key, value);
-        logger.debug("Added header: " + key + " = " + value);
+        logger.debug("Added header: {} = {}", key, value);
         return this;
     }
 
@@ -47,7 +47,7 @@ public class HeaderManager {
     public HeaderManager addHeaders(Map<String, String> headersMap) {
         if (headersMap != null) {
             headers.putAll(headersMap);
-            logger.debug("Added multiple headers: " + headersMap.keySet());
+            logger.debug("Added multiple headers: {}", headersMap.keySet());
         }
         return this;
     }
@@ -60,7 +60,7 @@ public class HeaderManager {
      */
     public HeaderManager removeHeader(String key) {
         headers.remove(key);
-        logger.debug("Removed header: " + key);
+        logger.debug("Removed header: {}", key);
         return this;
     }
 
@@ -143,7 +143,7 @@ public class HeaderManager {
                 String[] keyValue = pair.split("=", 2);
                 if (keyValue.length == 2) {
                     headers.put(keyValue[0].trim(), keyValue[1].trim());
-                    logger.debug("Added common header from config: " + keyValue[0].trim());
+                    logger.debug("Added common header from config: {}", keyValue[0].trim());
                 }
             }
         }
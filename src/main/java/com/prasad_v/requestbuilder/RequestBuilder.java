@@ -1,40 +1,44 @@
 package com.prasad_v.requestbuilder;
 
 import java.io.File;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
-import com.prasad_v.config.ConfigurationManager;
-import com.prasad_v.constants.APIConstants;
 import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
 import com.prasad_v.exceptions.APIException;
-import com.prasad_v.interceptors.RequestResponseInterceptor;
+import com.prasad_v.exceptions.PoolSaturatedException;
 import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.transport.HttpTransport;
+import com.prasad_v.transport.StreamingHttpTransport;
+import com.prasad_v.transport.StreamingResponse;
+import com.prasad_v.transport.TransportRequest;
 
-import io.restassured.RestAssured;
-import io.restassured.config.EncoderConfig;
-import io.restassured.config.LogConfig;
-import io.restassured.config.RestAssuredConfig;
-import io.restassured.filter.log.LogDetail;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 
 /**
  * RequestBuilder provides a fluent interface to build and execute API requests.
- * It integrates with HeaderManager and AuthenticationManager for request preparation.
+ * It integrates with HeaderManager and AuthenticationManager for request preparation
+ * and hands the assembled request to an HttpTransport for execution.
  */
 public class RequestBuilder {
 
     private static final CustomLogger logger = new CustomLogger(RequestBuilder.class);
 
-    private RequestSpecification requestSpec;
+    private final RequestTemplate template;
+    private HttpTransport transport;
     private String baseUrl;
     private String path;
     private Map<String, String> queryParams;
     private Map<String, String> formParams;
     private Map<String, Object> pathParams;
+    private List<Map.Entry<String, File>> multiParts;
     private Object requestBody;
     private HeaderManager headerManager;
     private AuthenticationManager authManager;
@@ -43,51 +47,47 @@ public class RequestBuilder {
     private RequestType requestType;
 
     /**
-     * Constructor initializes the builder with default values
+     * Constructor initializes the builder from the shared template of the current environment
      */
     public RequestBuilder() {
-        // Initialize components
+        this(RequestTemplate.forCurrentEnvironment());
+    }
+
+    /**
+     * Constructor initializes the builder from a pre-built request template
+     *
+     * @param template Shared template providing base URL, configuration, interceptor and transport
+     */
+    public RequestBuilder(RequestTemplate template) {
+        this.template = template;
+
+        // Only per-request state is allocated here; configuration comes from the template
         headerManager = new HeaderManager();
-        authManager = new AuthenticationManager();
 
         // Initialize collections
         queryParams = new HashMap<>();
         formParams = new HashMap<>();
         pathParams = new HashMap<>();
+        multiParts = new ArrayList<>();
 
-        // Get base URL from environment
-        ConfigurationManager configManager = ConfigurationManager.getInstance();
-        baseUrl = configManager.getConfigProperty("api.base.url", "");
-        if (baseUrl.isBlank()) {
-            baseUrl = configManager.getConfigProperty("api.baseUrl", APIConstants.BASE_URL);
-        }
+        baseUrl = template.getBaseUrl();
+        transport = template.getTransport();
 
         // Default request type
         requestType = RequestType.GET;
-
-        // Initialize RestAssured spec with config
-        initializeRequestSpec();
     }
 
     /**
-     * Initialize the RestAssured RequestSpecification with default configuration
+     * Get the authentication manager, creating it on first use so unauthenticated
+     * requests never pay for handler construction
+     *
+     * @return AuthenticationManager instance for this builder
      */
-    private void initializeRequestSpec() {
-        EncoderConfig encoderConfig = new EncoderConfig()
-                .appendDefaultContentCharsetToContentTypeIfUndefined(false)
-                .defaultContentCharset("UTF-8");
-
-        LogConfig logConfig = new LogConfig()
-                .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
-
-        RestAssuredConfig config = RestAssured.config()
-                .encoderConfig(encoderConfig)
-                .logConfig(logConfig);
-
-        requestSpec = RestAssured.given().config(config);
-
-        // Add request/response interceptor for logging and monitoring
-        requestSpec.filter(new RequestResponseInterceptor());
+    private AuthenticationManager getAuthManager() {
+        if (authManager == null) {
+            authManager = new AuthenticationManager();
+        }
+        return authManager;
     }
 
     /**
@@ -98,7 +98,7 @@ public class RequestBuilder {
      */
     public RequestBuilder setPath(String path) {
         this.path = path;
-        logger.debug("Set path: " + path);
+        logger.debug("Set path: {}", path);
         return this;
     }
 
@@ -117,7 +117,7 @@ public class RequestBuilder {
      */
     public RequestBuilder setBaseUrl(String baseUrl) {
         this.baseUrl = baseUrl;
-        logger.debug("Set base URL: " + baseUrl);
+        logger.debug("Set base URL: {}", baseUrl);
         return this;
     }
 
@@ -136,7 +136,7 @@ public class RequestBuilder {
      */
     public RequestBuilder setRequestType(RequestType requestType) {
         this.requestType = requestType;
-        logger.debug("Set request type: " + requestType);
+        logger.debug("Set request type: {}", requestType);
         return this;
     }
 
@@ -149,7 +149,7 @@ public class RequestBuilder {
      */
     public RequestBuilder addQueryParam(String key, String value) {
         queryParams.put(key, value);
-        logger.debug("Added query parameter: " + key + " = " + value);
+        logger.debug("Added query parameter: {} = {}", key, value);
         return this;
     }
 
@@ -162,7 +162,7 @@ public class RequestBuilder {
     public RequestBuilder addQueryParams(Map<String, String> params) {
         if (params != null) {
             queryParams.putAll(params);
-            logger.debug("Added multiple query parameters: " + params.keySet());
+            logger.debug("Added multiple query parameters: {}", params.keySet());
         }
         return this;
     }
@@ -175,7 +175,7 @@ public class RequestBuilder {
             for (Map.Entry<String, Object> entry : params.entrySet()) {
                 queryParams.put(entry.getKey(), entry.getValue() == null ? "" : String.valueOf(entry.getValue()));
             }
-            logger.debug("Set query parameters: " + params.keySet());
+            logger.debug("Set query parameters: {}", params.keySet());
         }
         return this;
     }
@@ -189,7 +189,7 @@ public class RequestBuilder {
      */
     public RequestBuilder addFormParam(String key, String value) {
         formParams.put(key, value);
-        logger.debug("Added form parameter: " + key + " = " + value);
+        logger.debug("Added form parameter: {} = {}", key, value);
         return this;
     }
 
@@ -202,7 +202,7 @@ public class RequestBuilder {
     public RequestBuilder addFormParams(Map<String, String> params) {
         if (params != null) {
             formParams.putAll(params);
-            logger.debug("Added multiple form parameters: " + params.keySet());
+            logger.debug("Added multiple form parameters: {}", params.keySet());
         }
         return this;
     }
@@ -216,7 +216,7 @@ public class RequestBuilder {
      */
     public RequestBuilder addPathParam(String key, Object value) {
         pathParams.put(key, value);
-        logger.debug("Added path parameter: " + key + " = " + value);
+        logger.debug("Added path parameter: {} = {}", key, value);
         return this;
     }
 
@@ -229,7 +229,7 @@ public class RequestBuilder {
     public RequestBuilder addPathParams(Map<String, Object> params) {
         if (params != null) {
             pathParams.putAll(params);
-            logger.debug("Added multiple path parameters: " + params.keySet());
+            logger.debug("Added multiple path parameters: {}", params.keySet());
         }
         return this;
     }
@@ -304,8 +304,8 @@ public class RequestBuilder {
      * @return Current RequestBuilder instance for method chaining
      */
     public RequestBuilder addFile(String controlName, File file) {
-        requestSpec.multiPart(controlName, file);
-        logger.debug("Added file: " + file.getName() + " as " + controlName);
+        multiParts.add(new AbstractMap.SimpleImmutableEntry<>(controlName, file));
+        logger.debug("Added file: {} as {}", file.getName(), controlName);
         return this;
     }
 
@@ -369,9 +369,9 @@ public class RequestBuilder {
      * @return Current RequestBuilder instance for method chaining
      */
     public RequestBuilder addOAuthAuthentication(String tokenKey) {
-        String authHeader = authManager.getOAuthHeader(tokenKey);
+        String authHeader = getAuthManager().getOAuthHeader(tokenKey);
         headerManager.addAuthorizationHeader(authHeader);
-        logger.debug("Added OAuth authentication with token key: " + tokenKey);
+        logger.debug("Added OAuth authentication with token key: {}", tokenKey);
         return this;
     }
 
@@ -383,9 +383,9 @@ public class RequestBuilder {
      * @return Current RequestBuilder instance for method chaining
      */
     public RequestBuilder addBasicAuthentication(String username, String password) {
-        String authHeader = authManager.getBasicAuthHeader(username, password);
+        String authHeader = getAuthManager().getBasicAuthHeader(username, password);
         headerManager.addAuthorizationHeader(authHeader);
-        logger.debug("Added Basic authentication for user: " + username);
+        logger.debug("Added Basic authentication for user: {}", username);
         return this;
     }
 
@@ -396,12 +396,34 @@ public class RequestBuilder {
      * @return Current RequestBuilder instance for method chaining
      */
     public RequestBuilder addBasicAuthenticationFromConfig(String authKey) {
-        String authHeader = authManager.getBasicAuthHeaderFromConfig(authKey);
+        String authHeader = getAuthManager().getBasicAuthHeaderFromConfig(authKey);
         headerManager.addAuthorizationHeader(authHeader);
-        logger.debug("Added Basic authentication from config for key: " + authKey);
+        logger.debug("Added Basic authentication from config for key: {}", authKey);
         return this;
     }
 
+    /**
+     * Send this request through a specific transport instead of the one configured by api.transport
+     *
+     * @param transport Transport to use
+     * @return Current RequestBuilder instance for method chaining
+     */
+    public RequestBuilder setTransport(HttpTransport transport) {
+        this.transport = transport;
+        logger.debug("Set transport: {}", transport.getName());
+        return this;
+    }
+
+    /**
+     * Send this request through a transport of the given type bound to this builder's template
+     *
+     * @param transportType Transport type to use
+     * @return Current RequestBuilder instance for method chaining
+     */
+    public RequestBuilder setTransport(TransportType transportType) {
+        return setTransport(template.newTransport(transportType));
+    }
+
     /**
      * Enable/disable request logging
      *
@@ -431,6 +453,16 @@ public class RequestBuilder {
         return this;
     }
 
+    /**
+     * Build and execute the API request on a virtual thread
+     *
+     * @return Future completed with the RestAssured Response, or exceptionally with an APIException
+     */
+    public CompletableFuture<Response> executeAsync() {
+        logger.debug("Submitting asynchronous {} request for path: {}", requestType, path);
+        return AsyncRequestExecutor.submit(this::execute);
+    }
+
     /**
      * Build and execute the API request
      *
@@ -439,84 +471,59 @@ public class RequestBuilder {
      */
     public Response execute() throws APIException {
         try {
-            // Add headers
-            requestSpec.headers(headerManager.getHeaders());
-
-            // Add query parameters
-            for (Map.Entry<String, String> entry : queryParams.entrySet()) {
-                requestSpec.queryParam(entry.getKey(), entry.getValue());
-            }
-
-            // Add form parameters
-            for (Map.Entry<String, String> entry : formParams.entrySet()) {
-                requestSpec.formParam(entry.getKey(), entry.getValue());
-            }
-
-            // Add path parameters
-            for (Map.Entry<String, Object> entry : pathParams.entrySet()) {
-                requestSpec.pathParam(entry.getKey(), entry.getValue());
-            }
-
-            // Add request body if present
-            if (requestBody != null) {
-                requestSpec.body(requestBody);
-            }
-
-            // Add logging if enabled
-            if (logRequest) {
-                requestSpec.log().all();
-            }
-
-            // Build full URL
-            if (baseUrl == null || baseUrl.isBlank()) {
-                throw new APIException("Base URL is not set for the request");
-            }
-            String url = baseUrl;
-            if (path != null && !path.isEmpty()) {
-                if (!url.endsWith("/") && !path.startsWith("/")) {
-                    url += "/";
-                }
-                url += path;
-            }
-
-            // Execute request based on type
-            Response response;
-            switch (requestType) {
-                case GET:
-                    response = requestSpec.get(url);
-                    break;
-                case POST:
-                    response = requestSpec.post(url);
-                    break;
-                case PUT:
-                    response = requestSpec.put(url);
-                    break;
-                case DELETE:
-                    response = requestSpec.delete(url);
-                    break;
-                case PATCH:
-                    response = requestSpec.patch(url);
-                    break;
-                case HEAD:
-                    response = requestSpec.head(url);
-                    break;
-                case OPTIONS:
-                    response = requestSpec.options(url);
-                    break;
-                default:
-                    throw new APIException("Unsupported request type: " + requestType);
-            }
-
-            // Log response if enabled
-            if (logResponse) {
-                response.then().log().all();
-            }
-
-            return response;
-
+            return transport.execute(buildTransportRequest());
+        } catch (PoolSaturatedException e) {
+            // Expected when the caller chose not to queue; logging each one would flood the log
+            throw e;
         } catch (Exception e) {
             logger.error("Error executing API request: " + e.getMessage(), e);
             throw new APIException("Failed to execute API request: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Build and execute the API request without reading the response body into memory.
+     * The body is exposed as an InputStream and only a bounded prefix is logged, so heap use does not
+     * grow with the payload size. Streaming requests use the configured transport if it supports
+     * streaming and the JDK transport otherwise.
+     *
+     * @return StreamingResponse that must be closed by the caller
+     * @throws APIException If there's an error sending the request
+     */
+    public StreamingResponse executeStreaming() throws APIException {
+        StreamingHttpTransport streamingTransport = transport instanceof StreamingHttpTransport
+                ? (StreamingHttpTransport) transport
+                : template.getStreamingTransport();
+        try {
+            return streamingTransport.executeStreaming(buildTransportRequest());
+        } catch (Exception e) {
+            logger.error("Error executing streaming API request: " + e.getMessage(), e);
+            throw new APIException("Failed to execute streaming API request: " + e.getMessage(), e);
+        }
+    }
+
+    private TransportRequest buildTransportRequest() {
+        // Build full URL
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new APIException("Base URL is not set for the request");
+        }
+        String url = baseUrl;
+        if (path != null && !path.isEmpty()) {
+            if (!url.endsWith("/") && !path.startsWith("/")) {
+                url += "/";
+            }
+            url += path;
+        }
+
+        return TransportRequest.builder(requestType, url)
+                .headers(headerManager.getHeaders())
+                .queryParams(queryParams)
+                .formParams(formParams)
+                .pathParams(pathParams)
+                .multiParts(multiParts)
+                .body(requestBody)
+                .logRequest(logRequest)
+                .logResponse(logResponse)
+                .build();
+    }
 }
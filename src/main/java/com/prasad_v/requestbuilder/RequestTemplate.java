@@ -0,0 +1,203 @@
+package com.prasad_v.requestbuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.constants.APIConstants;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.interceptors.RequestResponseInterceptor;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.transport.HttpTransport;
+import com.prasad_v.transport.JdkHttpTransport;
+import com.prasad_v.transport.RestAssuredTransport;
+import com.prasad_v.transport.StreamingHttpTransport;
+
+import io.restassured.RestAssured;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * RequestTemplate holds the immutable, request-independent part of an API request:
+ * the resolved base URL, the RestAssured configuration and the shared interceptor.
+ * Templates are built once per environment/base URL and shared by every RequestBuilder,
+ * so a builder only allocates the state that actually changes per request.
+ * All templates route through the pooled client owned by ConnectionPoolManager unless
+ * api.transport selects a different HttpTransport.
+ * <p>
+ * Templates are keyed by the environment selected in EnvironmentManager, so switching it picks up a new
+ * template. The global {@code RestAssured.config()} is copied when a template is built; call
+ * {@link #clearTemplates()} after changing it so that later requests see the change.
+ */
+public final class RequestTemplate {
+
+    private static final CustomLogger logger = new CustomLogger(RequestTemplate.class);
+    private static final Map<String, RequestTemplate> templates = new ConcurrentHashMap<>();
+
+    private final String environment;
+    private final String baseUrl;
+    private final RestAssuredConfig config;
+    private final RequestResponseInterceptor interceptor;
+    private final HttpTransport transport;
+    private StreamingHttpTransport streamingTransport;
+
+    private RequestTemplate(String environment, String baseUrl) {
+        this.environment = environment;
+        this.baseUrl = baseUrl;
+
+        EncoderConfig encoderConfig = new EncoderConfig()
+                .appendDefaultContentCharsetToContentTypeIfUndefined(false)
+                .defaultContentCharset("UTF-8");
+
+        LogConfig logConfig = new LogConfig()
+                .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
+
+        this.config = RestAssured.config()
+                .encoderConfig(encoderConfig)
+                .logConfig(logConfig)
+                .httpClient(ConnectionPoolManager.getInstance().getHttpClientConfig());
+
+        // The interceptor keeps no per-request state, so one instance serves all requests
+        this.interceptor = new RequestResponseInterceptor();
+
+        TransportType transportType = TransportType.fromString(
+                ConfigurationManager.getInstance().getConfigProperty(ConfigKeys.API_TRANSPORT, ""));
+        this.transport = newTransport(transportType);
+    }
+
+    /**
+     * Get the template for the base URL configured in the current environment
+     *
+     * @return Shared RequestTemplate instance
+     */
+    public static RequestTemplate forCurrentEnvironment() {
+        return forBaseUrl(resolveConfiguredBaseUrl());
+    }
+
+    /**
+     * Get the template for a specific base URL in the current environment
+     *
+     * @param baseUrl Base URL the template is bound to
+     * @return Shared RequestTemplate instance
+     */
+    public static RequestTemplate forBaseUrl(String baseUrl) {
+        String environment = EnvironmentManager.getInstance().getCurrentEnvironment();
+        String normalizedUrl = baseUrl == null ? "" : baseUrl;
+        return templates.computeIfAbsent(environment + "|" + normalizedUrl, key -> {
+            logger.debug("Building request template for environment '{}' and base URL: {}", environment, normalizedUrl);
+            return new RequestTemplate(environment, normalizedUrl);
+        });
+    }
+
+    /**
+     * Drop all cached templates, e.g. after the global RestAssured configuration was changed
+     */
+    public static void clearTemplates() {
+        templates.clear();
+        logger.debug("Cleared all request templates");
+    }
+
+    /**
+     * Resolve the base URL from configuration using the same precedence as RequestBuilder always had
+     *
+     * @return Configured base URL or the framework default
+     */
+    static String resolveConfiguredBaseUrl() {
+        ConfigurationManager configManager = ConfigurationManager.getInstance();
+        String baseUrl = configManager.getConfigProperty("api.base.url", "");
+        if (baseUrl.isBlank()) {
+            baseUrl = configManager.getConfigProperty("api.baseUrl", APIConstants.BASE_URL);
+        }
+        return baseUrl;
+    }
+
+    /**
+     * Create a fresh, mutable RequestSpecification backed by the shared configuration
+     *
+     * @return New RequestSpecification for a single request
+     */
+    public RequestSpecification newRequestSpecification() {
+        return RestAssured.given().config(config);
+    }
+
+    /**
+     * Create a transport of the given type bound to this template's configuration and interceptor
+     *
+     * @param transportType Transport to create
+     * @return New HttpTransport instance
+     */
+    public HttpTransport newTransport(TransportType transportType) {
+        switch (transportType) {
+            case JDK:
+                return new JdkHttpTransport(this);
+            case RESTASSURED:
+            default:
+                return new RestAssuredTransport(this);
+        }
+    }
+
+    /**
+     * Get the environment this template was built for
+     *
+     * @return Environment name
+     */
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Get the base URL this template was built for
+     *
+     * @return Base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Get the shared RestAssured configuration
+     *
+     * @return RestAssuredConfig instance
+     */
+    public RestAssuredConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the shared request/response interceptor
+     *
+     * @return RequestResponseInterceptor instance
+     */
+    public RequestResponseInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * Get the transport configured by api.transport
+     *
+     * @return Default HttpTransport for builders created from this template
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Get the transport used for streaming requests: the configured transport if it can stream,
+     * otherwise a JDK transport created on first use
+     *
+     * @return StreamingHttpTransport bound to this template
+     */
+    public synchronized StreamingHttpTransport getStreamingTransport() {
+        if (streamingTransport == null) {
+            streamingTransport = transport instanceof StreamingHttpTransport
+                    ? (StreamingHttpTransport) transport
+                    : new JdkHttpTransport(this);
+        }
+        return streamingTransport;
+    }
+}
@@ -1,18 +1,119 @@
 package com.prasad_v.services;
 
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
 import com.prasad_v.enums.RequestType;
 import com.prasad_v.exceptions.APIException;
+import com.prasad_v.requestbuilder.AsyncRequestExecutor;
 import com.prasad_v.requestbuilder.RequestBuilder;
 import io.restassured.response.Response;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 /**
  * Base service abstraction for domain-specific API services.
  */
 public abstract class BaseApiService {
 
+    private static final int DEFAULT_BATCH_CONCURRENCY = 10;
+
     protected Response execute(RequestType method, String path, Map<String, String> headers, Object body) {
+        RequestBuilder builder = newRequestBuilder(method, path, headers, body);
+
+        try {
+            return builder.execute();
+        } catch (APIException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new APIException("Failed to execute request for path: " + path, e);
+        }
+    }
+
+    /**
+     * Execute a request on a virtual thread. The builder is prepared on the calling thread,
+     * so header and authentication lookups behave exactly as in execute().
+     */
+    protected CompletableFuture<Response> executeAsync(RequestType method, String path, Map<String, String> headers, Object body) {
+        return newRequestBuilder(method, path, headers, body).executeAsync();
+    }
+
+    /**
+     * Wait for all futures and return their responses in input order.
+     */
+    protected CompletableFuture<List<Response>> allOf(List<CompletableFuture<Response>> futures) {
+        return AsyncRequestExecutor.allOf(futures);
+    }
+
+    /**
+     * Execute a batch of requests with the concurrency limit configured by request.batch.concurrency.
+     */
+    public List<BatchResult> executeBatch(List<BatchRequest> requests) {
+        int concurrency = ConfigurationManager.getInstance()
+                .getIntProperty(ConfigKeys.REQUEST_BATCH_CONCURRENCY, DEFAULT_BATCH_CONCURRENCY);
+        return executeBatch(requests, concurrency);
+    }
+
+    /**
+     * Execute a batch of requests with at most {@code concurrency} of them in flight.
+     * Results are returned in input order; a failed request yields a failed BatchResult
+     * instead of aborting the batch. The effective concurrency is also capped by the
+     * per-route and total limits of the shared connection pool.
+     */
+    public List<BatchResult> executeBatch(List<BatchRequest> requests, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Batch concurrency must be at least 1, was " + concurrency);
+        }
+
+        BatchResult[] results = new BatchResult[requests.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(requests.size());
+        Semaphore permits = new Semaphore(concurrency);
+
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            BatchRequest request = requests.get(i);
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new APIException("Interrupted while submitting batch request " + index + " of " + requests.size(), e);
+            }
+
+            RequestBuilder builder;
+            try {
+                builder = toRequestBuilder(request);
+            } catch (RuntimeException e) {
+                permits.release();
+                results[index] = BatchResult.failure(index, request, AsyncRequestExecutor.unwrap(e));
+                continue;
+            }
+
+            futures.add(AsyncRequestExecutor.submit(builder::execute).handle((response, failure) -> {
+                results[index] = failure == null
+                        ? BatchResult.success(index, request, response)
+                        : BatchResult.failure(index, request, AsyncRequestExecutor.unwrap(failure));
+                permits.release();
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private RequestBuilder toRequestBuilder(BatchRequest request) {
+        if (request.getBuilder() != null) {
+            return request.getBuilder();
+        }
+        return newRequestBuilder(request.getMethod(), request.getPath(), request.getHeaders(), request.getBody());
+    }
+
+    protected RequestBuilder newRequestBuilder(RequestType method, String path, Map<String, String> headers, Object body) {
         RequestBuilder builder = new RequestBuilder()
                 .setRequestType(method)
                 .setPath(path)
@@ -24,13 +125,6 @@ public abstract class BaseApiService {
         if (body != null) {
             builder.setBody(body);
         }
-
-        try {
-            return builder.execute();
-        } catch (APIException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new APIException("Failed to execute request for path: " + path, e);
-        }
+        return builder;
     }
 }
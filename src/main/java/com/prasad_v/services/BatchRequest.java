@@ -0,0 +1,70 @@
+package com.prasad_v.services;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.requestbuilder.RequestBuilder;
+
+import java.util.Map;
+
+/**
+ * Descriptor of a single request in a batch: either method + path + headers + body,
+ * resolved against the service's base configuration, or a fully built RequestBuilder.
+ */
+public final class BatchRequest {
+
+    private final RequestType method;
+    private final String path;
+    private final Map<String, String> headers;
+    private final Object body;
+    private final RequestBuilder builder;
+
+    private BatchRequest(RequestType method, String path, Map<String, String> headers, Object body, RequestBuilder builder) {
+        this.method = method;
+        this.path = path;
+        this.headers = headers;
+        this.body = body;
+        this.builder = builder;
+    }
+
+    public static BatchRequest of(RequestType method, String path, Map<String, String> headers, Object body) {
+        return new BatchRequest(method, path, headers, body, null);
+    }
+
+    public static BatchRequest of(RequestType method, String path) {
+        return of(method, path, null, null);
+    }
+
+    public static BatchRequest of(RequestBuilder builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("RequestBuilder must not be null");
+        }
+        return new BatchRequest(null, null, null, null, builder);
+    }
+
+    public RequestType getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * @return The pre-built RequestBuilder, or null when this descriptor is method + path based
+     */
+    public RequestBuilder getBuilder() {
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return builder != null ? "BatchRequest[builder]" : "BatchRequest[" + method + " " + path + "]";
+    }
+}
@@ -0,0 +1,74 @@
+package com.prasad_v.services;
+
+import com.prasad_v.exceptions.APIException;
+import io.restassured.response.Response;
+
+/**
+ * Outcome of one request in a batch. Exactly one of response or error is set.
+ */
+public final class BatchResult {
+
+    private final int index;
+    private final BatchRequest request;
+    private final Response response;
+    private final APIException error;
+
+    private BatchResult(int index, BatchRequest request, Response response, APIException error) {
+        this.index = index;
+        this.request = request;
+        this.response = response;
+        this.error = error;
+    }
+
+    static BatchResult success(int index, BatchRequest request, Response response) {
+        return new BatchResult(index, request, response, null);
+    }
+
+    static BatchResult failure(int index, BatchRequest request, APIException error) {
+        return new BatchResult(index, request, null, error);
+    }
+
+    /**
+     * @return Position of the request in the submitted batch
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public BatchRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return True when the request completed with a response, regardless of its status code
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public APIException getError() {
+        return error;
+    }
+
+    /**
+     * Get the response, rethrowing the failure if the request did not complete
+     *
+     * @return Response of this request
+     * @throws APIException If the request failed
+     */
+    public Response getResponseOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult[" + index + ": " + (isSuccess() ? "status " + response.getStatusCode() : "failed - " + error.getMessage()) + "]";
+    }
+}
@@ -4,6 +4,8 @@ import com.prasad_v.constants.APIConstants;
 import com.prasad_v.enums.RequestType;
 import io.restassured.response.Response;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class BookingService extends BaseApiService {
@@ -12,6 +14,14 @@ public class BookingService extends BaseApiService {
         return execute(RequestType.POST, APIConstants.CREATE_UPDATE_BOOKING_URL, null, payload);
     }
 
+    public List<BatchResult> createBookings(List<?> payloads) {
+        List<BatchRequest> requests = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            requests.add(BatchRequest.of(RequestType.POST, APIConstants.CREATE_UPDATE_BOOKING_URL, null, payload));
+        }
+        return executeBatch(requests);
+    }
+
     public Response getBookingById(int bookingId) {
         return execute(RequestType.GET, APIConstants.CREATE_UPDATE_BOOKING_URL + "/" + bookingId, null, null);
     }
@@ -25,4 +35,13 @@ public class BookingService extends BaseApiService {
         Map<String, String> headers = Map.of("Cookie", "token=" + token);
         return execute(RequestType.DELETE, APIConstants.CREATE_UPDATE_BOOKING_URL + "/" + bookingId, headers, null);
     }
+
+    public List<BatchResult> deleteBookings(List<Integer> bookingIds, String token) {
+        Map<String, String> headers = Map.of("Cookie", "token=" + token);
+        List<BatchRequest> requests = new ArrayList<>(bookingIds.size());
+        for (Integer bookingId : bookingIds) {
+            requests.add(BatchRequest.of(RequestType.DELETE, APIConstants.CREATE_UPDATE_BOOKING_URL + "/" + bookingId, headers, null));
+        }
+        return executeBatch(requests);
+    }
 }
@@ -4,6 +4,10 @@ import com.prasad_v.constants.APIConstants;
 import com.prasad_v.enums.RequestType;
 import io.restassured.response.Response;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public class UserService extends BaseApiService {
 
     public Response getUsers() {
@@ -14,6 +18,18 @@ public class UserService extends BaseApiService {
         return execute(RequestType.GET, APIConstants.USERS_ENDPOINT + "/" + userId, null, null);
     }
 
+    public CompletableFuture<Response> getUserByIdAsync(int userId) {
+        return executeAsync(RequestType.GET, APIConstants.USERS_ENDPOINT + "/" + userId, null, null);
+    }
+
+    public CompletableFuture<List<Response>> getUsersByIdsAsync(List<Integer> userIds) {
+        List<CompletableFuture<Response>> futures = new ArrayList<>(userIds.size());
+        for (Integer userId : userIds) {
+            futures.add(getUserByIdAsync(userId));
+        }
+        return allOf(futures);
+    }
+
     public Response createUser(Object payload) {
         return execute(RequestType.POST, APIConstants.USERS_ENDPOINT, null, payload);
     }
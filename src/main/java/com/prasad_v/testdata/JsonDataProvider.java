@@ -16,6 +16,7 @@ import org.json.JSONObject;
 import org.testng.annotations.DataProvider;
 
 import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
 import com.prasad_v.exceptions.APIException;
 import com.prasad_v.logging.CustomLogger;
 
@@ -251,8 +252,13 @@ public class JsonDataProvider {
         return data;
     }
 
-    private String resolveTestDataPath() {
-        return configManager.getConfigProperty("test.data.path",
+    /**
+     * Get the test data directory that file names are resolved against
+     *
+     * @return Directory from test.data.path, falling back to testdata.dir
+     */
+    public String resolveTestDataPath() {
+        return configManager.getConfigProperty(ConfigKeys.TEST_DATA_PATH,
                 configManager.getConfigProperty("testdata.dir", "src/test/resources/testdata"));
     }
 }
@@ -0,0 +1,114 @@
+package com.prasad_v.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * InputStream wrapper that copies at most a fixed number of leading bytes aside while the caller reads,
+ * and counts the total. When the stream reaches its end or is closed, the callback receives the captured
+ * prefix exactly once, so a large body can be logged without ever being held in memory.
+ */
+class BoundedCaptureInputStream extends FilterInputStream {
+
+    private final byte[] prefix;
+    private final Consumer<BoundedCaptureInputStream> onComplete;
+    private int captured;
+    private long bytesRead;
+    private boolean completed;
+
+    BoundedCaptureInputStream(InputStream in, int captureLimit, Consumer<BoundedCaptureInputStream> onComplete) {
+        super(in);
+        this.prefix = new byte[Math.max(0, captureLimit)];
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b == -1) {
+            complete();
+        } else {
+            if (captured < prefix.length) {
+                prefix[captured++] = (byte) b;
+            }
+            bytesRead++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n == -1) {
+            complete();
+        } else if (n > 0) {
+            int toCapture = Math.min(n, prefix.length - captured);
+            if (toCapture > 0) {
+                System.arraycopy(buffer, offset, prefix, captured, toCapture);
+                captured += toCapture;
+            }
+            bytesRead += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Route skips through read so skipped bytes are still captured and counted
+        byte[] scratch = new byte[(int) Math.min(8192, Math.max(0, n))];
+        long remaining = n;
+        while (remaining > 0) {
+            int r = read(scratch, 0, (int) Math.min(scratch.length, remaining));
+            if (r == -1) {
+                break;
+            }
+            remaining -= r;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            complete();
+        }
+    }
+
+    /**
+     * @return Total number of body bytes read so far
+     */
+    long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return Whether more bytes were read than were captured
+     */
+    boolean isTruncated() {
+        return bytesRead > captured;
+    }
+
+    /**
+     * @return Captured prefix decoded as UTF-8
+     */
+    String getCapturedText() {
+        return new String(prefix, 0, captured, StandardCharsets.UTF_8);
+    }
+
+    private void complete() {
+        if (!completed) {
+            completed = true;
+            onComplete.accept(this);
+        }
+    }
+}
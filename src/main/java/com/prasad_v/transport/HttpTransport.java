@@ -0,0 +1,25 @@
+package com.prasad_v.transport;
+
+import io.restassured.response.Response;
+
+/**
+ * HttpTransport sends a fully described request over a concrete HTTP stack.
+ * Every implementation returns a RestAssured Response so validators and tests work unchanged,
+ * whichever stack carried the request.
+ */
+public interface HttpTransport {
+
+    /**
+     * Send the request and wait for the complete response
+     *
+     * @param request Request to send
+     * @return RestAssured Response
+     * @throws com.prasad_v.exceptions.APIException If the request could not be sent or the response not read
+     */
+    Response execute(TransportRequest request);
+
+    /**
+     * @return Short name of the transport used in logs, e.g. "restassured" or "jdk"
+     */
+    String getName();
+}
@@ -0,0 +1,311 @@
+package com.prasad_v.transport;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.requestbuilder.RequestTemplate;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * InProcessStub answers every request with the same canned response without touching the network.
+ * <p>
+ * It plugs in below the real transports rather than replacing them: the RestAssured transport gets a
+ * filter that answers instead of sending, the JDK transport gets an HttpClient that answers from memory.
+ * Everything above the socket (request specification, interceptor, logging, response conversion)
+ * still runs, so the cost of a call through a stubbed transport is the framework's own overhead.
+ */
+public final class InProcessStub {
+
+    private final int statusCode;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    public InProcessStub(int statusCode, String contentType, String body) {
+        this(statusCode, contentType, Map.of(), body);
+    }
+
+    public InProcessStub(int statusCode, String contentType, Map<String, String> headers, String body) {
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.headers = new LinkedHashMap<>(headers);
+        this.headers.put("Content-Type", contentType);
+        this.body = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create a transport of the given type that sends through this stub
+     *
+     * @param template Template providing configuration and interceptor
+     * @param transportType Transport whose code path should be exercised
+     * @return HttpTransport answered by this stub
+     */
+    public HttpTransport newTransport(RequestTemplate template, TransportType transportType) {
+        switch (transportType) {
+            case JDK:
+                return new JdkHttpTransport(template, asHttpClient());
+            case RESTASSURED:
+            default:
+                return new RestAssuredTransport(template, asFilter());
+        }
+    }
+
+    /**
+     * @return RestAssured filter that returns the canned response instead of passing the request on
+     */
+    public Filter asFilter() {
+        return new StubFilter();
+    }
+
+    /**
+     * @return HttpClient whose send methods return the canned response immediately
+     */
+    public HttpClient asHttpClient() {
+        return new StubHttpClient();
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    private final class StubFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            List<Header> headerList = new ArrayList<>(headers.size());
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                headerList.add(new Header(header.getKey(), header.getValue()));
+            }
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine("HTTP/1.1 " + statusCode)
+                    .setContentType(contentType)
+                    .setHeaders(new Headers(headerList))
+                    .setBody(body)
+                    .build();
+        }
+    }
+
+    private final class StubHttpClient extends HttpClient {
+
+        private final HttpHeaders httpHeaders = HttpHeaders.of(toMultiMap(headers), (name, value) -> true);
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+                throws IOException {
+            HttpResponse.ResponseInfo info = new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return statusCode;
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return httpHeaders;
+                }
+
+                @Override
+                public Version version() {
+                    return Version.HTTP_1_1;
+                }
+            };
+
+            HttpResponse.BodySubscriber<T> subscriber = responseBodyHandler.apply(info);
+            subscriber.onSubscribe(new SingleBufferSubscription(subscriber));
+            try {
+                return new StubHttpResponse<>(request, info, subscriber.getBody().toCompletableFuture().get());
+            } catch (ExecutionException e) {
+                throw new IOException("Stub response body could not be read", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading stub response body", e);
+            }
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                                HttpResponse.BodyHandler<T> responseBodyHandler) {
+            try {
+                return CompletableFuture.completedFuture(send(request, responseBodyHandler));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                                HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                                HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+            return sendAsync(request, responseBodyHandler);
+        }
+
+        @Override
+        public Optional<CookieHandler> cookieHandler() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Duration> connectTimeout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Redirect followRedirects() {
+            return Redirect.NEVER;
+        }
+
+        @Override
+        public Optional<ProxySelector> proxy() {
+            return Optional.empty();
+        }
+
+        @Override
+        public SSLContext sslContext() {
+            return null;
+        }
+
+        @Override
+        public SSLParameters sslParameters() {
+            return new SSLParameters();
+        }
+
+        @Override
+        public Optional<Authenticator> authenticator() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Version version() {
+            return Version.HTTP_1_1;
+        }
+
+        @Override
+        public Optional<Executor> executor() {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Delivers the body as one buffer on the first request for data, then completes
+     */
+    private final class SingleBufferSubscription implements Flow.Subscription {
+
+        private final HttpResponse.BodySubscriber<?> subscriber;
+        private boolean done;
+
+        private SingleBufferSubscription(HttpResponse.BodySubscriber<?> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done || n <= 0) {
+                return;
+            }
+            done = true;
+            if (body.length > 0) {
+                subscriber.onNext(List.of(ByteBuffer.wrap(body).asReadOnlyBuffer()));
+            }
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+    }
+
+    private static final class StubHttpResponse<T> implements HttpResponse<T> {
+
+        private final HttpRequest request;
+        private final ResponseInfo info;
+        private final T body;
+
+        private StubHttpResponse(HttpRequest request, ResponseInfo info, T body) {
+            this.request = request;
+            this.info = info;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return info.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return info.headers();
+        }
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return info.version();
+        }
+    }
+
+    private static Map<String, List<String>> toMultiMap(Map<String, String> headers) {
+        Map<String, List<String>> multiMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            multiMap.put(header.getKey(), List.of(header.getValue()));
+        }
+        return multiMap;
+    }
+}
@@ -0,0 +1,344 @@
+package com.prasad_v.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.interceptors.Exchange;
+import com.prasad_v.interceptors.RequestResponseInterceptor;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.requestbuilder.RequestTemplate;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+
+/**
+ * Transport built on the JDK java.net.http.HttpClient.
+ * <p>
+ * All instances share one HttpClient that prefers HTTP/2, so concurrent requests to the same host are
+ * multiplexed over a single connection instead of each holding a pooled HTTP/1.1 connection.
+ * Responses are converted into RestAssured Responses, including the response time, so existing
+ * validators keep working. Request and response logging goes through the template's interceptor
+ * exactly as on the RestAssured path; RestAssured's own console logging (log().all()) does not apply.
+ * Multipart uploads are not supported by this transport.
+ * <p>
+ * This is also the transport behind streaming requests (RequestBuilder.executeStreaming), which hand the
+ * body to the caller as an InputStream instead of reading it into memory.
+ */
+public class JdkHttpTransport implements StreamingHttpTransport {
+
+    private static final CustomLogger logger = new CustomLogger(JdkHttpTransport.class);
+
+    /**
+     * Filter context property RestAssured reads Response.getTime() from
+     */
+    static final String RESPONSE_TIME_PROPERTY = "RA_RESPONSE_TIME_MILLIS";
+
+    // Headers the JDK client manages itself and refuses to accept from callers
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int DEFAULT_STREAM_CAPTURE_BYTES = 4096;
+
+    private static HttpClient sharedClient;
+    private static volatile boolean responseTimeWarned;
+
+    private final RequestTemplate template;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int streamCaptureBytes;
+
+    public JdkHttpTransport(RequestTemplate template) {
+        this(template, getSharedClient());
+    }
+
+    public JdkHttpTransport(RequestTemplate template, HttpClient httpClient) {
+        this.template = template;
+        this.httpClient = httpClient;
+        this.requestTimeout = Duration.ofMillis(EnvironmentManager.getInstance().getSocketTimeout());
+        this.streamCaptureBytes = ConfigurationManager.getInstance()
+                .getIntProperty(ConfigKeys.LOGGING_STREAM_CAPTURE_BYTES, DEFAULT_STREAM_CAPTURE_BYTES);
+    }
+
+    /**
+     * Get the HTTP/2-capable client shared by all JDK transports
+     *
+     * @return Shared HttpClient instance
+     */
+    public static synchronized HttpClient getSharedClient() {
+        if (sharedClient == null) {
+            int connectTimeout = EnvironmentManager.getInstance().getConnectionTimeout();
+            sharedClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofMillis(connectTimeout))
+                    .build();
+            logger.info("Initialized JDK HTTP/2 client: connectTimeout=" + connectTimeout + "ms");
+        }
+        return sharedClient;
+    }
+
+    @Override
+    public Response execute(TransportRequest request) {
+        PreparedRequest prepared = prepare(request);
+        long start = System.nanoTime();
+        HttpResponse<byte[]> httpResponse = send(request, prepared, start, HttpResponse.BodyHandlers.ofByteArray());
+        long responseTime = (System.nanoTime() - start) / 1_000_000;
+
+        Response response = toRestAssuredResponse(httpResponse, responseTime);
+        prepared.exchange.complete(response.getStatusCode(), responseTime,
+                () -> response.getHeaders().toString(), response::asString);
+        return response;
+    }
+
+    /**
+     * Send the request and return once the response head has arrived. The body is read from the
+     * JDK client's flow-controlled stream, so only the client's small receive buffers and the bounded
+     * log prefix (logging.stream.capture.bytes) are ever held in memory.
+     */
+    @Override
+    public StreamingResponse executeStreaming(TransportRequest request) {
+        PreparedRequest prepared = prepare(request);
+        long start = System.nanoTime();
+        HttpResponse<InputStream> httpResponse = send(request, prepared, start, HttpResponse.BodyHandlers.ofInputStream());
+        long responseTime = (System.nanoTime() - start) / 1_000_000;
+
+        int statusCode = httpResponse.statusCode();
+        Headers headers = toRestAssuredHeaders(httpResponse.headers());
+        Exchange exchange = prepared.exchange;
+        // Nothing is copied aside when the capture policy has already ruled out logging this response
+        int captureLimit = exchange.mayCaptureResponse() ? streamCaptureBytes : 0;
+        BoundedCaptureInputStream body = new BoundedCaptureInputStream(httpResponse.body(), captureLimit,
+                capture -> exchange.complete(statusCode, responseTime, headers::toString, capture::getCapturedText,
+                        capture.isTruncated()
+                                ? "\n... [streamed body truncated, " + capture.getBytesRead() + " bytes read]"
+                                : null));
+        return new StreamingResponse(statusCode, statusLine(httpResponse), headers, responseTime, body);
+    }
+
+    /**
+     * Build the JDK request and start capturing it through the interceptor
+     */
+    private PreparedRequest prepare(TransportRequest request) {
+        if (!request.getMultiParts().isEmpty()) {
+            throw new APIException("Multipart uploads are not supported by the " + getName()
+                    + " transport; use the restassured transport instead");
+        }
+
+        RequestResponseInterceptor interceptor = template.getInterceptor();
+        URI uri = buildUri(request);
+
+        Map<String, String> headers = new LinkedHashMap<>(request.getHeaders());
+        if (!containsHeader(headers, RequestResponseInterceptor.CORRELATION_ID_HEADER)) {
+            headers.put(RequestResponseInterceptor.CORRELATION_ID_HEADER, interceptor.newCorrelationId());
+        }
+
+        String body = serializeBody(request, headers);
+        HttpRequest.Builder httpRequest = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .method(request.getMethod().toMethodString(), body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+                httpRequest.header(header.getKey(), header.getValue());
+            }
+        }
+
+        Exchange exchange = interceptor.begin(request.getMethod().toMethodString(), uri.toString(),
+                () -> toRestAssuredHeaders(headers).toString(), () -> body == null ? "" : body);
+        return new PreparedRequest(httpRequest.build(), exchange);
+    }
+
+    private <T> HttpResponse<T> send(TransportRequest request, PreparedRequest prepared, long start,
+                                     HttpResponse.BodyHandler<T> bodyHandler) {
+        HttpRequest httpRequest = prepared.httpRequest;
+        try {
+            return httpClient.send(httpRequest, bodyHandler);
+        } catch (IOException e) {
+            prepared.exchange.fail((System.nanoTime() - start) / 1_000_000, e);
+            throw new APIException("Failed to send " + request.getMethod() + " " + httpRequest.uri() + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            prepared.exchange.fail((System.nanoTime() - start) / 1_000_000, e);
+            throw new APIException("Interrupted while sending " + request.getMethod() + " " + httpRequest.uri(), e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "jdk";
+    }
+
+    /**
+     * Convert a JDK response into a RestAssured Response, carrying over the measured response time
+     */
+    static Response toRestAssuredResponse(HttpResponse<byte[]> httpResponse, long responseTimeMillis) {
+        ResponseBuilder responseBuilder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(statusLine(httpResponse))
+                .setHeaders(toRestAssuredHeaders(httpResponse.headers()))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(responseBuilder::setContentType);
+
+        Response response = responseBuilder.build();
+        setResponseTime(response, responseTimeMillis);
+        return response;
+    }
+
+    /**
+     * Make {@code response.getTime()} report the measured time. RestAssured only reads it from the filter
+     * context of its internal response class, so this is the one place that depends on RestAssured internals.
+     * If they change, the request still succeeds and only getTime() is lost.
+     */
+    private static void setResponseTime(Response response, long responseTimeMillis) {
+        try {
+            if (response instanceof RestAssuredResponseOptionsImpl<?> responseImpl) {
+                Map<String, Object> properties = new HashMap<>();
+                properties.put(RESPONSE_TIME_PROPERTY, responseTimeMillis);
+                responseImpl.setFilterContextProperties(properties);
+                return;
+            }
+        } catch (LinkageError e) {
+            // Fall through to the warning below
+        }
+        if (!responseTimeWarned) {
+            responseTimeWarned = true;
+            logger.warn("Cannot set the response time on {}; RestAssured internals changed, so getTime() is not "
+                    + "available for responses of the jdk transport", response.getClass().getName());
+        }
+    }
+
+    private static String statusLine(HttpResponse<?> httpResponse) {
+        String protocol = httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + httpResponse.statusCode();
+    }
+
+    private static URI buildUri(TransportRequest request) {
+        String url = request.getUrl();
+        for (Map.Entry<String, Object> entry : request.getPathParams().entrySet()) {
+            url = url.replace("{" + entry.getKey() + "}", encode(String.valueOf(entry.getValue())));
+        }
+
+        if (!request.getQueryParams().isEmpty()) {
+            StringBuilder query = new StringBuilder(url).append(url.contains("?") ? '&' : '?');
+            boolean first = true;
+            for (Map.Entry<String, String> entry : request.getQueryParams().entrySet()) {
+                if (!first) {
+                    query.append('&');
+                }
+                query.append(encode(entry.getKey())).append('=').append(encode(entry.getValue()));
+                first = false;
+            }
+            url = query.toString();
+        }
+
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new APIException("Invalid request URL: " + url, e);
+        }
+    }
+
+    /**
+     * Serialize the body the way RestAssured would: strings as-is, form parameters URL-encoded,
+     * anything else as JSON
+     */
+    private static String serializeBody(TransportRequest request, Map<String, String> headers) {
+        Object body = request.getBody();
+        if (body == null && !request.getFormParams().isEmpty()) {
+            if (!containsHeader(headers, "Content-Type")) {
+                headers.put("Content-Type", FORM_CONTENT_TYPE);
+            }
+            StringBuilder form = new StringBuilder();
+            for (Map.Entry<String, String> entry : request.getFormParams().entrySet()) {
+                if (form.length() > 0) {
+                    form.append('&');
+                }
+                form.append(encode(entry.getKey())).append('=').append(encode(entry.getValue()));
+            }
+            return form.toString();
+        }
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof String) {
+            return (String) body;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new APIException("Failed to serialize request body of type " + body.getClass().getName(), e);
+        }
+    }
+
+    private static Headers toRestAssuredHeaders(HttpHeaders httpHeaders) {
+        List<Header> headerList = new ArrayList<>();
+        httpHeaders.map().forEach((name, values) -> {
+            // Skip HTTP/2 pseudo headers such as :status
+            if (!name.startsWith(":")) {
+                for (String value : values) {
+                    headerList.add(new Header(name, value));
+                }
+            }
+        });
+        return new Headers(headerList);
+    }
+
+    private static Headers toRestAssuredHeaders(Map<String, String> headers) {
+        List<Header> headerList = new ArrayList<>(headers.size());
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            headerList.add(new Header(entry.getKey(), entry.getValue()));
+        }
+        return new Headers(headerList);
+    }
+
+    private static boolean containsHeader(Map<String, String> headers, String name) {
+        for (String key : headers.keySet()) {
+            if (key.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * JDK request together with the exchange capturing it
+     */
+    private static final class PreparedRequest {
+
+        private final HttpRequest httpRequest;
+        private final Exchange exchange;
+
+        private PreparedRequest(HttpRequest httpRequest, Exchange exchange) {
+            this.httpRequest = httpRequest;
+            this.exchange = exchange;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.prasad_v.transport;
+
+import java.io.File;
+import java.util.Map;
+
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.requestbuilder.AsyncRequestExecutor;
+import com.prasad_v.requestbuilder.RequestTemplate;
+
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Default transport: RestAssured over the pooled Apache HttpClient 4 (HTTP/1.1).
+ * Requests pass through the template's RestAssured configuration and interceptor filter, and are capped
+ * at the pool's per-route and total limits by AsyncRequestExecutor.runBounded.
+ */
+public class RestAssuredTransport implements HttpTransport {
+
+    private final RequestTemplate template;
+    private final Filter responder;
+
+    public RestAssuredTransport(RequestTemplate template) {
+        this(template, null);
+    }
+
+    /**
+     * Create a transport whose requests are answered by a filter instead of being sent, e.g. an InProcessStub.
+     * The responder runs after the interceptor, so logging and capture behave as for a real request.
+     *
+     * @param template Template providing configuration and interceptor
+     * @param responder Filter returning the response without calling the rest of the chain, or null to send
+     */
+    public RestAssuredTransport(RequestTemplate template, Filter responder) {
+        this.template = template;
+        this.responder = responder;
+    }
+
+    @Override
+    public Response execute(TransportRequest request) {
+        RequestSpecification requestSpec = template.newRequestSpecification();
+
+        // Add request/response interceptor for logging and monitoring
+        requestSpec.filter(template.getInterceptor());
+        if (responder != null) {
+            requestSpec.filter(responder);
+        }
+
+        requestSpec.headers(request.getHeaders());
+
+        for (Map.Entry<String, String> entry : request.getQueryParams().entrySet()) {
+            requestSpec.queryParam(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : request.getFormParams().entrySet()) {
+            requestSpec.formParam(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Object> entry : request.getPathParams().entrySet()) {
+            requestSpec.pathParam(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, File> entry : request.getMultiParts()) {
+            requestSpec.multiPart(entry.getKey(), entry.getValue());
+        }
+        if (request.getBody() != null) {
+            requestSpec.body(request.getBody());
+        }
+        if (request.isLogRequest()) {
+            requestSpec.log().all();
+        }
+
+        // Only requests that go out over the pooled client count towards its in-flight cap
+        Response response = responder == null
+                ? AsyncRequestExecutor.runBounded(request.getUrl(), () -> send(requestSpec, request))
+                : send(requestSpec, request);
+
+        if (request.isLogResponse()) {
+            response.then().log().all();
+        }
+        return response;
+    }
+
+    private static Response send(RequestSpecification requestSpec, TransportRequest request) {
+        String url = request.getUrl();
+        switch (request.getMethod()) {
+            case GET:
+                return requestSpec.get(url);
+            case POST:
+                return requestSpec.post(url);
+            case PUT:
+                return requestSpec.put(url);
+            case DELETE:
+                return requestSpec.delete(url);
+            case PATCH:
+                return requestSpec.patch(url);
+            case HEAD:
+                return requestSpec.head(url);
+            case OPTIONS:
+                return requestSpec.options(url);
+            default:
+                throw new APIException("Unsupported request type: " + request.getMethod());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "restassured";
+    }
+}
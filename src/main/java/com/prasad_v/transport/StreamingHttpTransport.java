@@ -0,0 +1,16 @@
+package com.prasad_v.transport;
+
+/**
+ * HttpTransport that can also hand out the response body as a stream instead of reading it into memory.
+ */
+public interface StreamingHttpTransport extends HttpTransport {
+
+    /**
+     * Send the request and return as soon as the response head has arrived
+     *
+     * @param request Request to send
+     * @return StreamingResponse whose body is read on demand; the caller must close it
+     * @throws com.prasad_v.exceptions.APIException If the request could not be sent
+     */
+    StreamingResponse executeStreaming(TransportRequest request);
+}
@@ -0,0 +1,141 @@
+package com.prasad_v.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import com.prasad_v.exceptions.APIException;
+
+import io.restassured.http.Headers;
+
+/**
+ * Response whose body is exposed as a stream instead of being read into memory.
+ * <p>
+ * Status and headers are available as soon as the response head has arrived; the body is read
+ * on demand from {@link #getBody()} or {@link #getChannel()}, so heap use stays flat regardless of
+ * payload size. Only a bounded prefix of the body is kept for logging, and it is logged once the body
+ * has been fully read or the response is closed. Always close the response (try-with-resources) so the
+ * underlying connection is released.
+ */
+public class StreamingResponse implements Closeable {
+
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final long timeToHeadersMillis;
+    private final BoundedCaptureInputStream body;
+
+    StreamingResponse(int statusCode, String statusLine, Headers headers, long timeToHeadersMillis,
+                      BoundedCaptureInputStream body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.timeToHeadersMillis = timeToHeadersMillis;
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusLine() {
+        return statusLine;
+    }
+
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the first value of a response header
+     *
+     * @param name Header name (case-insensitive)
+     * @return Header value or null if absent
+     */
+    public String getHeader(String name) {
+        return headers.getValue(name);
+    }
+
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    /**
+     * @return Declared Content-Length, or -1 for chunked or unknown-length bodies
+     */
+    public long getContentLength() {
+        String value = getHeader("Content-Length");
+        try {
+            return value == null ? -1 : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return Milliseconds from sending the request until the response head was received
+     */
+    public long getTime() {
+        return timeToHeadersMillis;
+    }
+
+    /**
+     * Get the body stream. It can be read exactly once and must not be wrapped in anything that
+     * buffers the whole body if heap use is meant to stay flat.
+     *
+     * @return Body InputStream
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * @return Body as a ReadableByteChannel over the same underlying stream
+     */
+    public ReadableByteChannel getChannel() {
+        return Channels.newChannel(body);
+    }
+
+    /**
+     * @return Number of body bytes read so far
+     */
+    public long getBytesRead() {
+        return body.getBytesRead();
+    }
+
+    /**
+     * Copy the remaining body to the given stream
+     *
+     * @param out Destination stream
+     * @return Number of bytes copied
+     */
+    public long transferTo(OutputStream out) {
+        try {
+            return body.transferTo(out);
+        } catch (IOException e) {
+            throw new APIException("Failed to read streaming response body: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read and discard the remaining body, e.g. when only the status, headers or size matter
+     *
+     * @return Total number of body bytes read
+     */
+    public long drain() {
+        transferTo(OutputStream.nullOutputStream());
+        return getBytesRead();
+    }
+
+    @Override
+    public void close() {
+        try {
+            body.close();
+        } catch (IOException e) {
+            throw new APIException("Failed to close streaming response body: " + e.getMessage(), e);
+        }
+    }
+}
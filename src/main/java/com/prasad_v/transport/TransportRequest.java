@@ -0,0 +1,160 @@
+package com.prasad_v.transport;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.prasad_v.enums.RequestType;
+
+/**
+ * Immutable, transport-independent description of a single HTTP request as assembled by RequestBuilder.
+ * The URL may still contain {name} placeholders that are resolved from the path parameters.
+ */
+public final class TransportRequest {
+
+    private final RequestType method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final Map<String, String> queryParams;
+    private final Map<String, String> formParams;
+    private final Map<String, Object> pathParams;
+    private final List<Map.Entry<String, File>> multiParts;
+    private final Object body;
+    private final boolean logRequest;
+    private final boolean logResponse;
+
+    private TransportRequest(Builder builder) {
+        this.method = builder.method;
+        this.url = builder.url;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+        this.queryParams = Collections.unmodifiableMap(new LinkedHashMap<>(builder.queryParams));
+        this.formParams = Collections.unmodifiableMap(new LinkedHashMap<>(builder.formParams));
+        this.pathParams = Collections.unmodifiableMap(new LinkedHashMap<>(builder.pathParams));
+        this.multiParts = Collections.unmodifiableList(new ArrayList<>(builder.multiParts));
+        this.body = builder.body;
+        this.logRequest = builder.logRequest;
+        this.logResponse = builder.logResponse;
+    }
+
+    public static Builder builder(RequestType method, String url) {
+        return new Builder(method, url);
+    }
+
+    public RequestType getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public Map<String, String> getFormParams() {
+        return formParams;
+    }
+
+    public Map<String, Object> getPathParams() {
+        return pathParams;
+    }
+
+    /**
+     * @return Files to upload as multipart/form-data, as control name to file entries in the order they were added
+     */
+    public List<Map.Entry<String, File>> getMultiParts() {
+        return multiParts;
+    }
+
+    /**
+     * @return Request body as set on the builder (String, POJO or Map), or null
+     */
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * @return Whether the transport's own console request logging is enabled
+     */
+    public boolean isLogRequest() {
+        return logRequest;
+    }
+
+    /**
+     * @return Whether the transport's own console response logging is enabled
+     */
+    public boolean isLogResponse() {
+        return logResponse;
+    }
+
+    public static final class Builder {
+
+        private final RequestType method;
+        private final String url;
+        private Map<String, String> headers = Collections.emptyMap();
+        private Map<String, String> queryParams = Collections.emptyMap();
+        private Map<String, String> formParams = Collections.emptyMap();
+        private Map<String, Object> pathParams = Collections.emptyMap();
+        private List<Map.Entry<String, File>> multiParts = Collections.emptyList();
+        private Object body;
+        private boolean logRequest = true;
+        private boolean logResponse = true;
+
+        private Builder(RequestType method, String url) {
+            this.method = method;
+            this.url = url;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.headers = headers;
+            return this;
+        }
+
+        public Builder queryParams(Map<String, String> queryParams) {
+            this.queryParams = queryParams;
+            return this;
+        }
+
+        public Builder formParams(Map<String, String> formParams) {
+            this.formParams = formParams;
+            return this;
+        }
+
+        public Builder pathParams(Map<String, Object> pathParams) {
+            this.pathParams = pathParams;
+            return this;
+        }
+
+        public Builder multiParts(List<Map.Entry<String, File>> multiParts) {
+            this.multiParts = multiParts;
+            return this;
+        }
+
+        public Builder body(Object body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder logRequest(boolean logRequest) {
+            this.logRequest = logRequest;
+            return this;
+        }
+
+        public Builder logResponse(boolean logResponse) {
+            this.logResponse = logResponse;
+            return this;
+        }
+
+        public TransportRequest build() {
+            return new TransportRequest(this);
+        }
+    }
+}
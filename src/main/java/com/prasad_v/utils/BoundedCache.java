@@ -0,0 +1,255 @@
+package com.prasad_v.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import com.prasad_v.exceptions.APIException;
+
+/**
+ * Thread-safe cache that loads each key once and evicts the least recently used entries when the total
+ * weight exceeds a bound.
+ * <p>
+ * Lookups of loaded entries take no lock. When several threads ask for a missing key at the same time,
+ * one of them runs the loader and the others wait for its result, so a value is never loaded twice
+ * concurrently. A failed load is not cached; the next lookup tries again.
+ * <p>
+ * Each entry has a weight given by the weigher, e.g. its size in bytes; with a weigher of 1 the bound is a
+ * number of entries. The most recently loaded entry is always kept, even if it alone exceeds the bound.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * Loads the value of a missing key
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws Exception;
+    }
+
+    private final String name;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    // Logical clock ordering accesses for LRU eviction
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name Name used in messages and statistics
+     * @param maxWeight Highest total weight kept before the least recently used entries are evicted
+     * @param weigher Weight of a loaded value; must not change while the value is cached
+     */
+    public BoundedCache(String name, long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache '" + name + "' needs a positive maximum weight");
+        }
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Get the value of a key, loading it if it is not cached
+     *
+     * @param key Cache key
+     * @param loader Loads the value; called at most once at a time per key
+     * @return Cached or newly loaded value
+     * @throws APIException If the loader fails with a checked exception; unchecked exceptions are rethrown as is
+     */
+    public V get(K key, Loader<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            Entry<V> created = new Entry<>(clock.incrementAndGet());
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                misses.increment();
+                return load(key, created, loader);
+            }
+        }
+        hits.increment();
+        entry.lastAccess = clock.incrementAndGet();
+        return await(key, entry);
+    }
+
+    /**
+     * @return Cached value, or null if the key is not loaded; does not count as a hit or miss
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.future.join();
+    }
+
+    public void invalidate(K key) {
+        synchronized (evictionLock) {
+            Entry<V> entry = entries.remove(key);
+            if (entry != null && entry.weighed) {
+                totalWeight.addAndGet(-entry.weight);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        for (K key : entries.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of entries, including loads in progress
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Total weight of the loaded entries
+     */
+    public long getWeight() {
+        return totalWeight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return Lookups served without running the loader, including those that waited for another thread's load
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Lookups that ran the loader
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Share of lookups that were hits, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s cache: %d entries, weight %d of %d, %d hits, %d misses, %d load failures, %d evictions",
+                name, size(), getWeight(), maxWeight, getHitCount(), getMissCount(), getLoadFailureCount(),
+                getEvictionCount());
+    }
+
+    private V load(K key, Entry<V> entry, Loader<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.load(key);
+            entry.weight = Math.max(0, weigher.applyAsLong(value));
+        } catch (Exception | Error e) {
+            // Waiting threads get the same failure
+            loadFailures.increment();
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw unchecked(key, e);
+        }
+        synchronized (evictionLock) {
+            // An entry invalidated while loading is not counted; the caller still gets the value
+            if (entries.get(key) == entry) {
+                entry.weighed = true;
+                totalWeight.addAndGet(entry.weight);
+            }
+        }
+        entry.future.complete(value);
+        evictIfNeeded(entry);
+        return value;
+    }
+
+    private V await(K key, Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw unchecked(key, cause);
+        }
+    }
+
+    private RuntimeException unchecked(K key, Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new APIException("Failed to load '" + key + "' into the " + name + " cache: " + cause.getMessage(), cause);
+    }
+
+    private void evictIfNeeded(Entry<V> keep) {
+        if (totalWeight.get() <= maxWeight) {
+            return;
+        }
+        synchronized (evictionLock) {
+            while (totalWeight.get() > maxWeight) {
+                Map.Entry<K, Entry<V>> eldest = null;
+                for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                    Entry<V> value = candidate.getValue();
+                    if (value != keep && value.weighed
+                            && (eldest == null || value.lastAccess < eldest.getValue().lastAccess)) {
+                        eldest = candidate;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                    totalWeight.addAndGet(-eldest.getValue().weight);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long lastAccess;
+        private volatile long weight;
+        // Set once the weight is part of the total, guarded by evictionLock
+        private boolean weighed;
+
+        Entry(long lastAccess) {
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.prasad_v.utils;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.prasad_v.logging.CustomLogger;
+
+/**
+ * Lists test resource files, e.g. the schemas and contracts preloaded at suite start.
+ */
+public final class ResourceFiles {
+
+    private static final CustomLogger logger = new CustomLogger(ResourceFiles.class);
+
+    private ResourceFiles() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * List the JSON files of a directory, looked up on the classpath first and then on the file system
+     *
+     * @param directory Directory such as "schemas"
+     * @return Sorted "directory/name.json" paths, or an empty list if the directory cannot be read
+     */
+    public static List<String> listJsonFiles(String directory) {
+        Path path = null;
+        try {
+            // Skip entries of the same name inside dependency jars
+            Enumeration<URL> urls = ResourceFiles.class.getClassLoader().getResources(directory);
+            while (path == null && urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    path = Paths.get(url.toURI());
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            logger.warn("Cannot resolve directory {} on the classpath: {}", directory, e.getMessage());
+        }
+        if (path == null) {
+            path = Paths.get(directory);
+        }
+        if (!Files.isDirectory(path)) {
+            logger.warn("Directory to preload not found: {}", directory);
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            String prefix = directory.endsWith("/") ? directory : directory + "/";
+            return files.filter(file -> file.getFileName().toString().endsWith(".json") && Files.isRegularFile(file))
+                    .map(file -> prefix + file.getFileName())
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            logger.warn("Cannot list directory {}: {}", path, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.prasad_v.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JsonPath (GPath) expression made only of property names, list indexes and an optional trailing size(),
+ * resolved the way Groovy resolves it on the parsed maps and lists. Expressions the parser does not recognize
+ * are not simple and must be evaluated by RestAssured.
+ * <p>
+ * Compiled paths are cached for the life of the JVM, so a path used by many tests or validation plans is
+ * parsed once.
+ */
+final class CompiledPath {
+
+    // Marks an expression the direct evaluator cannot resolve with Groovy's exact semantics
+    static final Object UNRESOLVED = new Object();
+
+    static final String SIZE = "size()";
+
+    // Paths compiled so far; the number of distinct paths is bounded by the test code
+    private static final Map<String, CompiledPath> compiledPaths = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private final String expression;
+
+    // Each step is a String property name, an Integer index or SIZE; null if the path is not simple
+    private final Object[] steps;
+
+    private CompiledPath(String expression, Object[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Get the compiled form of a path, parsing it on first use
+     *
+     * @param path JsonPath expression, e.g. "data[0].email"
+     * @return Compiled path; never null
+     */
+    static CompiledPath compile(String path) {
+        CompiledPath compiledPath = compiledPaths.get(path);
+        if (compiledPath == null) {
+            compiledPath = parse(path);
+            if (compiledPaths.size() < MAX_CACHED_PATHS) {
+                compiledPaths.put(path, compiledPath);
+            }
+        }
+        return compiledPath;
+    }
+
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return True if the path can be resolved directly on the parsed tree
+     */
+    boolean isSimple() {
+        return steps != null;
+    }
+
+    /**
+     * @return Steps of a simple path, in order. The array is shared and must not be modified.
+     */
+    Object[] getSteps() {
+        return steps;
+    }
+
+    /**
+     * Resolve a simple path against the parsed tree
+     *
+     * @return Value at the path, null if absent, or UNRESOLVED if Groovy must decide
+     */
+    Object evaluate(Object root) {
+        Object current = root;
+        for (Object step : steps) {
+            current = apply(current, step);
+            if (current == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Apply one step of a simple path to a value
+     *
+     * @return Resulting value, or UNRESOLVED if Groovy must decide
+     */
+    static Object apply(Object value, Object step) {
+        if (value == null) {
+            // Groovy's null handling differs between property, index and method access
+            return UNRESOLVED;
+        }
+        if (step instanceof Integer) {
+            return index(value, (Integer) step);
+        }
+        if (step == SIZE) {
+            return size(value);
+        }
+        return property(value, (String) step);
+    }
+
+    private static CompiledPath parse(String path) {
+        String expression = path.trim();
+        if (expression.isEmpty() || expression.equals("$")) {
+            return new CompiledPath(path, new Object[0]);
+        }
+        List<Object> steps = new ArrayList<>();
+        int i = 0;
+        int length = expression.length();
+        boolean expectName = !expression.startsWith("[");
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '[') {
+                int close = expression.indexOf(']', i);
+                if (close < 0) {
+                    return new CompiledPath(path, null);
+                }
+                Integer index = parseIndex(expression, i + 1, close);
+                if (index == null) {
+                    return new CompiledPath(path, null);
+                }
+                steps.add(index);
+                i = close + 1;
+                expectName = false;
+            } else if (c == '.' && !expectName) {
+                i++;
+                expectName = true;
+            } else if (expectName && isNameStart(c)) {
+                int end = i + 1;
+                while (end < length && isNamePart(expression.charAt(end))) {
+                    end++;
+                }
+                String name = expression.substring(i, end);
+                if (expression.startsWith("()", end)) {
+                    // Only a trailing size() is understood
+                    if (!name.equals("size") || end + 2 != length) {
+                        return new CompiledPath(path, null);
+                    }
+                    steps.add(SIZE);
+                    end += 2;
+                } else {
+                    steps.add(name);
+                }
+                i = end;
+                expectName = false;
+            } else {
+                return new CompiledPath(path, null);
+            }
+        }
+        return new CompiledPath(path, expectName ? null : steps.toArray());
+    }
+
+    private static boolean isNameStart(char c) {
+        return c == '_' || Character.isLetter(c);
+    }
+
+    private static boolean isNamePart(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static Integer parseIndex(String expression, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int i = expression.charAt(start) == '-' ? start + 1 : start;
+        if (i >= end || end - i > 9) {
+            return null;
+        }
+        for (int j = i; j < end; j++) {
+            if (!Character.isDigit(expression.charAt(j))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(expression.substring(start, end));
+    }
+
+    private static Object index(Object value, int index) {
+        if (!(value instanceof List)) {
+            return UNRESOLVED;
+        }
+        List<?> list = (List<?>) value;
+        int position = index < 0 ? list.size() + index : index;
+        if (position < 0) {
+            // Groovy rejects negative indexes beyond the start of the list
+            return UNRESOLVED;
+        }
+        return position < list.size() ? list.get(position) : null;
+    }
+
+    private static Object size(Object value) {
+        if (value instanceof List) {
+            return ((List<?>) value).size();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        return UNRESOLVED;
+    }
+
+    private static Object property(Object value, String name) {
+        if (name.equals("class") || name.equals("metaClass")) {
+            return UNRESOLVED;
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(name);
+        }
+        if (value instanceof List) {
+            if (name.equals("empty")) {
+                // A property of the list itself rather than of its elements
+                return UNRESOLVED;
+            }
+            List<?> list = (List<?>) value;
+            List<Object> values = new ArrayList<>(list.size());
+            for (Object element : list) {
+                if (!(element instanceof Map)) {
+                    return UNRESOLVED;
+                }
+                values.add(((Map<?, ?>) element).get(name));
+            }
+            return values;
+        }
+        return UNRESOLVED;
+    }
+}
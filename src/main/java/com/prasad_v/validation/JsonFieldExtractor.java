@@ -0,0 +1,490 @@
+package com.prasad_v.validation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+
+/**
+ * JsonFieldExtractor reads a few paths out of a JSON document by scanning its bytes, without parsing the
+ * rest of it.
+ * <p>
+ * The requested paths are merged into a tree when the extractor is created. The scan follows that tree
+ * through the document: subtrees on no requested path are stepped over by matching quotes and brackets,
+ * without decoding or allocating anything, and scanning stops as soon as every path has a value. Only the
+ * values reached are parsed, the same way ResponseDocument parses them, so results have the same types as
+ * {@code response.jsonPath().get(path)}.
+ * <p>
+ * Property and index paths such as {@code booking.firstname} or {@code data[0].id}, with an optional
+ * trailing {@code size()} on an array, are resolved by the scan. Any other expression, or a path whose
+ * result depends on how Groovy handles nulls and lists, is evaluated on a full parse of the document
+ * instead, so results always agree with ResponseDocument. Unlike a full parse, the scan does not check
+ * the parts of the document it skips for syntax errors, and when a name occurs twice in one object it
+ * uses the first occurrence rather than the last.
+ * <p>
+ * Extractors are immutable and can be shared between threads; build one per set of paths and reuse it.
+ */
+public final class JsonFieldExtractor {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    // Value of a path the scan has not resolved yet
+    private static final Object PENDING = new Object();
+
+    private final String[] paths;
+    private final Object[][] steps;
+    private final Node root = new Node(0);
+    private final int scannedPaths;
+
+    private JsonFieldExtractor(Collection<String> requestedPaths) {
+        this.paths = new LinkedHashSet<>(requestedPaths).toArray(new String[0]);
+        this.steps = new Object[paths.length][];
+        int scanned = 0;
+        for (int slot = 0; slot < paths.length; slot++) {
+            CompiledPath compiledPath = CompiledPath.compile(paths[slot]);
+            if (compiledPath.isSimple() && isScannable(compiledPath.getSteps())) {
+                steps[slot] = compiledPath.getSteps();
+                root.add(slot, steps[slot]);
+                scanned++;
+            }
+        }
+        this.scannedPaths = scanned;
+        root.freeze();
+    }
+
+    /**
+     * Create an extractor for a set of paths
+     *
+     * @param paths JsonPath expressions, e.g. "bookingid", "booking.firstname"
+     * @return Extractor, reusable for any number of documents
+     */
+    public static JsonFieldExtractor of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Create an extractor for a set of paths
+     *
+     * @param paths JsonPath expressions; duplicates are read once
+     * @return Extractor, reusable for any number of documents
+     */
+    public static JsonFieldExtractor of(Collection<String> paths) {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("At least one path is required");
+        }
+        return new JsonFieldExtractor(paths);
+    }
+
+    /**
+     * @return Paths this extractor reads, in the order given
+     */
+    public List<String> getPaths() {
+        return Collections.unmodifiableList(Arrays.asList(paths));
+    }
+
+    /**
+     * Read the paths from a JSON document
+     *
+     * @param json JSON text
+     * @return Value of every path, in path order; null for absent paths
+     */
+    public Map<String, Object> extract(String json) {
+        return extract(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read the paths from a JSON document
+     *
+     * @param json JSON document encoded as UTF-8
+     * @return Value of every path, in path order; null for absent paths
+     */
+    public Map<String, Object> extract(byte[] json) {
+        Object[] values = new Object[paths.length];
+        Arrays.fill(values, PENDING);
+        if (scannedPaths > 0) {
+            Scan scan = new Scan(json, values, scannedPaths);
+            try {
+                scan.value(root, scan.skipWhitespace(byteOrderMarkLength(json)));
+            } catch (IOException | RuntimeException e) {
+                // Malformed where the scan looked; the full parse reports it or copes with it as RestAssured does
+                Arrays.fill(values, PENDING);
+            }
+        }
+
+        Object tree = PENDING;
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int slot = 0; slot < paths.length; slot++) {
+            Object value = values[slot];
+            if (value == PENDING || value == CompiledPath.UNRESOLVED) {
+                if (tree == PENDING) {
+                    int start = byteOrderMarkLength(json);
+                    tree = ResponseDocument.parseTree(new String(json, start, json.length - start, StandardCharsets.UTF_8));
+                }
+                value = ResponseDocument.evaluate(tree, paths[slot]);
+            }
+            result.put(paths[slot], value);
+        }
+        return result;
+    }
+
+    private static int byteOrderMarkLength(byte[] json) {
+        return json.length >= 3 && json[0] == (byte) 0xEF && json[1] == (byte) 0xBB && json[2] == (byte) 0xBF ? 3 : 0;
+    }
+
+    /**
+     * Negative indexes count from the end of a list and need its length, so they go to the full parse
+     */
+    private static boolean isScannable(Object[] pathSteps) {
+        for (Object step : pathSteps) {
+            if (step instanceof Integer && (Integer) step < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A position in the tree of requested paths, matched against one value of the document
+     */
+    private static final class Node {
+
+        private final int depth;
+        // Every path passing through or ending at this node
+        private final List<Integer> slots = new ArrayList<>();
+        private final List<Integer> sizeSlots = new ArrayList<>();
+        private boolean terminal;
+
+        private final Map<String, Node> fieldMap = new LinkedHashMap<>();
+        private final Map<Integer, Node> indexMap = new TreeMap<>();
+
+        private int[] slotArray;
+        private int[] sizeSlotArray;
+        private String[] names;
+        private byte[][] nameBytes;
+        private Node[] fields;
+        private int[] indexes;
+        private Node[] indexed;
+        private boolean scanObject;
+        private boolean scanArray;
+
+        Node(int depth) {
+            this.depth = depth;
+        }
+
+        void add(int slot, Object[] pathSteps) {
+            slots.add(slot);
+            if (depth == pathSteps.length) {
+                terminal = true;
+                return;
+            }
+            Object step = pathSteps[depth];
+            if (step == CompiledPath.SIZE) {
+                sizeSlots.add(slot);
+            } else if (step instanceof Integer) {
+                indexMap.computeIfAbsent((Integer) step, index -> new Node(depth + 1)).add(slot, pathSteps);
+            } else {
+                fieldMap.computeIfAbsent((String) step, name -> new Node(depth + 1)).add(slot, pathSteps);
+            }
+        }
+
+        void freeze() {
+            slotArray = slots.stream().mapToInt(Integer::intValue).toArray();
+            sizeSlotArray = sizeSlots.stream().mapToInt(Integer::intValue).toArray();
+            names = fieldMap.keySet().toArray(new String[0]);
+            nameBytes = new byte[names.length][];
+            for (int i = 0; i < names.length; i++) {
+                nameBytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+            }
+            fields = fieldMap.values().toArray(new Node[0]);
+            indexes = indexMap.keySet().stream().mapToInt(Integer::intValue).toArray();
+            indexed = indexMap.values().toArray(new Node[0]);
+            for (Node child : fields) {
+                child.freeze();
+            }
+            for (Node child : indexed) {
+                child.freeze();
+            }
+            // Anything else, e.g. a property of a list, is resolved on the parsed value
+            scanObject = !terminal && indexes.length == 0 && sizeSlotArray.length == 0;
+            scanArray = !terminal && names.length == 0;
+        }
+    }
+
+    /**
+     * State of one extraction
+     */
+    private final class Scan {
+
+        private final byte[] json;
+        private final Object[] values;
+        private final NumberReturnType numberReturnType = RestAssured.config().getJsonConfig().numberReturnType();
+        private int pending;
+
+        Scan(byte[] json, Object[] values, int pending) {
+            this.json = json;
+            this.values = values;
+            this.pending = pending;
+        }
+
+        boolean done() {
+            return pending == 0;
+        }
+
+        /**
+         * Scan the value starting at a position for the paths of a node
+         *
+         * @return Position after the value
+         */
+        int value(Node node, int position) throws IOException {
+            byte first = byteAt(position);
+            if (first == '{' && node.scanObject) {
+                return object(node, position);
+            }
+            if (first == '[' && node.scanArray) {
+                return array(node, position);
+            }
+            int end = skipValue(position);
+            resolve(node, parse(position, end));
+            return end;
+        }
+
+        private int object(Node node, int position) throws IOException {
+            int i = skipWhitespace(position + 1);
+            if (byteAt(i) == '}') {
+                resolveMissing(node.fields);
+                return i + 1;
+            }
+            while (true) {
+                if (byteAt(i) != '"') {
+                    throw new IOException("Expected a field name at byte " + i);
+                }
+                int nameEnd = skipString(i);
+                Node child = match(node, i, nameEnd);
+                i = skipWhitespace(nameEnd);
+                if (byteAt(i) != ':') {
+                    throw new IOException("Expected ':' at byte " + i);
+                }
+                i = skipWhitespace(i + 1);
+                i = child != null ? value(child, i) : skipValue(i);
+                if (done()) {
+                    return i;
+                }
+                i = skipWhitespace(i);
+                byte separator = byteAt(i);
+                if (separator == '}') {
+                    resolveMissing(node.fields);
+                    return i + 1;
+                }
+                if (separator != ',') {
+                    throw new IOException("Expected ',' or '}' at byte " + i);
+                }
+                i = skipWhitespace(i + 1);
+            }
+        }
+
+        private int array(Node node, int position) throws IOException {
+            int i = skipWhitespace(position + 1);
+            int count = 0;
+            if (byteAt(i) != ']') {
+                int next = 0;
+                while (true) {
+                    if (next < node.indexes.length && node.indexes[next] == count) {
+                        i = value(node.indexed[next++], i);
+                        if (done()) {
+                            return i;
+                        }
+                    } else {
+                        i = skipValue(i);
+                    }
+                    count++;
+                    i = skipWhitespace(i);
+                    byte separator = byteAt(i);
+                    if (separator == ']') {
+                        break;
+                    }
+                    if (separator != ',') {
+                        throw new IOException("Expected ',' or ']' at byte " + i);
+                    }
+                    i = skipWhitespace(i + 1);
+                }
+            }
+            // Indexes past the end of the array
+            resolveMissing(node.indexed);
+            for (int slot : node.sizeSlotArray) {
+                set(slot, count);
+            }
+            return i + 1;
+        }
+
+        /**
+         * Find the child node of a field name
+         *
+         * @param start Position of the opening quote
+         * @param end Position after the closing quote
+         */
+        private Node match(Node node, int start, int end) throws IOException {
+            int from = start + 1;
+            int to = end - 1;
+            boolean escaped = false;
+            for (int i = from; i < to; i++) {
+                if (json[i] == '\\') {
+                    escaped = true;
+                    break;
+                }
+            }
+            if (escaped) {
+                Object name = parse(start, end);
+                for (int i = 0; i < node.names.length; i++) {
+                    if (node.names[i].equals(name)) {
+                        return node.fields[i];
+                    }
+                }
+                return null;
+            }
+            for (int i = 0; i < node.nameBytes.length; i++) {
+                byte[] name = node.nameBytes[i];
+                if (Arrays.equals(name, 0, name.length, json, from, to)) {
+                    return node.fields[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Give every path of a node its value, applying the steps left after the node
+         */
+        private void resolve(Node node, Object value) {
+            for (int slot : node.slotArray) {
+                Object result = value;
+                Object[] pathSteps = steps[slot];
+                for (int i = node.depth; i < pathSteps.length && result != CompiledPath.UNRESOLVED; i++) {
+                    result = CompiledPath.apply(result, pathSteps[i]);
+                }
+                set(slot, result);
+            }
+        }
+
+        /**
+         * Resolve the paths of children the value did not contain. Paths already resolved keep their value.
+         */
+        private void resolveMissing(Node[] children) {
+            for (Node child : children) {
+                resolve(child, null);
+            }
+        }
+
+        private void set(int slot, Object value) {
+            if (values[slot] == PENDING) {
+                values[slot] = value;
+                pending--;
+            }
+        }
+
+        private Object parse(int start, int end) throws IOException {
+            if (json[start] == '"' && indexOf('\\', start, end) < 0) {
+                return new String(json, start + 1, end - start - 2, StandardCharsets.UTF_8);
+            }
+            try (JsonParser parser = jsonFactory.createParser(json, start, end - start)) {
+                parser.nextToken();
+                return ResponseDocument.readValue(parser, numberReturnType);
+            }
+        }
+
+        /**
+         * @return Position after the value starting at a position
+         */
+        private int skipValue(int position) throws IOException {
+            byte first = byteAt(position);
+            if (first == '"') {
+                return skipString(position);
+            }
+            if (first == '{' || first == '[') {
+                return skipContainer(position);
+            }
+            int i = position;
+            while (i < json.length && !isDelimiter(json[i])) {
+                i++;
+            }
+            if (i == position) {
+                throw new IOException("Expected a value at byte " + position);
+            }
+            return i;
+        }
+
+        private int skipContainer(int position) throws IOException {
+            int depth = 0;
+            int i = position;
+            while (i < json.length) {
+                byte b = json[i];
+                if (b == '"') {
+                    i = skipString(i);
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+            throw new IOException("Unterminated object or array at byte " + position);
+        }
+
+        private int skipString(int position) throws IOException {
+            int i = position + 1;
+            while (i < json.length) {
+                byte b = json[i];
+                if (b == '"') {
+                    return i + 1;
+                }
+                i += b == '\\' ? 2 : 1;
+            }
+            throw new IOException("Unterminated string at byte " + position);
+        }
+
+        int skipWhitespace(int position) {
+            int i = position;
+            while (i < json.length && isWhitespace(json[i])) {
+                i++;
+            }
+            return i;
+        }
+
+        private int indexOf(char c, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (json[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private byte byteAt(int position) throws IOException {
+            if (position >= json.length) {
+                throw new IOException("Unexpected end of document");
+            }
+            return json[position];
+        }
+
+        private boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+
+        private boolean isDelimiter(byte b) {
+            return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+        }
+    }
+}
@@ -1,19 +1,23 @@
 package com.prasad_v.validation;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.testng.Assert;
 
 import com.prasad_v.logging.CustomLogger;
 import com.prasad_v.reporting.ExtentTestManager;
 
-import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 
 /**
  * JsonPathValidator provides methods to validate API responses using JsonPath expressions.
- * It supports various assertions on JSON response elements.
+ * It supports various assertions on JSON response elements. All methods read from the response's
+ * shared ResponseDocument, so the body is parsed once however many paths are validated.
  */
 public class JsonPathValidator {
 
@@ -27,8 +31,7 @@ public class JsonPathValidator {
      */
     public void validatePathExists(Response response, String jsonPath) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            Object value = jsonPathEvaluator.get(jsonPath);
+            Object value = ResponseDocument.of(response).read(jsonPath);
 
             Assert.assertNotNull(value, "JSON path '" + jsonPath + "' should exist in response");
             logSuccess("JSON path validation passed: '" + jsonPath + "' exists in response");
@@ -49,8 +52,7 @@ public class JsonPathValidator {
      */
     public void validatePathNotExists(Response response, String jsonPath) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            Object value = jsonPathEvaluator.get(jsonPath);
+            Object value = ResponseDocument.of(response).read(jsonPath);
 
             Assert.assertNull(value, "JSON path '" + jsonPath + "' should not exist in response");
             logSuccess("JSON path validation passed: '" + jsonPath + "' does not exist in response");
@@ -72,8 +74,7 @@ public class JsonPathValidator {
      */
     public void validateEquals(Response response, String jsonPath, Object expectedValue) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            Object actualValue = jsonPathEvaluator.get(jsonPath);
+            Object actualValue = ResponseDocument.of(response).read(jsonPath);
 
             Assert.assertEquals(actualValue, expectedValue,
                     "JSON path '" + jsonPath + "' value should equal " + expectedValue);
@@ -96,8 +97,7 @@ public class JsonPathValidator {
      */
     public void validateNotEquals(Response response, String jsonPath, Object unexpectedValue) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            Object actualValue = jsonPathEvaluator.get(jsonPath);
+            Object actualValue = ResponseDocument.of(response).read(jsonPath);
 
             if (actualValue == null) {
                 if (unexpectedValue != null) {
@@ -128,8 +128,7 @@ public class JsonPathValidator {
      */
     public void validateContains(Response response, String jsonPath, String expectedSubstring) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            String actualValue = jsonPathEvaluator.getString(jsonPath);
+            String actualValue = ResponseDocument.of(response).readString(jsonPath);
 
             Assert.assertTrue(actualValue != null && actualValue.contains(expectedSubstring),
                     "JSON path '" + jsonPath + "' value should contain '" + expectedSubstring + "'");
@@ -152,8 +151,7 @@ public class JsonPathValidator {
      */
     public void validateArrayContainsAll(Response response, String jsonPath, List<?> expectedValues) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            List<?> actualList = jsonPathEvaluator.getList(jsonPath);
+            List<?> actualList = ResponseDocument.of(response).readList(jsonPath);
 
             Assert.assertNotNull(actualList, "JSON path '" + jsonPath + "' should return an array");
 
@@ -186,8 +184,7 @@ public class JsonPathValidator {
      */
     public void validateArraySize(Response response, String jsonPath, int expectedSize) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            List<?> actualList = jsonPathEvaluator.getList(jsonPath);
+            List<?> actualList = ResponseDocument.of(response).readList(jsonPath);
 
             Assert.assertNotNull(actualList, "JSON path '" + jsonPath + "' should return an array");
             Assert.assertEquals(actualList.size(), expectedSize,
@@ -212,8 +209,7 @@ public class JsonPathValidator {
      */
     public void validateCondition(Response response, String jsonPath, String message, boolean condition) {
         try {
-            JsonPath jsonPathEvaluator = response.jsonPath();
-            Object value = jsonPathEvaluator.get(jsonPath);
+            Object value = ResponseDocument.of(response).read(jsonPath);
 
             Assert.assertTrue(condition, message + " for path '" + jsonPath + "' with value: " + value);
             logSuccess("JSON path validation passed: " + message);
@@ -227,15 +223,122 @@ public class JsonPathValidator {
     }
 
     /**
-     * Validate multiple JSON paths against expected values
+     * Validate multiple JSON paths against expected values. All paths are checked and any mismatches are
+     * reported together.
      *
      * @param response RestAssured response
      * @param pathValueMap Map with JSON paths as keys and expected values
      */
     public void validateMultiplePaths(Response response, Map<String, Object> pathValueMap) {
+        if (pathValueMap.isEmpty()) {
+            return;
+        }
+        ValidationPlan.Builder builder = ValidationPlan.builder("multiple paths");
         for (Map.Entry<String, Object> entry : pathValueMap.entrySet()) {
-            validateEquals(response, entry.getKey(), entry.getValue());
+            builder.equalTo(entry.getKey(), entry.getValue());
+        }
+        validatePlan(response, builder.build());
+    }
+
+    /**
+     * Validate all expectations of a plan in one pass over the response, logging a single report entry
+     *
+     * @param response RestAssured response
+     * @param plan Validation plan, usually built once and shared by many tests
+     */
+    public void validatePlan(Response response, ValidationPlan plan) {
+        try {
+            ValidationResult result = plan.evaluate(response);
+
+            Assert.assertTrue(result.isPassed(), result.toString());
+            logSuccess("JSON path validation passed: " + result);
+        } catch (AssertionError e) {
+            logFailure("JSON path validation failed: " + e.getMessage(), e);
+            throw e;
+        } catch (Exception e) {
+            logFailure("Error validating plan '" + plan.getName() + "': " + e.getMessage(), e);
+            Assert.fail("Error validating plan: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read a few paths from the response without parsing the rest of the body. Reuses the parsed body if
+     * another validator has already parsed this response.
+     *
+     * @param response RestAssured response
+     * @param paths JsonPath expressions
+     * @return Value of every path, in path order, as response.jsonPath().get(path) would return it
+     */
+    public Map<String, Object> extractFields(Response response, String... paths) {
+        return extractFields(response, JsonFieldExtractor.of(paths));
+    }
+
+    /**
+     * Read the paths of a prepared extractor from the response
+     *
+     * @param response RestAssured response
+     * @param extractor Extractor, usually built once and shared by many tests
+     * @return Value of every path, in path order
+     */
+    public Map<String, Object> extractFields(Response response, JsonFieldExtractor extractor) {
+        Object tree = ResponseDocument.parsedTree(response);
+        if (tree != null) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String path : extractor.getPaths()) {
+                values.put(path, ResponseDocument.evaluate(tree, path));
+            }
+            return values;
+        }
+        return extractor.extract(bodyBytes(response));
+    }
+
+    /**
+     * Validate a few paths against expected values, reading only those paths from the body. Suited to
+     * large responses of which a test checks a handful of fields. All paths are checked and any mismatches
+     * are reported together.
+     *
+     * @param response RestAssured response
+     * @param pathValueMap Map with JSON paths as keys and expected values
+     */
+    public void validateFields(Response response, Map<String, Object> pathValueMap) {
+        if (pathValueMap.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> actualValues = extractFields(response, JsonFieldExtractor.of(pathValueMap.keySet()));
+            List<String> mismatches = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : pathValueMap.entrySet()) {
+                Object actualValue = actualValues.get(entry.getKey());
+                if (!Objects.equals(actualValue, entry.getValue())) {
+                    mismatches.add("'" + entry.getKey() + "' expected " + entry.getValue() + " but was " + actualValue);
+                }
+            }
+
+            Assert.assertTrue(mismatches.isEmpty(), "JSON field validation failed " + mismatches.size() + " of "
+                    + pathValueMap.size() + " fields:\n" + String.join("\n", mismatches));
+            logSuccess("JSON field validation passed: " + pathValueMap.size() + " fields match");
+        } catch (AssertionError e) {
+            logFailure(e.getMessage(), e);
+            throw e;
+        } catch (Exception e) {
+            logFailure("Error validating JSON fields: " + e.getMessage(), e);
+            Assert.fail("Error validating JSON fields: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Response body as UTF-8 bytes, re-encoded only if the response declares another charset
+     */
+    private static byte[] bodyBytes(Response response) {
+        String contentType = response.getContentType();
+        int charsetIndex = contentType == null ? -1 : contentType.toLowerCase().indexOf("charset=");
+        if (charsetIndex >= 0) {
+            String charset = contentType.substring(charsetIndex + 8).replace("\"", "").trim();
+            if (!charset.equalsIgnoreCase("utf-8") && !charset.equalsIgnoreCase("utf8")) {
+                return response.asString().getBytes(StandardCharsets.UTF_8);
+            }
         }
+        return response.asByteArray();
     }
 
     /**
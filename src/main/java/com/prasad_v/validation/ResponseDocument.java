@@ -0,0 +1,323 @@
+package com.prasad_v.validation;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.prasad_v.logging.JsonLogSanitizer;
+
+import io.restassured.RestAssured;
+import io.restassured.internal.common.path.ObjectConverter;
+import io.restassured.internal.path.json.ConfigurableJsonSlurper;
+import io.restassured.internal.path.json.JSONAssertion;
+import io.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+import io.restassured.response.Response;
+
+/**
+ * ResponseDocument is the parsed form of one response body, shared by all validators so that the body is
+ * decoded and parsed once however many assertions run against it.
+ * <p>
+ * {@link #read(String)} gives the same results as {@code response.jsonPath().get(path)}. RestAssured parses
+ * the body again and compiles a Groovy script on every such call; here the body is parsed once, with Jackson
+ * into the same maps, lists and number types RestAssured would produce, and plain
+ * property and index paths such as {@code data[0].email} or {@code data.size()} are resolved directly on the
+ * parsed tree. Other expressions (closures, find/findAll, quoted names) go through RestAssured's evaluator
+ * on the same tree.
+ * <p>
+ * Lifetime: documents are keyed by response identity and hold no reference to the response, so an entry
+ * is dropped once its response is garbage collected. TestExecutionListener also releases the documents a
+ * test thread created when the test finishes, so nothing outlives the test. A released document is simply
+ * parsed again on next use. Maps and lists returned by the read methods are shared and must not be modified.
+ */
+public final class ResponseDocument {
+
+    private static final Map<IdentityKey, ResponseDocument> documents = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Response> collected = new ReferenceQueue<>();
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final BigDecimal FLOAT_MAX = new BigDecimal(Float.MAX_VALUE);
+
+    private final long ownerThreadId;
+    private final String contentType;
+    private final String body;
+    private Object tree;
+    private JSONObject jsonObject;
+
+    private ResponseDocument(Response response) {
+        this.ownerThreadId = Thread.currentThread().threadId();
+        this.contentType = response.getContentType();
+        this.body = response.asString();
+    }
+
+    /**
+     * Get the document of a response, parsing nothing until a value is read
+     *
+     * @param response RestAssured response
+     * @return Document shared by all validators of this response
+     */
+    public static ResponseDocument of(Response response) {
+        expungeCollected();
+        ResponseDocument document = documents.get(new IdentityKey(response));
+        if (document == null) {
+            document = documents.computeIfAbsent(new IdentityKey(response, collected), key -> new ResponseDocument(response));
+        }
+        return document;
+    }
+
+    /**
+     * Drop the documents created on the current thread. Called when a test finishes.
+     */
+    public static void releaseCurrentThread() {
+        long threadId = Thread.currentThread().threadId();
+        documents.values().removeIf(document -> document.ownerThreadId == threadId);
+        expungeCollected();
+    }
+
+    /**
+     * @return Number of documents currently cached
+     */
+    public static int cachedCount() {
+        expungeCollected();
+        return documents.size();
+    }
+
+    /**
+     * @return Response body decoded to text
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * @return True if the response declares a JSON content type, or declares none and the body looks like JSON
+     */
+    public boolean isJson() {
+        if (contentType == null || contentType.isBlank()) {
+            return JsonLogSanitizer.looksLikeJson(body);
+        }
+        return contentType.toLowerCase().contains("json");
+    }
+
+    /**
+     * Evaluate a JsonPath (GPath) expression against the body
+     *
+     * @param path JsonPath expression, e.g. "data[0].email"
+     * @return Value at the path as response.jsonPath().get(path) would return it, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String path) {
+        return (T) evaluate(getTree(), path);
+    }
+
+    /**
+     * @return Value at the path converted to a String, as JsonPath.getString does
+     */
+    public String readString(String path) {
+        return ObjectConverter.convertObjectTo(read(path), String.class);
+    }
+
+    /**
+     * @return List at the path, as JsonPath.getList does
+     */
+    public <T> List<T> readList(String path) {
+        return read(path);
+    }
+
+    /**
+     * @return Body parsed as an org.json object, for validators working on that model
+     */
+    public synchronized JSONObject getJSONObject() {
+        if (jsonObject == null) {
+            jsonObject = new JSONObject(body);
+        }
+        return jsonObject;
+    }
+
+    /**
+     * Evaluate an expression with RestAssured's GPath evaluator on the parsed tree
+     */
+    Object readWithGroovy(String path) {
+        return readWithGroovy(getTree(), path);
+    }
+
+    /**
+     * @return Body parsed to the maps and lists RestAssured's JsonPath works on
+     */
+    synchronized Object getTree() {
+        if (tree == null) {
+            tree = parseTree(body);
+        }
+        return tree;
+    }
+
+    /**
+     * @return Parsed tree of a response whose document has already been parsed, or null
+     */
+    static Object parsedTree(Response response) {
+        ResponseDocument document = documents.get(new IdentityKey(response));
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            return document.tree;
+        }
+    }
+
+    /**
+     * Parse a JSON body to the maps and lists RestAssured's JsonPath works on
+     */
+    static Object parseTree(String body) {
+        NumberReturnType numberReturnType = RestAssured.config().getJsonConfig().numberReturnType();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            parser.nextToken();
+            return readValue(parser, numberReturnType);
+        } catch (IOException | RuntimeException e) {
+            // RestAssured's own parser also accepts some malformed input, e.g. trailing commas
+            return new ConfigurableJsonSlurper(numberReturnType).parseText(body);
+        }
+    }
+
+    /**
+     * Evaluate a JsonPath expression on a parsed tree, directly for simple paths and with Groovy otherwise
+     */
+    static Object evaluate(Object tree, String path) {
+        CompiledPath compiledPath = CompiledPath.compile(path);
+        if (compiledPath.isSimple()) {
+            Object value = compiledPath.evaluate(tree);
+            if (value != CompiledPath.UNRESOLVED) {
+                return value;
+            }
+        }
+        return readWithGroovy(tree, path);
+    }
+
+    private static Object readWithGroovy(Object tree, String path) {
+        JSONAssertion assertion = new JSONAssertion();
+        assertion.setKey(path);
+        assertion.setParams(new HashMap<>());
+        return assertion.getResult(tree, null);
+    }
+
+    /**
+     * Build the same maps, lists and number types RestAssured's JSON slurper produces, using Jackson,
+     * which parses several times faster
+     */
+    static Object readValue(JsonParser parser, NumberReturnType numberReturnType) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            throw new IOException("Empty JSON document");
+        }
+        switch (token) {
+            case START_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    map.put(name, readValue(parser, numberReturnType));
+                }
+                return map;
+            case START_ARRAY:
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser, numberReturnType));
+                }
+                return list;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return readInteger(parser, numberReturnType);
+            case VALUE_NUMBER_FLOAT:
+                return readDecimal(parser.getText(), numberReturnType);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new IOException("Unexpected token " + token);
+        }
+    }
+
+    private static Object readInteger(JsonParser parser, NumberReturnType numberReturnType) throws IOException {
+        if (numberReturnType == NumberReturnType.BIG_INTEGER) {
+            return parser.getBigIntegerValue();
+        }
+        switch (parser.getNumberType()) {
+            case INT:
+                return parser.getIntValue();
+            case LONG:
+                return parser.getLongValue();
+            default:
+                return parser.getBigIntegerValue();
+        }
+    }
+
+    private static Object readDecimal(String text, NumberReturnType numberReturnType) {
+        switch (numberReturnType) {
+            case DOUBLE:
+                return new BigDecimal(text).doubleValue();
+            case FLOAT_AND_DOUBLE:
+                // Float unless the value is above Float.MAX_VALUE, exactly as the slurper decides
+                BigDecimal value = new BigDecimal(text);
+                return value.compareTo(FLOAT_MAX) > 0 ? (Object) value.doubleValue() : (Object) value.floatValue();
+            default:
+                return new BigDecimal(text);
+        }
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends Response> reference;
+        while ((reference = collected.poll()) != null) {
+            documents.remove(reference);
+        }
+    }
+
+    /**
+     * Weak reference compared by the identity of its referent
+     */
+    private static final class IdentityKey extends WeakReference<Response> {
+
+        private final int hash;
+
+        IdentityKey(Response response) {
+            super(response);
+            this.hash = System.identityHashCode(response);
+        }
+
+        IdentityKey(Response response, ReferenceQueue<Response> queue) {
+            super(response, queue);
+            this.hash = System.identityHashCode(response);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+}
@@ -91,7 +91,7 @@ public class ResponseValidator {
      */
     public static boolean validateField(Response response, String fieldPath, Object expectedValue) {
         try {
-            Object actualValue = response.path(fieldPath);
+            Object actualValue = path(response, fieldPath);
             boolean isValid = expectedValue.equals(actualValue);
 
             if (isValid) {
@@ -120,7 +120,7 @@ public class ResponseValidator {
 
         for (String fieldPath : fieldPaths) {
             try {
-                Object value = response.path(fieldPath);
+                Object value = path(response, fieldPath);
                 boolean isValid = value != null;
 
                 if (isValid) {
@@ -138,6 +138,15 @@ public class ResponseValidator {
         return allValid;
     }
 
+    /**
+     * Read a field the way response.path() does. JSON bodies are read from the shared ResponseDocument,
+     * so they are parsed once for all fields; other bodies, e.g. XML, go through RestAssured.
+     */
+    private static Object path(Response response, String fieldPath) {
+        ResponseDocument document = ResponseDocument.of(response);
+        return document.isJson() ? document.read(fieldPath) : response.path(fieldPath);
+    }
+
     /**
      * Validates if the response contains the expected content type.
      *
@@ -0,0 +1,231 @@
+package com.prasad_v.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JacksonUtils;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.logging.CustomLogger;
+import com.prasad_v.utils.BoundedCache;
+import com.prasad_v.utils.ResourceFiles;
+
+/**
+ * SchemaRegistry compiles each JSON schema once and keeps it for all later validations.
+ * <p>
+ * Schemas are compiled by one shared JsonSchemaFactory, the validator RestAssured's matchesJsonSchema uses,
+ * so results are the same as before. RestAssured builds a new factory and recompiles the schema on every
+ * assertion. Response bodies are validated from their bytes without first being decoded to a String.
+ * <p>
+ * A schema name is looked up, in order, as a classpath resource under "schemas/", as a classpath resource,
+ * as a file under src/test/resources/schemas/, and as a file path. Schemas loaded from a location keep it,
+ * so relative $ref references resolve as they do with RestAssured.
+ */
+public final class SchemaRegistry {
+
+    private static final CustomLogger logger = new CustomLogger(SchemaRegistry.class);
+
+    private static final String SCHEMA_DIRECTORY = "schemas";
+    private static final String SCHEMA_RESOURCE_PATH = SCHEMA_DIRECTORY + "/";
+    private static final String SCHEMA_BASE_PATH = "src/test/resources/schemas/";
+    private static final int MAX_SCHEMAS = 1024;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static SchemaRegistry instance;
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private final BoundedCache<String, JsonSchema> schemas = new BoundedCache<>("JSON schema", MAX_SCHEMAS, schema -> 1);
+    private final BoundedCache<String, JsonSchema> inlineSchemas = new BoundedCache<>("inline JSON schema", MAX_SCHEMAS,
+            schema -> 1);
+
+    private SchemaRegistry() {
+    }
+
+    /**
+     * Get the singleton instance of SchemaRegistry
+     *
+     * @return SchemaRegistry instance
+     */
+    public static synchronized SchemaRegistry getInstance() {
+        if (instance == null) {
+            instance = new SchemaRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the compiled schema for a name, compiling it on first use
+     *
+     * @param schemaName Schema file name or path, e.g. "user_schema.json"
+     * @return Compiled schema
+     * @throws APIException If the schema cannot be found or is not a valid schema
+     */
+    public JsonSchema getSchema(String schemaName) {
+        return schemas.get(schemaName, this::compile);
+    }
+
+    /**
+     * Compile every schema under the "schemas" resource directory in parallel, so that validation does not
+     * read or compile files. Schemas are cached under their file names, as SchemaValidator looks them up.
+     * Schemas that fail to compile are logged and left for validation to report.
+     *
+     * @return Number of schemas compiled
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        List<String> paths = ResourceFiles.listJsonFiles(SCHEMA_DIRECTORY);
+        AtomicInteger compiled = new AtomicInteger();
+        paths.parallelStream().forEach(path -> {
+            try {
+                getSchema(path.substring(SCHEMA_RESOURCE_PATH.length()));
+                compiled.incrementAndGet();
+            } catch (RuntimeException e) {
+                logger.warn("Could not precompile schema {}: {}", path, e.getMessage());
+            }
+        });
+        logger.info("Precompiled {} of {} JSON schemas in {} ms", compiled.get(), paths.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return compiled.get();
+    }
+
+    /**
+     * Get the compiled form of a schema given as text. Schemas are cached by content, so passing the same
+     * text again reuses the compiled schema.
+     *
+     * @param schemaContent Schema as JSON text
+     * @return Compiled schema
+     * @throws APIException If the text is not a valid schema
+     */
+    public JsonSchema getSchemaFromContent(String schemaContent) {
+        return inlineSchemas.get(schemaContent, content -> factory.getJsonSchema(JacksonUtils.getReader().readTree(content)));
+    }
+
+    /**
+     * Compile a schema read from a stream. The result is not cached.
+     *
+     * @param schemaStream Schema as JSON; the stream is not closed
+     * @return Compiled schema
+     */
+    public JsonSchema compile(InputStream schemaStream) {
+        try {
+            return factory.getJsonSchema(JacksonUtils.getReader().readTree(schemaStream));
+        } catch (IOException | ProcessingException e) {
+            throw new APIException("Invalid JSON schema: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Validate a JSON document against a named schema
+     *
+     * @param schemaName Schema file name or path
+     * @param json JSON document as bytes, in any UTF encoding
+     * @return Validation report; check isSuccess()
+     * @throws APIException If the schema cannot be loaded or the document is not JSON
+     */
+    public ProcessingReport validate(String schemaName, byte[] json) {
+        return validate(getSchema(schemaName), json);
+    }
+
+    /**
+     * Validate a JSON document against a compiled schema
+     *
+     * @param schema Compiled schema
+     * @param json JSON document as bytes, in any UTF encoding
+     * @return Validation report; check isSuccess()
+     * @throws APIException If the document is not JSON or the schema cannot be applied to it
+     */
+    public ProcessingReport validate(JsonSchema schema, byte[] json) {
+        try {
+            JsonNode document = JacksonUtils.getReader().readTree(json);
+            return schema.validate(document);
+        } catch (IOException e) {
+            throw new APIException("Response body is not valid JSON: " + e.getMessage(), e);
+        } catch (ProcessingException e) {
+            throw new APIException("Schema could not be applied: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return True if a schema of this name can be found
+     */
+    public boolean exists(String schemaName) {
+        return schemas.getIfPresent(schemaName) != null || locate(schemaName) != null;
+    }
+
+    /**
+     * @return Cache of compiled named schemas, for its hit, miss and eviction counts
+     */
+    public BoundedCache<String, JsonSchema> getCache() {
+        return schemas;
+    }
+
+    /**
+     * Summarize the errors of a failed validation, one per line
+     *
+     * @param report Validation report
+     * @return Error messages with the location of each error in the document
+     */
+    public static String describe(ProcessingReport report) {
+        List<String> errors = new ArrayList<>();
+        int total = 0;
+        for (ProcessingMessage message : report) {
+            total++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                String pointer = message.asJson().path("instance").path("pointer").asText("");
+                errors.add((pointer.isEmpty() ? "/" : pointer) + ": " + message.getMessage());
+            }
+        }
+        if (total > errors.size()) {
+            errors.add("... and " + (total - errors.size()) + " more");
+        }
+        return String.join("\n", errors);
+    }
+
+    private JsonSchema compile(String schemaName) throws ProcessingException, URISyntaxException {
+        URL location = locate(schemaName);
+        if (location == null) {
+            throw new APIException("Schema not found: " + schemaName);
+        }
+        long start = System.nanoTime();
+        JsonSchema schema = factory.getJsonSchema(location.toURI().toString());
+        logger.debug("Compiled schema {} from {} in {} us", schemaName, location, (System.nanoTime() - start) / 1000);
+        return schema;
+    }
+
+    private static URL locate(String schemaName) {
+        ClassLoader classLoader = SchemaRegistry.class.getClassLoader();
+        URL url = classLoader.getResource(SCHEMA_RESOURCE_PATH + schemaName);
+        if (url == null) {
+            url = classLoader.getResource(schemaName);
+        }
+        if (url == null) {
+            url = fileUrl(new File(SCHEMA_BASE_PATH + schemaName));
+        }
+        if (url == null) {
+            url = fileUrl(new File(schemaName));
+        }
+        return url;
+    }
+
+    private static URL fileUrl(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return file.toURI().toURL();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
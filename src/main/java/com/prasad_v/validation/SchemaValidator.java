@@ -1,25 +1,21 @@
 package com.prasad_v.validation;
 
+import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.prasad_v.exceptions.APIException;
-import io.restassured.module.jsv.JsonSchemaValidator;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 
 /**
  * Utility class for validating API responses against JSON schemas.
  * Provides methods to verify that response bodies conform to predefined schemas.
+ * Schemas are compiled once by SchemaRegistry and found on the classpath or in the schemas directory.
  */
 public class SchemaValidator {
 
     private static final Logger logger = LogManager.getLogger(SchemaValidator.class);
-    private static final String SCHEMA_BASE_PATH = "src/test/resources/schemas/";
 
     /**
      * Validates if the response body conforms to the specified JSON schema file.
@@ -30,15 +26,13 @@ public class SchemaValidator {
      */
     public static boolean validateSchema(Response response, String schemaFileName) {
         try {
-            String schemaPath = SCHEMA_BASE_PATH + schemaFileName;
-            File schemaFile = new File(schemaPath);
+            ProcessingReport report = SchemaRegistry.getInstance().validate(schemaFileName, response.asByteArray());
 
-            if (!schemaFile.exists()) {
-                logger.error("Schema file not found: {}", schemaPath);
+            if (!report.isSuccess()) {
+                logger.error("Schema validation failed against schema {}: {}", schemaFileName,
+                        SchemaRegistry.describe(report));
                 return false;
             }
-
-            response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
             logger.info("Schema validation passed against schema: {}", schemaFileName);
             return true;
         } catch (Exception e) {
@@ -52,26 +46,18 @@ public class SchemaValidator {
      *
      * @param response The API response to validate
      * @param schemaFileName The name of the schema file in the schemas directory
-     * @throws APIException if the response body does not conform to the schema
+     * @throws APIException if the schema cannot be found or the response body does not conform to it
      */
     public static void assertSchema(Response response, String schemaFileName) {
-        try {
-            String schemaPath = SCHEMA_BASE_PATH + schemaFileName;
-            File schemaFile = new File(schemaPath);
-
-            if (!schemaFile.exists()) {
-                String errorMessage = "Schema file not found: " + schemaPath;
-                logger.error(errorMessage);
-                throw new APIException(errorMessage);
-            }
+        ProcessingReport report = SchemaRegistry.getInstance().validate(schemaFileName, response.asByteArray());
 
-            response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            logger.info("Schema assertion passed against schema: {}", schemaFileName);
-        } catch (AssertionError e) {
-            String errorMessage = "Schema validation failed: " + e.getMessage();
+        if (!report.isSuccess()) {
+            String errorMessage = "Schema validation failed against schema " + schemaFileName + ":\n"
+                    + SchemaRegistry.describe(report);
             logger.error(errorMessage);
             throw new APIException(errorMessage);
         }
+        logger.info("Schema assertion passed against schema: {}", schemaFileName);
     }
 
     /**
@@ -83,7 +69,13 @@ public class SchemaValidator {
      */
     public static boolean validateSchemaFromStream(Response response, InputStream schemaStream) {
         try {
-            response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(schemaStream));
+            SchemaRegistry registry = SchemaRegistry.getInstance();
+            ProcessingReport report = registry.validate(registry.compile(schemaStream), response.asByteArray());
+
+            if (!report.isSuccess()) {
+                logger.error("Schema validation failed: {}", SchemaRegistry.describe(report));
+                return false;
+            }
             logger.info("Schema validation passed against provided schema stream");
             return true;
         } catch (Exception e) {
@@ -94,6 +86,7 @@ public class SchemaValidator {
 
     /**
      * Validates if the response body conforms to a JSON schema provided as a string.
+     * The compiled schema is cached, so the same string can be passed for every response.
      *
      * @param response The API response to validate
      * @param schemaContent The schema content as a string
@@ -101,7 +94,14 @@ public class SchemaValidator {
      */
     public static boolean validateSchemaFromString(Response response, String schemaContent) {
         try {
-            response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchemaInClasspath(createTempSchemaFile(schemaContent)));
+            SchemaRegistry registry = SchemaRegistry.getInstance();
+            ProcessingReport report = registry.validate(registry.getSchemaFromContent(schemaContent),
+                    response.asByteArray());
+
+            if (!report.isSuccess()) {
+                logger.error("Schema validation failed: {}", SchemaRegistry.describe(report));
+                return false;
+            }
             logger.info("Schema validation passed against provided schema string");
             return true;
         } catch (Exception e) {
@@ -111,36 +111,20 @@ public class SchemaValidator {
     }
 
     /**
-     * Creates a temporary file from a schema string for validation purposes.
-     *
-     * @param schemaContent The schema content as a string
-     * @return The path to the temporary file
-     * @throws Exception if an error occurs while creating the temporary file
-     */
-    private static String createTempSchemaFile(String schemaContent) throws Exception {
-        Path tempFile = Files.createTempFile("schema-", ".json");
-        Files.write(tempFile, schemaContent.getBytes());
-        tempFile.toFile().deleteOnExit();
-        return tempFile.toString();
-    }
-
-    /**
-     * Checks if a schema file exists in the schemas directory.
+     * Checks if a schema file exists on the classpath or in the schemas directory.
      *
      * @param schemaFileName The name of the schema file to check
      * @return true if the schema file exists, false otherwise
      */
     public static boolean schemaFileExists(String schemaFileName) {
-        String schemaPath = SCHEMA_BASE_PATH + schemaFileName;
-        File schemaFile = new File(schemaPath);
-        boolean exists = schemaFile.exists();
+        boolean exists = SchemaRegistry.getInstance().exists(schemaFileName);
 
         if (exists) {
-            logger.debug("Schema file found: {}", schemaPath);
+            logger.debug("Schema file found: {}", schemaFileName);
         } else {
-            logger.warn("Schema file not found: {}", schemaPath);
+            logger.warn("Schema file not found: {}", schemaFileName);
         }
 
         return exists;
     }
-}
\ No newline at end of file
+}
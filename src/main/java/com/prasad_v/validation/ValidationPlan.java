@@ -0,0 +1,252 @@
+package com.prasad_v.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import io.restassured.internal.common.path.ObjectConverter;
+import io.restassured.response.Response;
+
+/**
+ * ValidationPlan is a reusable set of JsonPath expectations on a response, declared once and applied to
+ * any number of responses.
+ * <p>
+ * The paths are compiled when the plan is built and merged into a tree of shared prefixes, so running the
+ * plan walks the parsed body once: {@code data[0].id} and {@code data[0].email} resolve {@code data[0]} a
+ * single time. Paths outside the simple property/index form are evaluated by RestAssured on the same parsed
+ * body. Every expectation is checked and the outcome is returned as one ValidationResult, rather than
+ * stopping at the first failure.
+ * <p>
+ * A plan is immutable and safe to share between threads; keep it in a static field and reuse it across
+ * tests and data rows. Use JsonPathValidator.validatePlan to assert it and report it as a single entry.
+ */
+public final class ValidationPlan {
+
+    // Stands in for the value of a path whose evaluation failed
+    private static final Object NOT_EVALUATED = new Object();
+
+    private final String name;
+    private final List<Check> checks;
+    private final PathNode root;
+    private final List<Check> groovyChecks;
+
+    private ValidationPlan(Builder builder) {
+        this.name = builder.name;
+        this.checks = List.copyOf(builder.checks);
+        this.root = new PathNode(null);
+        this.groovyChecks = new ArrayList<>();
+        for (Check check : checks) {
+            if (check.path.isSimple()) {
+                PathNode node = root;
+                for (Object step : check.path.getSteps()) {
+                    node = node.children.computeIfAbsent(step, PathNode::new);
+                }
+                node.checks.add(check);
+            } else {
+                groovyChecks.add(check);
+            }
+        }
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of expectations in the plan
+     */
+    public int size() {
+        return checks.size();
+    }
+
+    /**
+     * Check every expectation against the response without asserting
+     *
+     * @param response RestAssured response
+     * @return Outcome of all expectations
+     */
+    public ValidationResult evaluate(Response response) {
+        ResponseDocument document = ResponseDocument.of(response);
+        Object[] actualValues = new Object[checks.size()];
+        List<Check> unresolved = new ArrayList<>(groovyChecks);
+        resolve(root, document.getTree(), actualValues, unresolved);
+
+        List<String> failures = new ArrayList<>();
+        for (Check check : unresolved) {
+            try {
+                actualValues[check.index] = document.readWithGroovy(check.path.getExpression());
+            } catch (RuntimeException e) {
+                actualValues[check.index] = NOT_EVALUATED;
+                failures.add("'" + check.path.getExpression() + "' could not be evaluated: " + e.getMessage());
+            }
+        }
+        for (Check check : checks) {
+            Object actualValue = actualValues[check.index];
+            if (actualValue == NOT_EVALUATED) {
+                continue;
+            }
+            try {
+                if (!check.condition.test(actualValue)) {
+                    failures.add("'" + check.path.getExpression() + "' " + check.description + " but was " + actualValue);
+                }
+            } catch (RuntimeException e) {
+                failures.add("'" + check.path.getExpression() + "' " + check.description + " but the check failed on "
+                        + actualValue + ": " + e);
+            }
+        }
+        return new ValidationResult(name, checks.size(), failures);
+    }
+
+    private static void resolve(PathNode node, Object value, Object[] actualValues, List<Check> unresolved) {
+        for (Check check : node.checks) {
+            actualValues[check.index] = value;
+        }
+        for (PathNode child : node.children.values()) {
+            Object childValue = CompiledPath.apply(value, child.step);
+            if (childValue == CompiledPath.UNRESOLVED) {
+                child.collectChecks(unresolved);
+            } else {
+                resolve(child, childValue, actualValues, unresolved);
+            }
+        }
+    }
+
+    private static Integer sizeOf(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        return null;
+    }
+
+    /**
+     * One expectation on the value at a path
+     */
+    private static final class Check {
+
+        private final int index;
+        private final CompiledPath path;
+        private final String description;
+        private final Predicate<Object> condition;
+
+        Check(int index, String path, String description, Predicate<Object> condition) {
+            this.index = index;
+            this.path = CompiledPath.compile(path);
+            this.description = description;
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * A step shared by the paths below it, with the checks on the value it leads to
+     */
+    private static final class PathNode {
+
+        private final Object step;
+        private final Map<Object, PathNode> children = new LinkedHashMap<>();
+        private final List<Check> checks = new ArrayList<>();
+
+        PathNode(Object step) {
+            this.step = step;
+        }
+
+        void collectChecks(List<Check> target) {
+            target.addAll(checks);
+            for (PathNode child : children.values()) {
+                child.collectChecks(target);
+            }
+        }
+    }
+
+    /**
+     * Builder for ValidationPlan.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final List<Check> checks = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Expect the value at the path to equal the expected value
+         */
+        public Builder equalTo(String jsonPath, Object expectedValue) {
+            return check(jsonPath, "should equal " + expectedValue,
+                    actualValue -> Objects.equals(actualValue, expectedValue));
+        }
+
+        /**
+         * Expect the path to exist with a non-null value
+         */
+        public Builder exists(String jsonPath) {
+            return check(jsonPath, "should exist", Objects::nonNull);
+        }
+
+        /**
+         * Expect a list at the path to contain the value, or any other value, converted to a string, to
+         * contain it as a substring
+         */
+        public Builder contains(String jsonPath, Object expectedValue) {
+            return check(jsonPath, "should contain '" + expectedValue + "'", actualValue -> {
+                if (actualValue instanceof Collection) {
+                    return ((Collection<?>) actualValue).contains(expectedValue);
+                }
+                String text = ObjectConverter.convertObjectTo(actualValue, String.class);
+                return text != null && text.contains(String.valueOf(expectedValue));
+            });
+        }
+
+        /**
+         * Expect the list, object or string at the path to have the given size
+         */
+        public Builder size(String jsonPath, int expectedSize) {
+            return check(jsonPath, "should have size " + expectedSize,
+                    actualValue -> Objects.equals(sizeOf(actualValue), expectedSize));
+        }
+
+        /**
+         * Expect the value at the path to satisfy a condition
+         *
+         * @param jsonPath JsonPath expression
+         * @param description What the condition expects, used in the failure message
+         * @param condition Condition on the value, which is null if the path is absent
+         */
+        public Builder matches(String jsonPath, String description, Predicate<Object> condition) {
+            return check(jsonPath, "should " + description, condition);
+        }
+
+        private Builder check(String jsonPath, String description, Predicate<Object> condition) {
+            if (jsonPath == null) {
+                throw new IllegalArgumentException("A JSON path is required");
+            }
+            checks.add(new Check(checks.size(), jsonPath, description, condition));
+            return this;
+        }
+
+        public ValidationPlan build() {
+            if (name == null || name.isBlank()) {
+                throw new IllegalStateException("A plan name is required");
+            }
+            if (checks.isEmpty()) {
+                throw new IllegalStateException("At least one expectation is required");
+            }
+            return new ValidationPlan(this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.prasad_v.validation;
+
+import java.util.List;
+
+/**
+ * Outcome of running a ValidationPlan against one response.
+ */
+public final class ValidationResult {
+
+    private final String planName;
+    private final int checked;
+    private final List<String> failures;
+
+    ValidationResult(String planName, int checked, List<String> failures) {
+        this.planName = planName;
+        this.checked = checked;
+        this.failures = List.copyOf(failures);
+    }
+
+    public String getPlanName() {
+        return planName;
+    }
+
+    /**
+     * @return Number of expectations checked
+     */
+    public int getChecked() {
+        return checked;
+    }
+
+    public boolean isPassed() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return One message per failed expectation, in plan order; paths that could not be evaluated come first
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        if (isPassed()) {
+            return "Validation plan '" + planName + "' passed: " + checked + " checks";
+        }
+        return "Validation plan '" + planName + "' failed " + failures.size() + " of " + checked + " checks:\n"
+                + String.join("\n", failures);
+    }
+}
@@ -0,0 +1,65 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.auth.AuthHandlerRegistry;
+import com.prasad_v.auth.BasicAuthHandler;
+import com.prasad_v.auth.OAuthHandler;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.requestbuilder.AuthenticationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of adding a Basic Authorization header from configuration, as
+ * RequestBuilder.addBasicAuthenticationFromConfig does, before and after handlers were shared through
+ * AuthHandlerRegistry. Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthHeaderBenchmark {
+
+    private ConfigurationManager configManager;
+
+    @Setup
+    public void setUp() {
+        EnvironmentManager.getInstance().initializeEnvironment();
+        configManager = ConfigurationManager.getInstance();
+    }
+
+    /**
+     * Replicates what every AuthenticationManager did before the registry: build both handlers, read the
+     * credentials and Base64-encode them
+     */
+    @Benchmark
+    public String legacyPerRequestHeader(Blackhole blackhole) {
+        BasicAuthHandler basicAuthHandler = new BasicAuthHandler();
+        blackhole.consume(new OAuthHandler());
+        String username = configManager.getConfigProperty("auth.benchmark.username", "");
+        if (username.isBlank()) {
+            username = configManager.getConfigProperty("auth.username", "");
+        }
+        String password = configManager.getConfigProperty("auth.benchmark.password", "");
+        if (password.isBlank()) {
+            password = configManager.getConfigProperty("auth.password", "");
+        }
+        return basicAuthHandler.getAuthorizationHeader(username, password);
+    }
+
+    /**
+     * Same work through the shared registry; logging is left out of both
+     */
+    @Benchmark
+    public String registryHeader(Blackhole blackhole) {
+        blackhole.consume(new AuthenticationManager());
+        return AuthHandlerRegistry.getInstance().getBasicAuthHeader("benchmark");
+    }
+}
@@ -0,0 +1,197 @@
+package com.prasad_v.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and fails when a benchmark got slower, or
+ * allocates more per operation, by more than a threshold.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <result.json> [thresholdPercent]}. Both files are
+ * written by JMH with {@code -rf json -rff <file>}. Time differences within the combined error of the
+ * two runs are not reported as regressions. Exits with 1 if there are regressions, 2 on bad input.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    // Differences below this many bytes per op are noise from the profiler
+    private static final double ALLOCATION_NOISE_BYTES = 64.0;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        if (!baselineFile.isFile()) {
+            System.err.println("No baseline at " + baselineFile + ". Record one with the default benchmark.args"
+                    + " and copy the JMH JSON result there.");
+            System.exit(2);
+        }
+        if (!resultFile.isFile()) {
+            System.err.println("No benchmark result at " + resultFile + ". Run the benchmark profile first.");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        List<String> regressions = compare(read(baselineFile), read(resultFile), threshold);
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println(regressions.size() + " regression(s) beyond " + threshold + "%:");
+            regressions.forEach(line -> System.out.println("  " + line));
+            System.exit(1);
+        }
+        System.out.println();
+        System.out.println("No regressions beyond " + threshold + "%");
+    }
+
+    /**
+     * Print a side-by-side table and return a description of each regression
+     */
+    static List<String> compare(Map<String, Result> baseline, Map<String, Result> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-80s %14s %14s %8s %12s %12s %8s%n",
+                "Benchmark", "Baseline", "Current", "Change", "Base B/op", "Curr B/op", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            String key = entry.getKey();
+            Result now = entry.getValue();
+            Result before = baseline.get(key);
+            if (before == null) {
+                System.out.printf("%-80s %14s %14s%n", key, "-", format(now.score, now.unit));
+                continue;
+            }
+            if (!before.unit.equals(now.unit)) {
+                System.out.printf("%-80s units differ: %s vs %s%n", key, before.unit, now.unit);
+                continue;
+            }
+
+            // Positive means worse, whichever direction the mode counts as better
+            double timeChange = percentChange(before.score, now.score) * (now.higherIsBetter() ? -1 : 1);
+            double errorBand = before.error + now.error;
+            boolean slower = timeChange > threshold && Math.abs(now.score - before.score) > errorBand;
+
+            double allocationChange = percentChange(before.allocation, now.allocation);
+            boolean allocatesMore = !Double.isNaN(before.allocation) && !Double.isNaN(now.allocation)
+                    && allocationChange > threshold && now.allocation - before.allocation > ALLOCATION_NOISE_BYTES;
+
+            System.out.printf("%-80s %14s %14s %+7.1f%% %12s %12s %+7.1f%%%s%n", key,
+                    format(before.score, before.unit), format(now.score, now.unit), timeChange,
+                    formatBytes(before.allocation), formatBytes(now.allocation),
+                    Double.isNaN(allocationChange) ? 0.0 : allocationChange,
+                    slower || allocatesMore ? "  <<" : "");
+
+            if (slower) {
+                regressions.add(String.format("%s: %s -> %s (%+.1f%%)", key,
+                        format(before.score, before.unit), format(now.score, now.unit), timeChange));
+            }
+            if (allocatesMore) {
+                regressions.add(String.format("%s: %s -> %s B/op (%+.1f%%)", key,
+                        formatBytes(before.allocation), formatBytes(now.allocation), allocationChange));
+            }
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-80s not in this run%n", key);
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Read a JMH JSON result file, keyed by benchmark name, mode and parameters
+     */
+    static Map<String, Result> read(File file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file);
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            String mode = run.path("mode").asText();
+            StringBuilder key = new StringBuilder(shortName(run.path("benchmark").asText())).append(' ').append(mode);
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").properties().iterator();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            if (!params.isEmpty()) {
+                key.append(' ').append(params);
+            }
+
+            JsonNode primary = run.path("primaryMetric");
+            double allocation = Double.NaN;
+            Iterator<Map.Entry<String, JsonNode>> secondary = run.path("secondaryMetrics").properties().iterator();
+            while (secondary.hasNext()) {
+                Map.Entry<String, JsonNode> metric = secondary.next();
+                // Older JMH versions prefix profiler metrics with a middle dot
+                if (metric.getKey().replace("\u00b7", "").equals(ALLOCATION_METRIC)) {
+                    allocation = metric.getValue().path("score").asDouble(Double.NaN);
+                }
+            }
+            results.put(key.toString(), new Result(mode, primary.path("score").asDouble(),
+                    errorOf(primary), primary.path("scoreUnit").asText(), allocation));
+        }
+        return results;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0.0);
+        // JMH reports NaN when there were too few iterations to compute an error
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    private static String shortName(String benchmark) {
+        String prefix = BenchmarkComparison.class.getPackageName() + ".";
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+
+    private static double percentChange(double before, double now) {
+        if (Double.isNaN(before) || Double.isNaN(now) || before == 0.0) {
+            return Double.NaN;
+        }
+        return (now - before) / before * 100.0;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+
+    private static String formatBytes(double bytes) {
+        return Double.isNaN(bytes) ? "-" : String.format("%.0f", bytes);
+    }
+
+    /**
+     * One benchmark run: primary score with its error, and normalized allocation if profiled
+     */
+    static final class Result {
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+        final double allocation;
+
+        Result(String mode, double score, double error, String unit, double allocation) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+            this.allocation = allocation;
+        }
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.prasad_v.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Payloads shared by the hot-path benchmarks. Sizes follow the small / medium / large split used
+ * across the suite, and responses are built in memory so no benchmark needs a server or network access.
+ */
+public final class BenchmarkPayloads {
+
+    public static final String SMALL = "1024";
+    public static final String MEDIUM = "102400";
+    public static final String LARGE = "1048576";
+
+    public static final String USER_LIST_SCHEMA = "schemas/user_list_schema.json";
+    public static final String USER_LIST_CONTRACT = "contracts/user_list_contract.json";
+
+    private BenchmarkPayloads() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Keep per-call INFO logging of validators out of the measurement
+     */
+    public static void quietLogging() {
+        Configurator.setLevel("com.prasad_v", Level.WARN);
+        Configurator.setLevel("io.qameta.allure", Level.OFF);
+    }
+
+    /**
+     * Build a paged user list in the shape of the reqres.in API of roughly the requested size
+     *
+     * @param size Approximate size in characters
+     * @return JSON object text
+     */
+    public static String userList(int size) {
+        StringBuilder sb = new StringBuilder(size + 256);
+        sb.append("{\"page\":1,\"per_page\":0,\"total\":0,\"total_pages\":1,\"data\":[");
+        int count = 0;
+        int dataEnd = Math.max(size - 120, 0);
+        do {
+            if (count > 0) {
+                sb.append(',');
+            }
+            int id = count + 1;
+            sb.append("{\"id\":").append(id)
+                    .append(",\"email\":\"user").append(id).append("@reqres.in\"")
+                    .append(",\"first_name\":\"First").append(id).append('"')
+                    .append(",\"last_name\":\"Last").append(id).append('"')
+                    .append(",\"avatar\":\"https://reqres.in/img/faces/").append(id).append("-image.jpg\"}");
+            count++;
+        } while (sb.length() < dataEnd);
+        sb.append("],\"support\":{\"url\":\"https://reqres.in/#support-heading\",\"text\":\"To keep ReqRes free, contributions are appreciated!\"}}");
+
+        // Fill in the counts now that they are known, keeping the text otherwise unchanged
+        String json = sb.toString();
+        return json.replace("\"per_page\":0,\"total\":0", "\"per_page\":" + count + ",\"total\":" + count);
+    }
+
+    /**
+     * Number of users in a list produced by {@link #userList(int)}
+     */
+    public static int userCount(String userList) {
+        int count = 0;
+        for (int i = userList.indexOf("\"email\""); i >= 0; i = userList.indexOf("\"email\"", i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Wrap a JSON body in a RestAssured response, as transports hand it to validators
+     */
+    public static Response jsonResponse(String json) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(json)
+                .build();
+    }
+}
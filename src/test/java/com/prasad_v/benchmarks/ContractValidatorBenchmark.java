@@ -0,0 +1,55 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.contracts.ContractValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ContractValidator's schema, contract and required-field checks on paged user lists of
+ * 1 KB, 100 KB and 1 MB, each on a freshly received response. Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractValidatorBenchmark {
+
+    private static final String[] REQUIRED_FIELDS = {"page", "total", "data", "support.url", "support.text"};
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public int size;
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        body = BenchmarkPayloads.userList(size);
+        // Load the schema into the validator's cache outside the measured region
+        ContractValidator.validateAgainstSchema(BenchmarkPayloads.jsonResponse(body), BenchmarkPayloads.USER_LIST_SCHEMA);
+    }
+
+    @Benchmark
+    public boolean validateAgainstSchema() {
+        return ContractValidator.validateAgainstSchema(BenchmarkPayloads.jsonResponse(body),
+                BenchmarkPayloads.USER_LIST_SCHEMA);
+    }
+
+    @Benchmark
+    public boolean validateAgainstContract() {
+        return ContractValidator.validateAgainstContract(BenchmarkPayloads.jsonResponse(body),
+                BenchmarkPayloads.USER_LIST_CONTRACT);
+    }
+
+    @Benchmark
+    public boolean validateRequiredFields() {
+        return ContractValidator.validateRequiredFields(BenchmarkPayloads.jsonResponse(body), REQUIRED_FIELDS);
+    }
+}
@@ -0,0 +1,63 @@
+package com.prasad_v.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local HTTP stub that streams a paged user list of any size, generated while it is sent, so bodies far
+ * larger than the heap can be served. GET /users?bytes=N returns a chunked JSON body of roughly N bytes.
+ * Every generated record is valid against contracts/user_records_contract.json.
+ */
+public final class GeneratedUserListServer implements AutoCloseable {
+
+    private static final int RECORDS_PER_BLOCK = 512;
+
+    private final HttpServer server;
+    private final byte[] block;
+
+    public GeneratedUserListServer() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int id = 1; id <= RECORDS_PER_BLOCK; id++) {
+            sb.append("{\"id\":").append(id)
+                    .append(",\"email\":\"user").append(id).append("@reqres.in\"")
+                    .append(",\"first_name\":\"First").append(id).append('"')
+                    .append(",\"last_name\":\"Last").append(id).append('"')
+                    .append(",\"avatar\":\"https://reqres.in/img/faces/").append(id).append("-image.jpg\"},");
+        }
+        this.block = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/users", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            long bytes = query != null && query.startsWith("bytes=") ? Long.parseLong(query.substring(6)) : block.length;
+            long blocks = Math.max(1, bytes / block.length);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                long total = blocks * RECORDS_PER_BLOCK + 1;
+                out.write(("{\"page\":1,\"total\":" + total + ",\"data\":[").getBytes(StandardCharsets.UTF_8));
+                for (long i = 0; i < blocks; i++) {
+                    out.write(block);
+                }
+                out.write(("{\"id\":" + total + ",\"email\":\"last@reqres.in\",\"first_name\":\"Last\","
+                        + "\"last_name\":\"User\",\"avatar\":\"https://reqres.in/img/faces/last.jpg\"}],"
+                        + "\"support\":{\"url\":\"https://reqres.in/#support-heading\"}}").getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
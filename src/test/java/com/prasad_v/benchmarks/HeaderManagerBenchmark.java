@@ -0,0 +1,43 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.requestbuilder.HeaderManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures HeaderManager.getHeaders(), called once per request execution, with 4, 16 and 64 headers.
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HeaderManagerBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int headers;
+
+    private HeaderManager headerManager;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        headerManager = new HeaderManager().addContentTypeJson().addAcceptJson();
+        for (int i = headerManager.getHeaders().size(); i < headers; i++) {
+            headerManager.addHeader("X-Custom-Header-" + i, "value-" + i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> getHeaders() {
+        return headerManager.getHeaders();
+    }
+}
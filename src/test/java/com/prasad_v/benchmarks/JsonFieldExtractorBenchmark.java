@@ -0,0 +1,110 @@
+package com.prasad_v.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.prasad_v.modules.PayloadManager;
+import com.prasad_v.pojos.BookingResponse;
+import com.prasad_v.validation.JsonFieldExtractor;
+import com.prasad_v.validation.JsonPathValidator;
+import com.prasad_v.validation.ResponseDocument;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a few fields with JsonFieldExtractor against parsing the whole body, on payloads of
+ * 1 KB, 100 KB and 1 MB:
+ * <ul>
+ *     <li>user list: four fields, the last of them after the large data array, read through
+ *     JsonPathValidator.extractFields versus the parsed ResponseDocument</li>
+ *     <li>booking response: bookingid and booking.firstname from a booking with a long additionalneeds,
+ *     read through PayloadManager versus its Gson mapping</li>
+ * </ul>
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonFieldExtractorBenchmark {
+
+    private static final String[] USER_PATHS = {"page", "total", "data[0].first_name", "support.url"};
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public int size;
+
+    private final JsonPathValidator validator = new JsonPathValidator();
+    private final JsonFieldExtractor userExtractor = JsonFieldExtractor.of(USER_PATHS);
+    private final JsonFieldExtractor bookingExtractor = JsonFieldExtractor.of("bookingid", "booking.firstname");
+    private final Gson gson = new Gson();
+    private PayloadManager payloadManager;
+    private String userList;
+    private byte[] userListBytes;
+    private String bookingResponse;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        payloadManager = new PayloadManager();
+        userList = BenchmarkPayloads.userList(size);
+        userListBytes = userList.getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder needs = new StringBuilder(size);
+        while (needs.length() < size - 200) {
+            needs.append("Breakfast, late checkout and a quiet room facing the garden. ");
+        }
+        bookingResponse = "{\"bookingid\":1,\"booking\":{\"firstname\":\"Jim\",\"lastname\":\"Brown\",\"totalprice\":111,"
+                + "\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2024-01-01\",\"checkout\":\"2024-01-09\"},"
+                + "\"additionalneeds\":\"" + needs + "\"}}";
+    }
+
+    @Benchmark
+    public Map<String, Object> extractUserFields() {
+        return userExtractor.extract(userListBytes);
+    }
+
+    @Benchmark
+    public Map<String, Object> validatorExtractUserFields() {
+        return validator.extractFields(BenchmarkPayloads.jsonResponse(userList), userExtractor);
+    }
+
+    @Benchmark
+    public Object fullParseUserFields() {
+        Response response = BenchmarkPayloads.jsonResponse(userList);
+        ResponseDocument document = ResponseDocument.of(response);
+        Object last = null;
+        for (String path : USER_PATHS) {
+            last = document.read(path);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Map<String, Object> extractBookingFields() {
+        return bookingExtractor.extract(bookingResponse);
+    }
+
+    @Benchmark
+    public Integer payloadManagerBookingId() {
+        return payloadManager.getBookingIdFromJSON(bookingResponse);
+    }
+
+    @Benchmark
+    public BookingResponse gsonBookingResponse() {
+        return payloadManager.bookingResponseJava(bookingResponse);
+    }
+
+    @Benchmark
+    public JsonObject gsonTree() {
+        return gson.fromJson(userList, JsonObject.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.validation.JsonPathValidator;
+import com.prasad_v.validation.ValidationPlan;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JsonPathValidator on paged user lists of 1 KB, 100 KB and 1 MB. Every operation validates a
+ * freshly received response, as a test does, so parsing is part of the measurement.
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonPathValidatorBenchmark {
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public int size;
+
+    private final JsonPathValidator validator = new JsonPathValidator();
+    private String body;
+    private int users;
+    private Map<String, Object> expectedPaths;
+    private ValidationPlan plan;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        body = BenchmarkPayloads.userList(size);
+        users = BenchmarkPayloads.userCount(body);
+
+        expectedPaths = new LinkedHashMap<>();
+        expectedPaths.put("page", 1);
+        expectedPaths.put("total", users);
+        expectedPaths.put("data[0].first_name", "First1");
+        expectedPaths.put("support.url", "https://reqres.in/#support-heading");
+
+        plan = ValidationPlan.builder("user list")
+                .equalTo("page", 1)
+                .equalTo("total", users)
+                .equalTo("data[0].first_name", "First1")
+                .equalTo("data[0].email", "user1@reqres.in")
+                .exists("data[0].avatar")
+                .size("data", users)
+                .contains("data.id", users)
+                .contains("support.url", "reqres.in")
+                .build();
+    }
+
+    @Benchmark
+    public Response validateEquals() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        validator.validateEquals(response, "data[0].email", "user1@reqres.in");
+        return response;
+    }
+
+    @Benchmark
+    public Response validateArraySize() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        validator.validateArraySize(response, "data", users);
+        return response;
+    }
+
+    /**
+     * Four paths checked against the same response, the usual shape of a test's assertions
+     */
+    @Benchmark
+    public Response validateMultiplePaths() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        validator.validateMultiplePaths(response, expectedPaths);
+        return response;
+    }
+
+    /**
+     * Eight expectations from a plan built once, as a data-driven test applies it to every row
+     */
+    @Benchmark
+    public Response validatePlan() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        validator.validatePlan(response, plan);
+        return response;
+    }
+}
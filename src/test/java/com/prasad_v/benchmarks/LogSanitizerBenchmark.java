@@ -0,0 +1,107 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.logging.LogSanitizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass LogSanitizer with the sequence of six regular expressions it replaced,
+ * on bodies without sensitive content and on bodies where every record carries some.
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogSanitizerBenchmark {
+
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("(\"password\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("(\"token\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern AUTH_HEADER_PATTERN = Pattern.compile("(Authorization:\\s*)(.+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern API_KEY_PATTERN = Pattern.compile("(\"api[_-]?key\"\\s*:\\s*\")([^\"]+)(\")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREDIT_CARD_PATTERN = Pattern.compile("\\b\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}\\b");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("([a-zA-Z0-9._%+-]+)@([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
+    private static final String MASK = "***REDACTED***";
+
+    /**
+     * The legacy patterns in the order they were applied
+     */
+    public static final List<Pattern> LEGACY_PATTERNS = List.of(PASSWORD_PATTERN, TOKEN_PATTERN, AUTH_HEADER_PATTERN,
+            API_KEY_PATTERN, CREDIT_CARD_PATTERN, EMAIL_PATTERN);
+
+    @Param({"1024", "102400", "10485760"})
+    public int size;
+
+    @Param({"clean", "sensitive"})
+    public String content;
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        body = generateBody(size, "sensitive".equals(content));
+    }
+
+    @Benchmark
+    public String legacyRegexChain() {
+        return legacySanitize(body);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return LogSanitizer.sanitize(body);
+    }
+
+    /**
+     * The sanitizer as it was before the single-pass engine: six regular expressions applied in sequence
+     */
+    public static String legacySanitize(String content) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+
+        String sanitized = content;
+        sanitized = PASSWORD_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
+        sanitized = TOKEN_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
+        sanitized = AUTH_HEADER_PATTERN.matcher(sanitized).replaceAll("$1" + MASK);
+        sanitized = API_KEY_PATTERN.matcher(sanitized).replaceAll("$1" + MASK + "$3");
+        sanitized = CREDIT_CARD_PATTERN.matcher(sanitized).replaceAll(MASK);
+        sanitized = EMAIL_PATTERN.matcher(sanitized).replaceAll("$1@" + MASK);
+
+        return sanitized;
+    }
+
+    /**
+     * Build a JSON array of booking-like records of roughly the requested size
+     */
+    public static String generateBody(int size, boolean sensitive) {
+        StringBuilder sb = new StringBuilder(size + 256).append('[');
+        int id = 0;
+        while (sb.length() < size) {
+            if (id > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(id)
+                    .append(",\"firstname\":\"Jim\",\"lastname\":\"Brown\",\"totalprice\":").append(100 + id % 900)
+                    .append(",\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2024-01-01\",\"checkout\":\"2024-01-0")
+                    .append(1 + id % 9).append("\"},\"additionalneeds\":\"Breakfast and a late checkout\"");
+            if (sensitive) {
+                sb.append(",\"email\":\"guest").append(id).append("@example.com\"")
+                        .append(",\"password\":\"s3cret-").append(id).append('"')
+                        .append(",\"card\":\"4111 1111 1111 ").append(1000 + id % 9000).append('"');
+            }
+            sb.append('}');
+            id++;
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.builders.BookingBuilder;
+import com.prasad_v.modules.PayloadManager;
+import com.prasad_v.pojos.Booking;
+import com.prasad_v.pojos.BookingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PayloadManager serialization of a booking and deserialization of a booking response.
+ * The booking's additionalneeds text is padded so the payload is about 1 KB, 100 KB or 1 MB.
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadManagerBenchmark {
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public int size;
+
+    private PayloadManager payloadManager;
+    private Booking booking;
+    private String bookingResponse;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        payloadManager = new PayloadManager();
+
+        StringBuilder needs = new StringBuilder(size);
+        while (needs.length() < size - 200) {
+            needs.append("Breakfast, late checkout and a quiet room facing the garden. ");
+        }
+        booking = new BookingBuilder()
+                .withFirstname("Jim")
+                .withLastname("Brown")
+                .withTotalprice(111)
+                .withDepositpaid(true)
+                .withCheckin("2024-01-01")
+                .withCheckout("2024-01-09")
+                .withAdditionalneeds(needs.toString())
+                .build();
+        bookingResponse = "{\"bookingid\":1,\"booking\":" + payloadManager.createPayloadBookingAsString(booking) + "}";
+    }
+
+    @Benchmark
+    public String serializeBooking() {
+        return payloadManager.createPayloadBookingAsString(booking);
+    }
+
+    @Benchmark
+    public BookingResponse deserializeBookingResponse() {
+        return payloadManager.bookingResponseJava(bookingResponse);
+    }
+}
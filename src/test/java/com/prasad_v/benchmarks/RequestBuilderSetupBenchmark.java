@@ -0,0 +1,80 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.config.EnvironmentManager;
+import com.prasad_v.constants.APIConstants;
+import com.prasad_v.interceptors.RequestResponseInterceptor;
+import com.prasad_v.requestbuilder.AuthenticationManager;
+import com.prasad_v.requestbuilder.HeaderManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.requestbuilder.RequestTemplate;
+import io.restassured.RestAssured;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request setup cost of RequestBuilder before and after the
+ * shared RequestTemplate was introduced. Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestBuilderSetupBenchmark {
+
+    @Setup
+    public void setUp() {
+        EnvironmentManager.getInstance().initializeEnvironment();
+        // Build the shared template outside the measured region
+        RequestTemplate.forCurrentEnvironment();
+    }
+
+    /**
+     * Replicates what every RequestBuilder constructor did before templates existed
+     */
+    @Benchmark
+    public void legacyPerBuilderSetup(Blackhole blackhole) {
+        blackhole.consume(new HeaderManager());
+        blackhole.consume(new AuthenticationManager());
+        blackhole.consume(new HashMap<String, String>());
+        blackhole.consume(new HashMap<String, String>());
+        blackhole.consume(new HashMap<String, Object>());
+
+        ConfigurationManager configManager = ConfigurationManager.getInstance();
+        String baseUrl = configManager.getConfigProperty("api.base.url", "");
+        if (baseUrl.isBlank()) {
+            baseUrl = configManager.getConfigProperty("api.baseUrl", APIConstants.BASE_URL);
+        }
+        blackhole.consume(baseUrl);
+
+        EncoderConfig encoderConfig = new EncoderConfig()
+                .appendDefaultContentCharsetToContentTypeIfUndefined(false)
+                .defaultContentCharset("UTF-8");
+        LogConfig logConfig = new LogConfig()
+                .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
+        RestAssuredConfig config = RestAssured.config()
+                .encoderConfig(encoderConfig)
+                .logConfig(logConfig);
+        RequestSpecification requestSpec = RestAssured.given().config(config);
+        requestSpec.filter(new RequestResponseInterceptor());
+        blackhole.consume(requestSpec);
+    }
+
+    @Benchmark
+    public RequestBuilder templateBackedBuilder() {
+        return new RequestBuilder();
+    }
+}
@@ -0,0 +1,56 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.validation.SchemaValidator;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares SchemaValidator, which validates against schemas compiled once by SchemaRegistry, with
+ * RestAssured's matchesJsonSchema, which compiles the schema on every assertion. Both run on paged user
+ * lists of 1 KB, 100 KB and 1 MB, each on a freshly received response. Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaValidatorBenchmark {
+
+    private static final String SCHEMA = "user_list_schema.json";
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public int size;
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        BenchmarkPayloads.quietLogging();
+        body = BenchmarkPayloads.userList(size);
+    }
+
+    @Benchmark
+    public Response assertSchema() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        SchemaValidator.assertSchema(response, SCHEMA);
+        return response;
+    }
+
+    /**
+     * What assertSchema did before: a new factory and schema compilation per assertion
+     */
+    @Benchmark
+    public Response restAssuredMatcher() {
+        Response response = BenchmarkPayloads.jsonResponse(body);
+        response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchemaInClasspath(BenchmarkPayloads.USER_LIST_SCHEMA));
+        return response;
+    }
+}
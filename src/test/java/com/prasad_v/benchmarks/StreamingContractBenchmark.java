@@ -0,0 +1,84 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.contracts.ContractValidationResult;
+import com.prasad_v.contracts.ContractValidator;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.transport.StreamingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a generated 500 MB user list from a local stub and validates every record against
+ * contracts/user_records_contract.json while it arrives. The fork runs with a 256 MB heap, so the body
+ * could not be validated by loading it into memory. readOnly measures the transfer alone, for comparison.
+ * Run with -prof gc to see allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class StreamingContractBenchmark {
+
+    private static final String CONTRACT = "contracts/user_records_contract.json";
+
+    @Param({"500"})
+    public int megabytes;
+
+    private GeneratedUserListServer server;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkPayloads.quietLogging();
+        server = new GeneratedUserListServer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ContractValidationResult validateStreaming() {
+        try (StreamingResponse response = request()) {
+            ContractValidationResult result = ContractValidator.validateStreaming(response.getBody(), CONTRACT);
+            if (!result.isValid()) {
+                throw new IllegalStateException(result.describeErrors());
+            }
+            return result;
+        }
+    }
+
+    @Benchmark
+    public long readOnly() {
+        try (StreamingResponse response = request()) {
+            return response.drain();
+        }
+    }
+
+    private StreamingResponse request() {
+        return new RequestBuilder()
+                .setBaseUrl(server.getBaseUrl())
+                .setPath("/users")
+                .addQueryParam("bytes", String.valueOf((long) megabytes * 1024 * 1024))
+                .setTransport(TransportType.JDK)
+                .logRequest(false)
+                .logResponse(false)
+                .executeStreaming();
+    }
+}
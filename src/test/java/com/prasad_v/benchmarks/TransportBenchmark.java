@@ -0,0 +1,114 @@
+package com.prasad_v.benchmarks;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.requestbuilder.RequestTemplate;
+import com.prasad_v.transport.HttpTransport;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.configuration.Configuration;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.socket.tls.KeyStoreFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Compares the RestAssured (HTTP/1.1, pooled) and JDK (HTTP/2, multiplexed) transports
+ * at 1, 8 and 64 concurrent callers against a local MockServer over TLS, where the JDK client negotiates h2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransportBenchmark {
+
+    @Param({"RESTASSURED", "JDK"})
+    public String transport;
+
+    private ClientAndServer mockServer;
+    private String keyStoreFile;
+    private String baseUrl;
+    private HttpTransport httpTransport;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Per-request INFO logging and Allure's "no test is running" errors would dominate the measurement
+        Configurator.setLevel("com.prasad_v", org.apache.logging.log4j.Level.WARN);
+        Configurator.setLevel("io.qameta.allure", org.apache.logging.log4j.Level.OFF);
+        Configurator.setLevel("org.mockserver", org.apache.logging.log4j.Level.WARN);
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        mockServer = ClientAndServer.startClientAndServer(port);
+        mockServer.when(request().withMethod("GET").withPath("/bench"))
+                .respond(response().withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"bookingid\":1,\"firstname\":\"Prasad\",\"lastname\":\"Valiv\",\"totalprice\":143}"));
+
+        // Trust MockServer's generated CA in both clients so HTTPS (and therefore h2 via ALPN) can be used
+        KeyStoreFactory keyStoreFactory = new KeyStoreFactory(Configuration.configuration(), new MockServerLogger());
+        keyStoreFactory.loadOrCreateKeyStore();
+        keyStoreFile = keyStoreFactory.keyStoreFileName;
+        System.setProperty("javax.net.ssl.trustStore", keyStoreFile);
+        System.setProperty("javax.net.ssl.trustStorePassword", KeyStoreFactory.KEY_STORE_PASSWORD);
+        System.setProperty("javax.net.ssl.trustStoreType", KeyStoreFactory.KEY_STORE_TYPE);
+
+        baseUrl = "https://localhost:" + port;
+        httpTransport = RequestTemplate.forBaseUrl(baseUrl).newTransport(TransportType.valueOf(transport));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mockServer.stop();
+        ConnectionPoolManager.shutdown();
+        new File(keyStoreFile).delete();
+    }
+
+    private Response get() {
+        return new RequestBuilder(RequestTemplate.forBaseUrl(baseUrl))
+                .setTransport(httpTransport)
+                .setRequestType(RequestType.GET)
+                .setPath("/bench")
+                .logRequest(false)
+                .logResponse(false)
+                .execute();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Response oneCaller() {
+        return get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Response eightCallers() {
+        return get();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Response sixtyFourCallers() {
+        return get();
+    }
+}
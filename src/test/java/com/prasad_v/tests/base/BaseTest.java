@@ -4,6 +4,7 @@ import com.prasad_v.constants.APIConstants;
 import com.prasad_v.config.ConfigurationManager;
 import com.prasad_v.config.EnvironmentManager;
 import com.prasad_v.asserts.AssertActions;
+import com.prasad_v.auth.TokenManager;
 import com.prasad_v.modules.PayloadManager;
 import com.prasad_v.interceptors.RequestResponseInterceptor;
 import com.prasad_v.utils.RestUtils;
@@ -21,6 +22,10 @@ import org.testng.annotations.BeforeMethod;
  * It sets up common configurations such as base URL, headers, and authentication token retrieval.
  */
 public class BaseTest {
+    // restful-booker does not report how long its tokens last, so a token is reused for at most this long
+    private static final String AUTH_TOKEN_KEY = "booker_token";
+    private static final long AUTH_TOKEN_LIFETIME_SECONDS = 600;
+
     protected ConfigurationManager config;
     public RequestSpecification requestSpecification;
     public AssertActions assertActions;
@@ -47,10 +52,24 @@ public class BaseTest {
                 .build();
     }
 
+    /**
+     * Get an auth token. The token is shared by all tests, and with auth.token.cache.enabled also by
+     * other JVMs on this machine, until it is close to expiry.
+     */
     public String getToken() {
         String baseUrl = config.getProperty("api.base.url", APIConstants.BASE_URL);
-        requestSpecification.baseUri(baseUrl).basePath(APIConstants.AUTH_URL).contentType(ContentType.JSON);
-        response = RestUtils.post(requestSpecification, payloadManager.setAuthPayload());
-        return payloadManager.getTokenFromJSON(response.asString());
+        PayloadManager payloads = payloadManager;
+        return TokenManager.getToken(AUTH_TOKEN_KEY, 60, () -> {
+            // Refreshes run on the token-refresh thread, so the request gets a spec of its own
+            RequestSpecification authRequest = new RequestSpecBuilder()
+                    .setBaseUri(baseUrl)
+                    .setBasePath(APIConstants.AUTH_URL)
+                    .setContentType(ContentType.JSON)
+                    .addFilter(new RequestResponseInterceptor())
+                    .build();
+            Response authResponse = RestUtils.post(authRequest, payloads.setAuthPayload());
+            return new TokenManager.IssuedToken(payloads.getTokenFromJSON(authResponse.asString()),
+                    AUTH_TOKEN_LIFETIME_SECONDS);
+        });
     }
 }
@@ -0,0 +1,184 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.requestbuilder.AsyncRequestExecutor;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies asynchronous execution against a local MockServer: input order, failure unwrapping and that
+ * only the pooled RestAssured transport is capped at the connection limit of each route.
+ */
+public class AsyncRequestExecutorTest {
+
+    private static final long FAN_OUT_DELAY_MS = 300;
+    private static final long ROUTES_DELAY_MS = 1000;
+
+    private MockServerManager mockServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        stub("/async/slow", "{\"speed\":\"slow\"}", 300);
+        stub("/async/fast", "{\"speed\":\"fast\"}", 10);
+        stub("/async/fanout", "{\"speed\":\"fanout\"}", FAN_OUT_DELAY_MS);
+        stub("/async/routes", "{\"speed\":\"routes\"}", ROUTES_DELAY_MS);
+
+        // Warm up both transports so connection setup does not count towards the timing assertions
+        newRequest("/async/fast").setTransport(TransportType.RESTASSURED).execute();
+        newRequest("/async/fast").setTransport(TransportType.JDK).execute();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @Test
+    public void testAllOfKeepsInputOrder() {
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(newRequest(i % 2 == 0 ? "/async/slow" : "/async/fast").executeAsync());
+        }
+
+        List<Response> responses = AsyncRequestExecutor.allOf(futures).join();
+        Assert.assertEquals(responses, AsyncRequestExecutor.awaitAll(futures, 10, TimeUnit.SECONDS));
+        for (int i = 0; i < responses.size(); i++) {
+            Assert.assertEquals(responses.get(i).jsonPath().getString("speed"), i % 2 == 0 ? "slow" : "fast",
+                    "Response " + i + " out of order");
+        }
+    }
+
+    @Test
+    public void testAnyOfCompletesWithFirstResponse() {
+        List<CompletableFuture<Response>> futures = List.of(
+                newRequest("/async/slow").executeAsync(),
+                newRequest("/async/fast").executeAsync());
+
+        Response first = AsyncRequestExecutor.anyOf(futures).join();
+        Assert.assertEquals(first.jsonPath().getString("speed"), "fast");
+        AsyncRequestExecutor.awaitAll(futures, 10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFailuresAreUnwrappedIntoAPIException() {
+        List<CompletableFuture<Response>> futures = List.of(
+                newRequest("/async/fast").executeAsync(),
+                newRequest("/async/fast").setBaseUrl("").executeAsync());
+
+        APIException failure = Assert.expectThrows(APIException.class,
+                () -> AsyncRequestExecutor.awaitAll(futures, 10, TimeUnit.SECONDS));
+        Assert.assertTrue(failure.getMessage().contains("Base URL is not set"), failure.getMessage());
+
+        CompletionException joined = Assert.expectThrows(CompletionException.class,
+                () -> AsyncRequestExecutor.allOf(futures).join());
+        Assert.assertSame(AsyncRequestExecutor.unwrap(joined), failure, "The request's own APIException is kept");
+
+        CompletableFuture<Response> broken = AsyncRequestExecutor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        APIException wrapped = AsyncRequestExecutor.unwrap(Assert.expectThrows(CompletionException.class, broken::join));
+        Assert.assertTrue(wrapped.getCause() instanceof IllegalStateException);
+
+        CompletableFuture<Response> slow = newRequest("/async/slow").executeAsync();
+        Assert.expectThrows(APIException.class, () -> AsyncRequestExecutor.awaitAll(List.of(slow), 10, TimeUnit.MILLISECONDS));
+        slow.join();
+    }
+
+    @Test
+    public void testJdkTransportFansOutBeyondPoolLimit() {
+        int requests = ConnectionPoolManager.getInstance().getMaxPerRoute() * 3;
+        long elapsedMs = fanOut(TransportType.JDK, requests);
+
+        // Capped at the pool limit this would take three rounds of the server delay
+        Assert.assertTrue(elapsedMs < 3 * FAN_OUT_DELAY_MS,
+                requests + " JDK requests took " + elapsedMs + "ms, expected them to run at once");
+    }
+
+    @Test
+    public void testRestAssuredTransportIsCappedAtPoolLimit() {
+        int requests = ConnectionPoolManager.getInstance().getMaxPerRoute() * 3;
+        long elapsedMs = fanOut(TransportType.RESTASSURED, requests);
+
+        Assert.assertTrue(elapsedMs >= 3 * FAN_OUT_DELAY_MS,
+                requests + " RestAssured requests took " + elapsedMs + "ms, expected three rounds");
+    }
+
+    @Test
+    public void testRestAssuredTransportIsCappedPerRoute() {
+        ConnectionPoolManager pool = ConnectionPoolManager.getInstance();
+        int perRoute = pool.getMaxPerRoute() * 3;
+        Assert.assertTrue(2 * pool.getMaxPerRoute() <= pool.getMaxTotal(), "Both routes must fit the total limit");
+        // Same server, but a different host name is a separate route for the pool
+        String otherHost = mockServer.getBaseUrl().replace("localhost", "127.0.0.1");
+
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < perRoute; i++) {
+            futures.add(newRequest("/async/routes").setTransport(TransportType.RESTASSURED).executeAsync());
+            futures.add(newRequest("/async/routes").setBaseUrl(otherHost).setTransport(TransportType.RESTASSURED)
+                    .executeAsync());
+        }
+        List<Response> responses = AsyncRequestExecutor.awaitAll(futures, 30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(responses.size(), 2 * perRoute);
+        for (Response response : responses) {
+            Assert.assertEquals(response.getStatusCode(), 200);
+        }
+        // Each route runs three rounds side by side; one limit shared by both routes takes at least six
+        Assert.assertTrue(elapsedMs >= 3 * ROUTES_DELAY_MS && elapsedMs < 6 * ROUTES_DELAY_MS,
+                2 * perRoute + " requests over two routes took " + elapsedMs + "ms, expected three rounds");
+    }
+
+    private long fanOut(TransportType transportType, int requests) {
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            futures.add(newRequest("/async/fanout").setTransport(transportType).executeAsync());
+        }
+        List<Response> responses = AsyncRequestExecutor.awaitAll(futures, 30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(responses.size(), requests);
+        for (Response response : responses) {
+            Assert.assertEquals(response.getStatusCode(), 200);
+        }
+        return elapsedMs;
+    }
+
+    private void stub(String path, String body, long delayMs) {
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath(path)
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody(body)
+                .withDelay(delayMs, TimeUnit.MILLISECONDS)
+                .stub(mockServer.getMockServerClient());
+    }
+
+    private RequestBuilder newRequest(String path) {
+        return new RequestBuilder()
+                .setBaseUrl(mockServer.getBaseUrl())
+                .setPath(path)
+                .setRequestType(RequestType.GET)
+                .logRequest(false)
+                .logResponse(false);
+    }
+}
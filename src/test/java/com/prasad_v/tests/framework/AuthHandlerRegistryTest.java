@@ -0,0 +1,79 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.auth.AuthHandlerRegistry;
+import com.prasad_v.auth.BasicAuthHandler;
+import com.prasad_v.auth.OAuthHandler;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.requestbuilder.AuthenticationManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Verifies that auth handlers are shared between requests and that their Authorization header values are
+ * encoded once and replaced only when the credentials change.
+ */
+public class AuthHandlerRegistryTest {
+
+    private final ConfigurationManager config = ConfigurationManager.getInstance();
+    private final AuthHandlerRegistry registry = AuthHandlerRegistry.getInstance();
+
+    @AfterMethod(alwaysRun = true)
+    public void clearSettings() {
+        config.setProperty("auth.registry_test.username", "");
+        config.setProperty("auth.registry_test.password", "");
+        config.setProperty("auth.registry_test.endpoint", "");
+        config.setProperty("auth.registry_test.clientId", "");
+        registry.clear();
+    }
+
+    @Test
+    public void testBasicHeaderIsEncodedOncePerCredentials() {
+        BasicAuthHandler handler = new BasicAuthHandler("alice", "secret-1");
+        String header = handler.getAuthorizationHeader();
+        Assert.assertEquals(header, "Basic " + Base64.getEncoder()
+                .encodeToString("alice:secret-1".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertSame(handler.getAuthorizationHeader("alice", "secret-1"), header);
+        handler.setCredentials("alice", "secret-1");
+        Assert.assertSame(handler.getAuthorizationHeader(), header, "Same credentials keep the header");
+        handler.setCredentials("alice", "secret-2");
+        Assert.assertNotEquals(handler.getAuthorizationHeader(), header);
+
+        config.setProperty("auth.registry_test.username", "bob");
+        config.setProperty("auth.registry_test.password", "secret-3");
+        AuthenticationManager first = new AuthenticationManager();
+        AuthenticationManager second = new AuthenticationManager();
+        String configured = first.getBasicAuthHeaderFromConfig("registry_test");
+        Assert.assertSame(second.getBasicAuthHeaderFromConfig("registry_test"), configured,
+                "Requests share the handler and its header");
+        Assert.assertSame(registry.getBasicAuthHandler("registry_test"), registry.getBasicAuthHandler("registry_test"));
+
+        config.setProperty("auth.registry_test.password", "secret-4");
+        Assert.assertEquals(first.getBasicAuthHeaderFromConfig("registry_test"), "Basic " + Base64.getEncoder()
+                .encodeToString("bob:secret-4".getBytes(StandardCharsets.UTF_8)), "Changed credentials are picked up");
+
+        String adHoc = first.getBasicAuthHeader("carol", "secret-5");
+        Assert.assertSame(second.getBasicAuthHeader("carol", "secret-5"), adHoc);
+        Assert.assertNotEquals(second.getBasicAuthHeader("carol", "secret-6"), adHoc);
+    }
+
+    @Test
+    public void testOAuthHandlerIsSharedUntilSettingsChange() {
+        config.setProperty("auth.registry_test.endpoint", "http://localhost:1/token");
+        config.setProperty("auth.registry_test.clientId", "client-1");
+        OAuthHandler handler = registry.getOAuthHandler("registry_test");
+        Assert.assertSame(registry.getOAuthHandler("registry_test"), handler);
+
+        config.setProperty("auth.registry_test.clientId", "client-2");
+        Assert.assertNotSame(registry.getOAuthHandler("registry_test"), handler,
+                "A new handler replaces the old one instead of modifying it");
+
+        String bearer = registry.getBearerHeader("registry_test", "abc");
+        Assert.assertEquals(bearer, "Bearer abc");
+        Assert.assertSame(registry.getBearerHeader("registry_test", "abc"), bearer);
+        Assert.assertEquals(registry.getBearerHeader("registry_test", "Bearer def"), "Bearer def");
+    }
+}
@@ -0,0 +1,84 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.services.BatchRequest;
+import com.prasad_v.services.BatchResult;
+import com.prasad_v.services.BookingService;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies batch execution against a local MockServer: ordering, per-item failures and bounded concurrency.
+ */
+public class BatchExecutionTest {
+
+    private MockServerManager mockServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/batch/.*")
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody("{\"ok\":true}")
+                .withDelay(50, TimeUnit.MILLISECONDS)
+                .stub(mockServer.getMockServerClient());
+
+        // Warm up the client so one-off initialization does not count towards the timing assertion
+        newRequest(mockServer.getBaseUrl(), "/batch/warmup").execute();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @Test
+    public void testBatchResultsKeepInputOrderAndIsolateFailures() {
+        List<BatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String baseUrl = i == 7 ? "" : mockServer.getBaseUrl();
+            requests.add(BatchRequest.of(newRequest(baseUrl, "/batch/" + i)));
+        }
+
+        long start = System.nanoTime();
+        List<BatchResult> results = new BookingService().executeBatch(requests, 10);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(results.size(), requests.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchResult result = results.get(i);
+            Assert.assertEquals(result.getIndex(), i);
+            Assert.assertSame(result.getRequest(), requests.get(i));
+            if (i == 7) {
+                Assert.assertFalse(result.isSuccess(), "Request without base URL should fail");
+                Assert.assertNotNull(result.getError());
+            } else {
+                Assert.assertTrue(result.isSuccess(), "Request " + i + " failed: " + result.getError());
+                Assert.assertEquals(result.getResponse().getStatusCode(), 200);
+            }
+        }
+        // 39 requests of 50ms each at concurrency 10 should need about 4 rounds, not 39 sequential calls
+        Assert.assertTrue(elapsedMs < 39 * 50, "Batch took " + elapsedMs + "ms, expected concurrent execution");
+    }
+
+    private RequestBuilder newRequest(String baseUrl, String path) {
+        return new RequestBuilder()
+                .setBaseUrl(baseUrl)
+                .setPath(path)
+                .setRequestType(RequestType.GET)
+                .logRequest(false)
+                .logResponse(false);
+    }
+}
@@ -0,0 +1,88 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.contracts.ContractValidator;
+import com.prasad_v.utils.BoundedCache;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies that BoundedCache loads each key once under contention, evicts by weight, and backs the
+ * ContractValidator warmup.
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testConcurrentLookupsLoadOnce() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 100, value -> 1);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", key -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return key.toUpperCase();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS), "KEY");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 31);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedByWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, String::length);
+        cache.get("a", key -> "aaaa");
+        cache.get("b", key -> "bbbb");
+        cache.get("a", key -> "reloaded");
+        cache.get("c", key -> "cccc");
+
+        Assert.assertEquals(cache.getIfPresent("a"), "aaaa");
+        Assert.assertNull(cache.getIfPresent("b"));
+        Assert.assertEquals(cache.getIfPresent("c"), "cccc");
+        Assert.assertEquals(cache.getWeight(), 8);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+
+        Assert.expectThrows(IllegalStateException.class, () -> cache.get("d", key -> {
+            throw new IllegalStateException("unavailable");
+        }));
+        Assert.assertNull(cache.getIfPresent("d"));
+        Assert.assertEquals(cache.getLoadFailureCount(), 1);
+    }
+
+    @Test
+    public void testWarmUpPreloadsSchemasAndContracts() {
+        ContractValidator.clearCaches();
+        Assert.assertEquals(ContractValidator.warmUp(), 5);
+
+        long schemaMisses = ContractValidator.getSchemaCache().getMissCount();
+        Response response = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(1024));
+        Assert.assertTrue(ContractValidator.validateAgainstSchema(response, BenchmarkPayloads.USER_LIST_SCHEMA));
+        Assert.assertTrue(ContractValidator.validateAgainstContract(response, BenchmarkPayloads.USER_LIST_CONTRACT));
+        Assert.assertEquals(ContractValidator.getSchemaCache().getMissCount(), schemaMisses);
+        Assert.assertEquals(ContractValidator.getContractCache().size(), 3);
+    }
+}
@@ -0,0 +1,113 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.CaptureMode;
+import com.prasad_v.interceptors.CapturePolicy;
+import com.prasad_v.interceptors.Exchange;
+import com.prasad_v.interceptors.RequestResponseInterceptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Verifies that capture policies decide what the interceptor emits without stringifying skipped exchanges.
+ */
+public class CapturePolicyTest {
+
+    @Test
+    public void testNonePolicyNeverEvaluatesSuppliers() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(CapturePolicy.none());
+
+        Exchange exchange = interceptor.begin("GET", "/items", failingSupplier(), failingSupplier());
+        exchange.complete(500, 10_000, failingSupplier(), failingSupplier());
+
+        Assert.assertFalse(exchange.mayCaptureResponse());
+        Assert.assertTrue(interceptor.emitted.isEmpty());
+    }
+
+    @Test
+    public void testFailuresPolicyEmitsOnlyFailedOrSlowExchanges() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(CapturePolicy.failuresAndSlowerThan(500));
+
+        interceptor.begin("GET", "/ok", failingSupplier(), failingSupplier())
+                .complete(200, 20, failingSupplier(), failingSupplier());
+        Assert.assertTrue(interceptor.emitted.isEmpty(), "Fast successful exchanges must not be captured");
+
+        interceptor.begin("POST", "/broken", () -> "h", () -> "request")
+                .complete(503, 20, () -> "h", () -> "error");
+        interceptor.begin("GET", "/slow", () -> "h", () -> "")
+                .complete(200, 900, () -> "h", () -> "late");
+
+        Assert.assertEquals(interceptor.emitted, List.of(
+                "request POST /broken request", "response 503 error",
+                "request GET /slow ", "response 200 late"));
+    }
+
+    @Test
+    public void testBodiesAreTruncatedAndSanitizedAcrossTheCut() {
+        CapturePolicy policy = CapturePolicy.builder(CaptureMode.ALL).maxChars(20).build();
+        RecordingInterceptor interceptor = new RecordingInterceptor(policy);
+        String body = "{\"id\":1,\"password\":\"s3cr3t-value\",\"padding\":\"" + "x".repeat(200) + "\"}";
+
+        interceptor.begin("POST", "/login", () -> "", () -> body).complete(200, 1, () -> "", () -> "");
+
+        String captured = interceptor.emitted.get(0);
+        Assert.assertFalse(captured.contains("s3cr3t"), "A secret straddling the cut must still be masked");
+        Assert.assertTrue(captured.contains("[truncated, "), captured);
+        Assert.assertTrue(captured.length() < body.length());
+    }
+
+    @Test
+    public void testInterceptorReceivesSanitizedText() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(CapturePolicy.builder(CaptureMode.ALL).build());
+        String body = "{\"user\":\"alice\",\"password\":\"s3cr3t-value\"}";
+
+        interceptor.begin("POST", "/login", () -> "", () -> body)
+                .complete(200, 1, () -> "", () -> "{\"token\":\"abc\"}", null);
+        interceptor.begin("GET", "/stream", () -> "", () -> "")
+                .complete(200, 1, () -> "", () -> "{\"password\":\"s3cr", "\n... [cut]");
+
+        Assert.assertEquals(interceptor.emitted.get(0), "request POST /login {\"user\":\"alice\",\"password\":\"***REDACTED***\"}");
+        Assert.assertFalse(interceptor.emitted.get(3).contains("s3cr"), interceptor.emitted.get(3));
+        Assert.assertTrue(interceptor.emitted.get(3).endsWith("\n... [cut]"), interceptor.emitted.get(3));
+    }
+
+    @Test
+    public void testLimitCountsCharactersNotEncodedBytes() {
+        CapturePolicy policy = CapturePolicy.builder(CaptureMode.ALL).maxChars(10).build();
+        RecordingInterceptor interceptor = new RecordingInterceptor(policy);
+        String body = "é".repeat(25);
+
+        interceptor.begin("POST", "/names", () -> "", () -> body).complete(200, 1, () -> "", () -> "");
+
+        Assert.assertEquals(interceptor.emitted.get(0), "request POST /names " + "é".repeat(10)
+                + "\n... [truncated, 15 of 25 characters omitted]");
+    }
+
+    private static Supplier<String> failingSupplier() {
+        return () -> {
+            throw new AssertionError("Supplier must not be evaluated for an exchange that is not captured");
+        };
+    }
+
+    private static final class RecordingInterceptor extends RequestResponseInterceptor {
+
+        private final List<String> emitted = new ArrayList<>();
+
+        private RecordingInterceptor(CapturePolicy policy) {
+            super(policy);
+        }
+
+        @Override
+        public void onRequest(String method, String uri, String headers, String body) {
+            emitted.add("request " + method + " " + uri + " " + body);
+        }
+
+        @Override
+        public void onResponse(int statusCode, long responseTime, String headers, String body) {
+            emitted.add("response " + statusCode + " " + body);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.requestbuilder.ConnectionPoolStats;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that RequestBuilder instances share kept-alive connections from the pool and hand them back
+ * once a response has been read, including responses with an empty body.
+ */
+public class ConnectionPoolTest {
+
+    private MockServerManager mockServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/pool/json")
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody("{\"ok\":true}")
+                .stub(mockServer.getMockServerClient());
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/pool/empty")
+                .willRespondWithStatusCode(200)
+                .withResponseHeader("Content-Length", "0")
+                .stub(mockServer.getMockServerClient());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void startWithEmptyPool() {
+        // Connections left by other tests would hide whether a new one was opened
+        ConnectionPoolManager.shutdown();
+    }
+
+    @Test
+    public void testRequestBuildersReuseOneConnection() {
+        Response first = newRequest("/pool/json").execute();
+        Assert.assertEquals(first.jsonPath().getBoolean("ok"), true);
+        assertPoolHasOneIdleConnection();
+
+        Response second = newRequest("/pool/json").execute();
+        Assert.assertEquals(second.jsonPath().getBoolean("ok"), true);
+        assertPoolHasOneIdleConnection();
+    }
+
+    @Test
+    public void testEmptyBodyReleasesConnection() {
+        for (int i = 0; i < 3; i++) {
+            Response response = newRequest("/pool/empty").execute();
+            Assert.assertEquals(response.getStatusCode(), 200);
+            Assert.assertEquals(response.asString(), "");
+            assertPoolHasOneIdleConnection();
+        }
+    }
+
+    private void assertPoolHasOneIdleConnection() {
+        ConnectionPoolStats stats = ConnectionPoolManager.getInstance().getPoolStats();
+        Assert.assertEquals(stats.getLeased(), 0, "Connection not returned to the pool: " + stats);
+        Assert.assertEquals(stats.getAvailable(), 1, "Connection not kept alive for reuse: " + stats);
+        Assert.assertEquals(stats.getPending(), 0, "Pool starved: " + stats);
+    }
+
+    private RequestBuilder newRequest(String path) {
+        return new RequestBuilder()
+                .setBaseUrl(mockServer.getBaseUrl())
+                .setPath(path)
+                .setRequestType(RequestType.GET)
+                .logRequest(false)
+                .logResponse(false);
+    }
+}
@@ -0,0 +1,188 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.logging.CustomLogger;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Verifies how CustomLogger fills {} placeholders, picks out a trailing Throwable and reuses its per-thread
+ * message buffer. Events are captured by a synchronous logger so they can be checked right away.
+ */
+public class CustomLoggerTest {
+
+    private static final String LOGGER_NAME = CustomLoggerTest.class.getName();
+
+    private final CustomLogger logger = new CustomLogger(CustomLoggerTest.class);
+    private final CapturingAppender appender = new CapturingAppender();
+
+    @BeforeClass(alwaysRun = true)
+    public void captureEvents() {
+        appender.start();
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration configuration = context.getConfiguration();
+        LoggerConfig loggerConfig = LoggerConfig.newBuilder()
+                .withLoggerName(LOGGER_NAME)
+                .withLevel(Level.DEBUG)
+                .withAdditivity(false)
+                .withRefs(new AppenderRef[]{AppenderRef.createAppenderRef(appender.getName(), null, null)})
+                .withConfig(configuration)
+                .build();
+        loggerConfig.addAppender(appender, null, null);
+        configuration.addLogger(LOGGER_NAME, loggerConfig);
+        context.updateLoggers();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopCapturing() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        context.getConfiguration().removeLogger(LOGGER_NAME);
+        context.updateLoggers();
+        appender.stop();
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void clearEvents() {
+        appender.events.clear();
+    }
+
+    @Test
+    public void testArgumentsBeyondPlaceholdersAreIgnored() {
+        logger.debug("id={}", 1, 2);
+        logger.debug("id={} name={}", 1, "pen", "extra");
+        logger.info("{}", 1, 2, 3, 4);
+
+        Assert.assertEquals(messages(), List.of("id=1", "id=1 name=pen", "1"));
+        Assert.assertNull(appender.events.get(0).thrown);
+    }
+
+    @Test
+    public void testPlaceholdersBeyondArgumentsAreKept() {
+        logger.debug("id={} name={}", 1);
+        logger.debug("{}-{}-{}", "a", "b");
+        logger.warn("{} {} {} {}", "a", "b", "c");
+        logger.info("no placeholders", "ignored");
+
+        Assert.assertEquals(messages(), List.of("id=1 name={}", "a-b-{}", "a b c {}", "no placeholders"));
+    }
+
+    @Test
+    public void testTrailingThrowableIsLoggedWithStackTrace() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        logger.warn("Request failed", failure);
+        logger.warn("Request {} failed", "42", failure);
+        logger.debug("Request {} to {} failed", "42", "/booking", failure);
+        logger.error("Request {} to {} as {} failed", "42", "/booking", "alice", failure);
+
+        Assert.assertEquals(messages(), List.of("Request failed", "Request 42 failed", "Request 42 to /booking failed",
+                "Request 42 to /booking as alice failed"));
+        for (CapturedEvent event : appender.events) {
+            Assert.assertSame(event.thrown, failure, "Stack trace missing for: " + text(event));
+        }
+    }
+
+    @Test
+    public void testThrowableFillingPlaceholderIsFormatted() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        logger.warn("Request failed: {}", failure);
+        logger.warn("Request {} failed: {}", "42", failure);
+        logger.error("Request {} to {} failed: {}", "42", "/booking", failure);
+
+        Assert.assertEquals(messages(), List.of("Request failed: " + failure, "Request 42 failed: " + failure,
+                "Request 42 to /booking failed: " + failure));
+        for (CapturedEvent event : appender.events) {
+            Assert.assertNull(event.thrown, "A formatted Throwable is not logged twice: " + text(event));
+        }
+    }
+
+    @Test
+    public void testArgumentThatLogsInToStringKeepsBothMessages() {
+        Object loggingArgument = new Object() {
+            @Override
+            public String toString() {
+                logger.info("inner {} of {}", 1, 2);
+                return "outer-value";
+            }
+        };
+
+        logger.info("before {} after {}", loggingArgument, "end");
+        logger.debug("next {}", "message");
+
+        Assert.assertEquals(messages(), List.of("inner 1 of 2", "before outer-value after end", "next message"));
+    }
+
+    @Test
+    public void testLargeBufferIsNotRetained() throws Exception {
+        logger.info("warm {}", "up");
+        StringBuilder retained = threadBuffer();
+
+        String large = "x".repeat(10 * 1024);
+        logger.info("large {}", large);
+        StringBuilder afterLarge = threadBuffer();
+        Assert.assertNotSame(afterLarge, retained, "The grown buffer should be dropped");
+        Assert.assertTrue(afterLarge.capacity() <= 4096, "Capacity " + afterLarge.capacity());
+
+        logger.info("small {}", "again");
+        Assert.assertSame(threadBuffer(), afterLarge, "Small messages keep reusing the buffer");
+        Assert.assertEquals(threadBuffer().length(), 0);
+        Assert.assertEquals(messages(), List.of("warm up", "large " + large, "small again"));
+    }
+
+    private List<String> messages() {
+        return appender.events.stream().map(CustomLoggerTest::text).toList();
+    }
+
+    // Drop the "[timestamp] [thread] " prefix
+    private static String text(CapturedEvent event) {
+        String message = event.message;
+        return message.substring(message.indexOf("] ", message.indexOf("] ") + 2) + 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringBuilder threadBuffer() throws ReflectiveOperationException {
+        Field buffers = CustomLogger.class.getDeclaredField("buffers");
+        buffers.setAccessible(true);
+        return ((ThreadLocal<StringBuilder>) buffers.get(null)).get();
+    }
+
+    private static final class CapturedEvent {
+        private final String message;
+        private final Throwable thrown;
+
+        private CapturedEvent(String message, Throwable thrown) {
+            this.message = message;
+            this.thrown = thrown;
+        }
+    }
+
+    private static final class CapturingAppender extends AbstractAppender {
+        private final List<CapturedEvent> events = new CopyOnWriteArrayList<>();
+
+        private CapturingAppender() {
+            super("CustomLoggerTestCapture", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            // The message refers to CustomLogger's reused buffer, so it is formatted before the call returns
+            events.add(new CapturedEvent(event.getMessage().getFormattedMessage(), event.getThrown()));
+        }
+    }
+}
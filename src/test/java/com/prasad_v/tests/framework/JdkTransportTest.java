@@ -0,0 +1,120 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.transport.StreamingResponse;
+import com.prasad_v.validation.ResponseTimeValidator;
+import io.restassured.response.Response;
+import org.mockserver.model.HttpRequest;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Verifies that the java.net.http transport produces RestAssured responses equivalent to the default transport.
+ */
+public class JdkTransportTest {
+
+    private static final byte[] EXPORT_BODY = new byte[8 * 1024 * 1024];
+
+    static {
+        Arrays.fill(EXPORT_BODY, (byte) 'x');
+    }
+
+    private MockServerManager mockServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        mockServer.getMockServerClient()
+                .when(request().withMethod("POST").withPath("/transport/items/7").withQueryStringParameter("verbose", "true"))
+                .respond(response().withStatusCode(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Trace", "abc")
+                        .withBody("{\"id\":7,\"name\":\"pen\"}"));
+        mockServer.getMockServerClient()
+                .when(request().withMethod("GET").withPath("/transport/export"))
+                .respond(response().withStatusCode(200)
+                        .withHeader("Content-Type", "application/octet-stream")
+                        .withBody(EXPORT_BODY));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @Test
+    public void testTransportsReturnEquivalentResponses() {
+        Response restAssured = newRequest().setTransport(TransportType.RESTASSURED).execute();
+        Response jdk = newRequest().setTransport(TransportType.JDK).execute();
+
+        for (Response response : new Response[]{restAssured, jdk}) {
+            Assert.assertEquals(response.getStatusCode(), 201);
+            Assert.assertEquals(response.jsonPath().getString("name"), "pen");
+            Assert.assertEquals(response.getHeader("X-Trace"), "abc");
+            Assert.assertTrue(response.getContentType().startsWith("application/json"));
+            Assert.assertTrue(response.getTime() >= 0, "Response time should be recorded");
+            Assert.assertTrue(ResponseTimeValidator.validateResponseTime(response, 10_000));
+        }
+
+        // The JDK transport must send path, query, JSON body and correlation id just like RestAssured
+        mockServer.verify(2, HttpRequest.request()
+                .withMethod("POST")
+                .withPath("/transport/items/7")
+                .withQueryStringParameter("verbose", "true")
+                .withHeader("X-Correlation-ID", ".+")
+                .withBody(org.mockserver.model.JsonBody.json("{\"name\":\"pen\"}")));
+    }
+
+    @Test(expectedExceptions = APIException.class, expectedExceptionsMessageRegExp = ".*Multipart.*")
+    public void testJdkTransportRejectsMultipart() {
+        newRequest().setTransport(TransportType.JDK)
+                .addFile("file", new File("pom.xml"))
+                .execute();
+    }
+
+    @Test
+    public void testStreamingResponseExposesBodyIncrementally() throws Exception {
+        for (TransportType transportType : TransportType.values()) {
+            try (StreamingResponse response = new RequestBuilder()
+                    .setBaseUrl(mockServer.getBaseUrl())
+                    .setPath("/transport/export")
+                    .setTransport(transportType)
+                    .executeStreaming()) {
+                Assert.assertEquals(response.getStatusCode(), 200);
+                Assert.assertEquals(response.getContentType(), "application/octet-stream");
+                Assert.assertEquals(response.getBytesRead(), 0, "Body must not be read before the caller asks for it");
+
+                byte[] chunk = new byte[1024];
+                int n = response.getBody().read(chunk);
+                Assert.assertTrue(n > 0 && chunk[0] == 'x');
+                Assert.assertEquals(response.drain(), EXPORT_BODY.length);
+            }
+        }
+    }
+
+    private RequestBuilder newRequest() {
+        return new RequestBuilder()
+                .setBaseUrl(mockServer.getBaseUrl())
+                .setPath("/transport/items/{id}")
+                .addPathParam("id", 7)
+                .addQueryParam("verbose", "true")
+                .setRequestType(RequestType.POST)
+                .setBody(Map.of("name", "pen"))
+                .logRequest(false)
+                .logResponse(false);
+    }
+}
@@ -0,0 +1,89 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.modules.PayloadManager;
+import com.prasad_v.validation.JsonFieldExtractor;
+import com.prasad_v.validation.JsonPathValidator;
+import com.prasad_v.validation.ResponseDocument;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies that the byte-level field extractor returns what a full parse returns, for paths it scans and
+ * paths it hands to the full parse.
+ */
+public class JsonFieldExtractorTest {
+
+    private static final String DOCUMENT = "﻿{ \"id\" : 7, \"big\": 12345678901, \"price\": 1.5, \"huge\": 1e40,"
+            + " \"name\": \"Caf\\u00e9 \\\"Bleu\\\"\", \"city\": \"Zürich\", \"ok\": true, \"none\": null,"
+            + " \"skip\": {\"a\": [1, {\"b\": \"}]\"}], \"c\": \"\\\\\"},"
+            + " \"\\u006eick\": \"escaped key\","
+            + " \"items\": [ {\"sku\": \"A\", \"tags\": [\"x\", \"y\"]}, {\"sku\": \"B\", \"tags\": []}, 3 ],"
+            + " \"matrix\": [[1, 2], [3, 4]], \"empty\": {}, \"list\": []\n}";
+
+    private static final List<String> PATHS = Arrays.asList(
+            "id", "nick", "big", "price", "huge", "name", "city", "ok", "none", "missing", "skip", "skip.a[1].b",
+            "items[0].sku", "items[1].tags", "items[0].tags.size()", "items.size()", "items[5]", "items[-1]",
+            "items.sku", "matrix[1][0]", "empty.size()", "list.size()", "none.deeper", "missing.deeper",
+            "name.size()", "items.find { it.sku == 'B' }.sku", "$");
+
+    @Test
+    public void testMatchesFullParse() {
+        Response response = BenchmarkPayloads.jsonResponse(DOCUMENT.substring(1));
+        Map<String, Object> expected = new LinkedHashMap<>();
+        for (String path : PATHS) {
+            expected.put(path, ResponseDocument.of(response).read(path));
+        }
+
+        Map<String, Object> extracted = JsonFieldExtractor.of(PATHS).extract(DOCUMENT);
+        Assert.assertEquals(extracted, expected);
+        Assert.assertEquals(extracted.get("name"), "Café \"Bleu\"");
+        Assert.assertEquals(extracted.get("huge"), 1e40);
+        Assert.assertEquals(extracted.get("nick"), "escaped key");
+
+        // Each path on its own takes a different route through the scan
+        for (String path : PATHS) {
+            Assert.assertEquals(JsonFieldExtractor.of(path).extract(DOCUMENT).get(path), expected.get(path), path);
+        }
+    }
+
+    @Test
+    public void testExtractsThroughValidatorAndPayloadManager() {
+        PayloadManager payloadManager = new PayloadManager();
+        String booking = "{\"bookingid\":42,\"booking\":" + payloadManager.createPayloadBookingAsString() + "}";
+        Assert.assertEquals(payloadManager.getBookingIdFromJSON(booking), Integer.valueOf(42));
+        Assert.assertEquals(payloadManager.extractField(booking, "booking.bookingdates.checkout"), "2024-02-01");
+        Assert.assertEquals(payloadManager.getBookingIdFromJSON("{\"booking\":{}}"), null);
+
+        String users = BenchmarkPayloads.userList(100 * 1024);
+        int count = BenchmarkPayloads.userCount(users);
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("page", 1);
+        expected.put("data[0].email", "user1@reqres.in");
+        expected.put("data.size()", count);
+        expected.put("support.url", "https://reqres.in/#support-heading");
+
+        JsonPathValidator validator = new JsonPathValidator();
+        validator.validateFields(BenchmarkPayloads.jsonResponse(users), expected);
+        Assert.assertEquals(validator.extractFields(BenchmarkPayloads.jsonResponse(users), "data[" + (count - 1) + "].id"),
+                Map.of("data[" + (count - 1) + "].id", count));
+
+        expected.put("page", 2);
+        AssertionError failure = Assert.expectThrows(AssertionError.class,
+                () -> validator.validateFields(BenchmarkPayloads.jsonResponse(users), expected));
+        Assert.assertTrue(failure.getMessage().contains("'page' expected 2 but was 1"), failure.getMessage());
+    }
+
+    @Test
+    public void testMalformedDocumentFallsBackToFullParse() {
+        // RestAssured's parser accepts the trailing comma; the scan gives up and defers to it
+        Assert.assertEquals(JsonFieldExtractor.of("a.b").extract("{\"a\":{\"b\":1,},\"c\":2}").get("a.b"), 1);
+        Assert.expectThrows(RuntimeException.class, () -> JsonFieldExtractor.of("a").extract("{\"a\":"));
+    }
+}
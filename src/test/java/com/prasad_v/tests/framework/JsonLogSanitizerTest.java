@@ -0,0 +1,72 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.LogSanitizerBenchmark;
+import com.prasad_v.logging.JsonLogSanitizer;
+import com.prasad_v.logging.LogSanitizer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * Verifies field and path based masking of JSON bodies by JsonLogSanitizer.
+ */
+public class JsonLogSanitizerTest {
+
+    private final JsonLogSanitizer sanitizer = new JsonLogSanitizer(
+            List.of("password", "secret", "Client_Secret"),
+            List.of("$.payment.card", "$.users[*].ssn", "$.items[1]"),
+            true);
+
+    @Test
+    public void testMasksDeniedFieldsAndKeepsFormatting() {
+        String json = "{\n  \"user\" : \"jim\",\n  \"PASSWORD\" : \"p\\\"w\\\\d\",\n"
+                + "  \"nested\": {\"client_secret\": 12345, \"secret\": {\"a\": [1, \"x\"]}},\n"
+                + "  \"list\": [ {\"secret\": null}, \"password\" ]\n}";
+        Assert.assertEquals(sanitizer.sanitize(json), "{\n  \"user\" : \"jim\",\n  \"PASSWORD\" : \"***REDACTED***\",\n"
+                + "  \"nested\": {\"client_secret\": \"***REDACTED***\", \"secret\": \"***REDACTED***\"},\n"
+                + "  \"list\": [ {\"secret\": \"***REDACTED***\"}, \"password\" ]\n}");
+    }
+
+    @Test
+    public void testMasksDeniedPaths() {
+        String json = "{\"payment\":{\"card\":{\"number\":\"x\"},\"amount\":5},\"card\":\"keep\","
+                + "\"users\":[{\"ssn\":\"1\"},{\"ssn\":\"2\",\"name\":\"a\"}],\"items\":[\"a\",\"b\",\"c\"]}";
+        Assert.assertEquals(sanitizer.sanitize(json), "{\"payment\":{\"card\":\"***REDACTED***\",\"amount\":5},\"card\":\"keep\","
+                + "\"users\":[{\"ssn\":\"***REDACTED***\"},{\"ssn\":\"***REDACTED***\",\"name\":\"a\"}],"
+                + "\"items\":[\"a\",\"***REDACTED***\",\"c\"]}");
+    }
+
+    @Test
+    public void testScansRemainingValuesAndFallsBackForOtherContent() {
+        Assert.assertEquals(sanitizer.sanitize("{\"note\":\"mail jim@example.com\",\"n\":4111111111111111}"),
+                "{\"note\":\"mail jim@***REDACTED***\",\"n\":\"***REDACTED***\"}");
+
+        String clean = LogSanitizerBenchmark.generateBody(50_000, false);
+        Assert.assertSame(sanitizer.sanitize(clean), clean);
+
+        // Not valid JSON, and not a JSON content type: the pattern rules still apply
+        Assert.assertEquals(sanitizer.sanitize("{\"password\":\"x\""), "{\"password\":\"***REDACTED***\"");
+        Assert.assertEquals(LogSanitizer.sanitizeBody("[\"secret\"] jim@example.com", "text/plain"),
+                "[\"secret\"] jim@***REDACTED***");
+    }
+
+    @Test
+    public void testPrefixDropsTokenCutInHalf() {
+        Assert.assertEquals(sanitizer.sanitizePrefix("{\"id\":1,\"password\":\"s3cr"), "{\"id\":1,\"password\":");
+    }
+
+    @Test
+    public void testStreamsLargeBody() throws Exception {
+        String body = LogSanitizerBenchmark.generateBody(4 * 1024 * 1024, true);
+        StringWriter out = new StringWriter(body.length());
+        Assert.assertTrue(sanitizer.sanitize(new StringReader(body), out));
+
+        String streamed = out.toString();
+        Assert.assertEquals(streamed, sanitizer.sanitize(body));
+        Assert.assertFalse(streamed.contains("s3cret-"), "Password leaked into the sanitized stream");
+        Assert.assertTrue(streamed.contains("\"firstname\":\"Jim\""));
+    }
+}
@@ -0,0 +1,137 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.performance.LoadEngine;
+import com.prasad_v.performance.LoadProfile;
+import com.prasad_v.performance.LoadResult;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the open-model load engine against a local MockServer.
+ */
+public class LoadEngineTest {
+
+    private static final long STUB_DELAY_MS = 20;
+    private static final long SLOW_STUB_DELAY_MS = 1000;
+
+    private MockServerManager mockServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/load/ok")
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody("{\"ok\":true}")
+                .withDelay(STUB_DELAY_MS, TimeUnit.MILLISECONDS)
+                .stub(mockServer.getMockServerClient());
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/load/slow")
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody("{\"ok\":true}")
+                .withDelay(SLOW_STUB_DELAY_MS, TimeUnit.MILLISECONDS)
+                .stub(mockServer.getMockServerClient());
+
+        // Warm up the client so one-off initialization does not show up as queueing in the histograms
+        for (int i = 0; i < 5; i++) {
+            newRequest("/load/ok").execute();
+        }
+        newRequest("/load/ok").setTransport(TransportType.JDK).execute();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @Test
+    public void testRampedProfileIsDeliveredAtTargetRate() {
+        LoadProfile profile = LoadProfile.builder()
+                .startAt(10)
+                .rampTo(50, Duration.ofSeconds(1))
+                .hold(Duration.ofSeconds(2))
+                .build();
+
+        LoadResult result = LoadEngine.builder("mock-ramp")
+                .request(() -> newRequest("/load/ok"))
+                .profile(profile)
+                .build()
+                .run();
+
+        // 30 arrivals during the ramp plus 100 while holding 50 req/s
+        Assert.assertTrue(Math.abs(result.getScheduled() - 130) <= 3, "Scheduled " + result.getScheduled());
+        Assert.assertEquals(result.getCompleted(), result.getScheduled());
+        Assert.assertEquals(result.getErrorRate(), 0.0, result.summary());
+        Assert.assertTrue(result.getP50Millis() >= STUB_DELAY_MS, result.summary());
+        Assert.assertTrue(result.getP999Millis() >= result.getP99Millis());
+        Assert.assertTrue(result.getP99Millis() >= result.getP90Millis());
+    }
+
+    @Test
+    public void testFailedResponsesAreCountedByStatus() {
+        LoadResult result = LoadEngine.builder("mock-unstubbed")
+                .request(() -> newRequest("/load/missing"))
+                .profile(LoadProfile.constant(20, Duration.ofSeconds(1)))
+                .build()
+                .run();
+
+        Assert.assertEquals(result.getFailed(), result.getScheduled());
+        Assert.assertEquals(result.getErrorRate(), 1.0);
+        Assert.assertEquals(result.getFailuresByType().get("HTTP 404"), Long.valueOf(result.getScheduled()));
+    }
+
+    @Test
+    public void testConcurrencyBeyondPoolLimitIsNotQueuedInClient() {
+        int maxPerRoute = ConnectionPoolManager.getInstance().getMaxPerRoute();
+        // Twice as many requests in flight as the pool holds connections towards the host
+        int rate = (int) (2 * maxPerRoute * 1000 / SLOW_STUB_DELAY_MS);
+
+        LoadResult jdk = LoadEngine.builder("mock-jdk-fan-out")
+                .request(() -> newRequest("/load/slow").setTransport(TransportType.JDK))
+                .profile(LoadProfile.constant(rate, Duration.ofSeconds(1)))
+                .build()
+                .run();
+        Assert.assertEquals(jdk.getDropped(), 0, jdk.summary());
+        Assert.assertEquals(jdk.getCompleted(), jdk.getScheduled(), jdk.summary());
+        Assert.assertEquals(jdk.getErrorRate(), 0.0, jdk.summary());
+        // Capped at the pool limit, arrivals would queue and latency would grow to about twice the delay
+        Assert.assertTrue(jdk.getP99Millis() < 1.5 * SLOW_STUB_DELAY_MS, jdk.summary());
+
+        LoadResult pooled = LoadEngine.builder("mock-pooled-fan-out")
+                .request(() -> newRequest("/load/slow"))
+                .profile(LoadProfile.constant(rate, Duration.ofSeconds(1)))
+                .build()
+                .run();
+        Assert.assertTrue(pooled.getDropped() > 0, pooled.summary());
+        Assert.assertEquals(pooled.getFailuresByType().get("dropped (connection pool)"),
+                Long.valueOf(pooled.getDropped()), pooled.summary());
+        Assert.assertEquals(pooled.getCompleted() + pooled.getDropped(), pooled.getScheduled(), pooled.summary());
+        Assert.assertEquals(pooled.getFailed(), 0, pooled.summary());
+        Assert.assertTrue(pooled.getP99Millis() < 1.5 * SLOW_STUB_DELAY_MS, "Sent requests must not wait for a slot: "
+                + pooled.summary());
+    }
+
+    private RequestBuilder newRequest(String path) {
+        return new RequestBuilder()
+                .setBaseUrl(mockServer.getBaseUrl())
+                .setPath(path)
+                .setRequestType(RequestType.GET)
+                .logRequest(false)
+                .logResponse(false);
+    }
+}
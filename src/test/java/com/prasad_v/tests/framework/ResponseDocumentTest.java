@@ -0,0 +1,52 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.contracts.ContractValidator;
+import com.prasad_v.validation.JsonPathValidator;
+import com.prasad_v.validation.ResponseDocument;
+import com.prasad_v.validation.ResponseValidator;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Verifies that validators share one parsed document per response and read it like RestAssured's JsonPath.
+ */
+public class ResponseDocumentTest {
+
+    private static final String JSON = "{\"id\":7,\"price\":1.5,\"flag\":true,\"none\":null,\"name\":\"pen\","
+            + "\"tags\":[],\"grid\":[[1,2],[3]],\"sparse\":[{\"a\":1},null,{\"a\":2}],"
+            + "\"items\":[{\"a\":{\"b\":1}},{\"a\":{\"b\":2}}],\"error\":{\"code\":\"E1\",\"size\":3}}";
+
+    @Test
+    public void testReadsLikeJsonPath() {
+        Response response = BenchmarkPayloads.jsonResponse(JSON);
+        ResponseDocument document = ResponseDocument.of(response);
+        List<String> paths = List.of("id", "price", "flag", "none", "name", "tags.size()", "grid[0][1]", "grid[-1]",
+                "grid[5]", "sparse.a", "items.a.b", "items[1].a.b", "items.a.b[0]", "error.code", "error.size",
+                "error.size()", "missing.x", "name.size()", "", "items.findAll { it.a.b > 1 }.a.b", "error.'code'");
+        for (String path : paths) {
+            Object expected = response.jsonPath().get(path);
+            Object actual = document.read(path);
+            Assert.assertEquals(actual, expected, "Path '" + path + "'");
+        }
+        Assert.assertEquals(document.readString("price"), response.jsonPath().getString("price"));
+    }
+
+    @Test
+    public void testValidatorsShareOneDocumentUntilReleased() {
+        Response response = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(4096));
+        ResponseDocument document = ResponseDocument.of(response);
+
+        new JsonPathValidator().validateEquals(response, "data[0].email", "user1@reqres.in");
+        Assert.assertTrue(ResponseValidator.validateField(response, "page", 1));
+        Assert.assertTrue(ContractValidator.validateRequiredFields(response, new String[]{"page", "support.url"}));
+        Assert.assertSame(ResponseDocument.of(response), document);
+        Assert.assertSame(document.getJSONObject(), document.getJSONObject());
+
+        ResponseDocument.releaseCurrentThread();
+        Assert.assertNotSame(ResponseDocument.of(response), document);
+    }
+}
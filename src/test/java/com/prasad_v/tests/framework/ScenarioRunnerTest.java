@@ -0,0 +1,194 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.auth.TokenManager;
+import com.prasad_v.auth.TokenPool;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.prasad_v.enums.RequestType;
+import com.prasad_v.mock.MockServerManager;
+import com.prasad_v.modules.PayloadManager;
+import com.prasad_v.performance.BookingScenarios;
+import com.prasad_v.performance.Scenario;
+import com.prasad_v.performance.ScenarioResult;
+import com.prasad_v.performance.ScenarioRunner;
+import com.prasad_v.performance.ScenarioStep;
+import com.prasad_v.performance.StepStats;
+import com.prasad_v.requestbuilder.ConnectionPoolManager;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.requestbuilder.RequestTemplate;
+import com.prasad_v.services.BookingService;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the booking CRUD scenario as concurrent virtual users against a stubbed booking API on MockServer.
+ */
+public class ScenarioRunnerTest {
+
+    private static final long SLOW_STEP_DELAY_MS = 1000;
+    private static final long TOKEN_FETCH_MS = 1000;
+
+    private MockServerManager mockServer;
+    private String originalBaseUrl;
+
+    @BeforeClass(alwaysRun = true)
+    public void startMockServer() {
+        mockServer = MockServerManager.getInstance().start();
+        mockServer.getRequestStubber().stubJsonResponse(mockServer.getMockServerClient(),
+                "POST", "/auth", 200, "{\"token\":\"abc123\"}");
+        mockServer.getRequestStubber().stubJsonResponse(mockServer.getMockServerClient(),
+                "POST", "/booking", 200, "{\"bookingid\":42}");
+        mockServer.getRequestStubber().stubJsonResponse(mockServer.getMockServerClient(),
+                "GET", "/booking/42", 200, "{\"firstname\":\"Prasad\"}");
+        mockServer.getRequestStubber().stubJsonResponse(mockServer.getMockServerClient(),
+                "PUT", "/booking/42", 200, "{\"firstname\":\"Lucky\"}");
+        mockServer.getRequestStubber().stubJsonResponse(mockServer.getMockServerClient(),
+                "DELETE", "/booking/42", 201, "{}");
+        mockServer.getRequestStubber().reset();
+        mockServer.getRequestStubber()
+                .withMethod("GET")
+                .withPath("/scenario/slow")
+                .willRespondWithStatusCode(200)
+                .willRespondWithJsonBody("{\"ok\":true}")
+                .withDelay(SLOW_STEP_DELAY_MS, TimeUnit.MILLISECONDS)
+                .stub(mockServer.getMockServerClient());
+
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        originalBaseUrl = config.getProperty(ConfigKeys.API_BASE_URL, "");
+        config.setProperty(ConfigKeys.API_BASE_URL, mockServer.getBaseUrl());
+        RequestTemplate.clearTemplates();
+
+        // Load RestAssured and the payload classes up front so step latencies do not include class loading
+        new BookingService().createBooking(new PayloadManager().createPayloadBookingAsString());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopMockServer() {
+        ConfigurationManager.getInstance().setProperty(ConfigKeys.API_BASE_URL, originalBaseUrl);
+        RequestTemplate.clearTemplates();
+        mockServer.reset();
+        mockServer.stop();
+    }
+
+    @Test
+    public void testBookingCrudScenarioReportsEveryStep() {
+        ScenarioResult result = ScenarioRunner.builder(BookingScenarios.crud())
+                .virtualUsers(4)
+                .rampUp(Duration.ofMillis(500))
+                .duration(Duration.ofSeconds(3))
+                .thinkTime(Duration.ofMillis(5), Duration.ofMillis(15))
+                .build()
+                .run();
+
+        Assert.assertTrue(result.getIterations() > 0, result.summary());
+        Assert.assertEquals(result.getFailedIterations(), 0, result.summary());
+        Assert.assertEquals(result.getSteps().size(), 5);
+        Assert.assertEquals(result.getSteps().get(0).getName(), BookingScenarios.STEP_CREATE_TOKEN);
+
+        long previousCount = Long.MAX_VALUE;
+        for (StepStats step : result.getSteps()) {
+            Assert.assertTrue(step.getCount() > 0, "Step never ran: " + step);
+            Assert.assertEquals(step.getFailures(), 0, step.toString());
+            // Later steps can only run as often as the steps before them
+            Assert.assertTrue(step.getCount() <= previousCount, result.summary());
+            previousCount = step.getCount();
+        }
+        Assert.assertEquals(result.getIterationStats().getCount(), result.getIterations());
+        Assert.assertEquals(result.getStep(BookingScenarios.STEP_DELETE_BOOKING).getCount(), result.getIterations());
+    }
+
+    @Test
+    public void testStepLatencyLeavesOutWaitForPooledSlot() {
+        Scenario scenario = Scenario.builder("pool-wait")
+                .step("slow get", context -> new RequestBuilder()
+                        .setRequestType(RequestType.GET)
+                        .setPath("/scenario/slow")
+                        .logRequest(false)
+                        .logResponse(false)
+                        .execute())
+                .build();
+
+        // Twice as many users as the pool has connections, so half of them always wait for a slot
+        ScenarioResult result = ScenarioRunner.builder(scenario)
+                .virtualUsers(2 * ConnectionPoolManager.getInstance().getMaxPerRoute())
+                .duration(Duration.ofSeconds(4))
+                .build()
+                .run();
+
+        StepStats step = result.getStep("slow get");
+        Assert.assertTrue(step.getCount() > 0, result.summary());
+        Assert.assertEquals(step.getFailures(), 0, result.summary());
+        Assert.assertTrue(step.getPercentileMillis(90) < 1.5 * SLOW_STEP_DELAY_MS,
+                "Step latency includes the client-side wait: " + result.summary());
+    }
+
+    @Test
+    public void testPooledCrudHoldsLeaseForWholeIteration() {
+        TokenPool pool = TokenPool.builder("scenario_pool")
+                .credential("user-a", "secret-a")
+                .credential("user-b", "secret-b")
+                .strategy(TokenPool.Strategy.LEAST_RECENTLY_USED)
+                .tokenSource(credential -> {
+                    // A slow token endpoint must show up in the lease step, not in create booking
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(TOKEN_FETCH_MS));
+                    return new TokenManager.IssuedToken(credential.getId() + "-token", 120);
+                })
+                .build();
+        Scenario pooled = BookingScenarios.crud(pool);
+        Map<String, Integer> fewestActiveAfterStep = new ConcurrentHashMap<>();
+        Map<String, Integer> mostActivePerCredential = new ConcurrentHashMap<>();
+
+        // Check the pool after every step of the pooled scenario
+        Scenario.Builder checked = Scenario.builder("booking-crud-pooled-checked")
+                .afterIteration(pooled.getAfterIteration());
+        for (ScenarioStep step : pooled.getSteps()) {
+            checked.step(step.getName(), context -> {
+                Response response = step.getAction().execute(context);
+                int total = 0;
+                for (Map.Entry<String, Integer> active : pool.getActiveLeaseCounts().entrySet()) {
+                    total += active.getValue();
+                    mostActivePerCredential.merge(active.getKey(), active.getValue(), Math::max);
+                }
+                fewestActiveAfterStep.merge(step.getName(), total, Math::min);
+                return response;
+            });
+        }
+
+        try {
+            ScenarioResult result = ScenarioRunner.builder(checked.build())
+                    .virtualUsers(2)
+                    .duration(Duration.ofSeconds(3))
+                    .thinkTime(Duration.ofMillis(5))
+                    .build()
+                    .run();
+
+            Assert.assertTrue(result.getIterations() > 0, result.summary());
+            Assert.assertEquals(result.getFailedIterations(), 0, result.summary());
+            Assert.assertTrue(result.getStep(BookingScenarios.STEP_LEASE_TOKEN).getMaxMillis() >= TOKEN_FETCH_MS,
+                    result.summary());
+            Assert.assertTrue(result.getStep(BookingScenarios.STEP_CREATE_BOOKING).getMaxMillis() < TOKEN_FETCH_MS,
+                    "Token fetch counted as booking latency: " + result.summary());
+            for (String stepName : List.of(BookingScenarios.STEP_LEASE_TOKEN, BookingScenarios.STEP_CREATE_BOOKING, BookingScenarios.STEP_GET_BOOKING,
+                    BookingScenarios.STEP_UPDATE_BOOKING)) {
+                Assert.assertTrue(fewestActiveAfterStep.get(stepName) >= 1,
+                        "Lease was closed before '" + stepName + "' finished: " + fewestActiveAfterStep);
+            }
+            Assert.assertEquals(mostActivePerCredential, Map.of("user-a", 1, "user-b", 1),
+                    "Each virtual user should hold its own account");
+            Assert.assertEquals(pool.getActiveLeaseCounts(), Map.of("user-a", 0, "user-b", 0),
+                    "Leases of finished and cut-short iterations are closed");
+        } finally {
+            pool.clearTokens();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.validation.SchemaRegistry;
+import com.prasad_v.validation.SchemaValidator;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that SchemaRegistry compiles each schema once and validates like RestAssured's matchesJsonSchema.
+ */
+public class SchemaRegistryTest {
+
+    private static final String SCHEMA = "user_list_schema.json";
+
+    @Test
+    public void testCompilesOnceAndMatchesRestAssured() {
+        SchemaRegistry registry = SchemaRegistry.getInstance();
+        Response valid = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(2048));
+        Response invalid = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(1024)
+                .replace("\"page\":1", "\"page\":0").replace("\"id\":2,", "\"id\":\"2\","));
+
+        SchemaValidator.assertSchema(valid, SCHEMA);
+        long misses = registry.getCache().getMissCount();
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(SchemaValidator.validateSchema(valid, SCHEMA));
+            Assert.assertTrue(SchemaValidator.validateSchema(valid, BenchmarkPayloads.USER_LIST_SCHEMA));
+            Assert.assertFalse(SchemaValidator.validateSchema(invalid, SCHEMA));
+        }
+        Assert.assertEquals(registry.getCache().getMissCount(), misses + 1, "Only the second name is compiled");
+
+        Assert.assertTrue(matchesWithRestAssured(valid));
+        Assert.assertFalse(matchesWithRestAssured(invalid));
+        String errors = SchemaRegistry.describe(registry.validate(SCHEMA, invalid.asByteArray()));
+        Assert.assertTrue(errors.contains("/page") && errors.contains("/data/1/id"), errors);
+        APIException failure = Assert.expectThrows(APIException.class, () -> SchemaValidator.assertSchema(invalid, SCHEMA));
+        Assert.assertTrue(failure.getMessage().contains("/data/1/id"), failure.getMessage());
+    }
+
+    @Test
+    public void testWarmUpCompilesSchemasUnderTheirFileNames() {
+        SchemaRegistry registry = SchemaRegistry.getInstance();
+        registry.getCache().invalidateAll();
+
+        Assert.assertTrue(registry.warmUp() >= 2, registry.getCache().toString());
+        Assert.assertNotNull(registry.getCache().getIfPresent("user_schema.json"));
+        long misses = registry.getCache().getMissCount();
+        SchemaValidator.assertSchema(BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(2048)), SCHEMA);
+        Assert.assertEquals(registry.getCache().getMissCount(), misses, "Validation after warmup compiles nothing");
+    }
+
+    @Test
+    public void testInlineAndMissingSchemas() {
+        String schema = "{\"type\":\"object\",\"required\":[\"id\"],\"properties\":{\"id\":{\"type\":\"integer\"}}}";
+        Assert.assertTrue(SchemaValidator.validateSchemaFromString(BenchmarkPayloads.jsonResponse("{\"id\":1}"), schema));
+        Assert.assertFalse(SchemaValidator.validateSchemaFromString(BenchmarkPayloads.jsonResponse("{\"id\":\"x\"}"), schema));
+        Assert.assertSame(SchemaRegistry.getInstance().getSchemaFromContent(schema),
+                SchemaRegistry.getInstance().getSchemaFromContent(schema));
+
+        Assert.assertTrue(SchemaValidator.schemaFileExists(SCHEMA));
+        Assert.assertFalse(SchemaValidator.schemaFileExists("missing_schema.json"));
+        Assert.expectThrows(APIException.class,
+                () -> SchemaValidator.assertSchema(BenchmarkPayloads.jsonResponse("{}"), "missing_schema.json"));
+    }
+
+    private static boolean matchesWithRestAssured(Response response) {
+        try {
+            response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchemaInClasspath(BenchmarkPayloads.USER_LIST_SCHEMA));
+            return true;
+        } catch (AssertionError e) {
+            return false;
+        }
+    }
+}
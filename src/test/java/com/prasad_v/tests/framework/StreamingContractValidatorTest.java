@@ -0,0 +1,89 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.benchmarks.GeneratedUserListServer;
+import com.prasad_v.contracts.ContractValidationResult;
+import com.prasad_v.contracts.ContractValidator;
+import com.prasad_v.contracts.StreamingContractValidator;
+import com.prasad_v.enums.TransportType;
+import com.prasad_v.exceptions.APIException;
+import com.prasad_v.requestbuilder.RequestBuilder;
+import com.prasad_v.transport.StreamingResponse;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifies that streaming contract validation reports what the in-memory validator reports, caps the errors
+ * it keeps, and validates a large streamed response end to end.
+ */
+public class StreamingContractValidatorTest {
+
+    private static final String CONTRACT = "contracts/user_records_contract.json";
+
+    @Test
+    public void testReportsSameErrorsAsTreeValidator() {
+        String body = "{\"page\":\"1\",\"data\":[{\"id\":1,\"email\":\"a@b.c\",\"first_name\":\"A\",\"last_name\":\"B\","
+                + "\"avatar\":\"x\"},{\"id\":\"2\",\"email\":null},7],\"support\":[]}";
+        APIException treeFailure = Assert.expectThrows(APIException.class,
+                () -> ContractValidator.validateAgainstContract(BenchmarkPayloads.jsonResponse(body), CONTRACT));
+        ContractValidationResult result = ContractValidator.validateStreaming(stream(body), CONTRACT);
+
+        Set<String> expected = new HashSet<>(Set.of(treeFailure.getMessage()
+                .substring("Contract validation failed. Errors: ".length()).split(", ")));
+        Assert.assertEquals(new HashSet<>(result.getErrors()), expected);
+        Assert.assertTrue(result.getErrors().contains("Required field missing: data[1].avatar"), result.getErrors().toString());
+        Assert.assertEquals(result.getElementsValidated(), 3);
+
+        String[] fields = {"page", "support.url", "support.text", "meta.id"};
+        ContractValidationResult required = StreamingContractValidator.forRequiredFields(fields).build()
+                .validate(stream(BenchmarkPayloads.userList(1024)));
+        Assert.assertEquals(required.getErrors(), List.of("Required field missing: meta.id"));
+    }
+
+    @Test
+    public void testCapsCollectedErrors() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\":\"").append(i).append("\"}");
+        }
+        body.append(']');
+        StreamingContractValidator validator = StreamingContractValidator
+                .builder(new JSONObject("{\"id\":\"type:number\"}"))
+                .rootArray(true)
+                .maxErrors(5)
+                .build();
+
+        ContractValidationResult result = validator.validate(stream(body.toString()));
+        Assert.assertEquals(result.getErrorCount(), 1000);
+        Assert.assertEquals(result.getErrors().size(), 5);
+        Assert.assertEquals(result.getErrors().get(4), "Type mismatch for field [4].id. Expected: number");
+        Assert.assertTrue(result.describeErrors().endsWith("(and 995 more)"));
+    }
+
+    @Test
+    public void testValidatesStreamedResponse() throws Exception {
+        try (GeneratedUserListServer server = new GeneratedUserListServer();
+             StreamingResponse response = new RequestBuilder()
+                     .setBaseUrl(server.getBaseUrl())
+                     .setPath("/users")
+                     .addQueryParam("bytes", String.valueOf(16 * 1024 * 1024))
+                     .setTransport(TransportType.JDK)
+                     .logResponse(false)
+                     .executeStreaming()) {
+            Assert.assertTrue(ContractValidator.validateAgainstContract(response, CONTRACT));
+            Assert.assertTrue(response.getBytesRead() > 16_000_000, "Whole body read: " + response.getBytesRead());
+        }
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.auth.TokenManager;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Verifies that tokens cached on disk are reused by a fresh token store and by other JVMs, that only one
+ * process fetches a token at a time, and that the cache cannot be read without its key.
+ */
+public class TokenCacheTest {
+
+    private static final String KEY_VARIABLE = "TOKEN_CACHE_TEST_KEY";
+
+    private final ConfigurationManager config = ConfigurationManager.getInstance();
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void enableCache() throws IOException {
+        cacheDir = Files.createTempDirectory("token-cache-test");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_ENABLED, "true");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_DIR, cacheDir.toString());
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_KEY_ENV, KEY_VARIABLE);
+        System.setProperty(KEY_VARIABLE, "test-secret");
+        TokenManager.reconfigurePersistentStore();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void disableCache() throws IOException {
+        TokenManager.clearAllTokens();
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_ENABLED, "false");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_DIR, "");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_KEY_ENV, "TOKEN_CACHE_KEY");
+        System.clearProperty(KEY_VARIABLE);
+        TokenManager.reconfigurePersistentStore();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(cacheDir);
+    }
+
+    @Test
+    public void testFreshStoreUsesCachedTokenWithoutFetching() throws Exception {
+        long fetches = TokenManager.getFetchCount();
+        Assert.assertEquals(TokenManager.getToken("cache_test", 10,
+                () -> new TokenManager.IssuedToken("secret-token-value", 120)), "secret-token-value");
+        Assert.assertEquals(TokenManager.getFetchCount(), fetches + 1);
+
+        // The token is on disk, but not in the clear
+        List<Path> tokenFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            files.filter(file -> file.toString().endsWith(".token")).forEach(tokenFiles::add);
+        }
+        Assert.assertEquals(tokenFiles.size(), 1);
+        Assert.assertFalse(new String(Files.readAllBytes(tokenFiles.get(0)), StandardCharsets.ISO_8859_1)
+                .contains("secret-token-value"));
+
+        // As in a new fork: memory is empty, the cached token is used and the source is not called
+        TokenManager.clearAllTokens();
+        long reused = TokenManager.getPersistedReuseCount();
+        Assert.assertEquals(TokenManager.getToken("cache_test", 10, () -> {
+            throw new IllegalStateException("token endpoint called");
+        }), "secret-token-value");
+        Assert.assertEquals(TokenManager.getFetchCount(), fetches + 1);
+        Assert.assertEquals(TokenManager.getPersistedReuseCount(), reused + 1);
+        Assert.assertTrue(TokenManager.getTokenRemainingLifetime("cache_test") > 100, "Original expiry kept");
+        Assert.assertTrue(TokenManager.isRefreshScheduled("cache_test"));
+
+        // A token that would expire too soon is fetched again
+        TokenManager.clearAllTokens();
+        Assert.assertEquals(TokenManager.getToken("cache_test", 300,
+                () -> new TokenManager.IssuedToken("longer-token", 600)), "longer-token");
+        Assert.assertEquals(TokenManager.getFetchCount(), fetches + 2);
+
+        // Removing a token removes it for other processes too
+        TokenManager.removeToken("cache_test");
+        Assert.assertNull(TokenManager.getToken("cache_test"));
+    }
+
+    @Test
+    public void testCacheIsUnreadableWithAnotherKey() {
+        TokenManager.getToken("cache_key_test", 10, () -> new TokenManager.IssuedToken("first-token", 120));
+        TokenManager.clearAllTokens();
+
+        System.setProperty(KEY_VARIABLE, "another-secret");
+        TokenManager.reconfigurePersistentStore();
+        Assert.assertNull(TokenManager.getToken("cache_key_test"));
+        Assert.assertEquals(TokenManager.getToken("cache_key_test", 10,
+                () -> new TokenManager.IssuedToken("second-token", 120)), "second-token");
+
+        // Without a key nothing is read from or written to disk
+        TokenManager.clearAllTokens();
+        System.clearProperty(KEY_VARIABLE);
+        TokenManager.reconfigurePersistentStore();
+        Assert.assertNull(TokenManager.getToken("cache_key_test"));
+    }
+
+    @Test
+    public void testParallelJvmsFetchOneToken() throws Exception {
+        List<Process> forks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            forks.add(startFork("fork-" + i));
+        }
+        List<String> results = new ArrayList<>();
+        for (Process fork : forks) {
+            results.add(readResult(fork));
+        }
+
+        // Whichever fork got the lock first fetched; the other used its token from the cache
+        String token = results.get(0).split(" ")[0];
+        Assert.assertEquals(results.get(1).split(" ")[0], token, "Both forks use the same token");
+        long fetches = results.stream().mapToLong(result -> Long.parseLong(result.split(" ")[1])).sum();
+        Assert.assertEquals(fetches, 1, "Token endpoint called once across forks: " + results);
+    }
+
+    private Process startFork(String name) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                "-D" + KEY_VARIABLE + "=test-secret", Fork.class.getName(), cacheDir.toString(), name)
+                .redirectErrorStream(true)
+                .start();
+    }
+
+    private static String readResult(Process fork) throws Exception {
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(fork.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("RESULT ")) {
+                    result = line.substring("RESULT ".length());
+                }
+            }
+        }
+        Assert.assertTrue(fork.waitFor(60, TimeUnit.SECONDS), "Fork finished");
+        Assert.assertNotNull(result, "Fork reported its token");
+        return result;
+    }
+
+    /**
+     * A separate JVM that gets a token through the cache, taking a while to fetch one
+     */
+    public static final class Fork {
+        public static void main(String[] args) throws Exception {
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_ENABLED, "true");
+            config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_DIR, args[0]);
+            config.setProperty(ConfigKeys.AUTH_TOKEN_CACHE_KEY_ENV, KEY_VARIABLE);
+            String token = TokenManager.getToken("fork_token", 10, () -> {
+                Thread.sleep(1000);
+                return new TokenManager.IssuedToken("token-from-" + args[1], 120);
+            });
+            System.out.println("RESULT " + token + " " + TokenManager.getFetchCount());
+            System.exit(0);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.auth.TokenManager;
+import com.prasad_v.auth.TokenPool;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.exceptions.ConfigurationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies that a TokenPool spreads leases across its credentials, fetches one token per credential and
+ * keeps each token fresh on its own.
+ */
+public class TokenPoolTest {
+
+    @Test
+    public void testRoundRobinFetchesOneTokenPerCredential() {
+        Map<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+        TokenPool pool = TokenPool.builder("round_robin_pool")
+                .credential("user-a", "secret-a")
+                .credential("user-b", "secret-b")
+                .credential("user-c", "secret-c")
+                .tokenSource(credential -> {
+                    int fetch = fetches.computeIfAbsent(credential.getId(), id -> new AtomicInteger()).incrementAndGet();
+                    return new TokenManager.IssuedToken(credential.getId() + "-token-" + fetch, 120);
+                })
+                .build();
+        try {
+            List<String> leased = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                try (TokenPool.Lease lease = pool.lease()) {
+                    Assert.assertEquals(lease.getToken(), lease.getCredential().getId() + "-token-1");
+                    leased.add(lease.getCredential().getId());
+                }
+            }
+            Assert.assertEquals(leased.subList(0, 3), List.of("user-a", "user-b", "user-c"));
+            Assert.assertEquals(pool.getLeaseCounts(), Map.of("user-a", 3L, "user-b", 3L, "user-c", 3L));
+            for (AtomicInteger count : fetches.values()) {
+                Assert.assertEquals(count.get(), 1, "One token request per credential");
+            }
+            for (String id : List.of("user-a", "user-b", "user-c")) {
+                Assert.assertTrue(TokenManager.isRefreshScheduled("round_robin_pool#" + id),
+                        "Each pooled token is refreshed on its own");
+            }
+
+            // A credential's token is replaced without touching the others
+            TokenManager.removeToken("round_robin_pool#user-b");
+            Assert.assertEquals(pool.getToken(1), "user-b-token-2");
+            Assert.assertEquals(pool.getToken(0), "user-a-token-1");
+        } finally {
+            pool.clearTokens();
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPrefersIdleCredentials() {
+        TokenPool pool = TokenPool.builder("lru_pool")
+                .credential("user-a", "secret-a")
+                .credential("user-b", "secret-b")
+                .credential("user-c", "secret-c")
+                .strategy(TokenPool.Strategy.LEAST_RECENTLY_USED)
+                .tokenSource(credential -> new TokenManager.IssuedToken(credential.getId() + "-token", 120))
+                .build();
+        try {
+            TokenPool.Lease first = pool.lease();
+            TokenPool.Lease second = pool.lease();
+            Assert.assertNotEquals(second.getCredential().getId(), first.getCredential().getId());
+            first.close();
+
+            // user-c has never been leased and is idle, user-a was released before user-b
+            TokenPool.Lease third = pool.lease();
+            Assert.assertEquals(third.getCredential().getId(), "user-c");
+            TokenPool.Lease fourth = pool.lease();
+            Assert.assertEquals(fourth.getCredential().getId(), first.getCredential().getId());
+            second.close();
+            third.close();
+            fourth.close();
+        } finally {
+            pool.clearTokens();
+        }
+    }
+
+    @Test
+    public void testPoolFromConfig() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        config.setProperty("auth.pool.config_pool.file", "pool_users.json");
+        config.setProperty("auth.pool.config_pool.credentials", "inline_user:inline-password");
+        config.setProperty("auth.pool.config_pool.strategy", "lru");
+        try {
+            TokenPool pool = TokenPool.fromConfig("config_pool",
+                    credential -> new TokenManager.IssuedToken(credential.getSecret(), 120));
+            Assert.assertEquals(pool.size(), 4);
+            Assert.assertEquals(pool.getStrategy(), TokenPool.Strategy.LEAST_RECENTLY_USED);
+            TokenPool.Credential third = pool.getCredentials().get(2);
+            Assert.assertEquals(third.getId(), "load_user_3");
+            Assert.assertEquals(third.getSecret(), "load-password-3");
+            Assert.assertEquals(third.getAttribute("scope"), "bookings:write");
+            Assert.assertEquals(pool.getCredentials().get(3).getId(), "inline_user");
+            Assert.assertFalse(third.toString().contains("load-password-3"), "Secrets are not logged");
+
+            config.setProperty("auth.pool.config_pool.credentials", "load_user_1:again");
+            Assert.expectThrows(ConfigurationException.class,
+                    () -> TokenPool.fromConfig("config_pool", credential -> null));
+        } finally {
+            config.setProperty("auth.pool.config_pool.file", "");
+            config.setProperty("auth.pool.config_pool.credentials", "");
+            config.setProperty("auth.pool.config_pool.strategy", "");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.auth.OAuthHandler;
+import com.prasad_v.auth.TokenManager;
+import com.prasad_v.config.ConfigurationManager;
+import com.prasad_v.constants.ConfigKeys;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Verifies that TokenManager refreshes tokens in the background before they expire, so request threads
+ * never call the token endpoint in steady state, and that concurrent callers share one token fetch.
+ */
+public class TokenRefreshTest {
+
+    private final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    @BeforeMethod
+    public void refreshAtHalfLifetime() {
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_PERCENT, "50");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_JITTER_PERCENT, "0");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_RETRY_SECONDS, "1");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreDefaults() {
+        TokenManager.clearAllTokens();
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_PERCENT, "75");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_JITTER_PERCENT, "10");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_RETRY_SECONDS, "5");
+    }
+
+    @Test
+    public void testRefreshesInBackgroundAndRetriesFailures() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AtomicReference<String> fetchThread = new AtomicReference<>();
+        TokenManager.storeToken("refresh_test", "token-0", 2, () -> {
+            fetchThread.set(Thread.currentThread().getName());
+            int fetch = fetches.incrementAndGet();
+            if (fetch == 1) {
+                throw new IllegalStateException("token endpoint unavailable");
+            }
+            return new TokenManager.IssuedToken("token-" + fetch, 60);
+        });
+        long refreshAt = TokenManager.getNextRefreshTime("refresh_test");
+        Assert.assertTrue(Math.abs(refreshAt - (System.currentTimeMillis() + 1000)) < 200, "Refresh at half lifetime");
+
+        // The first refresh fails; the current token stays in use until the retry a second later
+        Thread.sleep(1400);
+        Assert.assertEquals(fetches.get(), 1);
+        Assert.assertEquals(TokenManager.getToken("refresh_test"), "token-0");
+
+        Thread.sleep(1000);
+        Assert.assertEquals(fetches.get(), 2);
+        Assert.assertEquals(TokenManager.getToken("refresh_test"), "token-2");
+        Assert.assertEquals(fetchThread.get(), "token-refresh");
+        Assert.assertTrue(TokenManager.getNextRefreshTime("refresh_test") > System.currentTimeMillis() + 25_000,
+                "Next refresh scheduled within the new token's lifetime");
+
+        TokenManager.removeToken("refresh_test");
+        Assert.assertFalse(TokenManager.isRefreshScheduled("refresh_test"));
+    }
+
+    @Test
+    public void testJitterSpreadsRefreshes() {
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_PERCENT, "75");
+        config.setProperty(ConfigKeys.AUTH_TOKEN_REFRESH_JITTER_PERCENT, "10");
+        long now = System.currentTimeMillis();
+        long earliest = Long.MAX_VALUE;
+        long latest = 0;
+        for (int i = 0; i < 50; i++) {
+            TokenManager.storeToken("jitter_" + i, "token", 1000, () -> new TokenManager.IssuedToken("next", 1000));
+            long refreshAt = TokenManager.getNextRefreshTime("jitter_" + i) - now;
+            earliest = Math.min(earliest, refreshAt);
+            latest = Math.max(latest, refreshAt);
+        }
+        Assert.assertTrue(earliest >= 650_000 && latest <= 751_000, earliest + ".." + latest);
+        Assert.assertTrue(latest - earliest > 20_000, "Refresh times spread out: " + earliest + ".." + latest);
+
+        // A token set directly is no longer refreshed
+        TokenManager.storeToken("jitter_0", "manual", 1000);
+        Assert.assertFalse(TokenManager.isRefreshScheduled("jitter_0"));
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneFetch() throws Exception {
+        int callers = 8;
+        long fetchesBefore = TokenManager.getFetchCount();
+        long coalescedBefore = TokenManager.getCoalescedCount();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        TokenManager.TokenSource source = () -> {
+            fetches.incrementAndGet();
+            release.await();
+            throw new IllegalStateException("token endpoint rate limited");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> TokenManager.getToken("single_flight", 0, source)));
+            }
+            // Hold the fetch until every other caller is waiting for it
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (TokenManager.getCoalescedCount() - coalescedBefore < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                ExecutionException failure = Assert.expectThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+                Assert.assertEquals(failure.getCause().getMessage(), "token endpoint rate limited");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(fetches.get(), 1);
+        Assert.assertEquals(TokenManager.getFetchCount() - fetchesBefore, 1);
+        Assert.assertEquals(TokenManager.getCoalescedCount() - coalescedBefore, callers - 1);
+
+        // A failed fetch is not remembered; the next caller fetches again
+        Assert.assertEquals(TokenManager.getToken("single_flight", 0, () -> new TokenManager.IssuedToken("ok", 60)), "ok");
+    }
+
+    @Test
+    public void testOAuthHandlerRequestsOneTokenForConcurrentThreads() throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        HttpServer server = startTokenEndpoint(issued, 200, 60);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            OAuthHandler handler = new OAuthHandler("client", "secret", null);
+            handler.setTokenUrl(tokenUrl(server));
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return handler.getAccessToken();
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS), "access-1");
+            }
+            Assert.assertEquals(issued.get(), 1);
+        } finally {
+            executor.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testOAuthHandlerUsesRefreshedTokenWithoutWaiting() throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        HttpServer server = startTokenEndpoint(issued, 0, 2);
+        try {
+            OAuthHandler handler = new OAuthHandler("client", "secret", null);
+            handler.setTokenUrl(tokenUrl(server));
+            Assert.assertEquals(handler.getAccessToken(), "access-1");
+
+            Thread.sleep(1500);
+            Assert.assertEquals(issued.get(), 2, "Refreshed in the background at half of the 2 s lifetime");
+            long start = System.nanoTime();
+            Assert.assertEquals(handler.getAccessToken(), "access-2");
+            Assert.assertEquals(issued.get(), 2, "No token request from the calling thread");
+            Assert.assertTrue(System.nanoTime() - start < 50_000_000L, "Token read without waiting");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HttpServer startTokenEndpoint(AtomicInteger issued, long delayMs, int expiresIn) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/oauth/token", exchange -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"access_token\":\"access-" + issued.incrementAndGet() + "\",\"expires_in\":" + expiresIn + "}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static String tokenUrl(HttpServer server) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/oauth/token";
+    }
+}
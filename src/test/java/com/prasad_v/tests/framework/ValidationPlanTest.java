@@ -0,0 +1,57 @@
+package com.prasad_v.tests.framework;
+
+import com.prasad_v.benchmarks.BenchmarkPayloads;
+import com.prasad_v.validation.JsonPathValidator;
+import com.prasad_v.validation.ValidationPlan;
+import com.prasad_v.validation.ValidationResult;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that a validation plan checks every expectation in one pass and reports them together.
+ */
+public class ValidationPlanTest {
+
+    private static final ValidationPlan USER_PAGE = ValidationPlan.builder("user page")
+            .equalTo("page", 1)
+            .equalTo("data[0].email", "user1@reqres.in")
+            .equalTo("data[0].first_name", "First1")
+            .exists("data[1].id")
+            .size("support", 2)
+            .contains("data.id", 3)
+            .contains("support.url", "reqres")
+            .matches("total", "be positive", total -> (Integer) total > 0)
+            .equalTo("data.find { it.id == 2 }.email", "user2@reqres.in")
+            .build();
+
+    @Test
+    public void testPassingPlan() {
+        Response response = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(2048));
+        new JsonPathValidator().validatePlan(response, USER_PAGE);
+
+        ValidationResult result = USER_PAGE.evaluate(response);
+        Assert.assertTrue(result.isPassed(), result.toString());
+        Assert.assertEquals(result.getChecked(), USER_PAGE.size());
+    }
+
+    @Test
+    public void testFailuresAreAggregated() {
+        Response response = BenchmarkPayloads.jsonResponse(BenchmarkPayloads.userList(1024));
+        ValidationPlan plan = ValidationPlan.builder("wrong expectations")
+                .equalTo("page", 2)
+                .exists("data[0].missing")
+                .equalTo("data[0].id", 1)
+                .matches("data[0].email", "be a number", email -> ((Number) email).intValue() > 0)
+                .equalTo("data.findAll { it.id > 1000 }.size()", 1)
+                .build();
+
+        ValidationResult result = plan.evaluate(response);
+        Assert.assertFalse(result.isPassed());
+        Assert.assertEquals(result.getFailures().size(), 4, result.toString());
+
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> new JsonPathValidator().validatePlan(response, plan));
+        Assert.assertTrue(error.getMessage().contains("failed 4 of 5 checks"), error.getMessage());
+    }
+}